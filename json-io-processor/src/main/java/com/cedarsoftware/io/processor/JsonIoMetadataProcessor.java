@@ -0,0 +1,524 @@
+package com.cedarsoftware.io.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.annotation.processing.SupportedOptions;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+import com.cedarsoftware.io.annotation.IoNaming;
+import com.cedarsoftware.io.reflect.AnnotationResolver;
+
+/**
+ * JSR-269 annotation processor that precomputes json-io annotation metadata at compile time.
+ * <p>
+ * For every class carrying a {@code com.cedarsoftware.io.annotation} annotation (on the class, a field, or a
+ * method), it writes the result of {@link AnnotationResolver}'s reflective scan as Java source: a generated
+ * {@link com.cedarsoftware.io.reflect.ClassMetadataProvider} named {@code JsonIoGeneratedMetadata}, listed in
+ * {@code META-INF/services}. At runtime json-io finds it through {@link java.util.ServiceLoader} and uses it
+ * in place of scanning the class's fields and methods.
+ * <p>
+ * A class is left to the runtime scan (no entry is generated) when its metadata cannot be fully known at
+ * compile time: it, or a superclass, uses {@code @IoCreator}, {@code @IoValue}, {@code @IoAnySetter} or
+ * {@code @IoAnyGetter}, or any Jackson annotation (whose effect depends on Jackson being on the runtime
+ * classpath).
+ * <p>
+ * Options:
+ * <ul>
+ *   <li>{@code jsonio.metadata.package} — package for the generated provider (default: the package of the
+ *       first annotated class)</li>
+ * </ul>
+ * Usage with Maven: add {@code json-io-processor} to {@code maven-compiler-plugin}'s
+ * {@code annotationProcessorPaths}.
+ *
+ * @author John DeRegnaucourt (jdereg@gmail.com)
+ *         <br>
+ *         Copyright (c) Cedar Software LLC
+ *         <br><br>
+ *         Licensed under the Apache License, Version 2.0 (the "License");
+ *         you may not use this file except in compliance with the License.
+ *         You may obtain a copy of the License at
+ *         <br><br>
+ *         <a href="http://www.apache.org/licenses/LICENSE-2.0">License</a>
+ *         <br><br>
+ *         Unless required by applicable law or agreed to in writing, software
+ *         distributed under the License is distributed on an "AS IS" BASIS,
+ *         WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *         See the License for the specific language governing permissions and
+ *         limitations under the License.
+ */
+@SupportedAnnotationTypes("com.cedarsoftware.io.annotation.*")
+@SupportedOptions(JsonIoMetadataProcessor.PACKAGE_OPTION)
+public class JsonIoMetadataProcessor extends AbstractProcessor {
+    static final String PACKAGE_OPTION = "jsonio.metadata.package";
+    static final String PROVIDER_SIMPLE_NAME = "JsonIoGeneratedMetadata";
+    private static final String SERVICE_FILE = "META-INF/services/com.cedarsoftware.io.reflect.ClassMetadataProvider";
+    private static final String IO = "com.cedarsoftware.io.annotation.";
+    private static final String JACKSON = "com.fasterxml.jackson.";
+
+    private final List<String> generatedProviders = new ArrayList<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (roundEnv.processingOver()) {
+            writeServiceFile();
+            return false;
+        }
+
+        Map<String, TypeElement> owners = new LinkedHashMap<>();
+        for (TypeElement annotation : annotations) {
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                TypeElement owner = owningType(element);
+                if (owner != null && isClassLike(owner)) {
+                    owners.put(binaryName(owner), owner);
+                }
+            }
+        }
+
+        Map<String, String> entries = new LinkedHashMap<>();
+        for (Map.Entry<String, TypeElement> entry : owners.entrySet()) {
+            String builderCalls = describe(entry.getValue());
+            if (builderCalls != null) {
+                entries.put(entry.getKey(), builderCalls);
+            }
+        }
+        if (!entries.isEmpty()) {
+            writeProvider(entries, owners.values().iterator().next());
+        }
+        return false;    // let other processors see json-io annotations too
+    }
+
+    // ======================== Metadata extraction ========================
+
+    /**
+     * Returns the builder calls reproducing {@code AnnotationResolver.scan()} for the class, or null when the
+     * class must be left to the runtime scan.
+     */
+    private String describe(TypeElement type) {
+        StringBuilder calls = new StringBuilder();
+        List<TypeElement> hierarchy = hierarchy(type);
+        for (TypeElement t : hierarchy) {
+            if (!isSupported(t)) {
+                return null;
+            }
+        }
+
+        // Class-level annotations (none of json-io's are @Inherited, so only the class itself counts)
+        AnnotationMirror ignoreProps = find(type, "IoIgnoreProperties");
+        if (ignoreProps != null) {
+            for (String name : strings(ignoreProps, "value")) {
+                call(calls, "ignore", name);
+            }
+        }
+        AnnotationMirror order = find(type, "IoPropertyOrder");
+        if (order != null) {
+            call(calls, "propertyOrder", strings(order, "value").toArray(new String[0]));
+        }
+        AnnotationMirror includeProps = find(type, "IoIncludeProperties");
+        if (includeProps != null && !strings(includeProps, "value").isEmpty()) {
+            call(calls, "include", strings(includeProps, "value").toArray(new String[0]));
+        }
+        if (find(type, "IoIgnoreType") != null) {
+            call(calls, "ignoredType");
+        }
+        String classFactory = classValue(find(type, "IoClassFactory"), "value");
+        if (classFactory != null) {
+            call(calls, "classFactory", classFactory);
+        }
+        if (find(type, "IoNonReferenceable") != null) {
+            call(calls, "nonReferenceable");
+        }
+        if (find(type, "IoNotCustomReader") != null) {
+            call(calls, "notCustomRead");
+        }
+        if (find(type, "IoNotCustomWritten") != null) {
+            call(calls, "notCustomWrite");
+        }
+        String customWriter = classValue(find(type, "IoCustomWriter"), "value");
+        if (customWriter != null) {
+            call(calls, "customWriter", customWriter);
+        }
+        String customReader = classValue(find(type, "IoCustomReader"), "value");
+        if (customReader != null) {
+            call(calls, "customReader", customReader);
+        }
+        AnnotationMirror typeName = find(type, "IoTypeName");
+        if (typeName != null && !string(typeName, "value").isEmpty()) {
+            call(calls, "typeName", string(typeName, "value"));
+        }
+        IoNaming.Strategy naming = null;
+        AnnotationMirror namingAnn = find(type, "IoNaming");
+        if (namingAnn != null) {
+            naming = IoNaming.Strategy.valueOf(enumValue(namingAnn, "value"));
+        }
+
+        // Field-level annotations, walking the class hierarchy in the same order as the runtime scan
+        for (TypeElement t : hierarchy) {
+            for (VariableElement field : ElementFilter.fieldsIn(t.getEnclosedElements())) {
+                String name = field.getSimpleName().toString();
+                if (find(field, "IoIgnore") != null) {
+                    call(calls, "ignore", name);
+                    continue;
+                }
+                Boolean typeIgnored = isFieldTypeIgnored(field);
+                if (typeIgnored == null) {
+                    return null;
+                }
+                if (typeIgnored) {
+                    call(calls, "ignore", name);
+                    continue;
+                }
+
+                AnnotationMirror property = find(field, "IoProperty");
+                String rename = property == null ? "" : string(property, "value");
+                if (!rename.isEmpty()) {
+                    call(calls, "rename", name, rename);
+                } else if (naming != null) {
+                    String transformed = AnnotationResolver.applyNamingStrategy(name, naming);
+                    if (transformed != null && !transformed.equals(name)) {
+                        call(calls, "rename", name, transformed);
+                    }
+                }
+
+                AnnotationMirror alias = find(field, "IoAlias");
+                if (alias != null) {
+                    for (String alt : strings(alias, "value")) {
+                        call(calls, "alias", alt, name);
+                    }
+                }
+
+                AnnotationMirror include = find(field, "IoInclude");
+                if (include != null && "NON_NULL".equals(enumValue(include, "value"))) {
+                    call(calls, "nonNull", name);
+                }
+
+                AnnotationMirror typeInfo = find(field, "IoTypeInfo");
+                if (typeInfo != null) {
+                    String cls = classValue(typeInfo, "value");
+                    if (cls == null) {
+                        return null;
+                    }
+                    call(calls, "typeInfo", name, cls);
+                }
+
+                AnnotationMirror deserialize = find(field, "IoDeserialize");
+                if (deserialize != null) {
+                    String as = classValue(deserialize, "as");
+                    if (as == null) {
+                        return null;
+                    }
+                    if (!"java.lang.Void".equals(as)) {
+                        call(calls, "deserializeAs", name, as);
+                    }
+                }
+
+                AnnotationMirror format = find(field, "IoFormat");
+                if (format != null && !string(format, "value").isEmpty()) {
+                    call(calls, "format", name, string(format, "value"));
+                }
+
+                if (find(field, "IoShowType") != null) {
+                    call(calls, "showType", name);
+                }
+            }
+        }
+
+        // @IoGetter / @IoSetter on instance methods
+        for (TypeElement t : hierarchy) {
+            for (ExecutableElement method : ElementFilter.methodsIn(t.getEnclosedElements())) {
+                if (method.getModifiers().contains(Modifier.STATIC)) {
+                    continue;
+                }
+                String methodName = method.getSimpleName().toString();
+                AnnotationMirror getter = find(method, "IoGetter");
+                if (getter != null && !string(getter, "value").isEmpty() && method.getParameters().isEmpty()
+                        && method.getReturnType().getKind() != TypeKind.VOID) {
+                    call(calls, "getter", string(getter, "value"), methodName);
+                }
+                AnnotationMirror setter = find(method, "IoSetter");
+                if (setter != null && !string(setter, "value").isEmpty() && method.getParameters().size() == 1) {
+                    call(calls, "setter", string(setter, "value"), methodName);
+                }
+            }
+        }
+        return calls.toString();
+    }
+
+    /**
+     * False when the class uses something only the runtime scan can resolve (creator and value methods are
+     * reflective {@code Executable}s; Jackson annotations only count when Jackson is present at runtime).
+     */
+    private boolean isSupported(TypeElement type) {
+        if (hasJackson(type)) {
+            return false;
+        }
+        for (Element member : type.getEnclosedElements()) {
+            if (hasJackson(member) || find(member, "IoCreator") != null || find(member, "IoValue") != null
+                    || find(member, "IoAnySetter") != null || find(member, "IoAnyGetter") != null) {
+                return false;
+            }
+            if (member instanceof ExecutableElement) {
+                for (VariableElement param : ((ExecutableElement) member).getParameters()) {
+                    if (hasJackson(param)) {
+                        return false;
+                    }
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Mirrors {@code AnnotationResolver.isFieldTypeIgnored}: the field's declared (erased) type carries
+     * {@code @IoIgnoreType}. Returns null when the answer depends on Jackson.
+     */
+    private Boolean isFieldTypeIgnored(VariableElement field) {
+        TypeMirror fieldType = types().erasure(field.asType());
+        if (fieldType.getKind() != TypeKind.DECLARED) {
+            return false;
+        }
+        TypeElement typeElement = (TypeElement) ((DeclaredType) fieldType).asElement();
+        String name = typeElement.getQualifiedName().toString();
+        if ("java.lang.String".equals(name) || "java.lang.Object".equals(name)) {
+            return false;
+        }
+        if (find(typeElement, "IoIgnoreType") != null) {
+            return true;
+        }
+        return hasJackson(typeElement) ? null : false;
+    }
+
+    private List<TypeElement> hierarchy(TypeElement type) {
+        List<TypeElement> hierarchy = new ArrayList<>();
+        TypeElement curr = type;
+        while (curr != null && !"java.lang.Object".equals(curr.getQualifiedName().toString())) {
+            hierarchy.add(curr);
+            TypeMirror superclass = curr.getSuperclass();
+            curr = superclass.getKind() == TypeKind.DECLARED
+                    ? (TypeElement) ((DeclaredType) superclass).asElement() : null;
+        }
+        return hierarchy;
+    }
+
+    // ======================== Annotation value helpers ========================
+
+    private static AnnotationMirror find(Element element, String simpleName) {
+        for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+            TypeElement annotationType = (TypeElement) mirror.getAnnotationType().asElement();
+            if (annotationType.getQualifiedName().contentEquals(IO + simpleName)) {
+                return mirror;
+            }
+        }
+        return null;
+    }
+
+    private static boolean hasJackson(Element element) {
+        for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+            TypeElement annotationType = (TypeElement) mirror.getAnnotationType().asElement();
+            if (annotationType.getQualifiedName().toString().startsWith(JACKSON)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private AnnotationValue value(AnnotationMirror mirror, String name) {
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry
+                : processingEnv.getElementUtils().getElementValuesWithDefaults(mirror).entrySet()) {
+            if (entry.getKey().getSimpleName().contentEquals(name)) {
+                return entry.getValue();
+            }
+        }
+        return null;
+    }
+
+    private String string(AnnotationMirror mirror, String name) {
+        AnnotationValue v = value(mirror, name);
+        return v == null || v.getValue() == null ? "" : v.getValue().toString();
+    }
+
+    private List<String> strings(AnnotationMirror mirror, String name) {
+        AnnotationValue v = value(mirror, name);
+        if (v == null || !(v.getValue() instanceof List)) {
+            return Collections.emptyList();
+        }
+        List<String> result = new ArrayList<>();
+        for (Object item : (List<?>) v.getValue()) {
+            result.add(((AnnotationValue) item).getValue().toString());
+        }
+        return result;
+    }
+
+    private String enumValue(AnnotationMirror mirror, String name) {
+        AnnotationValue v = value(mirror, name);
+        return v == null ? null : ((VariableElement) v.getValue()).getSimpleName().toString();
+    }
+
+    /**
+     * Binary name of a class-valued annotation member, or null if absent or not a plain class.
+     */
+    private String classValue(AnnotationMirror mirror, String name) {
+        if (mirror == null) {
+            return null;
+        }
+        AnnotationValue v = value(mirror, name);
+        if (v == null || !(v.getValue() instanceof TypeMirror)) {
+            return null;
+        }
+        TypeMirror type = (TypeMirror) v.getValue();
+        if (type.getKind() != TypeKind.DECLARED) {
+            return null;
+        }
+        return binaryName((TypeElement) ((DeclaredType) type).asElement());
+    }
+
+    // ======================== Code generation ========================
+
+    private static void call(StringBuilder calls, String method, String... args) {
+        calls.append("\n                        .").append(method).append('(');
+        for (int i = 0; i < args.length; i++) {
+            if (i > 0) {
+                calls.append(", ");
+            }
+            quote(calls, args[i]);
+        }
+        calls.append(')');
+    }
+
+    private static void quote(StringBuilder sb, String s) {
+        sb.append('"');
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            switch (c) {
+                case '"': sb.append("\\\""); break;
+                case '\\': sb.append("\\\\"); break;
+                case '\n': sb.append("\\n"); break;
+                case '\r': sb.append("\\r"); break;
+                case '\t': sb.append("\\t"); break;
+                default:
+                    if (c < 0x20 || c > 0x7e) {
+                        sb.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        sb.append(c);
+                    }
+            }
+        }
+        sb.append('"');
+    }
+
+    private void writeProvider(Map<String, String> entries, TypeElement first) {
+        String pkg = processingEnv.getOptions().get(PACKAGE_OPTION);
+        if (pkg == null) {
+            PackageElement p = processingEnv.getElementUtils().getPackageOf(first);
+            pkg = p.isUnnamed() ? "" : p.getQualifiedName().toString();
+        }
+        // One provider per round; later rounds (sources generated by other processors) get a numbered one
+        String simpleName = PROVIDER_SIMPLE_NAME + (generatedProviders.isEmpty() ? "" : generatedProviders.size() + 1);
+        String className = pkg.isEmpty() ? simpleName : pkg + "." + simpleName;
+
+        StringBuilder src = new StringBuilder();
+        if (!pkg.isEmpty()) {
+            src.append("package ").append(pkg).append(";\n\n");
+        }
+        src.append("import com.cedarsoftware.io.reflect.AnnotationResolver;\n");
+        src.append("import com.cedarsoftware.io.reflect.ClassMetadataProvider;\n\n");
+        src.append("/**\n * json-io annotation metadata precomputed by json-io-processor. Do not edit.\n */\n");
+        src.append("public final class ").append(simpleName).append(" implements ClassMetadataProvider {\n");
+        src.append("    @Override\n");
+        src.append("    public AnnotationResolver.ClassAnnotationMetadata getMetadata(Class<?> c) {\n");
+        src.append("        switch (c.getName()) {\n");
+        for (Map.Entry<String, String> entry : entries.entrySet()) {
+            src.append("            case ");
+            quote(src, entry.getKey());
+            src.append(":\n                return AnnotationResolver.metadataBuilder(c)");
+            src.append(entry.getValue());
+            src.append("\n                        .build();\n");
+        }
+        src.append("            default:\n                return null;\n        }\n    }\n}\n");
+
+        Filer filer = processingEnv.getFiler();
+        try (Writer out = filer.createSourceFile(className, first).openWriter()) {
+            out.write(src.toString());
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "json-io-processor could not write " + className + ": " + e.getMessage());
+            return;
+        }
+        generatedProviders.add(className);
+    }
+
+    private void writeServiceFile() {
+        if (generatedProviders.isEmpty()) {
+            return;
+        }
+        try {
+            FileObject file = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", SERVICE_FILE);
+            try (Writer out = file.openWriter()) {
+                for (String provider : generatedProviders) {
+                    out.write(provider);
+                    out.write('\n');
+                }
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "json-io-processor could not write " + SERVICE_FILE + ": " + e.getMessage());
+        }
+    }
+
+    // ======================== Element helpers ========================
+
+    private static TypeElement owningType(Element element) {
+        Element e = element;
+        while (e != null && !(e instanceof TypeElement)) {
+            e = e.getEnclosingElement();
+        }
+        return (TypeElement) e;
+    }
+
+    private static boolean isClassLike(TypeElement type) {
+        ElementKind kind = type.getKind();
+        return kind == ElementKind.CLASS || kind == ElementKind.ENUM || "RECORD".equals(kind.name());
+    }
+
+    private String binaryName(TypeElement type) {
+        Elements elements = processingEnv.getElementUtils();
+        return elements.getBinaryName(type).toString();
+    }
+
+    private Types types() {
+        return processingEnv.getTypeUtils();
+    }
+}
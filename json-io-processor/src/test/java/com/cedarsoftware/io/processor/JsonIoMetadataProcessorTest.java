@@ -0,0 +1,176 @@
+package com.cedarsoftware.io.processor;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ServiceLoader;
+
+import javax.tools.JavaCompiler;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+import com.cedarsoftware.io.reflect.AnnotationResolver;
+import com.cedarsoftware.io.reflect.AnnotationResolver.ClassAnnotationMetadata;
+import com.cedarsoftware.io.reflect.ClassMetadataProvider;
+import com.cedarsoftware.util.ClassUtilities;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Compiles sample sources with {@link JsonIoMetadataProcessor} and checks that the generated provider
+ * reproduces exactly what {@link AnnotationResolver} finds by scanning the compiled classes.
+ */
+class JsonIoMetadataProcessorTest {
+
+    private static final String WIDGET =
+            "package sample;\n" +
+            "import com.cedarsoftware.io.annotation.*;\n" +
+            "@IoPropertyOrder({\"bValue\", \"a\"})\n" +
+            "@IoTypeName(\"Widget\")\n" +
+            "@IoNaming(IoNaming.Strategy.SNAKE_CASE)\n" +
+            "@IoIgnoreProperties({\"temp\"})\n" +
+            "@IoNonReferenceable\n" +
+            "public class Widget extends Base {\n" +
+            "    @IoProperty(\"A\") @IoAlias({\"alpha\", \"aa\"}) String a;\n" +
+            "    String bValue;\n" +
+            "    String temp;\n" +
+            "    @IoIgnore String hidden;\n" +
+            "    @IoInclude(IoInclude.Include.NON_NULL) String maybe;\n" +
+            "    @IoTypeInfo(java.util.ArrayList.class) java.util.List<String> list;\n" +
+            "    @IoDeserialize(as = java.util.LinkedList.class) java.util.List<String> linked;\n" +
+            "    @IoFormat(\"yyyy\") java.util.Date when;\n" +
+            "    @IoShowType Object any;\n" +
+            "    Skipped skipped;\n" +
+            "    @IoGetter(\"a\") public String fetchA() { return a; }\n" +
+            "    @IoSetter(\"a\") public void storeA(String v) { a = v; }\n" +
+            "    public static class Inner { @IoProperty(\"x\") int y; }\n" +
+            "}\n" +
+            "class Base { @IoProperty(\"base_name\") String baseName; }\n" +
+            "@IoIgnoreType class Skipped { }\n" +
+            "class WithCreator {\n" +
+            "    final int x;\n" +
+            "    @IoCreator WithCreator(@IoProperty(\"x\") int x) { this.x = x; }\n" +
+            "}\n";
+
+    @Test
+    void testGeneratedMetadataMatchesReflectiveScan(@TempDir Path dir) throws Exception {
+        try (URLClassLoader loader = compile(dir, "sample/Widget.java", WIDGET)) {
+            ClassMetadataProvider provider = loadProvider(loader);
+            assertEquals("sample." + JsonIoMetadataProcessor.PROVIDER_SIMPLE_NAME, provider.getClass().getName());
+
+            for (String name : Arrays.asList("sample.Widget", "sample.Widget$Inner", "sample.Skipped")) {
+                Class<?> c = loader.loadClass(name);
+                ClassAnnotationMetadata generated = provider.getMetadata(c);
+                assertNotNull(generated, name);
+                assertSameMetadata(c, AnnotationResolver.getMetadata(c), generated);
+            }
+
+            ClassAnnotationMetadata widget = provider.getMetadata(loader.loadClass("sample.Widget"));
+            assertEquals("A", widget.getSerializedName("a"));
+            assertEquals("b_value", widget.getSerializedName("bValue"));
+            assertEquals("base_name", widget.getSerializedName("baseName"));
+            assertTrue(widget.isIgnored("skipped"));
+            assertTrue(provider.getMetadata(loader.loadClass("sample.Skipped")).isIgnoredType());
+        }
+    }
+
+    @Test
+    void testClassesNeedingRuntimeScanAreLeftOut(@TempDir Path dir) throws Exception {
+        try (URLClassLoader loader = compile(dir, "sample/Widget.java", WIDGET)) {
+            ClassMetadataProvider provider = loadProvider(loader);
+            assertNull(provider.getMetadata(loader.loadClass("sample.WithCreator")));
+            assertNull(provider.getMetadata(String.class));
+        }
+    }
+
+    @Test
+    void testPackageOption(@TempDir Path dir) throws Exception {
+        String src = "package sample;\n" +
+                "public class Simple { @com.cedarsoftware.io.annotation.IoIgnore String x; }\n";
+        try (URLClassLoader loader = compile(dir, "sample/Simple.java", src, "-Ajsonio.metadata.package=gen.meta")) {
+            ClassMetadataProvider provider = loadProvider(loader);
+            assertEquals("gen.meta." + JsonIoMetadataProcessor.PROVIDER_SIMPLE_NAME, provider.getClass().getName());
+            assertTrue(provider.getMetadata(loader.loadClass("sample.Simple")).isIgnored("x"));
+        }
+    }
+
+    private static void assertSameMetadata(Class<?> c, ClassAnnotationMetadata scanned, ClassAnnotationMetadata generated) {
+        assertEquals(scanned.getAliasToFieldName(), generated.getAliasToFieldName(), c.getName());
+        assertArrayEquals(scanned.getPropertyOrder(), generated.getPropertyOrder(), c.getName());
+        assertEquals(scanned.getIncludedFields(), generated.getIncludedFields(), c.getName());
+        assertEquals(scanned.isIgnoredType(), generated.isIgnoredType(), c.getName());
+        assertEquals(scanned.isNonReferenceable(), generated.isNonReferenceable(), c.getName());
+        assertEquals(scanned.isNotCustomRead(), generated.isNotCustomRead(), c.getName());
+        assertEquals(scanned.isNotCustomWrite(), generated.isNotCustomWrite(), c.getName());
+        assertEquals(scanned.getClassFactory(), generated.getClassFactory(), c.getName());
+        assertEquals(scanned.getCustomReader(), generated.getCustomReader(), c.getName());
+        assertEquals(scanned.getCustomWriter(), generated.getCustomWriter(), c.getName());
+        assertEquals(scanned.getTypeName(), generated.getTypeName(), c.getName());
+        assertEquals(scanned.hasIgnoredFields(), generated.hasIgnoredFields(), c.getName());
+        assertFalse(generated.isEmpty() && !scanned.isEmpty(), c.getName());
+        for (Class<?> k = c; k != null && k != Object.class; k = k.getSuperclass()) {
+            for (Field f : k.getDeclaredFields()) {
+                String n = f.getName();
+                assertEquals(scanned.getSerializedName(n), generated.getSerializedName(n), n);
+                assertEquals(scanned.isIgnored(n), generated.isIgnored(n), n);
+                assertEquals(scanned.isNonNull(n), generated.isNonNull(n), n);
+                assertEquals(scanned.getFieldTypeInfoDefault(n), generated.getFieldTypeInfoDefault(n), n);
+                assertEquals(scanned.getFieldDeserializeOverride(n), generated.getFieldDeserializeOverride(n), n);
+                assertEquals(scanned.getFieldFormatPattern(n), generated.getFieldFormatPattern(n), n);
+                assertEquals(scanned.isForceShowType(n), generated.isForceShowType(n), n);
+                assertEquals(scanned.getGetterMethod(n), generated.getGetterMethod(n), n);
+                assertEquals(scanned.getSetterMethod(n), generated.getSetterMethod(n), n);
+            }
+        }
+    }
+
+    private static ClassMetadataProvider loadProvider(ClassLoader loader) {
+        Iterator<ClassMetadataProvider> it = ServiceLoader.load(ClassMetadataProvider.class, loader).iterator();
+        assertTrue(it.hasNext(), "generated provider not registered in META-INF/services");
+        return it.next();
+    }
+
+    private static URLClassLoader compile(Path dir, String fileName, String source, String... options)
+            throws IOException, URISyntaxException {
+        Path src = dir.resolve("src").resolve(fileName);
+        Path out = dir.resolve("out");
+        Files.createDirectories(src.getParent());
+        Files.createDirectories(out);
+        Files.write(src, source.getBytes(StandardCharsets.UTF_8));
+
+        String classpath = location(AnnotationResolver.class) + File.pathSeparator + location(ClassUtilities.class);
+        List<String> args = new ArrayList<>(Arrays.asList("-classpath", classpath, "-d", out.toString()));
+        Collections.addAll(args, options);
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        try (StandardJavaFileManager fm = compiler.getStandardFileManager(null, null, StandardCharsets.UTF_8)) {
+            JavaCompiler.CompilationTask task = compiler.getTask(null, fm, null, args, null,
+                    fm.getJavaFileObjects(src.toFile()));
+            task.setProcessors(Collections.singletonList(new JsonIoMetadataProcessor()));
+            assertTrue(task.call(), "compilation failed");
+        }
+        return new URLClassLoader(new URL[]{out.toUri().toURL()}, JsonIoMetadataProcessorTest.class.getClassLoader());
+    }
+
+    private static String location(Class<?> c) throws URISyntaxException {
+        return new File(c.getProtectionDomain().getCodeSource().getLocation().toURI()).getPath();
+    }
+}
@@ -1,7 +1,5 @@
 package com.cedarsoftware.io;
 
-import com.cedarsoftware.util.ClassUtilities;
-
 /**
  * Implement this interface to create custom instances of classes during JSON deserialization.
  * Your factory will be called when json-io encounters an instance of a class you register
@@ -40,7 +38,7 @@ public interface ClassFactory {
      *         override the {@link #isObjectFinal()} method and return true.
      */
     default Object newInstance(Class<?> c, JsonObject jObj, Resolver resolver) {
-        return ClassUtilities.newInstance(resolver.getConverter(), c, jObj);
+        return resolver.newInstance(c, jObj);
     }
 
     /**
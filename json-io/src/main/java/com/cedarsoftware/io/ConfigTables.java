@@ -0,0 +1,617 @@
+package com.cedarsoftware.io;
+
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The contents of json-io's {@code config/*.txt} resources, precompiled into string tables.
+ * <p>
+ * {@link ReadOptionsBuilder} and {@link WriteOptionsBuilder} read their permanent defaults (aliases, class
+ * factories, custom readers/writers, non-refs, ...) from here at class init instead of loading and parsing
+ * roughly 650 lines of text. The .txt files remain the source of truth: edit them, then regenerate the
+ * tables below with {@code ConfigTablesTest.main()}. {@code ConfigTablesTest} fails if the two drift apart.
+ * <p>
+ * Resource names that are not precompiled fall back to {@link MetaUtils#loadMapDefinition(String)} /
+ * {@link MetaUtils#loadSetDefinition(String)}.
+ *
+ * @author John DeRegnaucourt (jdereg@gmail.com)
+ *         <br>
+ *         Copyright (c) Cedar Software LLC
+ *         <br><br>
+ *         Licensed under the Apache License, Version 2.0 (the "License");
+ *         you may not use this file except in compliance with the License.
+ *         You may obtain a copy of the License at
+ *         <br><br>
+ *         <a href="http://www.apache.org/licenses/LICENSE-2.0">License</a>
+ *         <br><br>
+ *         Unless required by applicable law or agreed to in writing, software
+ *         distributed under the License is distributed on an "AS IS" BASIS,
+ *         WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *         See the License for the specific language governing permissions and
+ *         limitations under the License.
+ */
+final class ConfigTables {
+    static final String[] MAP_RESOURCES = {
+            "config/aliases.txt", "config/classFactory.txt", "config/coercedTypes.txt",
+            "config/customReaders.txt", "config/customWriters.txt", "config/fieldsNotExported.txt",
+            "config/fieldsNotImported.txt", "config/nonStandardGetters.txt", "config/nonStandardSetters.txt"
+    };
+    static final String[] SET_RESOURCES = {
+            "config/nonRefs.txt", "config/notCustomRead.txt", "config/notCustomWritten.txt"
+    };
+
+    private ConfigTables() {
+    }
+
+    /**
+     * Same result as {@link MetaUtils#loadMapDefinition(String)}, without touching the classpath for
+     * precompiled resources.
+     */
+    static Map<String, String> loadMapDefinition(String resName) {
+        String[] pairs = table(resName);
+        if (pairs == null) {
+            return MetaUtils.loadMapDefinition(resName);
+        }
+        Map<String, String> map = new LinkedHashMap<>(pairs.length);
+        for (int i = 0; i < pairs.length; i += 2) {
+            map.put(pairs[i], pairs[i + 1]);
+        }
+        return map;
+    }
+
+    /**
+     * Same result as {@link MetaUtils#loadSetDefinition(String)}, without touching the classpath for
+     * precompiled resources.
+     */
+    static Set<String> loadSetDefinition(String resName) {
+        String[] values = table(resName);
+        if (values == null) {
+            return MetaUtils.loadSetDefinition(resName);
+        }
+        Set<String> set = new LinkedHashSet<>(values.length * 2);
+        for (String value : values) {
+            set.add(value);
+        }
+        return set;
+    }
+
+    private static String[] table(String resName) {
+        switch (resName) {
+            case "config/aliases.txt": return ALIASES;
+            case "config/classFactory.txt": return CLASS_FACTORY;
+            case "config/coercedTypes.txt": return COERCED_TYPES;
+            case "config/customReaders.txt": return CUSTOM_READERS;
+            case "config/customWriters.txt": return CUSTOM_WRITERS;
+            case "config/fieldsNotExported.txt": return FIELDS_NOT_EXPORTED;
+            case "config/fieldsNotImported.txt": return FIELDS_NOT_IMPORTED;
+            case "config/nonStandardGetters.txt": return NON_STANDARD_GETTERS;
+            case "config/nonStandardSetters.txt": return NON_STANDARD_SETTERS;
+            case "config/nonRefs.txt": return NON_REFS;
+            case "config/notCustomRead.txt": return NOT_CUSTOM_READ;
+            case "config/notCustomWritten.txt": return NOT_CUSTOM_WRITTEN;
+            default: return null;
+        }
+    }
+
+    // ---- generated by ConfigTablesTest.main() from config/*.txt; do not edit below ----
+
+    private static final String[] ALIASES = {
+            "byte", "byte",
+            "short", "short",
+            "int", "int",
+            "long", "long",
+            "float", "float",
+            "double", "double",
+            "boolean", "boolean",
+            "char", "char",
+            "java.lang.Byte", "Byte",
+            "java.lang.Short", "Short",
+            "java.lang.Integer", "Integer",
+            "java.lang.Long", "Long",
+            "java.lang.Float", "Float",
+            "java.lang.Double", "Double",
+            "java.lang.Character", "Character",
+            "java.lang.Boolean", "Boolean",
+            "java.lang.Class", "Class",
+            "java.lang.Object", "Object",
+            "java.lang.String", "String",
+            "java.lang.StackTraceElement", "StackTraceElementElement",
+            "java.lang.StringBuffer", "StringBuffer",
+            "java.lang.StringBuilder", "StringBuilder",
+            "java.lang.Enum", "Enum",
+            "java.lang.Throwable", "Throwable",
+            "java.time.Clock", "Clock",
+            "java.time.Duration", "Duration",
+            "java.time.Instant", "Instant",
+            "java.time.LocalDate", "LocalDate",
+            "java.time.LocalDateTime", "LocalDateTime",
+            "java.time.LocalTime", "LocalTime",
+            "java.time.MonthDay", "MonthDay",
+            "java.time.OffsetDateTime", "OffsetDateTime",
+            "java.time.OffsetTime", "OffsetTime",
+            "java.time.Period", "Period",
+            "java.time.Year", "Year",
+            "java.time.YearMonth", "YearMonth",
+            "java.time.ZonedDateTime", "ZonedDateTime",
+            "java.time.ZoneId", "ZoneId",
+            "java.time.ZoneOffset", "ZoneOffset",
+            "java.time.ZoneRegion", "ZoneRegion",
+            "java.time.zone.ZoneRules", "ZoneRules",
+            "sun.util.calendar.ZoneInfo", "ZoneInfo",
+            "java.math.BigInteger", "BigInteger",
+            "java.math.BigDecimal", "BigDecimal",
+            "java.util.Date", "Date",
+            "java.util.Calendar", "Calendar",
+            "java.util.GregorianCalendar", "GregorianCalendar",
+            "java.util.Locale", "Locale",
+            "java.util.TimeZone", "TimeZone",
+            "java.util.UUID", "UUID",
+            "java.util.ArrayList", "ArrayList",
+            "java.util.AbstractMap$SimpleEntry", "SimpleEntry",
+            "java.util.AbstractMap$SimpleImmutableEntry", "SimpleImmutableEntry",
+            "java.util.Arrays$ArrayList", "ArraysAsList",
+            "java.util.LinkedHashMap", "LinkedHashMap",
+            "java.util.LinkedHashMap$LinkedKeySet", "LinkedKeySet",
+            "java.util.LinkedHashMap$LinkedValues", "LinkedValues",
+            "java.util.LinkedList", "LinkedList",
+            "java.util.Stack", "Stack",
+            "java.util.Vector", "Vector",
+            "java.util.HashMap", "HashMap",
+            "java.util.HashMap$KeySet", "HashMapKeySet",
+            "java.util.HashMap$Values", "HashMapValues",
+            "java.util.HashSet", "HashSet",
+            "java.util.IdentityHashMap", "IdentityHashMap",
+            "java.util.IdentityHashMap$KeySet", "IdentityHashMapKeySet",
+            "java.util.IdentityHashMap$Values", "IdentityHashMapValues",
+            "java.util.BitSet", "BitSet",
+            "java.util.Optional", "Optional",
+            "java.util.OptionalInt", "OptionalInt",
+            "java.util.OptionalLong", "OptionalLong",
+            "java.util.OptionalDouble", "OptionalDouble",
+            "java.util.Properties", "Properties",
+            "java.util.TreeMap", "TreeMap",
+            "java.util.TreeMap$KeySet", "TreeMapKeySet",
+            "java.util.TreeMap$Values", "TreeMapValues",
+            "java.util.TreeSet", "TreeSet",
+            "java.util.concurrent.atomic.AtomicBoolean", "AtomicBoolean",
+            "java.util.concurrent.atomic.AtomicInteger", "AtomicInteger",
+            "java.util.concurrent.atomic.AtomicLong", "AtomicLong",
+            "java.util.concurrent.locks.ReentrantLock", "ReentrantLock",
+            "java.util.concurrent.locks.ReentrantReadWriteLock", "ReentrantReadWriteLock",
+            "java.util.concurrent.Semaphore", "Semaphore",
+            "java.util.concurrent.CountDownLatch", "CountDownLatch",
+            "java.io.File", "File",
+            "java.awt.Point", "Point",
+            "com.cedarsoftware.util.geom.Point", "Point",
+            "java.awt.Color", "Color",
+            "com.cedarsoftware.util.geom.Color", "Color",
+            "java.awt.Rectangle", "Rectangle",
+            "com.cedarsoftware.util.geom.Rectangle", "Rectangle",
+            "java.awt.Dimension", "Dimension",
+            "com.cedarsoftware.util.geom.Dimension", "Dimension",
+            "java.awt.Insets", "Insets",
+            "com.cedarsoftware.util.geom.Insets", "Insets",
+            "java.nio.file.Path", "Path",
+            "sun.nio.fs.UnixPath", "Path",
+            "sun.nio.fs.WindowsPath", "Path",
+            "java.nio.DirectByteBuffer", "ByteBuffer",
+            "java.nio.MappedByteBuffer", "ByteBuffer",
+            "java.nio.HeapByteBuffer", "ByteBuffer",
+            "java.nio.CharBuffer", "CharBuffer",
+            "java.nio.HeapCharBuffer", "CharBuffer",
+            "java.net.URL", "URL",
+            "java.net.URI", "URI",
+            "java.sql.Date", "SqlDate",
+            "java.sql.Timestamp", "Timestamp",
+            "java.util.Collections$SingletonList", "SingletonList",
+            "com.cedarsoftware.io.util.SingletonList", "SingletonList",
+            "java.util.Collections$SingletonSet", "SingletonSet",
+            "com.cedarsoftware.io.util.SingletonSet", "SingletonSet",
+            "java.util.Collections$SingletonMap", "SingletonMap",
+            "com.cedarsoftware.io.util.SingletonMap", "SingletonMap",
+            "java.util.Collections$UnmodifiableCollection", "UnmodifiableCollection",
+            "java.util.Collections$UnmodifiableRandomAccessList", "UnmodifiableRandomAccessList",
+            "com.cedarsoftware.io.util.SealableList", "UnmodifiableRandomAccessList",
+            "java.util.Collections$UnmodifiableSet", "UnmodifiableSet",
+            "com.cedarsoftware.io.util.SealableSet", "UnmodifiableSet",
+            "java.util.Collections$UnmodifiableSortedSet", "UnmodifiableSortedSet",
+            "java.util.Collections$UnmodifiableNavigableSet", "UnmodifiableNavigableSet",
+            "com.cedarsoftware.io.util.SealableNavigableSet", "UnmodifiableNavigableSet",
+            "java.util.Collections$UnmodifiableMap", "UnmodifiableMap",
+            "com.cedarsoftware.io.util.SealableMap", "UnmodifiableMap",
+            "java.util.Collections$UnmodifiableSortedMap", "UnmodifiableSortedMap",
+            "java.util.Collections$UnmodifiableNavigableMap", "UnmodifiableNavigableMap",
+            "com.cedarsoftware.io.util.SealableNavigableMap", "UnmodifiableNavigableMap",
+            "java.util.Collections$EmptyEnumeration", "EmptyEnumeration",
+            "java.util.Collections$EmptyIterator", "EmptyIterator",
+            "java.util.Collections$EmptyList", "EmptyList",
+            "java.util.Collections$EmptyListIterator", "EmptyListIterator",
+            "java.util.Collections$EmptySet", "EmptySet",
+            "java.util.Collections$UnmodifiableNavigableSet$EmptyNavigableSet", "EmptyNavigableSet",
+            "java.util.Collections$EmptyMap", "EmptyMap",
+            "java.util.Collections$UnmodifiableNavigableMap$EmptyNavigableMap", "EmptyNavigableMap",
+            "java.util.ImmutableCollections$ListN", "ListN",
+            "java.util.ImmutableCollections$List12", "List12",
+            "java.util.ImmutableCollections$SetN", "SetN",
+            "java.util.ImmutableCollections$Set12", "Set12",
+            "java.util.Collections$SynchronizedCollection", "SynchronizedCollection",
+            "java.util.Collections$SynchronizedList", "SynchronizedList",
+            "java.util.Collections$SynchronizedRandomAccessList", "SynchronizedRandomAccessList",
+            "java.util.Collections$SynchronizedSet", "SynchronizedSet",
+            "java.util.Collections$SynchronizedSortedSet", "SynchronizedSortedSet",
+            "java.util.Collections$SynchronizedNavigableSet", "SynchronizedNavigableSet",
+            "java.util.Collections$SynchronizedMap", "SynchronizedMap",
+            "java.util.Collections$SynchronizedSortedMap", "SynchronizedSortedMap",
+            "java.util.Collections$SynchronizedNavigableMap", "SynchronizedNavigableMap",
+            "java.util.Collections$CheckedCollection", "CheckedCollection",
+            "java.util.Collections$CheckedList", "CheckedList",
+            "java.util.Collections$CheckedRandomAccessList", "CheckedRandomAccessList",
+            "java.util.Collections$CheckedSet", "CheckedSet",
+            "java.util.Collections$CheckedSortedSet", "CheckedSortedSet",
+            "java.util.Collections$CheckedNavigableSet", "CheckedNavigableSet",
+            "java.util.Collections$CheckedMap", "CheckedMap",
+            "java.util.Collections$CheckedSortedMap", "CheckedSortedMap",
+            "java.util.Collections$CheckedNavigableMap", "CheckedNavigableMap",
+            "java.util.concurrent.ConcurrentHashMap", "ConcurrentHashMap",
+            "java.util.concurrent.ConcurrentSkipListMap", "ConcurrentSkipListMap",
+            "java.util.concurrent.ConcurrentSkipListSet", "ConcurrentSkipListSet",
+            "java.util.concurrent.ConcurrentSkipListMap$KeySet", "ConcurrentSkipListMapKeySet",
+            "java.util.concurrent.ConcurrentSkipListMap$Values", "ConcurrentSkipListMapValues",
+            "java.util.concurrent.ConcurrentHashMap$KeySetView", "ConcurrentHashMapKeySetView",
+            "java.util.concurrent.ConcurrentHashMap$ValuesView", "ConcurrentHashMapValuesView",
+            "java.util.concurrent.CopyOnWriteArrayList", "CopyOnWriteArrayList",
+            "java.util.concurrent.CopyOnWriteArraySet", "CopyOnWriteArraySet",
+            "com.cedarsoftware.util.ConcurrentList", "ConcurrentList",
+            "com.cedarsoftware.util.ConcurrentSet", "ConcurrentSet",
+            "com.cedarsoftware.util.CompactMap", "CompactMap",
+            "com.cedarsoftware.util.CompactLinkedMap", "CompactLinkedMap",
+            "com.cedarsoftware.util.CompactCILinkedMap", "CompactCILinkedMap",
+            "com.cedarsoftware.util.CompactCIHashMap", "CompactCIHashMap",
+            "com.cedarsoftware.util.CompactSet", "CompactSet",
+            "com.cedarsoftware.util.CompactLinkedSet", "CompactLinkedSet",
+            "com.cedarsoftware.util.CompactCILinkedSet", "CompactCILinkedSet",
+            "com.cedarsoftware.util.CompactCIHashSet", "CompactCIHashSet",
+    };
+
+    private static final String[] CLASS_FACTORY = {
+            "java.lang.StackTraceElement", "com.cedarsoftware.io.factory.StackTraceElementFactory",
+            "java.lang.Throwable", "com.cedarsoftware.io.factory.ThrowableFactory",
+            "java.util.AbstractMap$SimpleEntry", "com.cedarsoftware.io.factory.SimpleEntryFactory",
+            "java.util.AbstractMap$SimpleImmutableEntry", "com.cedarsoftware.io.factory.SimpleEntryFactory",
+            "java.util.concurrent.locks.ReentrantLock", "com.cedarsoftware.io.factory.ReentrantLockFactory",
+            "java.util.concurrent.locks.ReentrantReadWriteLock", "com.cedarsoftware.io.factory.ReentrantReadWriteLockFactory",
+            "java.util.concurrent.Semaphore", "com.cedarsoftware.io.factory.SemaphoreFactory",
+            "java.util.concurrent.CountDownLatch", "com.cedarsoftware.io.factory.CountDownLatchFactory",
+            "java.util.Optional", "com.cedarsoftware.io.factory.OptionalFactory",
+            "java.util.OptionalInt", "com.cedarsoftware.io.factory.OptionalIntFactory",
+            "java.util.OptionalLong", "com.cedarsoftware.io.factory.OptionalLongFactory",
+            "java.util.OptionalDouble", "com.cedarsoftware.io.factory.OptionalDoubleFactory",
+            "java.util.BitSet", "com.cedarsoftware.io.factory.BitSetFactory",
+            "java.util.concurrent.atomic.AtomicIntegerArray", "com.cedarsoftware.io.factory.AtomicIntegerArrayFactory",
+            "java.util.concurrent.atomic.AtomicLongArray", "com.cedarsoftware.io.factory.AtomicLongArrayFactory",
+            "java.util.Collection", "com.cedarsoftware.io.factory.CollectionFactory",
+            "java.util.List", "com.cedarsoftware.io.factory.CollectionFactory",
+            "java.util.Set", "com.cedarsoftware.io.factory.CollectionFactory",
+            "java.util.SortedSet", "com.cedarsoftware.io.factory.CollectionFactory",
+            "java.util.NavigableSet", "com.cedarsoftware.io.factory.CollectionFactory",
+            "java.util.Deque", "com.cedarsoftware.io.factory.CollectionFactory",
+            "java.util.Queue", "com.cedarsoftware.io.factory.CollectionFactory",
+            "java.util.Map", "com.cedarsoftware.io.factory.MapFactory",
+            "java.util.SortedMap", "com.cedarsoftware.io.factory.MapFactory",
+            "java.util.NavigableMap", "com.cedarsoftware.io.factory.MapFactory",
+            "[C", "com.cedarsoftware.io.factory.CharacterPrimArrayFactory",
+            "[Z", "ArrayFactory",
+            "[B", "ArrayFactory",
+            "[S", "ArrayFactory",
+            "[I", "ArrayFactory",
+            "[J", "ArrayFactory",
+            "[F", "ArrayFactory",
+            "[D", "ArrayFactory",
+            "[Ljava.lang.Character;", "ArrayFactory",
+            "[Ljava.lang.Boolean;", "ArrayFactory",
+            "[Ljava.lang.Byte;", "ArrayFactory",
+            "[Ljava.lang.Short;", "ArrayFactory",
+            "[Ljava.lang.Integer;", "ArrayFactory",
+            "[Ljava.lang.Long;", "ArrayFactory",
+            "[Ljava.lang.Float;", "ArrayFactory",
+            "[Ljava.lang.Double;", "ArrayFactory",
+            "[Ljava.lang.Class;", "ArrayFactory",
+            "[Ljava.lang.String;", "ArrayFactory",
+            "[Ljava.sql.Date;", "ArrayFactory",
+            "[Ljava.sql.Timestamp;", "ArrayFactory",
+            "[Ljava.time.LocalDate;", "ArrayFactory",
+            "[Ljava.math.BigDecimal;", "ArrayFactory",
+            "[Ljava.math.BigInteger;", "ArrayFactory",
+            "[Ljava.util.Calendar;", "ArrayFactory",
+            "[Ljava.util.Currency;", "ArrayFactory",
+            "[Ljava.util.Date;", "ArrayFactory",
+            "[Ljava.util.Locale;", "ArrayFactory",
+            "[Ljava.util.regex.Pattern;", "ArrayFactory",
+            "[Ljava.util.concurrent.atomic.AtomicBoolean;", "ArrayFactory",
+            "[Ljava.util.concurrent.atomic.AtomicInteger;", "ArrayFactory",
+            "[Ljava.util.concurrent.atomic.AtomicLong;", "ArrayFactory",
+            "[Ljava.time.Duration;", "ArrayFactory",
+            "[Ljava.time.Instant;", "ArrayFactory",
+            "[Ljava.time.LocalDateTime;", "ArrayFactory",
+            "[Ljava.time.LocalTime;", "ArrayFactory",
+            "[Ljava.time.MonthDay;", "ArrayFactory",
+            "[Ljava.time.OffsetDateTime;", "ArrayFactory",
+            "[Ljava.time.OffsetTime;", "ArrayFactory",
+            "[Ljava.time.Period;", "ArrayFactory",
+            "[Ljava.time.Year;", "ArrayFactory",
+            "[Ljava.time.YearMonth;", "ArrayFactory",
+            "[Ljava.time.ZonedDateTime;", "ArrayFactory",
+            "[Ljava.time.ZoneId;", "ArrayFactory",
+            "[Ljava.time.ZoneOffset;", "ArrayFactory",
+            "[Ljava.time.ZoneRegion;", "ArrayFactory",
+            "java.util.Collections$SingletonList", "com.cedarsoftware.io.factory.SingletonFactory",
+            "java.util.Collections$SingletonSet", "com.cedarsoftware.io.factory.SingletonFactory",
+            "java.util.Collections$SingletonMap", "com.cedarsoftware.io.factory.SingletonFactory",
+            "java.util.Collections$EmptyEnumeration", "com.cedarsoftware.io.factory.EmptyFactory",
+            "java.util.Collections$EmptyIterator", "com.cedarsoftware.io.factory.EmptyFactory",
+            "java.util.Collections$EmptyListIterator", "com.cedarsoftware.io.factory.EmptyFactory",
+            "java.util.Collections$EmptyList", "com.cedarsoftware.io.factory.EmptyFactory",
+            "java.util.Collections$EmptySet", "com.cedarsoftware.io.factory.EmptyFactory",
+            "java.util.Collections$UnmodifiableNavigableSet$EmptyNavigableSet", "com.cedarsoftware.io.factory.EmptyFactory",
+            "java.util.Collections$EmptyMap", "com.cedarsoftware.io.factory.EmptyFactory",
+            "java.util.Collections$UnmodifiableNavigableMap$EmptyNavigableMap", "com.cedarsoftware.io.factory.EmptyFactory",
+            "java.util.Collections$UnmodifiableCollection", "com.cedarsoftware.io.factory.UnmodifiableFactory",
+            "java.util.Collections$UnmodifiableList", "com.cedarsoftware.io.factory.UnmodifiableFactory",
+            "java.util.Collections$UnmodifiableRandomAccessList", "com.cedarsoftware.io.factory.UnmodifiableFactory",
+            "java.util.Collections$UnmodifiableSet", "com.cedarsoftware.io.factory.UnmodifiableFactory",
+            "java.util.Collections$UnmodifiableSortedSet", "com.cedarsoftware.io.factory.UnmodifiableFactory",
+            "java.util.Collections$UnmodifiableNavigableSet", "com.cedarsoftware.io.factory.UnmodifiableFactory",
+            "java.util.Collections$UnmodifiableMap", "com.cedarsoftware.io.factory.UnmodifiableFactory",
+            "java.util.Collections$UnmodifiableSortedMap", "com.cedarsoftware.io.factory.UnmodifiableFactory",
+            "java.util.Collections$UnmodifiableNavigableMap", "com.cedarsoftware.io.factory.UnmodifiableFactory",
+            "java.util.Collections$SynchronizedCollection", "com.cedarsoftware.io.factory.SynchronizedFactory",
+            "java.util.Collections$SynchronizedList", "com.cedarsoftware.io.factory.SynchronizedFactory",
+            "java.util.Collections$SynchronizedRandomAccessList", "com.cedarsoftware.io.factory.SynchronizedFactory",
+            "java.util.Collections$SynchronizedSet", "com.cedarsoftware.io.factory.SynchronizedFactory",
+            "java.util.Collections$SynchronizedSortedSet", "com.cedarsoftware.io.factory.SynchronizedFactory",
+            "java.util.Collections$SynchronizedNavigableSet", "com.cedarsoftware.io.factory.SynchronizedFactory",
+            "java.util.Collections$SynchronizedMap", "com.cedarsoftware.io.factory.SynchronizedFactory",
+            "java.util.Collections$SynchronizedSortedMap", "com.cedarsoftware.io.factory.SynchronizedFactory",
+            "java.util.Collections$SynchronizedNavigableMap", "com.cedarsoftware.io.factory.SynchronizedFactory",
+            "java.util.Collections$CheckedCollection", "com.cedarsoftware.io.factory.CheckedFactory",
+            "java.util.Collections$CheckedList", "com.cedarsoftware.io.factory.CheckedFactory",
+            "java.util.Collections$CheckedRandomAccessList", "com.cedarsoftware.io.factory.CheckedFactory",
+            "java.util.Collections$CheckedSet", "com.cedarsoftware.io.factory.CheckedFactory",
+            "java.util.Collections$CheckedSortedSet", "com.cedarsoftware.io.factory.CheckedFactory",
+            "java.util.Collections$CheckedNavigableSet", "com.cedarsoftware.io.factory.CheckedFactory",
+            "java.util.Collections$CheckedMap", "com.cedarsoftware.io.factory.CheckedFactory",
+            "java.util.Collections$CheckedSortedMap", "com.cedarsoftware.io.factory.CheckedFactory",
+            "java.util.Collections$CheckedNavigableMap", "com.cedarsoftware.io.factory.CheckedFactory",
+            "com.cedarsoftware.io.util.SealableList", "com.cedarsoftware.io.factory.UnmodifiableFactory",
+            "com.cedarsoftware.io.util.SealableSet", "com.cedarsoftware.io.factory.UnmodifiableFactory",
+            "com.cedarsoftware.io.util.SealableNavigableSet", "com.cedarsoftware.io.factory.UnmodifiableFactory",
+            "com.cedarsoftware.io.util.SealableMap", "com.cedarsoftware.io.factory.UnmodifiableFactory",
+            "com.cedarsoftware.io.util.SealableNavigableMap", "com.cedarsoftware.io.factory.UnmodifiableFactory",
+            "java.util.ImmutableCollections$ListN", "com.cedarsoftware.io.factory.UnmodifiableFactory",
+            "java.util.ImmutableCollections$List12", "com.cedarsoftware.io.factory.UnmodifiableFactory",
+            "java.util.ImmutableCollections$SetN", "com.cedarsoftware.io.factory.UnmodifiableFactory",
+            "java.util.ImmutableCollections$Set12", "com.cedarsoftware.io.factory.UnmodifiableFactory",
+            "java.util.EnumSet", "com.cedarsoftware.io.factory.EnumSetFactory",
+            "com.cedarsoftware.util.CompactMap", "com.cedarsoftware.io.factory.CompactMapFactory",
+            "com.cedarsoftware.util.CompactSet", "com.cedarsoftware.io.factory.CompactSetFactory",
+            "com.cedarsoftware.util.MultiKeyMap", "com.cedarsoftware.io.factory.MultiKeyMapFactory",
+    };
+
+    private static final String[] COERCED_TYPES = {
+            "java.time.ZoneRegion", "java.time.ZoneId",
+            "java.util.Arrays$ArrayList", "java.util.ArrayList",
+            "java.util.concurrent.ConcurrentHashMap$KeySetView", "com.cedarsoftware.util.ConcurrentSet",
+            "java.util.concurrent.ConcurrentHashMap$ValuesView", "com.cedarsoftware.util.ConcurrentList",
+            "java.util.concurrent.ConcurrentSkipListMap$KeySet", "com.cedarsoftware.util.ConcurrentNavigableSetNullSafe",
+            "java.util.concurrent.ConcurrentSkipListMap$Values", "com.cedarsoftware.util.ConcurrentList",
+            "java.util.HashMap$KeySet", "java.util.HashSet",
+            "java.util.HashMap$Values", "java.util.ArrayList",
+            "java.util.IdentityHashMap$KeySet", "java.util.LinkedHashSet",
+            "java.util.IdentityHashMap$Values", "java.util.ArrayList",
+            "java.util.LinkedHashMap$LinkedKeySet", "java.util.LinkedHashSet",
+            "java.util.LinkedHashMap$LinkedValues", "java.util.ArrayList",
+            "java.util.TreeMap$KeySet", "java.util.TreeSet",
+            "java.util.TreeMap$Values", "java.util.ArrayList",
+            "java.util.RegularEnumSet", "java.util.EnumSet",
+            "java.util.JumboEnumSet", "java.util.EnumSet",
+            "java.awt.Point", "com.cedarsoftware.util.geom.Point",
+            "java.awt.Color", "com.cedarsoftware.util.geom.Color",
+            "java.awt.Rectangle", "com.cedarsoftware.util.geom.Rectangle",
+            "java.awt.Dimension", "com.cedarsoftware.util.geom.Dimension",
+            "java.awt.Insets", "com.cedarsoftware.util.geom.Insets",
+    };
+
+    private static final String[] CUSTOM_READERS = {
+    };
+
+    private static final String[] CUSTOM_WRITERS = {
+            "boolean", "com.cedarsoftware.io.Writers$PrimitiveValueWriter",
+            "char", "com.cedarsoftware.io.Writers$CharacterWriter",
+            "double", "com.cedarsoftware.io.Writers$DoubleWriter",
+            "float", "com.cedarsoftware.io.Writers$FloatWriter",
+            "int", "com.cedarsoftware.io.Writers$PrimitiveValueWriter",
+            "long", "com.cedarsoftware.io.writers.LongWriter",
+            "short", "com.cedarsoftware.io.Writers$PrimitiveValueWriter",
+            "java.lang.Boolean", "com.cedarsoftware.io.Writers$PrimitiveValueWriter",
+            "java.lang.Byte", "com.cedarsoftware.io.Writers$PrimitiveValueWriter",
+            "java.lang.Character", "com.cedarsoftware.io.Writers$CharacterWriter",
+            "java.lang.Class", "com.cedarsoftware.io.Writers$ClassWriter",
+            "java.lang.Double", "com.cedarsoftware.io.Writers$DoubleWriter",
+            "java.lang.Float", "com.cedarsoftware.io.Writers$FloatWriter",
+            "java.lang.Integer", "com.cedarsoftware.io.Writers$PrimitiveValueWriter",
+            "java.lang.Long", "com.cedarsoftware.io.writers.LongWriter",
+            "java.lang.Short", "com.cedarsoftware.io.Writers$PrimitiveValueWriter",
+            "java.lang.String", "com.cedarsoftware.io.Writers$JsonStringWriter",
+            "java.lang.StringBuffer", "com.cedarsoftware.io.Writers$PrimitiveUtf8StringWriter",
+            "java.lang.StringBuilder", "com.cedarsoftware.io.Writers$PrimitiveUtf8StringWriter",
+            "java.math.BigDecimal", "com.cedarsoftware.io.Writers$BigDecimalWriter",
+            "java.math.BigInteger", "com.cedarsoftware.io.Writers$BigIntegerWriter",
+            "java.io.File", "com.cedarsoftware.io.Writers$PrimitiveUtf8StringWriter",
+            "java.net.URL", "com.cedarsoftware.io.Writers$PrimitiveUtf8StringWriter",
+            "java.net.URI", "com.cedarsoftware.io.Writers$PrimitiveUtf8StringWriter",
+            "java.nio.ByteBuffer", "com.cedarsoftware.io.writers.ByteBufferWriter",
+            "java.nio.CharBuffer", "com.cedarsoftware.io.writers.CharBufferWriter",
+            "java.nio.file.Path", "com.cedarsoftware.io.Writers$PrimitiveUtf8StringWriter",
+            "java.sql.Date", "com.cedarsoftware.io.Writers$DateWriter",
+            "java.sql.Timestamp", "com.cedarsoftware.io.Writers$TimestampWriter",
+            "java.time.Duration", "com.cedarsoftware.io.Writers$DurationWriter",
+            "java.time.Instant", "com.cedarsoftware.io.Writers$InstantWriter",
+            "java.time.LocalDate", "com.cedarsoftware.io.Writers$LocalDateWriter",
+            "java.time.LocalDateTime", "com.cedarsoftware.io.Writers$LocalDateTimeWriter",
+            "java.time.LocalTime", "com.cedarsoftware.io.Writers$LocalTimeWriter",
+            "java.time.MonthDay", "com.cedarsoftware.io.Writers$MonthDayWriter",
+            "java.time.OffsetDateTime", "com.cedarsoftware.io.Writers$OffsetDateTimeWriter",
+            "java.time.OffsetTime", "com.cedarsoftware.io.Writers$OffsetTimeWriter",
+            "java.time.Period", "com.cedarsoftware.io.Writers$PeriodWriter",
+            "java.time.Year", "com.cedarsoftware.io.Writers$YearWriter",
+            "java.time.YearMonth", "com.cedarsoftware.io.Writers$YearMonthWriter",
+            "java.time.ZonedDateTime", "com.cedarsoftware.io.Writers$ZonedDateTimeWriter",
+            "java.time.ZoneId", "com.cedarsoftware.io.writers.ZoneIdWriter",
+            "java.time.ZoneOffset", "com.cedarsoftware.io.Writers$ZoneOffsetWriter",
+            "java.util.Calendar", "com.cedarsoftware.io.Writers$CalendarWriter",
+            "java.util.concurrent.atomic.AtomicBoolean", "com.cedarsoftware.io.Writers$PrimitiveValueWriter",
+            "java.util.concurrent.atomic.AtomicInteger", "com.cedarsoftware.io.Writers$PrimitiveValueWriter",
+            "java.util.concurrent.atomic.AtomicIntegerArray", "com.cedarsoftware.io.writers.AtomicIntegerArrayWriter",
+            "java.util.concurrent.atomic.AtomicLong", "com.cedarsoftware.io.Writers$PrimitiveValueWriter",
+            "java.util.concurrent.atomic.AtomicLongArray", "com.cedarsoftware.io.writers.AtomicLongArrayWriter",
+            "java.util.concurrent.locks.ReentrantLock", "com.cedarsoftware.io.writers.ReentrantLockWriter",
+            "java.util.concurrent.locks.ReentrantReadWriteLock", "com.cedarsoftware.io.writers.ReentrantReadWriteLockWriter",
+            "java.util.concurrent.Semaphore", "com.cedarsoftware.io.writers.SemaphoreWriter",
+            "java.util.concurrent.CountDownLatch", "com.cedarsoftware.io.writers.CountDownLatchWriter",
+            "java.util.Optional", "com.cedarsoftware.io.writers.OptionalWriter",
+            "java.util.OptionalInt", "com.cedarsoftware.io.writers.OptionalIntWriter",
+            "java.util.OptionalLong", "com.cedarsoftware.io.writers.OptionalLongWriter",
+            "java.util.OptionalDouble", "com.cedarsoftware.io.writers.OptionalDoubleWriter",
+            "java.util.Currency", "com.cedarsoftware.io.Writers$CurrencyWriter",
+            "java.util.Date", "com.cedarsoftware.io.Writers$DateAsLongWriter",
+            "java.util.GregorianCalendar", "com.cedarsoftware.io.Writers$CalendarWriter",
+            "java.util.Locale", "com.cedarsoftware.io.Writers$LocaleWriter",
+            "java.util.TimeZone", "com.cedarsoftware.io.Writers$TimeZoneWriter",
+            "java.util.UUID", "com.cedarsoftware.io.Writers$UUIDWriter",
+            "java.util.BitSet", "com.cedarsoftware.io.writers.BitSetWriter",
+            "java.util.regex.Pattern", "com.cedarsoftware.io.Writers$PatternWriter",
+            "sun.util.calendar.ZoneInfo", "com.cedarsoftware.io.Writers$TimeZoneWriter",
+            "com.cedarsoftware.util.CompactMap", "com.cedarsoftware.io.writers.CompactMapWriter",
+            "com.cedarsoftware.util.CompactSet", "com.cedarsoftware.io.writers.CompactSetWriter",
+            "com.cedarsoftware.util.MultiKeyMap", "com.cedarsoftware.io.writers.MultiKeyMapWriter",
+    };
+
+    private static final String[] FIELDS_NOT_EXPORTED = {
+            "java.lang.Throwable", "backtrace,depth,suppressedExceptions,stackTrace",
+            "java.lang.StackTraceElement", "declaringClassObject,format",
+            "sun.util.calendar.ZoneInfo", "rawOffset,rawOffsetDiff,checksum,dstSavings,transitions,offsets,simpleTimeZoneParams,willGMTOffsetChange,dirty",
+            "java.lang.Enum", "internal,ENUM$VALUES",
+            "groovy.lang.MetaClass", "metaClass",
+            "java.util.TimeZone", "ID,zoneId",
+            "java.lang.AbstractStringBuilder", "value,coder,count",
+            "java.util.LinkedHashMap", "head,tail,accessOrder",
+            "java.util.HashMap", "table,size,modCount,threshold,loadFactor,entrySet,keySet",
+            "java.util.Set", "keySet",
+            "java.util.AbstractMap", "values",
+            "java.util.Calendar", "fields,isSet,stamp,time,isTimeSet,areFieldsSet,areAllFieldsSet,lenient,zone,sharedZone,firstDayOfWeek,minimalDaysInFirstWeek,nextStamp,serialVersionOnStream",
+            "java.util.GregorianCalendar", "gregorianCutover,gregorianCutoverDate,gregorianCutoverYear,gregorianCutoverYearJulian,gdate,cdate,calsys,zoneOffsets,originalFields,cachedFixedDate",
+    };
+
+    private static final String[] FIELDS_NOT_IMPORTED = {
+            "java.lang.Enum", "name,internal,ENUM$VALUES",
+            "java.lang.Throwable", "detailMessage,cause",
+            "java.lang.NullPointerException", "extendedMessage,extendedMessageState",
+            "java.lang.Byte", "value",
+            "java.lang.Double", "value",
+            "java.util.EnumSet", "elementType,universe",
+            "java.time.Instant", "seconds,nanos",
+    };
+
+    private static final String[] NON_STANDARD_GETTERS = {
+            "java.lang.Enum", "name:name",
+            "java.lang.Throwable", "detailMessage:getMessage",
+            "java.lang.StackTraceElement", "declaringClass:getClassName",
+            "java.time.YearMonth", "month:getMonthValue",
+            "java.time.Year", "year:getValue",
+            "java.time.Duration", "nanos:getNano",
+            "java.time.Instant", "seconds:getEpochSecond,nanos:getNano",
+            "java.time.MonthDay", "month:getMonthValue,day:getDayOfMonth",
+    };
+
+    private static final String[] NON_STANDARD_SETTERS = {
+            "java.lang.Throwable", "cause:initCause",
+    };
+
+    private static final String[] NON_REFS = {
+            "byte",
+            "short",
+            "int",
+            "long",
+            "float",
+            "double",
+            "char",
+            "boolean",
+            "java.lang.Byte",
+            "java.lang.Short",
+            "java.lang.Integer",
+            "java.lang.Long",
+            "java.lang.Float",
+            "java.lang.Double",
+            "java.lang.Character",
+            "java.lang.Boolean",
+            "java.lang.Class",
+            "java.lang.String",
+            "java.lang.StringBuffer",
+            "java.lang.StringBuilder",
+            "java.io.File",
+            "java.math.BigInteger",
+            "java.math.BigDecimal",
+            "java.net.URI",
+            "java.net.URL",
+            "java.nio.file.Path",
+            "java.sql.Date",
+            "java.sql.Timestamp",
+            "java.time.Duration",
+            "java.time.Instant",
+            "java.time.LocalDate",
+            "java.time.LocalDateTime",
+            "java.time.LocalTime",
+            "java.time.MonthDay",
+            "java.time.OffsetDateTime",
+            "java.time.OffsetTime",
+            "java.time.Period",
+            "java.time.Year",
+            "java.time.YearMonth",
+            "java.time.ZonedDateTime",
+            "java.time.ZoneId",
+            "java.time.ZoneOffset",
+            "java.time.ZoneRegion",
+            "java.util.Calendar",
+            "java.util.Currency",
+            "java.util.Date",
+            "java.util.GregorianCalendar",
+            "java.util.Locale",
+            "java.util.TimeZone",
+            "java.util.UUID",
+            "java.util.concurrent.atomic.AtomicBoolean",
+            "java.util.concurrent.atomic.AtomicInteger",
+            "java.util.concurrent.atomic.AtomicLong",
+            "java.util.regex.Pattern",
+            "sun.util.calendar.ZoneInfo",
+    };
+
+    private static final String[] NOT_CUSTOM_READ = {
+            "com.cedarsoftware.util.CompactCIHashSet",
+            "com.cedarsoftware.util.CompactCILinkedSet",
+            "com.cedarsoftware.util.CompactLinkedSet",
+            "com.cedarsoftware.util.CompactCIHashMap",
+            "com.cedarsoftware.util.CompactCILinkedMap",
+            "com.cedarsoftware.util.CompactLinkedMap",
+    };
+
+    private static final String[] NOT_CUSTOM_WRITTEN = {
+            "com.cedarsoftware.util.CompactCIHashSet",
+            "com.cedarsoftware.util.CompactCILinkedSet",
+            "com.cedarsoftware.util.CompactLinkedSet",
+            "com.cedarsoftware.util.CompactCIHashMap",
+            "com.cedarsoftware.util.CompactCILinkedMap",
+            "com.cedarsoftware.util.CompactLinkedMap",
+    };
+}
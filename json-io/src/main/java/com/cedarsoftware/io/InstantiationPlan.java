@@ -0,0 +1,305 @@
+package com.cedarsoftware.io;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Executable;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Parameter;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import com.cedarsoftware.io.reflect.AnnotationResolver;
+import com.cedarsoftware.util.ClassUtilities;
+import com.cedarsoftware.util.ClassValueMap;
+import com.cedarsoftware.util.convert.Converter;
+
+/**
+ * Per-class instantiation plan used by {@link Resolver} when no ClassFactory applies. Built once per class
+ * from its {@link AnnotationResolver.ClassAnnotationMetadata} and cached in a {@link ClassValueMap} next to
+ * that metadata, so the per-instance work is:
+ * <ul>
+ *   <li><b>@IoCreator classes</b> — one JSON lookup per creator parameter (keys already resolved through
+ *       {@code @IoProperty}/{@code @JsonProperty}), a conversion only when the value is not already an
+ *       instance of the parameter type, and a single {@link MethodHandle} invoke over an {@code Object[]}.
+ *       Ignored and non-included keys are never copied out of the JsonObject; their parameters are simply
+ *       left null.</li>
+ *   <li><b>Everything else</b> — {@link com.cedarsoftware.util.ClassUtilities#newInstance} as before, with the
+ *       ignored/included key filter skipped entirely for classes that declare neither.</li>
+ * </ul>
+ * When a read runs with {@link ReadOptions#isUseUnsafe()} and constructor matching fails for a class, the plan
+ * picks a constructor-free {@link Allocation} for it (Unsafe {@code allocateInstance}, else a serialization
+ * constructor) and caches the resulting {@link MethodHandle}; later instances of that class skip constructor
+ * matching. The choice is made per read by the caller's options, so no process-wide unsafe switch is involved.
+ *
+ * @author John DeRegnaucourt (jdereg@gmail.com)
+ *         <br>
+ *         Copyright (c) Cedar Software LLC
+ *         <br><br>
+ *         Licensed under the Apache License, Version 2.0 (the "License");
+ *         you may not use this file except in compliance with the License.
+ *         You may obtain a copy of the License at
+ *         <br><br>
+ *         <a href="http://www.apache.org/licenses/LICENSE-2.0">License</a>
+ *         <br><br>
+ *         Unless required by applicable law or agreed to in writing, software
+ *         distributed under the License is distributed on an "AS IS" BASIS,
+ *         WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *         See the License for the specific language governing permissions and
+ *         limitations under the License.
+ */
+final class InstantiationPlan {
+    private static final ClassValueMap<InstantiationPlan> PLANS = new ClassValueMap<>();
+
+    /**
+     * How instances of a class are obtained when {@link ReadOptions#isUseUnsafe()} is set.
+     */
+    enum Allocation {
+        /** Constructor matching via ClassUtilities (the only strategy used without useUnsafe) */
+        CONSTRUCTOR,
+        /** sun.misc.Unsafe.allocateInstance — no constructor runs */
+        UNSAFE,
+        /** sun.reflect.ReflectionFactory serialization constructor — only Object() runs */
+        SERIALIZATION_CONSTRUCTOR
+    }
+
+    // Resolved once; both live in jdk.unsupported and are looked up reflectively so the code compiles for Java 8.
+    private static final MethodHandle UNSAFE_ALLOCATE = unsafeAllocateHandle();          // (Class)Object, or null
+    private static final MethodHandle SERIALIZATION_CONSTRUCTOR = serializationCtorHandle(); // (Class)Constructor, or null
+
+    final Class<?> type;
+
+    final AnnotationResolver.ClassAnnotationMetadata meta;
+    private final boolean filtersKeys;
+
+    // @IoCreator binding (null creator when the class has none)
+    private final Executable creator;
+    private final MethodHandle creatorHandle;    // (Object[])Object, or null to fall back to reflection
+    private final String[] paramKeys;            // JSON key per creator parameter; null entry = skipped key
+    private final Class<?>[] paramTypes;
+    private final boolean valueBinding;          // @IoValue class with a single-arg creator
+    private final boolean valueKeyVisible;       // "value" is neither ignored nor excluded
+
+    // useUnsafe fallback, set once constructor matching has failed for this class
+    private volatile Allocation allocation = Allocation.CONSTRUCTOR;
+    private volatile MethodHandle allocator;     // ()Object
+
+    private InstantiationPlan(Class<?> c) {
+        type = c;
+        meta = AnnotationResolver.getMetadata(c);
+        filtersKeys = meta.hasIgnoredFields() || meta.hasIncludedFields();
+        creator = meta.getCreator();
+        if (creator == null) {
+            creatorHandle = null;
+            paramKeys = null;
+            paramTypes = null;
+            valueBinding = false;
+            valueKeyVisible = false;
+            return;
+        }
+
+        Parameter[] params = creator.getParameters();
+        paramKeys = new String[params.length];
+        paramTypes = new Class<?>[params.length];
+        for (int i = 0; i < params.length; i++) {
+            String key = AnnotationResolver.getParameterJsonKey(params[i]);
+            paramKeys[i] = isSkipped(key) ? null : key;
+            paramTypes[i] = params[i].getType();
+        }
+        valueBinding = meta.getValueMethod() != null && params.length == 1;
+        valueKeyVisible = !isSkipped("value");
+        creatorHandle = spreadHandle(creator, params.length);
+    }
+
+    static InstantiationPlan of(Class<?> c) {
+        InstantiationPlan plan = PLANS.getByClass(c);
+        if (plan == null) {
+            plan = new InstantiationPlan(c);
+            PLANS.put(c, plan);
+        }
+        return plan;
+    }
+
+    private boolean isSkipped(String key) {
+        Set<String> included = meta.getIncludedFields();
+        return meta.isIgnored(key) || (included != null && !included.contains(key));
+    }
+
+    private static MethodHandle spreadHandle(Executable creator, int arity) {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            MethodHandle mh = creator instanceof Constructor
+                    ? lookup.unreflectConstructor((Constructor<?>) creator)
+                    : lookup.unreflect((Method) creator);
+            return mh.asType(mh.type().generic()).asSpreader(Object[].class, arity);
+        } catch (IllegalAccessException | RuntimeException e) {
+            return null;    // not accessible from here (e.g. module-encapsulated): keep reflective invoke
+        }
+    }
+
+    boolean hasCreator() {
+        return creator != null;
+    }
+
+    /**
+     * Returns the JsonObject itself, or a copy without ignored / non-included keys when the class declares any
+     * and the JSON actually carries one. Used for the ClassUtilities.newInstance() constructor-matching path.
+     */
+    Map<Object, Object> constructorArgs(JsonObject jsonObj) {
+        if (!filtersKeys) {
+            return jsonObj;
+        }
+        Map<Object, Object> filtered = null;
+        for (Object key : jsonObj.keySet()) {
+            if (key instanceof String && isSkipped((String) key)) {
+                if (filtered == null) {
+                    filtered = new LinkedHashMap<>(jsonObj);
+                }
+                filtered.remove(key);
+            }
+        }
+        return filtered != null ? filtered : jsonObj;
+    }
+
+    /**
+     * Instantiate the class through ClassUtilities constructor matching. When {@code useUnsafe} is set and no
+     * constructor can be used, allocate it without running a constructor instead, and remember that for the
+     * class so later instances go straight to the cached allocator.
+     */
+    Object newInstance(Converter converter, Object arguments, boolean useUnsafe) {
+        MethodHandle alloc = useUnsafe ? allocator : null;
+        if (alloc == null) {
+            try {
+                return ClassUtilities.newInstance(converter, type, arguments);
+            } catch (IllegalArgumentException e) {
+                if (!useUnsafe || (alloc = allocator()) == null) {
+                    throw e;
+                }
+            }
+        }
+        try {
+            return (Object) alloc.invokeExact();
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new JsonIoException("Unable to instantiate " + type.getName() + " without a constructor", t);
+        }
+    }
+
+    Allocation getAllocation() {
+        return allocation;
+    }
+
+    private MethodHandle allocator() {
+        MethodHandle alloc = allocator;
+        if (alloc != null) {
+            return alloc;
+        }
+        if (type.isInterface() || Modifier.isAbstract(type.getModifiers()) || type.isArray()
+                || type.isPrimitive()) {
+            return null;
+        }
+        ClassUtilities.SecurityChecker.verifyClass(type);
+        Allocation chosen;
+        if (UNSAFE_ALLOCATE != null) {
+            alloc = MethodHandles.insertArguments(UNSAFE_ALLOCATE, 0, type);
+            chosen = Allocation.UNSAFE;
+        } else if (SERIALIZATION_CONSTRUCTOR != null) {
+            try {
+                Constructor<?> ctor = (Constructor<?>) (Object) SERIALIZATION_CONSTRUCTOR.invokeExact(type);
+                ctor.setAccessible(true);
+                alloc = MethodHandles.lookup().unreflectConstructor(ctor);
+                alloc = alloc.asType(MethodType.methodType(Object.class));
+            } catch (Throwable t) {
+                return null;
+            }
+            chosen = Allocation.SERIALIZATION_CONSTRUCTOR;
+        } else {
+            return null;
+        }
+        allocator = alloc;
+        allocation = chosen;
+        return alloc;
+    }
+
+    private static MethodHandle unsafeAllocateHandle() {
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Field f = unsafeClass.getDeclaredField("theUnsafe");
+            f.setAccessible(true);
+            Object unsafe = f.get(null);
+            return MethodHandles.publicLookup()
+                    .findVirtual(unsafeClass, "allocateInstance", MethodType.methodType(Object.class, Class.class))
+                    .bindTo(unsafe);
+        } catch (Throwable t) {
+            return null;    // not available on this runtime
+        }
+    }
+
+    private static MethodHandle serializationCtorHandle() {
+        try {
+            Class<?> rfClass = Class.forName("sun.reflect.ReflectionFactory");
+            Object rf = rfClass.getMethod("getReflectionFactory").invoke(null);
+            MethodHandle mh = MethodHandles.publicLookup()
+                    .findVirtual(rfClass, "newConstructorForSerialization",
+                            MethodType.methodType(Constructor.class, Class.class, Constructor.class))
+                    .bindTo(rf);
+            mh = MethodHandles.insertArguments(mh, 1, Object.class.getDeclaredConstructor());
+            return mh.asType(MethodType.methodType(Object.class, Class.class));
+        } catch (Throwable t) {
+            return null;    // not available on this runtime
+        }
+    }
+
+    /**
+     * Invoke the @IoCreator constructor or static factory method, binding parameters by JSON key.
+     */
+    Object invokeCreator(JsonObject jsonObj, Converter converter) {
+        final int arity = paramTypes.length;
+        final Object[] args = new Object[arity];
+        if (valueBinding && valueKeyVisible && jsonObj.containsKey("value")) {
+            // @IoValue class written with type info: {"@type":..., "value":...} → the creator's single parameter
+            args[0] = convertArg(jsonObj.get("value"), paramTypes[0], converter);
+        } else {
+            for (int i = 0; i < arity; i++) {
+                String key = paramKeys[i];
+                if (key != null) {
+                    args[i] = convertArg(jsonObj.get(key), paramTypes[i], converter);
+                }
+            }
+        }
+
+        try {
+            if (creatorHandle != null) {
+                return (Object) creatorHandle.invokeExact(args);
+            }
+            if (creator instanceof Constructor) {
+                return ((Constructor<?>) creator).newInstance(args);
+            }
+            return ((Method) creator).invoke(null, args);
+        } catch (InvocationTargetException e) {
+            throw new JsonIoException("@IoCreator invocation failed for " + creator.getDeclaringClass().getName(), e.getCause());
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable t) {
+            // MethodHandle invocation throws the creator's own exception directly; wrap it the same way
+            throw new JsonIoException("@IoCreator invocation failed for " + creator.getDeclaringClass().getName(), t);
+        }
+    }
+
+    private static Object convertArg(Object value, Class<?> paramType, Converter converter) {
+        if (value != null && !paramType.isInstance(value)) {
+            try {
+                return converter.convert(value, paramType);
+            } catch (Exception e) {
+                // Leave value as-is; creator may accept it or throw
+            }
+        }
+        return value;
+    }
+}
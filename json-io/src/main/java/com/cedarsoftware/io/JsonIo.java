@@ -4,13 +4,28 @@ import java.io.Closeable;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.OutputStream;
+import java.io.Reader;
 import java.io.StringReader;
+import java.io.Writer;
+import java.lang.reflect.Type;
+import java.nio.file.Path;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Logger;
 
 import com.cedarsoftware.io.prettyprint.JsonPrettyPrinter;
+import com.cedarsoftware.io.reflect.AnnotationResolver;
 import com.cedarsoftware.util.ClassUtilities;
 import com.cedarsoftware.util.Convention;
 import com.cedarsoftware.util.FastReader;
@@ -240,7 +255,7 @@ public class JsonIo {
 
     /**
      * Common parsing and resolution logic shared by all builders.
-     * Handles parse phase, unsafe mode management, resolution, and cleanup.
+     * Handles parse phase, resolution, and cleanup.
      *
      * @param readOptions read configuration
      * @param targetType the target type for resolution
@@ -249,15 +264,30 @@ public class JsonIo {
      * @param streamToClose optional stream to close (null if not applicable)
      * @return the resolved Java object
      */
-    @SuppressWarnings("unchecked")
     private static <T> T parseAndResolve(
             ReadOptions readOptions,
             java.lang.reflect.Type targetType,
             ParseFunction parseFunction,
             String parseErrorMessage,
             Closeable streamToClose) {
+        return parseAndResolve(readOptions, targetType, parseFunction, parseErrorMessage, streamToClose, true);
+    }
+
+    /**
+     * @param parsesTree true if parseFunction builds a new JsonObject tree that only this read can see; the
+     *                   resolver may then empty nodes as it resolves them. False for a caller-supplied tree.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> T parseAndResolve(
+            ReadOptions readOptions,
+            java.lang.reflect.Type targetType,
+            ParseFunction parseFunction,
+            String parseErrorMessage,
+            Closeable streamToClose,
+            boolean parsesTree) {
 
         Resolver resolver = createResolver(readOptions);
+        resolver.setReleaseResolvedNodes(parsesTree);
 
         // Parse phase
         Object parsed;
@@ -269,12 +299,7 @@ public class JsonIo {
             throw new JsonIoException(parseErrorMessage, e);
         }
 
-        // Resolve phase
-        boolean shouldManageUnsafe = readOptions.isUseUnsafe();
-        if (shouldManageUnsafe) {
-            ClassUtilities.setUseUnsafe(true);
-        }
-
+        // Resolve phase (ReadOptions.isUseUnsafe() is honored by the Resolver itself, per read)
         try {
             return (T) resolver.toJava(targetType, parsed);
         } catch (Exception e) {
@@ -283,9 +308,6 @@ public class JsonIo {
             }
             throw new JsonIoException(e.getMessage(), e);
         } finally {
-            if (shouldManageUnsafe) {
-                ClassUtilities.setUseUnsafe(false);
-            }
             resolver.cleanup();
             if (streamToClose != null && readOptions.isCloseStream()) {
                 IOUtilities.close(streamToClose);
@@ -696,6 +718,129 @@ public class JsonIo {
         return new ToonStreamBuilder(in, getMapOptions(readOptions));
     }
 
+    // =============================================
+    // JSON <-> TOON Transcoding
+    // =============================================
+
+    /**
+     * Transcodes JSON read from a Reader into TOON written to a Writer, without materializing
+     * Java objects and without an intermediate String on either side.
+     * <p>
+     * The JSON is transcoded as it is parsed: the root object is written field by field, and so is every
+     * nested object, so memory use is bounded by the largest array rather than by the document. TOON prefixes
+     * every array with its length and chooses tabular form only after seeing all elements, so each array is
+     * collected before it is written. With {@code toonKeyFolding} on, a nested object is collected too, since
+     * folding a single-key chain requires seeing the object whole.
+     * <p>
+     * Nothing is resolved and no classes are loaded, so this works for any JSON (for example, tool-call
+     * results destined for an LLM prompt). Metadata keys ({@code @type}, {@code @id}, {@code @ref}, ...)
+     * are carried across verbatim like any other key, and TOON reads them back as metadata.
+     *
+     * <h3>Example:</h3>
+     * <pre>{@code
+     * try (Reader in = Files.newBufferedReader(jsonPath); Writer out = Files.newBufferedWriter(toonPath)) {
+     *     JsonIo.transcode(in, out, null, null);
+     * }
+     * }</pre>
+     *
+     * @param json Reader supplying JSON; must not be null. Closed afterwards if
+     *             {@code readOptions.isCloseStream()} is true.
+     * @param toon Writer receiving TOON; must not be null. Flushed after writing, and closed if
+     *             {@code writeOptions.isCloseStream()} is true.
+     * @param readOptions options controlling the JSON parse; if null, default options are used.
+     *                    Map mode ({@code returnAsJsonObjects}) is always applied.
+     * @param writeOptions options controlling the TOON output; if null, defaults to showTypeInfoNever()
+     *                     and cycleSupport(false), the same defaults as {@link #toToon(Object, WriteOptions)}
+     * @throws JsonIoException if the JSON cannot be parsed or the TOON cannot be written
+     * @see #transcodeToJson(Reader, Writer, ReadOptions, WriteOptions)
+     */
+    public static void transcode(Reader json, Writer toon, ReadOptions readOptions, WriteOptions writeOptions) {
+        Convention.throwIfNull(json, "Reader cannot be null");
+        Convention.throwIfNull(toon, "Writer cannot be null");
+        if (writeOptions == null) {
+            writeOptions = new WriteOptionsBuilder().showTypeInfoNever().cycleSupport(false).build();
+        }
+        final ReadOptions mapOptions = getMapOptions(readOptions);
+        BufferRecycler recycler = BUFFER_RECYCLER.get();
+        FastReader input = new FastReader(
+                json,
+                recycler.borrowReaderCharBuffer(DEFAULT_READER_BUFFER_SIZE),
+                recycler.borrowPushbackBuffer(DEFAULT_PUSHBACK_BUFFER_SIZE));
+        ToonWriter writer = new ToonWriter(toon, writeOptions);
+        Resolver resolver = createResolver(mapOptions);
+        try {
+            new JsonParser(input, resolver).transcodeTo(writer);
+        } catch (JsonIoException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new JsonIoException("Unable to transcode JSON to TOON", e);
+        } finally {
+            resolver.cleanup();
+            recycler.releaseReaderBuffers();
+            IOUtilities.close(writer);
+            if (mapOptions.isCloseStream()) {
+                IOUtilities.close(json);
+            }
+        }
+    }
+
+    /**
+     * Transcodes TOON read from a Reader into JSON written to a Writer, without materializing
+     * Java objects. This is the reverse of
+     * {@link #transcode(Reader, Writer, ReadOptions, WriteOptions)}.
+     * <p>
+     * The TOON text is read in full first, then checked for folded keys ({@code a.b.c: 1}). Without them, the
+     * JSON is written as the TOON is parsed: each field is written as soon as its line is read, nested objects
+     * are streamed the same way, and only arrays are read whole before being written, so no tree is built.
+     * A folded key can add to an object written anywhere earlier in the document, so a document that has
+     * them is read into a tree first, exactly as {@link #fromToonToMaps(InputStream)} reads it, and then
+     * written. Metadata keys are carried across verbatim.
+     *
+     * @param toon Reader supplying TOON; must not be null. Closed afterwards if
+     *             {@code readOptions.isCloseStream()} is true.
+     * @param json Writer receiving JSON; must not be null. Flushed after writing, and closed if
+     *             {@code writeOptions.isCloseStream()} is true.
+     * @param readOptions options controlling the TOON parse; if null, default options are used.
+     *                    Map mode ({@code returnAsJsonObjects}) is always applied.
+     * @param writeOptions options controlling the JSON output; if null, defaults to showTypeInfoNever()
+     * @throws JsonIoException if the TOON cannot be parsed or the JSON cannot be written
+     */
+    public static void transcodeToJson(Reader toon, Writer json, ReadOptions readOptions, WriteOptions writeOptions) {
+        Convention.throwIfNull(toon, "Reader cannot be null");
+        Convention.throwIfNull(json, "Writer cannot be null");
+        if (writeOptions == null) {
+            writeOptions = new WriteOptionsBuilder().showTypeInfoNever().build();
+        }
+        final ReadOptions mapOptions = getMapOptions(readOptions);
+        BufferRecycler recycler = BUFFER_RECYCLER.get();
+        char[] buffer = recycler.borrowReaderCharBuffer(DEFAULT_READER_BUFFER_SIZE);
+        JsonWriter writer = new JsonWriter(json, writeOptions);
+        try {
+            // Whether the document can be streamed depends on whether it has folded keys anywhere in it
+            StringBuilder text = new StringBuilder(buffer.length);
+            int count;
+            while ((count = toon.read(buffer)) != -1) {
+                text.append(buffer, 0, count);
+            }
+            boolean foldedKeys = ToonReader.mayHaveFoldedKeys(text);
+            FastReader input = new FastReader(new StringReader(text.toString()), buffer,
+                    recycler.borrowPushbackBuffer(DEFAULT_PUSHBACK_BUFFER_SIZE));
+            new ToonReader(input, mapOptions).transcodeTo(writer, foldedKeys);
+        } catch (JsonIoException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new JsonIoException("Unable to transcode TOON to JSON", e);
+        } finally {
+            recycler.releaseReaderBuffers();
+            if (writer.getWriteOptions().isCloseStream()) {
+                writer.close();
+            }
+            if (mapOptions.isCloseStream()) {
+                IOUtilities.close(toon);
+            }
+        }
+    }
+
     /**
      * Parses JSON into a {@code Map<String, Object>} graph without requiring Java classes on classpath.
      * <p>
@@ -809,6 +954,33 @@ public class JsonIo {
         return new JavaStreamBuilder(in, getMapOptions(readOptions));
     }
 
+    /**
+     * Parses a JSON file into a Map graph without requiring Java classes on classpath.
+     * <p>
+     * The file is memory-mapped and decoded straight into the parser's buffer; see
+     * {@link #toJava(Path, ReadOptions)}.
+     *
+     * @param path the JSON file; must not be null
+     * @return a builder to complete the conversion by specifying the target type
+     * @throws IllegalArgumentException if the path is null
+     */
+    public static JavaFileBuilder toMaps(Path path) {
+        return toMaps(path, null);
+    }
+
+    /**
+     * Parses a JSON file into a Map graph with custom read options. The method automatically
+     * configures {@code returnAsJsonObjects()} mode for class-independent parsing.
+     *
+     * @param path the JSON file; must not be null
+     * @param readOptions configuration options; if null, defaults will be used
+     * @return a builder to complete the conversion by specifying the target type
+     * @throws IllegalArgumentException if the path is null
+     */
+    public static JavaFileBuilder toMaps(Path path, ReadOptions readOptions) {
+        return new JavaFileBuilder(path, getMapOptions(readOptions));
+    }
+
     /**
      * Begins the process of converting a JSON string to Java objects.
      * <p>
@@ -911,6 +1083,41 @@ public class JsonIo {
         return new JavaStreamBuilder(in, readOptions);
     }
 
+    /**
+     * Begins the process of converting a JSON file to Java objects.
+     *
+     * @param path the JSON file; must not be null
+     * @return a builder to complete the conversion by specifying the target type
+     * @throws IllegalArgumentException if the path is null
+     * @see #toJava(Path, ReadOptions)
+     */
+    public static JavaFileBuilder toJava(Path path) {
+        return toJava(path, null);
+    }
+
+    /**
+     * Parse a JSON file into Java objects with the specified read options.
+     * <p>
+     * Intended for large files on local disk. The file is memory-mapped in windows and its UTF-8 bytes are
+     * decoded directly into the parser's char buffer, skipping the {@code InputStream} and
+     * {@code InputStreamReader} copies of the stream-based overload. The file is always closed when
+     * parsing completes, regardless of {@code readOptions.isCloseStream()}.
+     *
+     * <h3>Example:</h3>
+     * <pre>{@code
+     * Snapshot snapshot = JsonIo.toJava(Paths.get("archive/2026-10-01.json"), options).asClass(Snapshot.class);
+     * }</pre>
+     *
+     * @param path the JSON file; must not be null
+     * @param readOptions configuration options for controlling how the JSON is parsed;
+     *                    if null, default options will be used
+     * @return a builder to complete the conversion by specifying the target type
+     * @throws IllegalArgumentException if the path is null
+     */
+    public static JavaFileBuilder toJava(Path path, ReadOptions readOptions) {
+        return new JavaFileBuilder(path, readOptions);
+    }
+
     /**
      * Begins the process of converting a JsonObject (Map representation) to fully resolved Java objects.
      * <p>
@@ -983,6 +1190,21 @@ public class JsonIo {
         return JsonPrettyPrinter.prettyPrint(json);
     }
 
+    /**
+     * Formats JSON read from a Reader onto a Writer with proper indentation, streaming through
+     * fixed-size buffers so arbitrarily large payloads can be formatted without holding them in memory.
+     * Output matches {@link #formatJson(String)}. Neither stream is closed; the Writer is flushed.
+     *
+     * @param json Reader supplying the JSON to format
+     * @param out Writer receiving the formatted JSON
+     * @throws JsonIoException if reading or writing fails
+     */
+    public static void formatJson(Reader json, Writer out) {
+        Convention.throwIfNull(json, "Reader cannot be null");
+        Convention.throwIfNull(out, "Writer cannot be null");
+        JsonPrettyPrinter.prettyPrint(json, out, null);
+    }
+
     /**
      * Creates a deep copy of an object by serializing it to JSON and then deserializing it back.
      * <p>
@@ -1084,6 +1306,99 @@ public class JsonIo {
         return toJava(jsonObject, readOptions).asClass(rootType);
     }
 
+    /**
+     * Builds json-io's per-class metadata for the given classes ahead of time, in parallel on the common
+     * {@link ForkJoinPool}. Without this, the first read or write of each class pays for annotation scanning,
+     * accessor and injector discovery, and write/read plan creation. Call it at startup (for example before a
+     * readiness probe reports ready) so early requests do not see those costs.
+     * <p>
+     * Metadata is cached per options instance, so pass the same {@code ReadOptions} and {@code WriteOptions}
+     * the application will use. Equivalent to {@code warmUp(classes, readOptions, writeOptions, 0)}.
+     *
+     * @param classes the classes to prepare; null elements and duplicates are ignored
+     * @param readOptions the read options whose caches to fill; if null, default options are used
+     * @param writeOptions the write options whose caches to fill; if null, default options are used
+     * @return the time spent on each class, and any class that could not be prepared
+     */
+    public static WarmUpReport warmUp(Collection<Class<?>> classes, ReadOptions readOptions, WriteOptions writeOptions) {
+        return warmUp(classes, readOptions, writeOptions, 0);
+    }
+
+    /**
+     * Like {@link #warmUp(Collection, ReadOptions, WriteOptions)}, and also writes and reads back a
+     * default-constructed instance of each class {@code roundTrips} times. The round trips run the
+     * serialization paths so the JIT compiles them before real traffic arrives. A class that cannot be
+     * instantiated or round-tripped is listed in {@link WarmUpReport#getFailures()}; its metadata is still built.
+     *
+     * @param classes the classes to prepare; null elements and duplicates are ignored
+     * @param readOptions the read options whose caches to fill; if null, default options are used
+     * @param writeOptions the write options whose caches to fill; if null, default options are used
+     * @param roundTrips number of synthetic write/read round trips per class; 0 to build metadata only
+     * @return the time spent on each class, and any class that could not be prepared
+     * @throws IllegalArgumentException if roundTrips is negative
+     */
+    public static WarmUpReport warmUp(Collection<Class<?>> classes, ReadOptions readOptions, WriteOptions writeOptions, int roundTrips) {
+        Convention.throwIfNull(classes, "classes cannot be null");
+        if (roundTrips < 0) {
+            throw new IllegalArgumentException("roundTrips cannot be negative: " + roundTrips);
+        }
+        final ReadOptions read = readOptions != null ? readOptions : ReadOptionsBuilder.getDefaultReadOptions();
+        final WriteOptions write = writeOptions != null ? writeOptions : WriteOptionsBuilder.getDefaultWriteOptions();
+        final Converter converter = new Converter(read.getConverterOptions());
+
+        Set<Class<?>> unique = new LinkedHashSet<>(classes);
+        unique.remove(null);
+        final Class<?>[] targets = unique.toArray(new Class<?>[0]);
+        final long[] nanos = new long[targets.length];
+        final Throwable[] failures = new Throwable[targets.length];
+
+        List<Callable<Void>> tasks = new ArrayList<>(targets.length);
+        for (int i = 0; i < targets.length; i++) {
+            final int index = i;
+            tasks.add(() -> {
+                long start = System.nanoTime();
+                try {
+                    warmUpClass(targets[index], read, write, converter, roundTrips);
+                } catch (Exception | LinkageError e) {
+                    failures[index] = e;
+                }
+                nanos[index] = System.nanoTime() - start;
+                return null;
+            });
+        }
+
+        long start = System.nanoTime();
+        ForkJoinPool.commonPool().invokeAll(tasks);     // tasks catch their own failures
+        long elapsed = System.nanoTime() - start;
+
+        Map<Class<?>, Long> timings = new LinkedHashMap<>();
+        Map<Class<?>, Throwable> failed = new LinkedHashMap<>();
+        for (int i = 0; i < targets.length; i++) {
+            timings.put(targets[i], nanos[i]);
+            if (failures[i] != null) {
+                failed.put(targets[i], failures[i]);
+            }
+        }
+        return new WarmUpReport(timings, failed, elapsed);
+    }
+
+    private static void warmUpClass(Class<?> c, ReadOptions readOptions, WriteOptions writeOptions, Converter converter, int roundTrips) {
+        AnnotationResolver.getMetadata(c);
+        WriteOptionsBuilder.getWriteFieldPlans(writeOptions, c);
+        ReadOptionsBuilder.getInjectorPlan(readOptions, c);
+        if (readOptions instanceof ReadOptionsBuilder.DefaultReadOptions) {
+            ((ReadOptionsBuilder.DefaultReadOptions) readOptions).resolveTypeName(c.getName());
+        }
+        if (roundTrips == 0) {
+            return;
+        }
+        Object instance = ClassUtilities.newInstance(converter, c, (Object) null);
+        for (int i = 0; i < roundTrips; i++) {
+            String json = toJson(instance, writeOptions);
+            toJava(json, readOptions).asClass(c);
+        }
+    }
+
     /**
      * Builder for converting a JSON string to Java objects.
      * <p>
@@ -1167,7 +1482,15 @@ public class JsonIo {
          * @return an object of the specified type populated from the JSON
          * @throws JsonIoException if an error occurs during parsing or conversion
          */
+        @SuppressWarnings("unchecked")
         public <T> T asType(TypeHolder<T> typeHolder) {
+            Type type = typeHolder.getType();
+            if ((type == null || type == JsonObject.class) && readOptions.isLazyMapValues() && readOptions.isReturningJsonObjects()) {
+                Object lazy = LazyJson.read(json, readOptions, type == JsonObject.class);
+                if (lazy != LazyJson.NOT_LAZY) {
+                    return (T) lazy;
+                }
+            }
             BufferRecycler recycler = BUFFER_RECYCLER.get();
             FastReader input = new FastReader(
                     new StringReader(json),
@@ -1176,10 +1499,10 @@ public class JsonIo {
             try {
                 return parseAndResolve(
                         readOptions,
-                        typeHolder.getType(),
+                        type,
                         resolver -> {
                             JsonParser parser = new JsonParser(input, resolver);
-                            return parser.readValue(typeHolder.getType());
+                            return parser.readValue(type);
                         },
                         "Error parsing JSON value",
                         null);
@@ -1279,6 +1602,72 @@ public class JsonIo {
         }
     }
 
+    /**
+     * Builder for converting a JSON file to Java objects.
+     * <p>
+     * This builder completes the JSON parsing process started by {@link #toJava(Path, ReadOptions)} or
+     * {@link #toMaps(Path, ReadOptions)}. The file is opened, memory-mapped, parsed, and closed when
+     * {@link #asClass(Class)} or {@link #asType(TypeHolder)} is called.
+     */
+    public static final class JavaFileBuilder {
+        private final Path path;
+        private final ReadOptions readOptions;
+
+        JavaFileBuilder(Path path, ReadOptions readOptions) {
+            Convention.throwIfNull(path, "Path cannot be null");
+            this.path = path;
+            this.readOptions = readOptions != null ? readOptions : ReadOptionsBuilder.getDefaultReadOptions();
+        }
+
+        /**
+         * Completes the JSON parsing by specifying a target class.
+         *
+         * @param <T> the type to convert the JSON to
+         * @param clazz the target class; if null, the type will be inferred from the JSON
+         * @return an instance of the specified class populated from the JSON
+         * @throws JsonIoException if the file cannot be read or an error occurs during parsing or conversion
+         */
+        public <T> T asClass(Class<T> clazz) {
+            return asType(TypeHolder.forClass(clazz));
+        }
+
+        /**
+         * Completes the JSON parsing by specifying a generic type.
+         *
+         * @param <T> the type to convert the JSON to
+         * @param typeHolder a TypeHolder instance capturing the full generic type
+         * @return an object of the specified type populated from the JSON
+         * @throws JsonIoException if the file cannot be read or an error occurs during parsing or conversion
+         */
+        public <T> T asType(TypeHolder<T> typeHolder) {
+            MappedFileReader fileReader;
+            try {
+                fileReader = new MappedFileReader(path);
+            } catch (Exception e) {
+                throw new JsonIoException("Unable to open JSON file: " + path, e);
+            }
+            BufferRecycler recycler = BUFFER_RECYCLER.get();
+            FastReader input = new FastReader(
+                    fileReader,
+                    recycler.borrowReaderCharBuffer(DEFAULT_READER_BUFFER_SIZE),
+                    recycler.borrowPushbackBuffer(DEFAULT_PUSHBACK_BUFFER_SIZE));
+            try {
+                return parseAndResolve(
+                        readOptions,
+                        typeHolder.getType(),
+                        resolver -> {
+                            JsonParser parser = new JsonParser(input, resolver);
+                            return parser.readValue(typeHolder.getType());
+                        },
+                        "Error parsing JSON value",
+                        null);
+            } finally {
+                recycler.releaseReaderBuffers();
+                IOUtilities.close(fileReader);
+            }
+        }
+    }
+
     /**
      * Builder for converting a JsonObject (Map representation) to fully resolved Java objects.
      * <p>
@@ -1374,7 +1763,8 @@ public class JsonIo {
                     typeHolder.getType(),
                     resolver -> jsonObject,  // No parsing needed - already have JsonObject
                     "Error converting JsonObject",
-                    null);
+                    null,
+                    false);
         }
     }
 
@@ -1495,6 +1885,56 @@ public class JsonIo {
         }
     }
 
+    /**
+     * Result of {@link #warmUp(Collection, ReadOptions, WriteOptions, int)}: how long each class took, in the
+     * order the classes were given, and the classes that could not be prepared with the reason why.
+     */
+    public static final class WarmUpReport {
+        private final Map<Class<?>, Long> nanosByClass;
+        private final Map<Class<?>, Throwable> failures;
+        private final long elapsedNanos;
+
+        WarmUpReport(Map<Class<?>, Long> nanosByClass, Map<Class<?>, Throwable> failures, long elapsedNanos) {
+            this.nanosByClass = Collections.unmodifiableMap(nanosByClass);
+            this.failures = Collections.unmodifiableMap(failures);
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        /**
+         * @return nanoseconds spent on each class (metadata plus round trips), in the order given
+         */
+        public Map<Class<?>, Long> getNanosByClass() {
+            return nanosByClass;
+        }
+
+        /**
+         * @return classes whose warm-up threw, mapped to the exception; empty when all succeeded
+         */
+        public Map<Class<?>, Throwable> getFailures() {
+            return failures;
+        }
+
+        /**
+         * @return wall-clock nanoseconds for the whole warm-up
+         */
+        public long getElapsedNanos() {
+            return elapsedNanos;
+        }
+
+        /**
+         * @return true if every class was prepared without error
+         */
+        public boolean isSuccessful() {
+            return failures.isEmpty();
+        }
+
+        @Override
+        public String toString() {
+            return "WarmUpReport{classes=" + nanosByClass.size() + ", failures=" + failures.size() +
+                    ", elapsedMs=" + TimeUnit.NANOSECONDS.toMillis(elapsedNanos) + "}";
+        }
+    }
+
     /**
      * Displays a list of all supported type conversions in JsonIo.
      * <p>
@@ -84,6 +84,9 @@ public class JsonObject extends JsonValue implements Map<Object, Object>, Serial
 
     // Lazy index for O(1) lookup on large objects
     private transient Map<Object, Integer> index;
+    // True when data[] may hold LazyJson.Value placeholders (ReadOptions.isLazyMapValues()); each is decoded
+    // from the retained JSON text the first time it is read.
+    private transient boolean lazy;
 
     // Cached values — package-private so subclasses can invalidate after their own mutations.
     Integer hash;
@@ -372,7 +375,7 @@ public class JsonObject extends JsonValue implements Map<Object, Object>, Serial
     public Object get(Object key) {
         int idx = indexOf(key);
         if (idx < 0) return null;
-        return data[idx];
+        return valueAt(data, idx);
     }
 
     @Override
@@ -381,7 +384,7 @@ public class JsonObject extends JsonValue implements Map<Object, Object>, Serial
 
         int idx = indexOf(key);
         if (idx >= 0) {
-            Object old = data[idx];
+            Object old = valueAt(data, idx);
             data[idx] = value;
             return old;
         }
@@ -418,6 +421,37 @@ public class JsonObject extends JsonValue implements Map<Object, Object>, Serial
         size++;
     }
 
+    /**
+     * Append a field whose value is still undecoded JSON text; it is decoded on first read.
+     */
+    void appendLazyField(Object key, LazyJson.Value value) {
+        lazy = true;
+        appendFieldForParser(key, value);
+    }
+
+    private Object valueAt(Object[] vals, int i) {
+        Object value = vals[i];
+        if (lazy && value instanceof LazyJson.Value) {
+            value = ((LazyJson.Value) value).materialize();
+            vals[i] = value;
+        }
+        return value;
+    }
+
+    private void materializeAll() {
+        if (lazy) {
+            for (int i = 0; i < size; i++) {
+                valueAt(data, i);
+            }
+            lazy = false;
+        }
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+        materializeAll();
+        out.defaultWriteObject();
+    }
+
     @Override
     public boolean containsKey(Object key) {
         return indexOf(key) >= 0;
@@ -426,7 +460,7 @@ public class JsonObject extends JsonValue implements Map<Object, Object>, Serial
     @Override
     public boolean containsValue(Object value) {
         for (int i = 0; i < size; i++) {
-            if (Objects.equals(value, data[i])) {
+            if (Objects.equals(value, valueAt(data, i))) {
                 return true;
             }
         }
@@ -438,7 +472,7 @@ public class JsonObject extends JsonValue implements Map<Object, Object>, Serial
         int idx = indexOf(key);
         if (idx < 0) return null;
 
-        Object old = data[idx];
+        Object old = valueAt(data, idx);
 
         int numMoved = size - idx - 1;
         if (numMoved > 0) {
@@ -465,6 +499,20 @@ public class JsonObject extends JsonValue implements Map<Object, Object>, Serial
         }
     }
 
+    /**
+     * Drop the parsed fields once the Resolver has moved them into the Java target, so this node's subtree can
+     * be garbage collected while the rest of the graph is still being resolved. Type, id, and target are kept
+     * because later {@code @ref} lookups resolve through them. The old backing arrays are dropped, not cleared,
+     * since other code may still hold them (e.g. the resolver's shape cache).
+     */
+    void releaseContents() {
+        keys = EMPTY;
+        data = EMPTY;
+        size = 0;
+        hash = null;
+        index = null;
+    }
+
     @Override
     public void clear() {
         super.clear();
@@ -559,7 +607,7 @@ public class JsonObject extends JsonValue implements Map<Object, Object>, Serial
     }
 
     Object fastValueAt(int index) {
-        return data[index];
+        return valueAt(data, index);
     }
 
     private class KeySet extends AbstractSet<Object> {
@@ -629,7 +677,7 @@ public class JsonObject extends JsonValue implements Map<Object, Object>, Serial
                 @Override
                 public Object next() {
                     if (!hasNext()) throw new NoSuchElementException();
-                    return vals[idx++];
+                    return valueAt(vals, idx++);
                 }
             };
         }
@@ -657,7 +705,7 @@ public class JsonObject extends JsonValue implements Map<Object, Object>, Serial
             Map.Entry<?, ?> entry = (Map.Entry<?, ?>) o;
             int idx = indexOf(entry.getKey());
             if (idx < 0) return false;
-            return Objects.equals(data[idx], entry.getValue());
+            return Objects.equals(valueAt(data, idx), entry.getValue());
         }
     }
 
@@ -692,12 +740,12 @@ public class JsonObject extends JsonValue implements Map<Object, Object>, Serial
 
         @Override
         public Object getValue() {
-            return vals[index];
+            return valueAt(vals, index);
         }
 
         @Override
         public Object setValue(Object value) {
-            Object old = vals[index];
+            Object old = valueAt(vals, index);
             vals[index] = value;
             hash = null;
             return old;
@@ -707,14 +755,16 @@ public class JsonObject extends JsonValue implements Map<Object, Object>, Serial
         public boolean equals(Object o) {
             if (!(o instanceof Map.Entry)) return false;
             Map.Entry<?, ?> e = (Map.Entry<?, ?>) o;
+            Object value = valueAt(vals, index);
             return Objects.equals(keys[index], e.getKey()) &&
-                    Objects.equals(vals[index], e.getValue());
+                    Objects.equals(value, e.getValue());
         }
 
         @Override
         public int hashCode() {
+            Object value = valueAt(vals, index);
             return (keys[index] == null ? 0 : keys[index].hashCode()) ^
-                    (vals[index] == null ? 0 : vals[index].hashCode());
+                    (value == null ? 0 : value.hashCode());
         }
     }
 
@@ -723,6 +773,7 @@ public class JsonObject extends JsonValue implements Map<Object, Object>, Serial
     @Override
     public int hashCode() {
         if (hash == null) {
+            materializeAll();
             int result = 1;
             int len = size();
             for (int i = 0; i < len; i++) {
@@ -772,6 +823,8 @@ public class JsonObject extends JsonValue implements Map<Object, Object>, Serial
 
         int len = size();
         if (len != other.size()) return false;
+        materializeAll();
+        other.materializeAll();
 
         for (int i = 0; i < len; i++) {
             if (!Objects.equals(keys[i], other.keys[i])) return false;
@@ -787,6 +840,7 @@ public class JsonObject extends JsonValue implements Map<Object, Object>, Serial
         // Complex-key (@keys/@items) maps are JsonObjectMap and override this.
         // IMPORTANT: Do NOT copy arrays here! Reference patching during traversal modifies the
         // arrays in place, and rehashMaps() needs to see those patches.
+        materializeAll();
         return new AbstractMap.SimpleImmutableEntry<>(keys, data);
     }
 
@@ -831,6 +885,27 @@ public class JsonObject extends JsonValue implements Map<Object, Object>, Serial
         }
     }
 
+    /**
+     * @return true if any key (or the target of a JsonObject key) is a Map, Collection or array, whose
+     * hashCode() depends on contents that may still be filled in by another Map's rehash.
+     */
+    boolean hasContainerKeys() {
+        return hasContainerKey(keys, size);
+    }
+
+    static boolean hasContainerKey(Object[] k, int len) {
+        for (int i = 0; i < len; i++) {
+            Object key = k[i];
+            if (key instanceof JsonObject && ((JsonObject) key).target != null) {
+                key = ((JsonObject) key).target;
+            }
+            if (key instanceof Map || key instanceof Collection || (key != null && key.getClass().isArray())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     // ========== Static Configuration ==========
 
     public static void setLinearSearchThreshold(int threshold) {
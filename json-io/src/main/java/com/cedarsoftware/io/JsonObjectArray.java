@@ -64,6 +64,12 @@ class JsonObjectArray extends JsonObject {
         this.itemsRef = null;
     }
 
+    @Override
+    void releaseContents() {
+        super.releaseContents();
+        this.itemsRef = null;
+    }
+
     @Override
     public boolean isArray() {
         if (target != null) {
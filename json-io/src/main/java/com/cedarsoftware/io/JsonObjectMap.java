@@ -90,6 +90,13 @@ class JsonObjectMap extends JsonObject {
         this.valuesRef = null;
     }
 
+    @Override
+    void releaseContents() {
+        super.releaseContents();
+        this.keysRef = null;
+        this.valuesRef = null;
+    }
+
     @Override
     public boolean isMap() {
         if (target != null) {
@@ -386,6 +393,11 @@ class JsonObjectMap extends JsonObject {
         return new AbstractMap.SimpleImmutableEntry<>(keysRef, valuesRef);
     }
 
+    @Override
+    boolean hasContainerKeys() {
+        return keysRef != null && JsonObject.hasContainerKey(keysRef, keysRef.length);
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     void rehashMaps() {
@@ -2,6 +2,7 @@ package com.cedarsoftware.io;
 
 import java.io.IOException;
 import java.io.Reader;
+import java.io.StringReader;
 import java.lang.reflect.Type;
 import java.math.BigInteger;
 import java.util.ArrayList;
@@ -76,11 +77,20 @@ import static com.cedarsoftware.util.MathUtilities.parseToMinimalNumericType;
  *         limitations under the License.
  */
 class JsonParser {
-    private final FastReader input;
+    private FastReader input;
     private final StringBuilder strBuf;
     private final char[] readBuf = new char[256];  // Reusable buffer for bulk string reading
     private final FastReader.BufferSlice readSlice = new FastReader.BufferSlice();
     private final StringBuilder numBuf = new StringBuilder();
+    // Reusable element stack shared by all arrays being read. Each open array appends its elements above the
+    // ones its enclosing arrays have collected so far, copies its own run into an exactly sized Object[] at ']'
+    // and pops it, so nesting needs no per-depth bookkeeping.
+    private Object[] elementStack = new Object[32];
+    private int elementTop = 0;
+    // One frame per open object/array (see readValue(int, Type)). Frames are reused, so steady-state parsing
+    // allocates none.
+    private Frame[] frames = new Frame[16];
+    private int frameTop = 0;
     private int curParseDepth = 0;
     private final boolean allowNanAndInfinity;
     private final int maxParseDepth;
@@ -93,6 +103,10 @@ class JsonParser {
     private static final int STRING_CACHE_MASK = 2047;  // 2048 slots (power of 2 - 1)
     private static final int MAX_CACHED_STRING_LENGTH = 64;
     private static final int NO_PREFETCH = -2;
+    // Returned by readFieldStart() when the object's remaining fields were all outside the projection
+    private static final int END_OF_OBJECT = -3;
+    // Returned by closeObject() for an object whose fields were already written to the sink
+    private static final Object STREAMED = new Object();
     private final String[] stringCacheArray = new String[STRING_CACHE_MASK + 1];
     // Performance: Hoisted ReadOptions constants to avoid repeated method calls
     private final long maxIdValue;
@@ -102,6 +116,26 @@ class JsonParser {
     private final boolean floatingPointBigDecimal;
     private final boolean floatingPointBoth;
     private final ClassLoader classLoader;
+    private final ReadOptionsBuilder.DefaultReadOptions typeNameResolver;   // null for custom ReadOptions
+    private final Projection projection;    // null unless ReadOptions.getProjectedPaths() is set
+    // ReadOptions skipUnmappedFields, in Java mode without a MissingFieldHandler: values of fields the target class
+    // cannot take are never decoded
+    private final boolean skipUnmappedFields;
+    private char[] skipStack;               // open brackets of a value being skipped (projection)
+    private StringBuilder skipText;         // text of the unmapped object/array being skipped
+    private JsonParser idParser;            // reads skipped text that may hold an @id (see skipUnmappedValue)
+    // JsonIo.transcode: objects are written to the sink as their fields are read, instead of being resolved
+    // (see transcodeTo).  streamBase is the frame index of the root object.
+    private ToonWriter sink;
+    private boolean streamNested;
+    private int streamBase;
+    // Set once any '@'-prefixed field (@id, @ref, @type, @items, @keys, ...) is read.  When a read sees none,
+    // the Maps-mode resolver can hand back the parsed tree as-is.
+    private boolean sawMetadata;
+    // Last @type value seen and its Class: homogeneous arrays repeat one type, and the string cache
+    // hands back the same String instance, so a repeat costs a pointer compare.
+    private String lastTypeName;
+    private Class<?> lastType;
     private final Map<CharSequence, CharSequence> substitutes;
     
     private static final Map<CharSequence, CharSequence> SUBSTITUTES = new HashMap<>(16);
@@ -178,6 +212,27 @@ class JsonParser {
         this.floatingPointBigDecimal = readOptions.isFloatingPointBigDecimal();
         this.floatingPointBoth = readOptions.isFloatingPointBoth();
         this.classLoader = readOptions.getClassLoader();
+        this.typeNameResolver = readOptions instanceof ReadOptionsBuilder.DefaultReadOptions
+                ? (ReadOptionsBuilder.DefaultReadOptions) readOptions : null;
+        this.projection = typeNameResolver != null ? typeNameResolver.getProjection()
+                : Projection.compile(readOptions.getProjectedPaths());
+        this.skipUnmappedFields = readOptions.isSkipUnmappedFields() && !readOptions.isReturningJsonObjects()
+                && readOptions.getMissingFieldHandler() == null;
+    }
+
+    /**
+     * Point this parser at a new source.  LazyJson reuses one parser for every value it decodes on demand.
+     */
+    void setInput(FastReader reader) {
+        input = reader;
+    }
+
+    /**
+     * @return true if the parser treats a field with this name as metadata (@type, @id, @ref, ... or one of
+     * their short / JSON5 spellings).
+     */
+    static boolean isMetadataField(CharSequence field) {
+        return (field.length() > 0 && field.charAt(0) == '@') || SUBSTITUTES.containsKey(field.toString());
     }
 
     /**
@@ -185,24 +240,131 @@ class JsonParser {
      * @param suggestedType JsonValue Owning entity.
      */
     Object readValue(Type suggestedType) throws IOException {
-        return readValue(skipWhitespaceRead(true), suggestedType);
+        Object value = readValue(skipWhitespaceRead(true), suggestedType);
+        resolver.setPlainJson(!sawMetadata);
+        return value;
     }
 
+    /**
+     * Parse one complete JSON value whose first character {@code c} has already been read.
+     * <p>
+     * Objects and arrays are parsed iteratively, not recursively: each open object or array is a {@link Frame}
+     * on {@link #frames}, so nesting costs heap instead of thread stack, and deep documents (up to
+     * maxParseDepth) parse safely on small-stack and virtual threads. The loop alternates two phases.
+     * <em>Descend</em> starts the value at {@code c}; a non-empty object or array pushes a frame and descends
+     * into its first member. <em>Ascend</em> hands a finished value to the innermost open frame, which either
+     * positions on its next member (descend again) or closes and becomes the finished value for its parent.
+     */
     private Object readValue(int c, Type suggestedType) throws IOException {
-        if (curParseDepth > maxParseDepth) {
-            error("Maximum parsing depth exceeded");
-        }
-        // Fast path for objects and arrays (most common cases)
-        if (c == '{') {
-            JsonObject jObj = readJsonObject(suggestedType);
-            return jObj;
-        }
-        if (c == '[') {
-            Type elementType = TypeUtilities.extractArrayComponentType(suggestedType);
-            return readArray(elementType);
+        final int bottom = frameTop;
+        final int elementBottom = elementTop;
+        try {
+            while (true) {
+                // ---- descend: start the value whose first character is c ----
+                if (curParseDepth > maxParseDepth) {
+                    error("Maximum parsing depth exceeded");
+                }
+                Object value;
+                if (c == '{') {
+                    c = skipWhitespaceRead(true);
+                    if (c == '}') {    // empty object
+                        // Return a new, empty JsonObject (prevents @id/@ref from interfering)
+                        value = new JsonObject();
+                    } else {
+                        Frame frame = pushObjectFrame(suggestedType);
+                        if (sink != null) {
+                            streamObjectStart(frame);
+                        }
+                        c = readFieldStart(frame, c);
+                        if (c != END_OF_OBJECT) {
+                            suggestedType = frame.valueType;
+                            continue;
+                        }
+                        value = closeObject(frame);
+                    }
+                } else if (c == '[') {
+                    Type elementType = TypeUtilities.extractArrayComponentType(suggestedType);
+                    ++curParseDepth;
+                    // Peek for an empty array first so a value never starts with ']'
+                    c = skipWhitespaceRead(true);
+                    if (c == ']') {
+                        --curParseDepth;
+                        value = resolver.resolveArray(elementType, new Object[0]);
+                    } else {
+                        pushArrayFrame(elementType);
+                        suggestedType = elementType;
+                        continue;
+                    }
+                } else {
+                    value = readScalar(c);
+                }
+
+                // ---- ascend: deliver the finished value to the innermost open frame ----
+                while (frameTop != bottom) {
+                    Frame frame = frames[frameTop - 1];
+                    if (frame.isArray) {
+                        if (elementTop == elementStack.length) {
+                            elementStack = Arrays.copyOf(elementStack, elementTop << 1);
+                        }
+                        elementStack[elementTop++] = value;
+                        c = skipWhitespaceRead(true);
+                        if (c == ',') {
+                            c = skipWhitespaceRead(true);
+                            if (c != ']') {
+                                // c is the first char of the next element
+                                suggestedType = frame.suggestedType;
+                                break;
+                            }
+                            // Trailing comma before closing bracket (JSON5 feature)
+                            if (strictJson) {
+                                error("Trailing commas not allowed in strict JSON mode");
+                            }
+                        } else if (c != ']') {
+                            error("Expected ',' or ']' inside array");
+                        }
+                        value = closeArray(frame);
+                    } else {
+                        acceptField(frame, value);
+                        c = skipWhitespaceRead(true);
+                        if (c == ',') {
+                            c = skipWhitespaceRead(true);
+                            if (c != '}') {
+                                // c is the first char of the next field name
+                                c = readFieldStart(frame, c);
+                                if (c != END_OF_OBJECT) {
+                                    suggestedType = frame.valueType;
+                                    break;
+                                }
+                            } else if (strictJson) {
+                                // Trailing comma before closing brace (JSON5 feature)
+                                error("Trailing commas not allowed in strict JSON mode");
+                            }
+                        } else if (c != '}') {
+                            error("Object not ended with '}', instead found '" + (char) c + "'");
+                        }
+                        value = closeObject(frame);
+                    }
+                }
+                if (frameTop == bottom) {
+                    return value;
+                }
+            }
+        } finally {
+            if (frameTop != bottom) {
+                // A parse error escaped from inside nested frames: drop them and their collected elements.
+                Arrays.fill(elementStack, elementBottom, elementTop, null);
+                elementTop = elementBottom;
+                while (frameTop != bottom) {
+                    frames[--frameTop].release();
+                }
+            }
         }
+    }
 
-        // Handle less common value types
+    /**
+     * Read a scalar JSON value (string, number, true, false, null) whose first character {@code c} has been read.
+     */
+    private Object readScalar(int c) throws IOException {
         switch (c) {
             case '"':
                 return readString('"');
@@ -250,23 +412,107 @@ class JsonParser {
     }
 
     /**
-     * Read a JSON object { ... }
-     *
-     * @return JsonObject that represents the { ... } being read in.  If the JSON object type can be inferred,
-     * from a @type field, containing field type, or containing array type, then the javaType will be set on the
-     * JsonObject.
+     * Parser state for one open JSON object or array. Holds what the recursive parser used to keep in locals.
      */
-    private JsonObject readJsonObject(Type suggestedType) throws IOException {
-        // The '{' has already been consumed by readValue()
-        // Read the first char of the next field at the top of every loop iteration; the
-        // trailing-comma branch then hands the char straight to readFieldName instead of
-        // pushing it back and re-reading it.
-        int c = skipWhitespaceRead(true);
-        if (c == '}') {    // empty object
-            // Return a new, empty JsonObject (prevents @id/@ref from interfering)
-            return new JsonObject();
+    private static final class Frame {
+        boolean isArray;
+        // Object: the object's suggested type. Array: the element type.
+        Type suggestedType;
+        // Array: index of this array's first element on elementStack
+        int base;
+        // Projection for this object's fields, or for each element of this array.  Null keeps everything.
+        Projection projection;
+
+        // Object state. Peek-through-metadata: JsonObject allocation is deferred until we know which subclass
+        // to instantiate (lite/Array/Map). @id/@type/@ref are buffered while preAlloc is true, until
+        // @items/@keys (heavy shape determined) or a non-metadata field (lite shape) arrives.
+        ReadOptionsBuilder.InjectorPlan injectorPlan;
+        JsonObject jObj;
+        boolean preAlloc;
+        boolean hasPendingId;
+        long pendingId;
+        long pendingRefId;
+        Class<?> pendingType;
+        String pendingTypeString;
+        // Field whose value is being read, and the type hint for that value
+        CharSequence field;
+        Type valueType;
+        Projection valueProjection;
+        // Unmapped-field skipping (Java mode).  exact: nothing above this value overrides the type the parser
+        // suggests for it.  skipPlan: plan of the class being filled, whose unmapped fields are skipped (null
+        // keeps every field).  skipped: names skipped so far, checked again if a late @type changes the class.
+        boolean exact;
+        boolean valuesExact;
+        ReadOptionsBuilder.InjectorPlan skipPlan;
+        List<String> skipped;
+        // Transcoding: fields go straight to the sink.  first: no field has been written yet.
+        boolean streamed;
+        boolean first;
+
+        void release() {
+            streamed = false;
+            suggestedType = null;
+            injectorPlan = null;
+            jObj = null;
+            pendingType = null;
+            pendingTypeString = null;
+            field = null;
+            valueType = null;
+            projection = null;
+            valueProjection = null;
+            skipPlan = null;
+            if (skipped != null) {
+                skipped.clear();
+            }
         }
+    }
+
+    private Frame pushFrame() {
+        if (frameTop == frames.length) {
+            frames = Arrays.copyOf(frames, frameTop << 1);
+        }
+        Frame frame = frames[frameTop];
+        if (frame == null) {
+            frame = new Frame();
+            frames[frameTop] = frame;
+        }
+        frameTop++;
+        return frame;
+    }
+
+    /**
+     * Open a JSON array whose '[' and first non-whitespace char have been read (the array is not empty).
+     * Elements accumulate on the reusable element stack until {@link #closeArray(Frame)}.
+     */
+    private void pushArrayFrame(Type elementType) {
+        Projection elementProjection = valueProjection();
+        boolean exact = skipUnmappedFields && valueTypeExact();
+        Frame frame = pushFrame();
+        frame.projection = elementProjection;
+        frame.exact = exact;
+        frame.isArray = true;
+        frame.suggestedType = elementType;
+        frame.base = elementTop;
+    }
 
+    private Object closeArray(Frame frame) {
+        --curParseDepth;
+        // Performance: copy once into an exactly sized Object[], instead of growing a fresh ArrayList per array
+        // and copying it again.
+        final int base = frame.base;
+        final Object[] items = Arrays.copyOfRange(elementStack, base, elementTop);
+        Arrays.fill(elementStack, base, elementTop, null);     // don't retain parsed values
+        elementTop = base;
+        final Type elementType = frame.suggestedType;
+        frame.release();
+        frameTop--;
+        return resolver.resolveArray(elementType, items);
+    }
+
+    /**
+     * Open a JSON object whose '{' and first non-whitespace char have been read (the object is not empty).
+     */
+    private Frame pushObjectFrame(Type suggestedType) {
         // Performance: Skip injector resolution when there's no meaningful type context
         Class<?> rawClass = TypeUtilities.getRawClass(suggestedType);
         ReadOptionsBuilder.InjectorPlan injectorPlan;
@@ -277,156 +523,526 @@ class JsonParser {
             injectorPlan = ReadOptionsBuilder.getInjectorPlan(readOptions, rawClass);
         }
 
-        // Peek-through-metadata: defer JsonObject allocation until we know which subclass to
-        // instantiate (lite/Array/Map). Buffer @id/@type/@ref while scanning until we encounter
-        // either @items/@keys (heavy shape determined) or a non-metadata field (lite shape).
-        JsonObject jObj = null;
-        boolean preAlloc = true;
-        Long pendingId = null;
-        long pendingRefId = 0;
-        Class<?> pendingType = null;
-        String pendingTypeString = null;
-
+        Projection fieldProjection = valueProjection();
+        boolean exact = skipUnmappedFields && valueTypeExact();
+        Frame frame = pushFrame();
+        frame.projection = fieldProjection;
+        frame.exact = exact;
+        setSkipPlan(frame, injectorPlan);
+        frame.isArray = false;
+        frame.suggestedType = suggestedType;
+        frame.injectorPlan = injectorPlan;
+        frame.jObj = null;
+        frame.preAlloc = true;
+        frame.hasPendingId = false;
+        frame.pendingId = 0;
+        frame.pendingRefId = 0;
+        frame.pendingType = null;
+        frame.pendingTypeString = null;
         ++curParseDepth;
+        return frame;
+    }
 
+    /**
+     * @return the projection for the value about to be read: the root projection at the top level, else the
+     * projection the innermost open object chose for its current field, or the one its open array applies to
+     * every element.
+     */
+    private Projection valueProjection() {
+        if (projection == null) {
+            return null;
+        }
+        if (frameTop == 0) {
+            return projection;
+        }
+        Frame parent = frames[frameTop - 1];
+        return parent.isArray ? parent.projection : parent.valueProjection;
+    }
+
+    /**
+     * @return true if the value about to be read will be instantiated as the type the parser suggests for it (or
+     * as its own @type), so that type's injector plan decides which of its fields are used.
+     */
+    private boolean valueTypeExact() {
+        if (frameTop == 0) {
+            return true;
+        }
+        Frame parent = frames[frameTop - 1];
+        return parent.isArray ? parent.exact : parent.valuesExact;
+    }
+
+    /**
+     * Use {@code plan} (the injector plan of the class this object will fill) to decide which fields to skip.
+     */
+    private void setSkipPlan(Frame frame, ReadOptionsBuilder.InjectorPlan plan) {
+        frame.valuesExact = frame.exact && !plan.hasFieldTypeOverrides();
+        frame.skipPlan = frame.exact && plan.canSkipUnmapped() ? plan : null;
+    }
+
+    /**
+     * An @type that arrives after other fields can change the class being filled.  Fields already skipped as
+     * unmapped are lost, so the new class must not have an injector for any of them.
+     */
+    private void changeSkipPlan(Frame frame, Class<?> type) {
+        if (!frame.exact) {
+            return;
+        }
+        ReadOptionsBuilder.InjectorPlan plan = type == null ? ReadOptionsBuilder.InjectorPlan.EMPTY
+                : ReadOptionsBuilder.getInjectorPlan(readOptions, type);
+        if (frame.skipped != null) {
+            for (String name : frame.skipped) {
+                if (plan.getAssignmentPlan(name) != null) {
+                    error("@type " + type.getName() + " arrived after field '" + name + "', which was skipped as "
+                            + "unmapped.  Put @type first, or turn off ReadOptions skipUnmappedFields.");
+                }
+            }
+        }
+        setSkipPlan(frame, plan);
+    }
+
+    /**
+     * Read a field name (its first char {@code c} already read) and the ':' after it, then determine the type
+     * hint for the field's value. Returns the first char of the value.
+     * <p>
+     * Fields outside the frame's projection have their values skipped here, and the next field is read in their
+     * place.  If that reaches the object's closing '}', returns {@link #END_OF_OBJECT}.
+     */
+    private int readFieldStart(Frame frame, int c) throws IOException {
+        CharSequence field;
+        int valueStart;
         while (true) {
-            CharSequence field = readFieldName(c);
+            field = readFieldName(c);
             // Performance: Only check substitutes for fields starting with '@' or '$'.
             // Standard field names (letters, digits) never match any substitute key,
             // so the HashMap lookup is pure overhead for the 99% common case.
             if (field.length() > 0) {
                 char firstCh = field.charAt(0);
-                if (firstCh == '@' || firstCh == '$') {
+                if ((firstCh == '@' || firstCh == '$') && sink == null) {
                     field = substitutes.getOrDefault(field, field);
                 }
             }
 
-            int valueStart = skipWhitespaceRead(true);
-            Type fieldGenericType = null;
-            if ((valueStart == '{' || valueStart == '[') && !injectorPlan.isEmpty()) {
-                // Field type hints are only consumed by nested object/array parsing. Scalar conversion happens later.
-                ReadOptionsBuilder.FieldAssignmentPlan assignmentPlan = injectorPlan.getAssignmentPlan(field);
-                fieldGenericType = assignmentPlan == null ? null : assignmentPlan.fieldType;
-
-                // If a field generic type is provided, resolve it using the parent's (i.e. jObj's) resolved type.
-                if (fieldGenericType != null) {
-                    // Use the parent's type (which has been resolved) as context to resolve the field type.
-                    fieldGenericType = TypeUtilities.resolveType(suggestedType, fieldGenericType);
+            valueStart = skipWhitespaceRead(true);
+            if (frame.projection == null && frame.skipPlan == null) {
+                break;
+            }
+            if (field.length() > 0 && field.charAt(0) == '@') {
+                frame.valueProjection = null;      // metadata is always kept, whole
+                break;
+            }
+            if (frame.skipPlan != null && frame.skipPlan.getAssignmentPlan(field) == null) {
+                // No injector takes this field, and nothing else would read it
+                if (frame.skipped == null) {
+                    frame.skipped = new ArrayList<>();
+                }
+                frame.skipped.add(field.toString());
+                skipUnmappedValue(valueStart);
+            } else {
+                if (frame.projection == null) {
+                    break;
+                }
+                Projection selected = frame.projection.select(field);
+                if (selected != null) {
+                    frame.valueProjection = selected == Projection.ALL ? null : selected;
+                    break;
+                }
+                skipValue(valueStart, null);
+            }
+            // Value skipped (not projected, or unmapped): move on to the next field
+            c = skipWhitespaceRead(true);
+            if (c == ',') {
+                c = skipWhitespaceRead(true);
+                if (c != '}') {
+                    continue;
+                }
+                if (strictJson) {
+                    error("Trailing commas not allowed in strict JSON mode");
                 }
+            } else if (c != '}') {
+                error("Object not ended with '}', instead found '" + (char) c + "'");
+            }
+            return END_OF_OBJECT;
+        }
+        Type fieldGenericType = null;
+        if ((valueStart == '{' || valueStart == '[') && !frame.injectorPlan.isEmpty()) {
+            // Field type hints are only consumed by nested object/array parsing. Scalar conversion happens later.
+            ReadOptionsBuilder.FieldAssignmentPlan assignmentPlan = frame.injectorPlan.getAssignmentPlan(field);
+            fieldGenericType = assignmentPlan == null ? null : assignmentPlan.fieldType;
+
+            // If a field generic type is provided, resolve it using the parent's (i.e. jObj's) resolved type.
+            if (fieldGenericType != null) {
+                // Use the parent's type (which has been resolved) as context to resolve the field type.
+                fieldGenericType = TypeUtilities.resolveType(frame.suggestedType, fieldGenericType);
             }
-            Object value = readValue(valueStart, fieldGenericType);
+        }
+        frame.field = field;
+        frame.valueType = fieldGenericType;
+        return valueStart;
+    }
 
-            if (preAlloc) {
-                // Pre-allocation phase: classify field. Buffer pure metadata, otherwise pick
-                // the right subclass and process the trigger field.
-                boolean isMetadata = field.length() > 0 && field.charAt(0) == '@';
+    /**
+     * Skip the value of an unmapped field.  An object or array is kept as text while it is skipped, because an
+     * @id inside it may be the target of an @ref elsewhere in the document.  If the text could hold one, it is
+     * parsed after all, so the id is registered exactly as it would have been without skipping.
+     */
+    private void skipUnmappedValue(int c) throws IOException {
+        if (c != '{' && c != '[') {
+            skipValue(c, null);
+            return;
+        }
+        StringBuilder text = skipText;
+        if (text == null) {
+            text = skipText = new StringBuilder();
+        } else {
+            text.setLength(0);
+        }
+        skipValue(c, text);
+        // Every spelling of @id (@id, @i, $id, $i) contains one of these
+        if (text.indexOf("@i") >= 0 || text.indexOf("$i") >= 0) {
+            FastReader source = new FastReader(new StringReader(text.toString()));
+            if (idParser == null) {
+                idParser = new JsonParser(source, resolver);
+            } else {
+                idParser.setInput(source);
+            }
+            idParser.readValue(idParser.skipWhitespaceRead(true), null);
+            sawMetadata = true;
+        }
+        if (text.capacity() > 65536) {
+            skipText = null;        // don't hold on to the buffer of one large skipped value
+        }
+    }
 
-                if (!isMetadata) {
-                    // Non-metadata field → lite shape
-                    jObj = new JsonObject();
-                    applyPendingMetadata(jObj, suggestedType, pendingType, pendingTypeString, pendingId, pendingRefId);
-                    jObj.appendFieldForParser(field, value);
-                    preAlloc = false;
-                } else if (StringUtilities.equals(field, ITEMS)) {
-                    if (value != null && !value.getClass().isArray()) {
-                        error("Expected @items to have an array [], but found: " + value.getClass().getName());
+    /**
+     * Pass over the value whose first character {@code c} has been read, without building it.  The value is
+     * checked as {@link #readValue(int, Type)} would check it: strings are skipped to their closing quote, bare
+     * tokens go through {@link #readScalar}, and objects/arrays are walked with their field names, separators and
+     * trailing commas checked, so skipping never accepts input that reading would reject.
+     *
+     * @param text if not null, receives the skipped value's text (whitespace between tokens collapsed, comments
+     *             dropped)
+     */
+    private void skipValue(int c, StringBuilder text) throws IOException {
+        char[] open = skipStack;
+        if (open == null) {
+            open = skipStack = new char[16];
+        }
+        int depth = 0;
+        while (true) {
+            // ---- c starts a value ----
+            if (c == '{' || c == '[') {
+                if (curParseDepth + depth > maxParseDepth) {
+                    error("Maximum parsing depth exceeded");
+                }
+                if (depth == open.length) {
+                    open = skipStack = Arrays.copyOf(open, depth << 1);
+                }
+                final char close = c == '{' ? '}' : ']';
+                if (text != null) {
+                    text.append((char) c);
+                }
+                c = skipWhitespaceRead(true);
+                if (c != close) {
+                    open[depth++] = close;
+                    if (close == '}') {
+                        c = skipFieldName(c, text);
                     }
-                    jObj = new JsonObjectArray();
-                    applyPendingMetadata(jObj, suggestedType, pendingType, pendingTypeString, pendingId, pendingRefId);
-                    loadItems((Object[]) value, jObj);
-                    preAlloc = false;
-                } else if (StringUtilities.equals(field, KEYS)) {
-                    jObj = new JsonObjectMap();
-                    applyPendingMetadata(jObj, suggestedType, pendingType, pendingTypeString, pendingId, pendingRefId);
-                    loadKeys(value, jObj);
-                    preAlloc = false;
-                } else if (StringUtilities.equals(field, TYPE)) {
-                    pendingType = loadType(value);
-                    pendingTypeString = (String) value;
-                } else if (StringUtilities.equals(field, ID)) {
-                    pendingId = validateAndExtractIdValue(value, ID);
-                } else if (StringUtilities.equals(field, REF)) {
-                    pendingRefId = validateAndExtractIdValue(value, REF);
-                } else if (StringUtilities.equals(field, ENUM)) {
-                    // @enum sets type and (if items not yet present) marks empty items — array-shaped
-                    jObj = new JsonObjectArray();
-                    applyPendingMetadata(jObj, suggestedType, pendingType, pendingTypeString, pendingId, pendingRefId);
-                    loadEnum(value, jObj);
-                    preAlloc = false;
-                } else {
-                    // Unknown @-prefixed field → treat as lite, preserve the field
-                    jObj = new JsonObject();
-                    applyPendingMetadata(jObj, suggestedType, pendingType, pendingTypeString, pendingId, pendingRefId);
-                    jObj.appendFieldForParser(field, value);
-                    preAlloc = false;
+                    continue;
                 }
+                if (text != null) {
+                    text.append(close);
+                }
+            } else if (c == '"' || c == '\'') {
+                if (c == '\'' && strictJson) {
+                    error("Single-quoted strings not allowed in strict JSON mode");
+                }
+                skipString((char) c, text);
             } else {
-                // Post-allocation phase: standard field handling
+                Object value = readScalar(c);
+                if (text != null) {
+                    text.append(value).append(' ');
+                }
+            }
 
-                // Fast path for regular fields (95%+ of fields don't start with '@')
-                // Note: length check MUST come first for short-circuit evaluation (empty field names are valid JSON)
-                if (field.length() == 0 || field.charAt(0) != '@') {
-                    jObj.appendFieldForParser(field, value);
-                } else {
-                    // Process special meta fields (@type, @id, @ref, etc.)
-                    // Use StringUtilities.equals() for CharSequence comparison with String constants
-                    if (StringUtilities.equals(field, TYPE)) {
-                        Class<?> type = loadType(value);
-                        jObj.setTypeString((String) value);
-                        jObj.setType(type);
-                    } else if (StringUtilities.equals(field, ID)) {
-                        loadId(value, jObj);
-                    } else if (StringUtilities.equals(field, REF)) {
-                        loadRef(value, jObj);
-                    } else if (StringUtilities.equals(field, ITEMS)) {
-                        if (value != null && !value.getClass().isArray()) {
-                            error("Expected @items to have an array [], but found: " + value.getClass().getName());
+            // ---- value done: position on the next one, closing the containers that end here ----
+            while (true) {
+                if (depth == 0) {
+                    return;
+                }
+                final char close = open[depth - 1];
+                c = skipWhitespaceRead(true);
+                if (c == ',') {
+                    c = skipWhitespaceRead(true);
+                    if (c != close) {
+                        if (text != null) {
+                            text.append(',');
                         }
-                        // Lazy-promote: if a non-metadata field appeared first, jObj is lite.
-                        // The arriving @items reclassifies the JSON object as array-shaped.
-                        jObj = JsonObject.promoteToArray(jObj, references);
-                        loadItems((Object[])value, jObj);
-                    } else if (StringUtilities.equals(field, KEYS)) {
-                        // Lazy-promote: arriving @keys reclassifies as complex-key map shape.
-                        jObj = JsonObject.promoteToMap(jObj, references);
-                        loadKeys(value, jObj);
-                    } else if (StringUtilities.equals(field, ENUM)) {
-                        // Legacy support (@enum was used to indicate EnumSet in prior versions).
-                        // Treated as array shape (loadEnum sets items for EnumSet detection).
-                        jObj = JsonObject.promoteToArray(jObj, references);
-                        loadEnum(value, jObj);
-                    } else {
-                        jObj.appendFieldForParser(field, value); // Store unrecognized @-prefixed fields
+                        if (close == '}') {
+                            c = skipFieldName(c, text);
+                        }
+                        break;
+                    }
+                    if (strictJson) {
+                        error("Trailing commas not allowed in strict JSON mode");
+                    }
+                } else if (c != close) {
+                    if (close == '}') {
+                        error("Object not ended with '}', instead found '" + (char) c + "'");
                     }
+                    error("Expected ',' or ']' inside array");
+                }
+                depth--;
+                if (text != null) {
+                    text.append(close);
                 }
             }
+        }
+    }
 
-            c = skipWhitespaceRead(true);
-            if (c == '}') {
-                break;
-            } else if (c != ',') {
-                error("Object not ended with '}', instead found '" + (char) c + "'");
+    /**
+     * Skip a field name inside a skipped object (its first char {@code c} already read) and the ':' after it,
+     * checked as {@link #readFieldName} checks them.  Returns the first char of the field's value.
+     */
+    private int skipFieldName(int c, StringBuilder text) throws IOException {
+        if (c == '"' || c == '\'') {
+            if (c == '\'' && strictJson) {
+                error("Single-quoted strings not allowed in strict JSON mode");
             }
-            // Check for trailing comma (JSON5 feature)
-            c = skipWhitespaceRead(true);
-            if (c == '}') {
-                // Trailing comma before closing brace
-                if (strictJson) {
-                    error("Trailing commas not allowed in strict JSON mode");
+            skipString((char) c, text);
+        } else if (isIdentifierStart(c)) {
+            if (strictJson) {
+                error("Unquoted field names not allowed in strict JSON mode");
+            }
+            String name = readUnquotedIdentifier(c);
+            if (text != null) {
+                text.append('"').append(name).append('"');     // may come back as a substitute, e.g. "@id"
+            }
+        } else {
+            error("Expected quote before field name");
+        }
+        c = skipWhitespaceRead(true);
+        if (c != ':') {
+            error("Expected ':' between field and value, instead found '" + (char) c + "'");
+        }
+        if (text != null) {
+            text.append(':');
+        }
+        return skipWhitespaceRead(true);
+    }
+
+    /**
+     * Skip the rest of a string whose opening quote has been read, through its closing quote.  If {@code text} is
+     * not null, the whole string, both quotes included, is appended to it.
+     */
+    private void skipString(char quoteChar, StringBuilder text) throws IOException {
+        final FastReader in = input;
+        final char[] buf = readBuf;
+        if (text != null) {
+            text.append(quoteChar);
+        }
+        while (true) {
+            int count = in.readUntil(buf, 0, buf.length, quoteChar, '\\');
+            if (text != null && count > 0) {
+                text.append(buf, 0, count);
+            }
+            int c = in.read();
+            if (c == quoteChar) {
+                if (text != null) {
+                    text.append(quoteChar);
+                }
+                return;
+            }
+            if (c == '\\') {
+                c = in.read();
+                if (text != null && c != -1) {
+                    text.append('\\').append((char) c);
                 }
-                break;
             }
-            // c is now the first char of the next field name — loop back and reuse it.
+            if (c == -1) {
+                error("EOF reached while reading JSON string");
+            }
         }
+    }
 
-        // Metadata-only object (e.g., {"@type":"Foo","@id":1} with no shape determiner): allocate
-        // lite JsonObject now and apply buffered metadata.
-        if (preAlloc) {
-            jObj = new JsonObject();
-            applyPendingMetadata(jObj, suggestedType, pendingType, pendingTypeString, pendingId, pendingRefId);
+    /**
+     * Read the JSON document and write it to {@code toon} as it is read ({@link JsonIo#transcode}). This is
+     * {@link #readValue(int, Type)} with the writer as a sink: a root object is streamed field by field, and so
+     * is each nested object unless the writer folds keys (folding has to see a nested object whole). Arrays are
+     * collected before they are written, because TOON states an array's length, and picks its layout, ahead of
+     * its elements. Nothing is resolved: metadata keys (@id, @ref, @type, ...) are copied like any other key.
+     */
+    void transcodeTo(ToonWriter toon) throws IOException {
+        sink = toon;
+        streamNested = !toon.isKeyFolding();
+        streamBase = frameTop;
+        try {
+            Object value = readValue(skipWhitespaceRead(true), null);
+            if (value == STREAMED) {
+                toon.endStream();
+            } else {
+                toon.write(value);
+            }
+        } finally {
+            sink = null;
         }
+    }
 
+    /**
+     * Transcoding: decide whether the object just opened is streamed.  The root object always is; a nested one
+     * is when its parent is streamed and the writer does not fold keys.
+     */
+    private void streamObjectStart(Frame frame) throws IOException {
+        final int index = frameTop - 1;
+        if (index == streamBase) {
+            sink.beginStream();
+            frame.streamed = true;
+        } else if (streamNested) {
+            Frame parent = frames[index - 1];
+            if (parent.streamed) {
+                sink.streamObjectFieldStart(parent.first, parent.field.toString());
+                parent.first = false;
+                frame.streamed = true;
+            }
+        }
+        frame.first = true;
+    }
+
+    /**
+     * Transcoding: write the field to the sink, or keep it verbatim (metadata keys included) in a plain
+     * JsonObject.  Nothing is resolved.
+     */
+    private void acceptTranscodedField(Frame frame, Object value) throws IOException {
+        if (!frame.streamed) {
+            JsonObject jObj = frame.preAlloc ? allocate(frame, new JsonObject()) : frame.jObj;
+            jObj.appendFieldForParser(frame.field, value);
+        } else if (value != STREAMED) {
+            sink.streamField(frame.first, frame.field.toString(), value);
+            frame.first = false;
+        }
+    }
+
+    /**
+     * Store the value just read for the frame's current field.
+     */
+    private void acceptField(Frame frame, Object value) throws IOException {
+        final CharSequence field = frame.field;
+        if (sink != null) {
+            acceptTranscodedField(frame, value);
+            return;
+        }
+        if (frame.preAlloc) {
+            // Pre-allocation phase: classify field. Buffer pure metadata, otherwise pick
+            // the right subclass and process the trigger field.
+            boolean isMetadata = field.length() > 0 && field.charAt(0) == '@';
+            sawMetadata |= isMetadata;
+
+            if (!isMetadata) {
+                // Non-metadata field → lite shape
+                JsonObject jObj = allocate(frame, new JsonObject());
+                jObj.appendFieldForParser(field, value);
+            } else if (StringUtilities.equals(field, ITEMS)) {
+                if (value != null && !value.getClass().isArray()) {
+                    error("Expected @items to have an array [], but found: " + value.getClass().getName());
+                }
+                loadItems((Object[]) value, allocate(frame, new JsonObjectArray()));
+            } else if (StringUtilities.equals(field, KEYS)) {
+                loadKeys(value, allocate(frame, new JsonObjectMap()));
+            } else if (StringUtilities.equals(field, TYPE)) {
+                frame.pendingType = loadType(value);
+                frame.pendingTypeString = (String) value;
+                if (frame.exact) {
+                    changeSkipPlan(frame, frame.pendingType);
+                }
+            } else if (StringUtilities.equals(field, ID)) {
+                frame.pendingId = validateAndExtractIdValue(value, ID);
+                frame.hasPendingId = true;
+            } else if (StringUtilities.equals(field, REF)) {
+                frame.pendingRefId = validateAndExtractIdValue(value, REF);
+            } else if (StringUtilities.equals(field, ENUM)) {
+                // @enum sets type and (if items not yet present) marks empty items — array-shaped
+                loadEnum(value, allocate(frame, new JsonObjectArray()));
+            } else {
+                // Unknown @-prefixed field → treat as lite, preserve the field
+                JsonObject jObj = allocate(frame, new JsonObject());
+                jObj.appendFieldForParser(field, value);
+            }
+            return;
+        }
+
+        // Post-allocation phase: standard field handling
+        JsonObject jObj = frame.jObj;
+
+        // Fast path for regular fields (95%+ of fields don't start with '@')
+        // Note: length check MUST come first for short-circuit evaluation (empty field names are valid JSON)
+        if (field.length() == 0 || field.charAt(0) != '@') {
+            jObj.appendFieldForParser(field, value);
+        } else {
+            sawMetadata = true;
+            // Process special meta fields (@type, @id, @ref, etc.)
+            // Use StringUtilities.equals() for CharSequence comparison with String constants
+            if (StringUtilities.equals(field, TYPE)) {
+                Class<?> type = loadType(value);
+                jObj.setTypeString((String) value);
+                jObj.setType(type);
+                if (frame.exact) {
+                    changeSkipPlan(frame, type);
+                }
+            } else if (StringUtilities.equals(field, ID)) {
+                loadId(value, jObj);
+            } else if (StringUtilities.equals(field, REF)) {
+                loadRef(value, jObj);
+            } else if (StringUtilities.equals(field, ITEMS)) {
+                if (value != null && !value.getClass().isArray()) {
+                    error("Expected @items to have an array [], but found: " + value.getClass().getName());
+                }
+                // Lazy-promote: if a non-metadata field appeared first, jObj is lite.
+                // The arriving @items reclassifies the JSON object as array-shaped.
+                jObj = JsonObject.promoteToArray(jObj, references);
+                frame.jObj = jObj;
+                loadItems((Object[]) value, jObj);
+            } else if (StringUtilities.equals(field, KEYS)) {
+                // Lazy-promote: arriving @keys reclassifies as complex-key map shape.
+                jObj = JsonObject.promoteToMap(jObj, references);
+                frame.jObj = jObj;
+                loadKeys(value, jObj);
+            } else if (StringUtilities.equals(field, ENUM)) {
+                // Legacy support (@enum was used to indicate EnumSet in prior versions).
+                // Treated as array shape (loadEnum sets items for EnumSet detection).
+                jObj = JsonObject.promoteToArray(jObj, references);
+                frame.jObj = jObj;
+                loadEnum(value, jObj);
+            } else {
+                jObj.appendFieldForParser(field, value); // Store unrecognized @-prefixed fields
+            }
+        }
+    }
+
+    /**
+     * End the pre-allocation phase: {@code jObj} becomes the frame's object, with the buffered metadata applied.
+     */
+    private JsonObject allocate(Frame frame, JsonObject jObj) {
+        applyPendingMetadata(jObj, frame);
+        frame.jObj = jObj;
+        frame.preAlloc = false;
+        return jObj;
+    }
+
+    private Object closeObject(Frame frame) {
+        if (frame.streamed) {
+            if (frameTop - 1 != streamBase) {
+                sink.streamObjectEnd();
+            }
+            --curParseDepth;
+            frame.release();
+            frameTop--;
+            return STREAMED;
+        }
+        // Metadata-only object (e.g., {"@type":"Foo","@id":1} with no shape determiner): allocate
+        // lite JsonObject now and apply buffered metadata.
+        JsonObject jObj = frame.preAlloc ? allocate(frame, new JsonObject()) : frame.jObj;
         --curParseDepth;
+        frame.release();
+        frameTop--;
         return jObj;
     }
 
@@ -436,9 +1052,8 @@ class JsonParser {
      * {@code @type} (which may override), then {@code @id} (with reference-tracker registration),
      * then {@code @ref}.
      */
-    private void applyPendingMetadata(JsonObject jObj, Type suggestedType,
-                                      Class<?> pendingType, String pendingTypeString,
-                                      Long pendingId, long pendingRefId) {
+    private void applyPendingMetadata(JsonObject jObj, Frame frame) {
+        final Type suggestedType = frame.suggestedType;
         // Set the refined type on the JsonObject.
         // Performance: Skip type resolution for null or simple Class types (most common case).
         // Only ParameterizedType and other complex types need resolution against themselves.
@@ -447,16 +1062,16 @@ class JsonParser {
         } else {
             jObj.setType(TypeUtilities.resolveType(suggestedType, suggestedType));
         }
-        if (pendingType != null) {
-            jObj.setTypeString(pendingTypeString);
-            jObj.setType(pendingType);
+        if (frame.pendingType != null) {
+            jObj.setTypeString(frame.pendingTypeString);
+            jObj.setType(frame.pendingType);
         }
-        if (pendingId != null) {
-            references.put(pendingId, jObj);
-            jObj.setId(pendingId);
+        if (frame.hasPendingId) {
+            references.put(frame.pendingId, jObj);
+            jObj.setId(frame.pendingId);
         }
-        if (pendingRefId != 0) {
-            jObj.setReferenceId(pendingRefId);
+        if (frame.pendingRefId != 0) {
+            jObj.setReferenceId(frame.pendingRefId);
         }
     }
 
@@ -483,52 +1098,6 @@ class JsonParser {
         return id;
     }
 
-    /**
-     * Read a JSON array
-     */
-    private Object readArray(Type suggestedType) throws IOException {
-        // Performance: Pre-size ArrayList to reduce resizing. Size of 64 eliminates
-        // 1-2 resize operations for typical JSON arrays while adding only ~200 bytes overhead.
-        final List<Object> list = new ArrayList<>(64);
-        ++curParseDepth;
-
-        // Peek for an empty array first so readValue never has to handle ']' as a value-start
-        // (that case used to pushback ']' and return an EMPTY_ARRAY sentinel — both gone now).
-        int c = skipWhitespaceRead(true);
-        if (c == ']') {
-            --curParseDepth;
-            return resolver.resolveArray(suggestedType, list);
-        }
-        // Read the first char of the next value at the top of every iteration; after the
-        // trailing-comma branch this lets us hand the char straight to readValue rather than
-        // pushing it back and re-reading it.
-        while (true) {
-            // Pass along the full Type to readValue so that any generic information is preserved.
-            list.add(readValue(c, suggestedType));
-
-            c = skipWhitespaceRead(true);
-
-            if (c == ']') {
-                break;
-            } else if (c != ',') {
-                error("Expected ',' or ']' inside array");
-            }
-            // Check for trailing comma (JSON5 feature)
-            c = skipWhitespaceRead(true);
-            if (c == ']') {
-                // Trailing comma before closing bracket
-                if (strictJson) {
-                    error("Trailing commas not allowed in strict JSON mode");
-                }
-                break;
-            }
-            // c is now the first char of the next value — loop back and reuse it.
-        }
-
-        --curParseDepth;
-        return resolver.resolveArray(suggestedType, list);
-    }
-
     /**
      * Read a field name when the caller has already consumed the first non-whitespace
      * character (e.g. when peeking past a comma or open-brace).
@@ -755,12 +1324,7 @@ class JsonParser {
             c = in.read();
         }
 
-        try {
-            if (isFloat) return readFloatingPoint(number);
-            return readInteger(number);
-        } catch (Exception e) {
-            return (Number) error("Invalid number: " + number, e);
-        }
+        return toNumber(number, isFloat);
     }
 
     /**
@@ -866,15 +1430,18 @@ class JsonParser {
         if (!seenDigit) {
             return (Number) error("Invalid number: " + number);
         }
+        return toNumber(number, isFloat);
+    }
 
+    /**
+     * Convert the complete text of a number to the Number type ReadOptions asks for (integerType*,
+     * floatingPoint*).  {@code isFloat} is true if the text has a '.' or an exponent.  LazyJson types the numbers
+     * it decodes here too, so both read a number the same way.
+     */
+    Number toNumber(CharSequence number, boolean isFloat) {
         try {
-            if (isFloat) {
-                return readFloatingPoint(number);
-            } else {
-                return readInteger(number);
-            }
-        }
-        catch (Exception e) {
+            return isFloat ? readFloatingPoint(number) : readInteger(number);
+        } catch (Exception e) {
             return (Number) error("Invalid number: " + number, e);
         }
     }
@@ -1519,14 +2086,8 @@ class JsonParser {
         if (!(value instanceof String)) {
             error("Expected a String for " + TYPE + ", instead got: " + value);
         }
-        String javaType = (String) value;
-        final String substitute = readOptions.getTypeNameAlias(javaType);
-        if (substitute != null) {
-            javaType = substitute;
-        }
-
-        // Resolve class during parsing
-        return stringToClass(javaType);
+        // Resolve class during parsing (stringToClass applies any alias)
+        return stringToClass((String) value);
     }
 
     /**
@@ -1560,9 +2121,19 @@ class JsonParser {
     }
 
     private Class<?> stringToClass(String className) {
-        String resolvedName = readOptions.getTypeNameAlias(className);
-        Class<?> clazz = ClassUtilities.forName(resolvedName, classLoader);
-        if (clazz == null) {
+        if (className == lastTypeName) {
+            return lastType;
+        }
+        Class<?> clazz;
+        if (typeNameResolver != null) {
+            clazz = typeNameResolver.resolveTypeName(className);
+        } else {
+            clazz = ClassUtilities.forName(readOptions.getTypeNameAlias(className), classLoader);
+        }
+        if (clazz != null) {
+            lastTypeName = className;
+            lastType = clazz;
+        } else {
             if (readOptions.isFailOnUnknownType()) {
                 error("Unknown type (class) '" + className + "' not defined.");
             }
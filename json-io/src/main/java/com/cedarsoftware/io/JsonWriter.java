@@ -897,6 +897,80 @@ public class JsonWriter implements WriterContext, Closeable, Flushable {
         }
     }
 
+    // ========== Streaming (JsonIo.transcodeToJson) ==========
+
+    /**
+     * Open an object whose fields are written one at a time through {@link #streamField} and
+     * {@link #streamObjectFieldStart}, instead of through {@link #write(Object)}. Field values are freshly
+     * parsed and never shared, so no reference trace is run. Must be balanced by {@link #streamObjectEnd()}.
+     */
+    void streamObjectStart() throws IOException {
+        out.write('{');
+        tabIn();
+    }
+
+    /**
+     * Write one {@code "key":value} entry of the object currently being streamed, exactly as a field of a
+     * {@link JsonObject} is written.
+     *
+     * @return false if the field was dropped by skipNullFields
+     */
+    boolean streamField(boolean first, String key, Object value) throws IOException {
+        if (skipNullFields && value == null) {
+            return false;
+        }
+        writeStreamedKey(first, key);
+        if (value == null) {
+            out.write("null");
+        } else if (value instanceof BigDecimal || value instanceof BigInteger) {
+            writeImpl(value, true);
+        } else if (value instanceof Number || value instanceof Boolean) {
+            out.write(value.toString());
+        } else if (value instanceof String) {
+            writeStringValue((String) value);
+        } else {
+            writeImpl(value, true);
+        }
+        return true;
+    }
+
+    /**
+     * Write {@code "key":} and open the nested object whose fields follow. Must be balanced by
+     * {@link #streamObjectEnd()}.
+     */
+    void streamObjectFieldStart(boolean first, String key) throws IOException {
+        writeStreamedKey(first, key);
+        streamObjectStart();
+    }
+
+    void streamObjectEnd() throws IOException {
+        tabOut();
+        out.write('}');
+    }
+
+    void endStream() {
+        try {
+            flush();
+        } finally {
+            if (objVisited != null) { objVisited.clear(); }
+            if (objsReferenced != null) { objsReferenced.clear(); }
+            if (activePath != null) { activePath.clear(); }
+        }
+    }
+
+    private void writeStreamedKey(boolean first, String key) throws IOException {
+        if (!first) {
+            out.write(',');
+            newLine();
+        }
+        if (json5UnquotedKeys && isValidJson5Identifier(key)) {
+            out.write(key);
+        } else {
+            writeJsonUtf8String(out, key, maxStringLength);
+        }
+        out.write(':');
+    }
+
     /**
      * Walk object graph and visit each instance, following each field, each Collection, Map and so on.
      * Tracks visited to handle cycles and to determine if an item is referenced elsewhere.  If an
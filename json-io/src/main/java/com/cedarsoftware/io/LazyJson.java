@@ -0,0 +1,473 @@
+package com.cedarsoftware.io;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import com.cedarsoftware.util.ArrayUtilities;
+import com.cedarsoftware.util.FastReader;
+import com.cedarsoftware.util.convert.Converter;
+
+/**
+ * Lazy Maps-mode reading of JSON held in a String ({@link ReadOptionsBuilder#lazyMapValues(boolean)}).
+ * <p>
+ * Instead of decoding the whole document, JSON objects are scanned only far enough to find each field name and
+ * where its value starts. Values are stored as {@link Value} placeholders that point into the retained JSON text,
+ * and {@link JsonObject} decodes each one the first time it is read. A nested object decodes into another lazy
+ * JsonObject, so a caller that reads {@code event.type} out of a large payload decodes little more than that.
+ * Arrays decode into {@code Object[]} when first read. Their object elements are lazy, and their scalar elements
+ * are decoded right away.
+ * <p>
+ * Lazy reading only applies when nothing in the document needs reference or type resolution. A single pass
+ * over the whole text looks for metadata field names (@id, @ref, @type, @keys, @items and their short or JSON5
+ * spellings). If one is found, or the text is structurally malformed, {@link #read} returns {@link #NOT_LAZY}
+ * and the caller parses the document normally. Other syntax errors inside a value are reported when that value
+ * is first read.
+ * <p>
+ * Strings without escapes and the literals true/false/null are decoded here. Plain JSON numbers are recognized
+ * here and typed by {@link JsonParser#toNumber}, so the ReadOptions number rules live in one place. Everything
+ * else (escaped strings, JSON5 forms) goes through a {@link JsonParser} reused for the document. Like JsonObject
+ * itself, a lazy tree is not safe for concurrent use.
+ *
+ * @author John DeRegnaucourt (jdereg@gmail.com)
+ *         <br>
+ *         Copyright (c) Cedar Software LLC
+ *         <br><br>
+ *         Licensed under the Apache License, Version 2.0 (the "License")
+ *         you may not use this file except in compliance with the License.
+ *         You may obtain a copy of the License at
+ *         <br><br>
+ *         <a href="http://www.apache.org/licenses/LICENSE-2.0">License</a>
+ *         <br><br>
+ *         Unless required by applicable law or agreed to in writing, software
+ *         distributed under the License is distributed on an "AS IS" BASIS,
+ *         WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *         See the License for the specific language governing permissions and
+ *         limitations under the License.
+ */
+final class LazyJson {
+    static final Object NOT_LAZY = new Object();
+
+    private final String json;
+    private final int len;
+    private final ReadOptions readOptions;
+    private final boolean strictJson;
+    private final int maxDepth;
+    private char[] open = new char[16];
+    private boolean sawEscape;          // set by skipString()
+    private int valueEnd;               // set by materialize(): offset one past the value just decoded
+    // Created on the first value that needs the full parser, then reused for the rest of the document
+    private JsonParser parser;
+    private char[] readerBuffer;
+    private char[] pushbackBuffer;
+
+    /**
+     * A field value that has not been decoded yet: the offset of its first character in the JSON text.
+     */
+    static final class Value {
+        private final LazyJson doc;
+        private final int start;
+
+        Value(LazyJson doc, int start) {
+            this.doc = doc;
+            this.start = start;
+        }
+
+        Object materialize() {
+            return doc.materialize(start);
+        }
+    }
+
+    private LazyJson(String json, ReadOptions readOptions) {
+        this.json = json;
+        this.len = json.length();
+        this.readOptions = readOptions;
+        this.strictJson = readOptions.isStrictJson();
+        this.maxDepth = readOptions.getMaxDepth();
+    }
+
+    /**
+     * @param json        complete JSON text
+     * @param readOptions Maps-mode options
+     * @param objectRoot  true if the caller asked for a JsonObject, so any other root must take the eager path
+     * @return the root value, with lazy JsonObjects, or {@link #NOT_LAZY} if the document must be parsed normally
+     */
+    static Object read(String json, ReadOptions readOptions, boolean objectRoot) {
+        if (!readOptions.getProjectedPaths().isEmpty()) {
+            return NOT_LAZY;    // projection is applied by JsonParser while it reads the whole document
+        }
+        LazyJson doc = new LazyJson(json, readOptions);
+        int start = doc.skipWhitespace(0);
+        if (start >= doc.len || (objectRoot && json.charAt(start) != '{')) {
+            return NOT_LAZY;
+        }
+        int end = doc.scanValue(start, true);
+        if (end < 0 || doc.skipWhitespace(end) != doc.len) {
+            return NOT_LAZY;
+        }
+        Object root = doc.materialize(start);
+        if (root instanceof JsonObject && !objectRoot) {
+            ((JsonObject) root).setType(Object.class);   // as MapResolver does for a plain, untyped root
+        }
+        return root;
+    }
+
+    /**
+     * Decode the value starting at {@code pos}, leaving {@link #valueEnd} one past its last character.
+     */
+    Object materialize(int pos) {
+        char c = json.charAt(pos);
+        if (c == '{') {
+            return materializeObject(pos);
+        }
+        if (c == '[') {
+            return materializeArray(pos);
+        }
+        int end;
+        if (c == '"' || c == '\'') {
+            end = skipString(pos);
+            if (c == '"' && end > 0 && !sawEscape) {
+                valueEnd = end;
+                return json.substring(pos + 1, end - 1);
+            }
+        } else {
+            end = skipToken(pos);
+            int length = end - pos;
+            if (length == 4 && json.startsWith("true", pos)) {
+                valueEnd = end;
+                return Boolean.TRUE;
+            }
+            if (length == 5 && json.startsWith("false", pos)) {
+                valueEnd = end;
+                return Boolean.FALSE;
+            }
+            if (length == 4 && json.startsWith("null", pos)) {
+                valueEnd = end;
+                return null;
+            }
+            Number number = decodeNumber(pos, end);
+            if (number != null) {
+                valueEnd = end;
+                return number;
+            }
+        }
+        return parse(pos, end);
+    }
+
+    private Object materializeObject(int pos) {
+        JsonObject obj = new JsonObject();
+        int i = skipWhitespace(pos + 1);
+        if (i < len && json.charAt(i) == '}') {
+            valueEnd = i + 1;
+            return obj;
+        }
+        while (i < len) {
+            char c = json.charAt(i);
+            int keyEnd;
+            Object key;
+            if (c == '"' || (c == '\'' && !strictJson)) {
+                keyEnd = skipString(i);
+                if (keyEnd < 0) {
+                    break;
+                }
+                key = sawEscape ? parse(i, keyEnd) : json.substring(i + 1, keyEnd - 1);
+            } else if (!strictJson) {
+                keyEnd = skipToken(i);
+                if (keyEnd == i) {
+                    break;
+                }
+                key = json.substring(i, keyEnd);
+            } else {
+                break;
+            }
+            i = skipWhitespace(keyEnd);
+            if (i >= len || json.charAt(i) != ':') {
+                break;
+            }
+            i = skipWhitespace(i + 1);
+            int valueEnd = i < len ? scanValue(i, false) : -1;
+            if (valueEnd < 0) {
+                break;
+            }
+            obj.appendLazyField(key, new Value(this, i));
+            i = skipWhitespace(valueEnd);
+            if (i >= len) {
+                break;
+            }
+            c = json.charAt(i);
+            if (c == '}') {
+                valueEnd = i + 1;
+                return obj;
+            }
+            if (c != ',') {
+                break;
+            }
+            i = skipWhitespace(i + 1);
+            if (!strictJson && i < len && json.charAt(i) == '}') {
+                valueEnd = i + 1;
+                return obj;   // JSON5 trailing comma
+            }
+        }
+        // not the shape this scanner expects - let the parser decode it (or report the error)
+        return parse(pos, scanValue(pos, false));
+    }
+
+    private Object materializeArray(int pos) {
+        int i = skipWhitespace(pos + 1);
+        if (i < len && json.charAt(i) == ']') {
+            valueEnd = i + 1;
+            return ArrayUtilities.EMPTY_OBJECT_ARRAY;
+        }
+        List<Object> items = new ArrayList<>();
+        while (i < len) {
+            char c = json.charAt(i);
+            if (c == ',' || c == ':' || c == ']' || c == '}') {
+                break;
+            }
+            items.add(materialize(i));      // sets valueEnd, so the element is not scanned twice
+            i = skipWhitespace(valueEnd);
+            if (i >= len) {
+                break;
+            }
+            c = json.charAt(i);
+            if (c == ']') {
+                valueEnd = i + 1;
+                return items.toArray();
+            }
+            if (c != ',') {
+                break;
+            }
+            i = skipWhitespace(i + 1);
+            if (!strictJson && i < len && json.charAt(i) == ']') {
+                valueEnd = i + 1;
+                return items.toArray();   // JSON5 trailing comma
+            }
+        }
+        return parse(pos, scanValue(pos, false));
+    }
+
+    /**
+     * Decode the value between {@code pos} and {@code end} with the full parser.  The parser sees only that
+     * value's text, so it reports anything it cannot consume as an error, exactly as it would for a standalone
+     * document.
+     *
+     * @param end offset one past the value, as found by the caller's scan, or -1 (to the end of the text) if the
+     *            scan could not find it
+     */
+    private Object parse(int pos, int end) {
+        valueEnd = end < 0 ? len : end;
+        try {
+            JsonParser parser = parser();
+            parser.setInput(new FastReader(new StringReader(json.substring(pos, valueEnd)), readerBuffer,
+                    pushbackBuffer));
+            return parser.readValue(null);
+        } catch (IOException e) {
+            throw new JsonIoException("Error parsing JSON value", e);
+        }
+    }
+
+    private JsonParser parser() {
+        if (parser == null) {
+            readerBuffer = new char[1024];
+            pushbackBuffer = new char[16];
+            MapResolver resolver = new MapResolver(readOptions, new Resolver.DefaultReferenceTracker(readOptions),
+                    new Converter(readOptions.getConverterOptions()));
+            parser = new JsonParser(new FastReader(new StringReader(""), readerBuffer, pushbackBuffer), resolver);
+        }
+        return parser;
+    }
+
+    /**
+     * Decode a plain JSON number ({@code -?(0|[1-9][0-9]*)(.[0-9]+)?([eE][+-]?[0-9]+)?}).  This only checks the
+     * shape; {@link JsonParser#toNumber} picks the Number type.
+     *
+     * @return the Number, or null if the token is not a plain JSON number (the parser then reads it)
+     */
+    private Number decodeNumber(int start, int end) {
+        int i = start;
+        if (i < end && json.charAt(i) == '-') {
+            i++;
+        }
+        final int intStart = i;
+        char c;
+        while (i < end && (c = json.charAt(i)) >= '0' && c <= '9') {
+            i++;
+        }
+        int digits = i - intStart;
+        if (digits == 0 || (digits > 1 && json.charAt(intStart) == '0')) {
+            return null;
+        }
+        final boolean isFloat = i < end;
+        if (i < end && json.charAt(i) == '.') {
+            int fraction = ++i;
+            while (i < end && (c = json.charAt(i)) >= '0' && c <= '9') {
+                i++;
+            }
+            if (i == fraction) {
+                return null;
+            }
+        }
+        if (i < end && ((c = json.charAt(i)) == 'e' || c == 'E')) {
+            i++;
+            if (i < end && ((c = json.charAt(i)) == '+' || c == '-')) {
+                i++;
+            }
+            int exponent = i;
+            while (i < end && (c = json.charAt(i)) >= '0' && c <= '9') {
+                i++;
+            }
+            if (i == exponent) {
+                return null;
+            }
+        }
+        if (i != end) {
+            return null;
+        }
+        return parser().toNumber(json.substring(start, end), isFloat);
+    }
+
+    /**
+     * Find the end of the value starting at {@code pos} (one past its last character), tracking only strings,
+     * brackets and token boundaries. When {@code checkKeys} is true, any metadata field name fails the scan.
+     *
+     * @return end offset, or -1 if the brackets do not balance, maxDepth is exceeded, or a metadata key is found
+     */
+    private int scanValue(int pos, boolean checkKeys) {
+        int depth = 0;
+        int i = pos;
+        while (true) {
+            i = skipWhitespace(i);
+            if (i >= len) {
+                return -1;
+            }
+            char c = json.charAt(i);
+            if (c == '{' || c == '[') {
+                if (depth == maxDepth) {
+                    return -1;
+                }
+                if (depth == open.length) {
+                    open = Arrays.copyOf(open, depth << 1);
+                }
+                open[depth++] = c;
+                i++;
+                continue;
+            }
+            if (c == '}' || c == ']') {
+                if (depth == 0 || open[depth - 1] != (c == '}' ? '{' : '[')) {
+                    return -1;
+                }
+                i++;
+                if (--depth == 0) {
+                    return i;
+                }
+                continue;
+            }
+            if (c == ',' || c == ':') {
+                if (depth == 0) {
+                    return -1;
+                }
+                i++;
+                continue;
+            }
+            int tokenEnd = c == '"' || c == '\'' ? skipString(i) : skipToken(i);
+            if (tokenEnd <= i) {
+                return -1;
+            }
+            if (depth == 0) {
+                return tokenEnd;
+            }
+            if (checkKeys && open[depth - 1] == '{') {
+                int next = skipWhitespace(tokenEnd);
+                if (next < len && json.charAt(next) == ':' && isMetadataKey(i, tokenEnd)) {
+                    return -1;
+                }
+            }
+            i = tokenEnd;
+        }
+    }
+
+    private boolean isMetadataKey(int start, int end) {
+        char c = json.charAt(start);
+        if (c == '"' || c == '\'') {
+            if (sawEscape) {
+                return true;    // can't tell without decoding - treat as metadata and read eagerly
+            }
+            start++;
+            end--;
+        }
+        if (start >= end) {
+            return false;
+        }
+        c = json.charAt(start);
+        return (c == '@' || c == '$') && JsonParser.isMetadataField(json.substring(start, end));
+    }
+
+    /**
+     * @return offset one past the closing quote of the string starting at {@code pos}, or -1 if unterminated.
+     * Sets {@link #sawEscape} when the string contains a backslash.
+     */
+    private int skipString(int pos) {
+        final char quote = json.charAt(pos);
+        sawEscape = false;
+        int i = pos + 1;
+        while (i < len) {
+            char c = json.charAt(i);
+            if (c == '\\') {
+                sawEscape = true;
+                i += 2;
+            } else if (c == quote) {
+                return i + 1;
+            } else {
+                i++;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @return offset of the first delimiter after the bare token (number, literal, JSON5 identifier) at {@code pos}
+     */
+    private int skipToken(int pos) {
+        int i = pos;
+        while (i < len) {
+            char c = json.charAt(i);
+            if (c == ' ' || c == '\t' || c == '\n' || c == '\r' || c == ',' || c == ':' || c == '{' || c == '}'
+                    || c == '[' || c == ']' || c == '"' || c == '\'' || (c == '/' && isCommentStart(i))) {
+                break;
+            }
+            i++;
+        }
+        return i;
+    }
+
+    private int skipWhitespace(int pos) {
+        int i = pos;
+        while (i < len) {
+            char c = json.charAt(i);
+            if (c == ' ' || c == '\t' || c == '\n' || c == '\r') {
+                i++;
+            } else if (c == '/' && isCommentStart(i)) {
+                if (json.charAt(i + 1) == '/') {
+                    int eol = json.indexOf('\n', i + 2);
+                    i = eol < 0 ? len : eol + 1;
+                } else {
+                    int close = json.indexOf("*/", i + 2);
+                    i = close < 0 ? len : close + 2;
+                }
+            } else {
+                break;
+            }
+        }
+        return i;
+    }
+
+    private boolean isCommentStart(int i) {
+        if (strictJson || i + 1 >= len) {
+            return false;
+        }
+        char next = json.charAt(i + 1);
+        return next == '/' || next == '*';
+    }
+}
@@ -62,6 +62,22 @@ public class MapResolver extends Resolver {
         super(readOptions, references, converter);
     }
 
+    /**
+     * When the parser saw no @id/@ref/@type/@keys/@items (plain third-party JSON) and no root type was
+     * requested, the parsed tree already is the Maps-mode result: there are no references to patch and no
+     * types to instantiate, so it is returned without being walked.
+     */
+    @Override
+    public Object toJava(Type type, Object value) {
+        if (plainJson && type == null) {
+            if (value instanceof JsonObject && ((JsonObject) value).getType() == null) {
+                ((JsonObject) value).setType(Object.class);   // as toJavaObjects() would have set it
+            }
+            return value;
+        }
+        return super.toJava(type, value);
+    }
+
     /**
      * Override toJavaObjects to validate rootType before resolution.
      * In Maps mode, only certain types are supported as rootType.
@@ -663,12 +679,17 @@ public class MapResolver extends Resolver {
     }
 
     protected Object resolveArray(Type suggestedType, List<Object> list) {
+        return resolveArray(suggestedType, list.toArray());
+    }
+
+    @Override
+    protected Object resolveArray(Type suggestedType, Object[] items) {
         // Extract the raw class from the provided Type.
         Class<?> rawType = (suggestedType == null) ? null : TypeUtilities.getRawClass(suggestedType);
 
         // If there's no suggested type or the raw type is Object, just return an Object[].
         if (suggestedType == null || rawType == Object.class) {
-            return list.toArray();
+            return items;
         }
 
         JsonObject jsonArray = new JsonObjectArray();
@@ -684,10 +705,10 @@ public class MapResolver extends Resolver {
             jsonArray.setTarget(createInstance(jsonArray));
         } else {
             // Otherwise, assume it's an array type and create a new array instance.
-            jsonArray.setTarget(Array.newInstance(rawType, list.size()));
+            jsonArray.setTarget(Array.newInstance(rawType, items.length));
         }
 
-        jsonArray.setItems(list.toArray());
+        jsonArray.setItems(items);
         return jsonArray;
     }
 
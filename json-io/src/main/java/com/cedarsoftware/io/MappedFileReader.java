@@ -0,0 +1,176 @@
+package com.cedarsoftware.io;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.CharBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A {@link Reader} that decodes UTF-8 straight out of a memory-mapped file.
+ * <p>
+ * Used by {@link JsonIo#toJava(Path, ReadOptions)} and {@link JsonIo#toMaps(Path, ReadOptions)}. The
+ * {@code FileInputStream -> InputStreamReader -> FastReader} pipeline copies every byte into the stream's
+ * byte[] and then the decoder's byte buffer before it becomes a char; here the bytes are read once, from the
+ * page cache, and written once into the caller's char[] (normally {@link com.cedarsoftware.util.FastReader}'s
+ * buffer). Pure-ASCII runs, which make up nearly all JSON structure, are widened byte-to-char in a tight loop;
+ * anything else is handed to a {@link CharsetDecoder}.
+ * <p>
+ * The file is mapped in windows of at most {@link #WINDOW_SIZE} bytes, so files larger than 2 GB (the
+ * {@link java.nio.ByteBuffer} index limit) are supported and address-space use stays bounded. A multi-byte
+ * sequence cut by a window boundary is left undecoded and the next window starts at its first byte.
+ * <p>
+ * Malformed UTF-8 is replaced with U+FFFD, matching {@link java.io.InputStreamReader}. Not thread-safe.
+ *
+ * @author John DeRegnaucourt (jdereg@gmail.com)
+ *         <br>
+ *         Copyright (c) Cedar Software LLC
+ *         <br><br>
+ *         Licensed under the Apache License, Version 2.0 (the "License");
+ *         you may not use this file except in compliance with the License.
+ *         You may obtain a copy of the License at
+ *         <br><br>
+ *         <a href="http://www.apache.org/licenses/LICENSE-2.0">License</a>
+ *         <br><br>
+ *         Unless required by applicable law or agreed to in writing, software
+ *         distributed under the License is distributed on an "AS IS" BASIS,
+ *         WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *         See the License for the specific language governing permissions and
+ *         limitations under the License.
+ */
+final class MappedFileReader extends Reader {
+    static final int WINDOW_SIZE = 64 * 1024 * 1024;
+
+    private final FileChannel channel;
+    private final long fileSize;
+    private final int windowSize;
+    private final CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder()
+            .onMalformedInput(CodingErrorAction.REPLACE)
+            .onUnmappableCharacter(CodingErrorAction.REPLACE);
+    private MappedByteBuffer window;
+    private long windowStart;
+    private final CharBuffer spill = CharBuffer.allocate(2);
+    private char pendingLow;
+    private boolean hasPendingLow;
+
+    MappedFileReader(Path path) throws IOException {
+        this(path, WINDOW_SIZE);
+    }
+
+    MappedFileReader(Path path, int windowSize) throws IOException {
+        this.channel = FileChannel.open(path, StandardOpenOption.READ);
+        this.windowSize = Math.max(windowSize, 16);     // must hold a whole UTF-8 sequence
+        try {
+            this.fileSize = channel.size();
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    @Override
+    public int read(char[] cbuf, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        int out = off;
+        if (hasPendingLow) {
+            // Low surrogate left over from a supplementary character split across read() calls
+            cbuf[out++] = pendingLow;
+            hasPendingLow = false;
+            if (len == 1) {
+                return 1;
+            }
+        }
+
+        while (true) {
+            if (!ensureWindow()) {
+                return out == off ? -1 : out - off;
+            }
+            final MappedByteBuffer buf = window;
+            int pos = buf.position();
+            final int end = out + Math.min(off + len - out, buf.limit() - pos);
+
+            // ASCII fast path: widen bytes directly
+            while (out < end) {
+                byte b = buf.get(pos);
+                if (b < 0) {
+                    break;
+                }
+                cbuf[out++] = (char) b;
+                pos++;
+            }
+            buf.position(pos);
+
+            if (out < off + len && buf.hasRemaining()) {
+                CharBuffer target = CharBuffer.wrap(cbuf, out, off + len - out);
+                decode(buf, target);
+                if (target.position() == out && target.remaining() == 1) {
+                    // Only room for one char and the next character is a surrogate pair: decode it aside.
+                    spill.clear();
+                    decode(buf, spill);
+                    if (spill.position() > 0) {
+                        cbuf[out++] = spill.get(0);
+                        if (spill.position() > 1) {
+                            pendingLow = spill.get(1);
+                            hasPendingLow = true;
+                        }
+                    }
+                } else {
+                    out = target.position();
+                }
+            }
+            if (out > off) {
+                return out - off;
+            }
+            // Only a partial multi-byte sequence was left before the window boundary; ensureWindow() remaps.
+        }
+    }
+
+    private void decode(MappedByteBuffer buf, CharBuffer target) throws IOException {
+        CoderResult result = decoder.decode(buf, target, windowStart + buf.limit() >= fileSize);
+        if (result.isError()) {
+            result.throwException();    // unreachable with REPLACE, kept for completeness
+        }
+    }
+
+    /**
+     * Makes sure {@link #window} has bytes left to decode, mapping the next window when fewer than a full
+     * UTF-8 sequence (4 bytes) remain before a window boundary. Returns false at end of file.
+     */
+    private boolean ensureWindow() throws IOException {
+        if (window == null) {
+            if (fileSize == 0) {
+                return false;
+            }
+            map(0);
+            return true;
+        }
+        if (windowStart + window.limit() >= fileSize) {
+            return window.hasRemaining();    // last window
+        }
+        if (window.remaining() >= 4) {
+            return true;
+        }
+        // Start the next window at the first undecoded byte so a split multi-byte sequence arrives whole.
+        map(windowStart + window.position());
+        return true;
+    }
+
+    private void map(long start) throws IOException {
+        windowStart = start;
+        window = channel.map(FileChannel.MapMode.READ_ONLY, start, Math.min((long) windowSize, fileSize - start));
+    }
+
+    @Override
+    public void close() throws IOException {
+        window = null;
+        channel.close();
+    }
+}
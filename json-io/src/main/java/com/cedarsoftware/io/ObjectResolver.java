@@ -1383,19 +1383,24 @@ public class ObjectResolver extends Resolver
     }
 
     protected Object resolveArray(Type suggestedType, List<Object> list) {
+        return resolveArray(suggestedType, list.toArray());
+    }
+
+    @Override
+    protected Object resolveArray(Type suggestedType, Object[] items) {
         // No type info - return Object[]
         if (suggestedType == null || TypeUtilities.getRawClass(suggestedType) == Object.class) {
-            return list.toArray();
+            return items;
         }
 
         Class<?> rawType = TypeUtilities.getRawClass(suggestedType);
 
         // Special handling for char[] - stored as a single String in JSON
         if (rawType == char.class) {
-            if (list.isEmpty()) {
+            if (items.length == 0) {
                 return new char[0];
             }
-            Object first = list.get(0);
+            Object first = items[0];
             if (first instanceof String) {
                 return ((String) first).toCharArray();
             }
@@ -1406,8 +1411,8 @@ public class ObjectResolver extends Resolver
         // forward references, type conversion) to the standard traversal path.
         JsonObject jsonArray = new JsonObjectArray();
         jsonArray.setType(suggestedType);
-        jsonArray.setTarget(Array.newInstance(rawType, list.size()));
-        jsonArray.setItems(list.toArray());
+        jsonArray.setTarget(Array.newInstance(rawType, items.length));
+        jsonArray.setItems(items);
         return jsonArray;
     }
 
@@ -0,0 +1,123 @@
+package com.cedarsoftware.io;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compiled form of {@link ReadOptionsBuilder#project(String...)}: a tree of field names, one level per JSON
+ * object level.  {@link JsonParser} holds the node for each open object and asks it, field by field, whether
+ * the value is wanted.  A field that is not wanted has its value skipped in the input without being decoded.
+ * <p>
+ * Paths are field names joined with '.', for example {@code order.id}.  Arrays are transparent: the
+ * projection that applies to an array applies to each of its elements, so {@code order.items.sku} and
+ * {@code order.items[*].sku} mean the same thing, and {@code [*].id} selects {@code id} from each object in a
+ * root array.  The last name in a path keeps that field's whole value.  Metadata fields (@type, @id, @ref, ...)
+ * are always kept.
+ *
+ * @author John DeRegnaucourt (jdereg@gmail.com)
+ *         <br>
+ *         Copyright (c) Cedar Software LLC
+ *         <br><br>
+ *         Licensed under the Apache License, Version 2.0 (the "License")
+ *         you may not use this file except in compliance with the License.
+ *         You may obtain a copy of the License at
+ *         <br><br>
+ *         <a href="http://www.apache.org/licenses/LICENSE-2.0">License</a>
+ *         <br><br>
+ *         Unless required by applicable law or agreed to in writing, software
+ *         distributed under the License is distributed on an "AS IS" BASIS,
+ *         WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *         See the License for the specific language governing permissions and
+ *         limitations under the License.
+ */
+final class Projection {
+    /** Keep the whole value: returned by {@link #select(CharSequence)} for the last name of a path. */
+    static final Projection ALL = new Projection();
+
+    private final Map<String, Projection> fields = new HashMap<>();
+
+    private Projection() {
+    }
+
+    /**
+     * @return the projection for the value of {@code field}: {@link #ALL}, a nested projection, or null if the
+     * value should be skipped.
+     */
+    Projection select(CharSequence field) {
+        return fields.get(field.toString());
+    }
+
+    /**
+     * @param paths projection paths (already checked with {@link #parsePath(String)})
+     * @return the root projection, or null if nothing is projected away
+     */
+    static Projection compile(Collection<String> paths) {
+        if (paths == null || paths.isEmpty()) {
+            return null;
+        }
+        Projection root = new Projection();
+        for (String path : paths) {
+            List<String> names = parsePath(path);
+            if (names.isEmpty()) {
+                return null;    // "[*]" - every element of a root array, whole
+            }
+            Projection node = root;
+            for (int i = 0; i < names.size(); i++) {
+                String name = names.get(i);
+                Projection child = node.fields.get(name);
+                if (child == ALL) {
+                    break;      // a shorter path already keeps this whole value
+                }
+                if (i == names.size() - 1) {
+                    node.fields.put(name, ALL);
+                    break;
+                }
+                if (child == null) {
+                    child = new Projection();
+                    node.fields.put(name, child);
+                }
+                node = child;
+            }
+        }
+        return root;
+    }
+
+    /**
+     * Split a projection path into its field names, dropping the {@code [*]} array markers.
+     * @throws JsonIoException if the path is null, empty, has an empty name, or uses an array index other than *
+     */
+    static List<String> parsePath(String path) {
+        if (path == null) {
+            throw new JsonIoException("Projection path cannot be null");
+        }
+        List<String> names = new ArrayList<>();
+        int start = 0;
+        boolean leadingArray = path.startsWith("[*]");
+        if (leadingArray) {
+            start = path.length() > 3 && path.charAt(3) == '.' ? 4 : 3;
+            if (start == path.length() && start == 4) {
+                throw new JsonIoException("Invalid projection path: '" + path + "'");
+            }
+        }
+        while (start < path.length()) {
+            int dot = path.indexOf('.', start);
+            int end = dot < 0 ? path.length() : dot;
+            String name = path.substring(start, end);
+            while (name.endsWith("[*]")) {
+                name = name.substring(0, name.length() - 3);
+            }
+            if (name.isEmpty() || name.indexOf('[') >= 0 || name.indexOf(']') >= 0 || end == path.length() - 1) {
+                throw new JsonIoException("Invalid projection path: '" + path + "'");
+            }
+            names.add(name);
+            start = end + 1;
+        }
+        if (names.isEmpty() && !leadingArray) {
+            throw new JsonIoException("Invalid projection path: '" + path + "'");
+        }
+        return names;
+    }
+}
@@ -2,6 +2,7 @@ package com.cedarsoftware.io;
 
 import java.lang.reflect.Field;
 import java.util.Map;
+import java.util.Set;
 
 import com.cedarsoftware.io.reflect.Injector;
 import com.cedarsoftware.util.convert.ConverterOptions;
@@ -99,6 +100,24 @@ public interface ReadOptions {
      */
     boolean isStrictJson();
 
+    /**
+     * @return true if Maps-mode reads of a JSON String decode field values only when they are first accessed.
+     * Applies only to documents without @id/@ref/@type metadata; others are read eagerly.  Default is false.
+     */
+    boolean isLazyMapValues();
+
+    /**
+     * @return true if, in Java mode, the parser skips the values of fields the target class has no field or
+     * setter for, instead of decoding them.  Default is false.
+     */
+    boolean isSkipUnmappedFields();
+
+    /**
+     * @return Set of projection paths (e.g. "order.id", "order.items[*].sku").  When not empty, JSON values outside
+     * these paths are skipped by the parser without being decoded.  Empty (the default) reads everything.
+     */
+    Set<String> getProjectedPaths();
+
     /**
      * @return true if strict TOON parsing is enabled.
      * When true, TOON input is expected to follow strict conformance checks
@@ -155,6 +174,13 @@ public interface ReadOptions {
      */
     int getMaxMapsToRehash();
 
+    /**
+     * @return int number of Maps that must be waiting to be filled at the end of resolution before that
+     * final pass is spread across the common ForkJoinPool.  Below it, Maps are filled one after another on
+     * the reading thread.  Default is 10,000.  Use Integer.MAX_VALUE to always fill them on the reading thread.
+     */
+    int getParallelRehashThreshold();
+
     /**
      * @return int maximum number of missing fields that can be tracked during JSON processing.
      * Once this limit is reached, a JsonIoException will be thrown to prevent memory exhaustion
@@ -325,7 +351,8 @@ public interface ReadOptions {
     /**
      * @return int maximum size of the type resolution cache used by JsonValue to avoid repeated type checks.
      * Default is 1,000 entries. This prevents unbounded memory growth while maintaining performance benefits.
-     * The cache is used to store whether Java Types are fully resolved (no type variables).
+     * The cache is used to store whether Java Types are fully resolved (no type variables). The same limit bounds
+     * the per-ReadOptions cache of @type name to Class resolutions (including names that did not resolve).
      */
     int getMaxTypeResolutionCacheSize();
 
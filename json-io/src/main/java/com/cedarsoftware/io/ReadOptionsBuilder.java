@@ -1,6 +1,5 @@
 package com.cedarsoftware.io;
 
-import java.lang.reflect.Array;
 import java.lang.reflect.Field;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Type;
@@ -14,6 +13,7 @@ import java.util.Date;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -23,8 +23,10 @@ import java.util.OptionalInt;
 import java.util.OptionalLong;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
 import java.util.regex.Pattern;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 
 import com.cedarsoftware.io.factory.ArrayFactory;
 import com.cedarsoftware.io.factory.EnumClassFactory;
@@ -54,7 +56,6 @@ import com.cedarsoftware.util.LoggingConfig;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
-import static com.cedarsoftware.io.MetaUtils.loadMapDefinition;
 
 /**
  * Builder class for building the writeOptions.
@@ -143,7 +144,7 @@ public class ReadOptionsBuilder {
         // ClassFactories
         loadBaseClassFactory();
         loadBaseReaders();
-        loadBaseAliasMappings(ReadOptionsBuilder::addPermanentAlias);
+        loadBaseAliasMappings(BASE_ALIAS_MAPPINGS::put);
         loadBaseCoercedTypes();
         loadBaseNonRefs();
         loadBaseNotCustomReadClasses();
@@ -168,7 +169,7 @@ public class ReadOptionsBuilder {
         options = new DefaultReadOptions();
 
         // Direct copy (with swap) without classForName() lookups for speed.
-        // (The classForName check is done with the BASE_ALIAS_MAPPINGS are loaded)
+        // (BASE_ALIAS_MAPPINGS holds class names; see loadBaseAliasMappings for the few that are checked)
         BASE_ALIAS_MAPPINGS.forEach((srcType, alias) -> {
             options.aliasTypeNames.put(alias, srcType);
         });
@@ -251,12 +252,15 @@ public class ReadOptionsBuilder {
             options.integerType = other.integerType;
             options.useUnsafe = other.useUnsafe;
             options.strictJson = other.strictJson;
+            options.lazyMapValues = other.lazyMapValues;
+            options.skipUnmappedFields = other.skipUnmappedFields;
             options.strictToon = other.strictToon;
 
             // Copy security limits
             options.maxUnresolvedReferences = other.maxUnresolvedReferences;
             options.maxStackDepth = other.maxStackDepth;
             options.maxMapsToRehash = other.maxMapsToRehash;
+            options.parallelRehashThreshold = other.parallelRehashThreshold;
             options.maxMissingFields = other.maxMissingFields;
             
             // Copy JSON parsing security limits
@@ -317,6 +321,9 @@ public class ReadOptionsBuilder {
 
             options.customOptions.clear();
             options.customOptions.putAll(other.customOptions);
+
+            options.projectedPaths.clear();
+            options.projectedPaths.addAll(other.projectedPaths);
         }
     }
 
@@ -764,6 +771,8 @@ public class ReadOptionsBuilder {
         options.fieldFilters = Collections.unmodifiableList(options.fieldFilters);
         options.injectorFactories = Collections.unmodifiableList(options.injectorFactories);
         options.customOptions = Collections.unmodifiableMap(options.customOptions);
+        options.projection = Projection.compile(options.projectedPaths);
+        options.projectedPaths = Collections.unmodifiableSet(options.projectedPaths);
         return options;
     }
 
@@ -1056,6 +1065,21 @@ public class ReadOptionsBuilder {
         return this;
     }
 
+    /**
+     * @param parallelRehashThreshold int number of Maps that must be waiting to be filled at the end of resolution
+     *                                before that pass runs on the common ForkJoinPool.  Each Map is filled by a single
+     *                                thread, so key hashCode()/equals() must not read the contents of other Maps in
+     *                                the same graph.  Default is 10,000.  Integer.MAX_VALUE keeps it on the reading thread.
+     * @return ReadOptionsBuilder for chained access.
+     */
+    public ReadOptionsBuilder parallelRehashThreshold(int parallelRehashThreshold) {
+        if (parallelRehashThreshold < 1) {
+            throw new JsonIoException("parallelRehashThreshold must be at least 1, value: " + parallelRehashThreshold);
+        }
+        options.parallelRehashThreshold = parallelRehashThreshold;
+        return this;
+    }
+
     /**
      * @param maxMissingFields int maximum number of missing fields that can be tracked during JSON processing.
      *                         Set this to prevent memory exhaustion from DoS attacks via excessive missing 
@@ -1268,6 +1292,77 @@ public class ReadOptionsBuilder {
         return this;
     }
 
+    /**
+     * Decode field values lazily when reading a JSON String in Maps mode ({@code JsonIo.toMaps(String, ...)},
+     * or returnAsJsonObjects()).  Each JsonObject records where its values start in the retained JSON text and
+     * decodes a value the first time it is read, so code that touches a few fields of a large document pays
+     * for little more than those fields.  Documents that contain @id/@ref/@type (or other metadata) fields, and
+     * reads to a specific root class, are read eagerly as usual.  The JSON String stays reachable until every
+     * value has been read.  Only the document's structure (brackets, quotes, separators) is checked up front: a
+     * syntax error inside a value, such as a malformed number or literal, is reported when that value is first
+     * read, not by toMaps().  Default is false.
+     * @param lazyMapValues boolean true to decode Maps-mode values on first access.
+     * @return ReadOptionsBuilder for chained access.
+     */
+    public ReadOptionsBuilder lazyMapValues(boolean lazyMapValues) {
+        options.lazyMapValues = lazyMapValues;
+        return this;
+    }
+
+    /**
+     * Skip, without decoding, the values of JSON fields that the Java class being filled has no field or setter
+     * for.  Only classes built with their no-arg constructor and filled solely through fields/setters are
+     * skipped this way (no class factory, custom reader, creator, any-setter, or MissingFieldHandler is
+     * involved).  A skipped value is still checked for valid syntax, and an @id inside it is still registered.
+     * An @type that arrives after a skipped field, and names a class that has that field, cannot be honored
+     * and is reported as an error; JSON written by json-io always puts @type first.  Default is false.
+     * @param skipUnmappedFields boolean true to skip the values of unmapped fields in Java mode.
+     * @return ReadOptionsBuilder for chained access.
+     */
+    public ReadOptionsBuilder skipUnmappedFields(boolean skipUnmappedFields) {
+        options.skipUnmappedFields = skipUnmappedFields;
+        return this;
+    }
+
+    /**
+     * Read only the listed parts of the JSON.  Each path is a '.' separated list of field names, such as
+     * {@code "order.id"}.  Arrays are transparent - a path continues into every element - and may be marked
+     * with {@code [*]} for readability: {@code "order.items[*].sku"} and {@code "order.items.sku"} are the same,
+     * and {@code "[*].id"} selects {@code id} from each object in a root array.  A plain field name projects a
+     * top-level field.
+     * <p>
+     * The parser skips every value outside the projection without building JsonObjects or decoding strings,
+     * so the resolver only sees the projected subtree.  Skipped values are still checked for valid syntax,
+     * strictJson() rules included.  Metadata fields
+     * (@type, @id, @ref, ...) are always kept, but an @ref that points into a skipped value cannot be resolved.
+     * Applies to JSON input; calls are cumulative.
+     * @param paths String projection paths to add.
+     * @return ReadOptionsBuilder for chained access.
+     */
+    public ReadOptionsBuilder project(String... paths) {
+        if (paths == null) {
+            throw new JsonIoException("Projection paths cannot be null");
+        }
+        for (String path : paths) {
+            Projection.parsePath(path);
+            options.projectedPaths.add(path);
+        }
+        return this;
+    }
+
+    /**
+     * Read only the listed parts of the JSON.  See {@link #project(String...)}; a Set of plain field names
+     * projects those top-level fields.
+     * @param paths Collection of String projection paths to add.
+     * @return ReadOptionsBuilder for chained access.
+     */
+    public ReadOptionsBuilder project(Collection<String> paths) {
+        if (paths == null) {
+            throw new JsonIoException("Projection paths cannot be null");
+        }
+        return project(paths.toArray(new String[0]));
+    }
+
     /**
      * Enable strict TOON parsing mode.
      * Default is permissive mode.
@@ -1469,7 +1564,7 @@ public class ReadOptionsBuilder {
      * Verify that classes listed are indeed valid classes loaded in the JVM.
      */
     private static void loadBaseClassFactory() {
-        Map<String, String> map = MetaUtils.loadMapDefinition("config/classFactory.txt");
+        Map<String, String> map = ConfigTables.loadMapDefinition("config/classFactory.txt");
         ClassLoader classLoader = ClassUtilities.getClassLoader(ReadOptionsBuilder.class);
 
         for (Map.Entry<String, String> entry : map.entrySet()) {
@@ -1506,7 +1601,7 @@ public class ReadOptionsBuilder {
      * Verify that classes listed are indeed valid classes loaded in the JVM.
      */
     private static void loadBaseReaders() {
-        Map<String, String> map = MetaUtils.loadMapDefinition("config/customReaders.txt");
+        Map<String, String> map = ConfigTables.loadMapDefinition("config/customReaders.txt");
         ClassLoader classLoader = ClassUtilities.getClassLoader(ReadOptionsBuilder.class);
 
         for (Map.Entry<String, String> entry : map.entrySet()) {
@@ -1534,7 +1629,7 @@ public class ReadOptionsBuilder {
      * Verify that classes listed are indeed valid classes loaded in the JVM.
      */
     private static void loadBaseCoercedTypes() {
-        Map<String, String> map = MetaUtils.loadMapDefinition("config/coercedTypes.txt");
+        Map<String, String> map = ConfigTables.loadMapDefinition("config/coercedTypes.txt");
         ClassLoader classLoader = ClassUtilities.getClassLoader(ReadOptionsBuilder.class);
 
         for (Map.Entry<String, String> entry : map.entrySet()) {
@@ -1598,6 +1693,7 @@ public class ReadOptionsBuilder {
     }
 
     static class DefaultReadOptions implements ReadOptions {
+        private static final Object UNKNOWN_TYPE = new Object();
         private Class<?> unknownTypeClass = null;
         private boolean failOnUnknownType = true;
         private boolean closeStream = true;
@@ -1610,6 +1706,8 @@ public class ReadOptionsBuilder {
         private ReadOptions.Integers integerType = Integers.LONG;
         private boolean allowNanAndInfinity = false;
         private boolean strictJson = false;  // Default to false (permissive JSON5 mode)
+        private boolean lazyMapValues = false;
+        private boolean skipUnmappedFields = false;
         private boolean strictToon = false;  // Default to false (permissive TOON mode)
         private boolean useUnsafe = false;  // Default to false for security
         
@@ -1617,6 +1715,7 @@ public class ReadOptionsBuilder {
         private int maxUnresolvedReferences = Integer.MAX_VALUE;
         private int maxStackDepth = Integer.MAX_VALUE;
         private int maxMapsToRehash = Integer.MAX_VALUE;
+        private int parallelRehashThreshold = 10000;
         private int maxMissingFields = Integer.MAX_VALUE;
         
         // Resolver security limits - default to generous but finite values for backward compatibility
@@ -1660,11 +1759,22 @@ public class ReadOptionsBuilder {
         private List<FieldFilter> fieldFilters = new ArrayList<>();
         private List<InjectorFactory> injectorFactories = new ArrayList<>();
         private Map<String, Object> customOptions = new LinkedHashMap<>();
+        private Set<String> projectedPaths = new LinkedHashSet<>();
+        private Projection projection;     // compiled from projectedPaths by build()
 
         // Runtime cache (not feature options)
         private final ClassValueMap<JsonClassReader> readerCache = new ClassValueMap<>();
         private final ClassValueMap<InjectorPlan> injectorPlanCache = new ClassValueMap<>();
 
+        /**
+         * Per-(ReadOptions-instance) memoization of @type name -> Class (alias applied), so repeated @type
+         * values skip the alias lookups and {@code ClassUtilities.forName()}. Names that do not resolve are
+         * cached too ({@link #UNKNOWN_TYPE}); a failed class lookup is the most expensive case. Bounded by
+         * maxTypeResolutionCacheSize (cleared when full) and tied to the ClassLoader it was filled with.
+         */
+        private final Map<String, Object> typeNameCache = new ConcurrentHashMap<>();
+        private volatile ClassLoader typeNameCacheLoader;
+
         /**
          * Per-(ReadOptions-instance) memoization of {@link #isNonReferenceableClass(Class)}.
          * Mirrors the write-side {@code DefaultWriteOptions.nonRefCache}. Previously each
@@ -1732,6 +1842,25 @@ public class ReadOptionsBuilder {
             return strictJson;
         }
 
+        public boolean isLazyMapValues() {
+            return lazyMapValues;
+        }
+
+        public boolean isSkipUnmappedFields() {
+            return skipUnmappedFields;
+        }
+
+        public Set<String> getProjectedPaths() {
+            return projectedPaths;
+        }
+
+        /**
+         * @return the compiled projection, or null when everything is read.
+         */
+        Projection getProjection() {
+            return projection;
+        }
+
         public boolean isStrictToon() {
             return strictToon;
         }
@@ -1800,6 +1929,13 @@ public class ReadOptionsBuilder {
             return maxMapsToRehash;
         }
 
+        /**
+         * @return int number of queued Maps at which the final Map-filling pass runs in parallel.
+         */
+        public int getParallelRehashThreshold() {
+            return parallelRehashThreshold;
+        }
+
         /**
          * @return int maximum number of missing fields that can be tracked during JSON processing.
          * Once this limit is reached, a JsonIoException will be thrown to prevent memory exhaustion
@@ -1876,6 +2012,34 @@ public class ReadOptionsBuilder {
             return lruSize;
         }
 
+        /**
+         * Resolve an @type (or @enum) value to its Class: alias substitution, then class lookup.
+         *
+         * @param typeName String type name (or alias) as it appears in the JSON.
+         * @return the Class, or null if the name does not resolve with this ReadOptions' ClassLoader.
+         */
+        Class<?> resolveTypeName(String typeName) {
+            ClassLoader loader = getClassLoader();
+            if (loader != typeNameCacheLoader) {
+                typeNameCache.clear();
+                typeNameCacheLoader = loader;
+            }
+            Object cached = typeNameCache.get(typeName);
+            if (cached instanceof Class) {
+                return (Class<?>) cached;
+            }
+            // An @IoTypeName alias registered since the miss was recorded (class scanned later) wins.
+            if (cached == UNKNOWN_TYPE && AnnotationResolver.resolveAnnotationAlias(typeName) == null) {
+                return null;
+            }
+            Class<?> clazz = ClassUtilities.forName(getTypeNameAlias(typeName), loader);
+            if (typeNameCache.size() >= maxTypeResolutionCacheSize) {
+                typeNameCache.clear();
+            }
+            typeNameCache.put(typeName, clazz == null ? UNKNOWN_TYPE : clazz);
+            return clazz;
+        }
+
         /**
          * Alias Type Names, e.g. "ArrayList" instead of "java.util.ArrayList".
          *
@@ -2111,7 +2275,8 @@ public class ReadOptionsBuilder {
             }
             InjectorPlan plan = injectorPlanCache.getByClass(classToTraverse);
             if (plan == null) {
-                plan = new InjectorPlan(getDeepInjectorMap(classToTraverse));
+                plan = new InjectorPlan(getDeepInjectorMap(classToTraverse), classToTraverse,
+                        canSkipUnmappedFields(this, classToTraverse));
                 injectorPlanCache.put(classToTraverse, plan);
             }
             return plan;
@@ -2292,7 +2457,7 @@ public class ReadOptionsBuilder {
      * Populates a map with a mapping of Class -> Set of Strings
      */
     static Map<Class<?>, Set<String>> loadClassToSetOfStrings(String fileName) {
-        Map<String, String> map = loadMapDefinition(fileName);
+        Map<String, String> map = ConfigTables.loadMapDefinition(fileName);
         Map<Class<?>, Set<String>> builtMap = new LinkedHashMap<>();
         ClassLoader classLoader = ClassUtilities.getClassLoader(ReadOptionsBuilder.class);
 
@@ -2311,7 +2476,7 @@ public class ReadOptionsBuilder {
     }
     
     static Map<Class<?>, Map<String, String>> loadClassToFieldAliasNameMapping(String fileName) {
-        Map<String, String> map = MetaUtils.loadMapDefinition(fileName);
+        Map<String, String> map = ConfigTables.loadMapDefinition(fileName);
         Map<Class<?>, Map<String, String>> nonStandardMapping = new ConcurrentHashMap<>();
         ClassLoader classLoader = ClassUtilities.getClassLoader(ReadOptionsBuilder.class);
 
@@ -2338,7 +2503,7 @@ public class ReadOptionsBuilder {
      * Load the list of classes that are intended to be treated as non-referenceable, immutable classes.
      */
     private static void loadBaseNonRefs() {
-        final Set<String> set = MetaUtils.loadSetDefinition("config/nonRefs.txt");
+        final Set<String> set = ConfigTables.loadSetDefinition("config/nonRefs.txt");
         final ClassLoader classLoader = ClassUtilities.getClassLoader(ReadOptionsBuilder.class);
 
         for (String className : set) {
@@ -2358,7 +2523,7 @@ public class ReadOptionsBuilder {
      * you don't want it to be used for a subclass, you can add the subclass to this list.
      */
     private static void loadBaseNotCustomReadClasses() {
-        final Set<String> set = MetaUtils.loadSetDefinition("config/notCustomRead.txt");
+        final Set<String> set = ConfigTables.loadSetDefinition("config/notCustomRead.txt");
         final ClassLoader classLoader = ClassUtilities.getClassLoader(ReadOptionsBuilder.class);
 
         for (String className : set) {
@@ -2386,31 +2551,66 @@ public class ReadOptionsBuilder {
         });
     }
 
+    /**
+     * @deprecated no longer used; base aliases are applied by class name through
+     * {@code loadBaseAliasMappings}.
+     */
+    @Deprecated
     @FunctionalInterface
     public interface AliasApplier {
         void apply(Class<?> clazz, String alias);
     }
 
-    static void loadBaseAliasMappings(AliasApplier aliasApplier) {
-        Map<String, String> aliasMappings = MetaUtils.loadMapDefinition("config/aliases.txt");
+    /**
+     * Apply the aliases from config/aliases.txt, plus the 1D to 3D array forms of each. Only class names are
+     * needed, so classes are not loaded here; an alias for a class absent from this JVM simply never matches.
+     * The exception is an alias shared by several classes (e.g. "Path" for UnixPath and WindowsPath): only the
+     * classes present in this JVM may claim it, so those entries are checked with a class lookup.
+     */
+    static void loadBaseAliasMappings(BiConsumer<String, String> aliasApplier) {
+        Map<String, String> aliasMappings = ConfigTables.loadMapDefinition("config/aliases.txt");
+        Set<String> seen = new HashSet<>();
+        Set<String> shared = new HashSet<>();
+        for (String alias : aliasMappings.values()) {
+            if (!seen.add(alias)) {
+                shared.add(alias);
+            }
+        }
         ClassLoader classLoader = ClassUtilities.getClassLoader(ReadOptionsBuilder.class);
         for (Map.Entry<String, String> entry : aliasMappings.entrySet()) {
             String className = entry.getKey();
             String alias = entry.getValue();
-            Class<?> clazz = ClassUtilities.forName(className, classLoader);
-
-            if (clazz == null) {
+            if (shared.contains(alias) && ClassUtilities.forName(className, classLoader) == null) {
                 LOG.fine("Could not find class: " + className + " which has associated alias value: " + alias + " config/aliases.txt");
-            } else {
-                // Add the alias and 1D to 3D array versions of it.
-                Class<?> clazz1 = Array.newInstance(clazz, 0).getClass();
-                Class<?> clazz2 = Array.newInstance(clazz1, 0).getClass();
-                Class<?> clazz3 = Array.newInstance(clazz2, 0).getClass();
-                aliasApplier.apply(clazz, alias);
-                aliasApplier.apply(clazz1, alias + "[]");
-                aliasApplier.apply(clazz2, alias + "[][]");
-                aliasApplier.apply(clazz3, alias + "[][][]");
+                continue;
             }
+            String className1 = arrayTypeName(className);
+            String className2 = arrayTypeName(className1);
+            aliasApplier.accept(className, alias);
+            aliasApplier.accept(className1, alias + "[]");
+            aliasApplier.accept(className2, alias + "[][]");
+            aliasApplier.accept(arrayTypeName(className2), alias + "[][][]");
+        }
+    }
+
+    /**
+     * @return the {@link Class#getName()} of a one-dimensional array whose component type has the given name,
+     * e.g. "int" -> "[I", "java.lang.String" -> "[Ljava.lang.String;", "[I" -> "[[I".
+     */
+    static String arrayTypeName(String componentName) {
+        if (componentName.startsWith("[")) {
+            return "[" + componentName;
+        }
+        switch (componentName) {
+            case "boolean": return "[Z";
+            case "byte": return "[B";
+            case "char": return "[C";
+            case "short": return "[S";
+            case "int": return "[I";
+            case "long": return "[J";
+            case "float": return "[F";
+            case "double": return "[D";
+            default: return "[L" + componentName + ";";
         }
     }
 
@@ -2458,15 +2658,70 @@ public class ReadOptionsBuilder {
             return ((DefaultReadOptions) options).getInjectorPlan(clazz);
         }
         // Custom ReadOptions implementations do not have DefaultReadOptions' ClassValue-backed plan cache.
-        return new InjectorPlan(options.getDeepInjectorMap(clazz));
+        return new InjectorPlan(options.getDeepInjectorMap(clazz), clazz, canSkipUnmappedFields(options, clazz));
+    }
+
+    /**
+     * @return true if a JSON field of {@code clazz} with no injector can be dropped by the parser without changing
+     * the result.  That holds when ObjectResolver creates the instance with its no-arg constructor and fills it
+     * only through injectors: no class factory, custom reader, coercion, creator, any-setter, or Map conversion
+     * reads the JsonObject, and only its own annotations (renames, aliases, ignores) shape the injector map.
+     */
+    private static boolean canSkipUnmappedFields(ReadOptions options, Class<?> c) {
+        if (!options.isSkipUnmappedFields()) {
+            return false;
+        }
+        if (c.isInterface() || c.isArray() || c.isPrimitive() || c.isEnum() || c.isAnonymousClass()
+                || Modifier.isAbstract(c.getModifiers())
+                || Map.class.isAssignableFrom(c)
+                || Collection.class.isAssignableFrom(c)
+                || Throwable.class.isAssignableFrom(c)
+                || Resolver.isPseudoPrimitive(c)) {
+            return false;
+        }
+        String name = c.getName();
+        if (name.startsWith("java.") || name.startsWith("javax.") || name.startsWith("jdk.") || name.startsWith("sun.")) {
+            return false;
+        }
+        if (options.isClassCoerced(c)
+                || options.getClassFactory(c) != null
+                || options.getCustomReader(c) != null
+                || options.isNonReferenceableClass(c)
+                || com.cedarsoftware.util.Converter.isConversionSupportedFor(Map.class, c)) {
+            return false;
+        }
+        AnnotationResolver.ClassAnnotationMetadata meta = AnnotationResolver.getMetadata(c);
+        if (meta.getCreator() != null || meta.getAnySetterMethod() != null || meta.getClassFactory() != null
+                || meta.getCustomReader() != null || meta.isIgnoredType()) {
+            return false;
+        }
+        try {
+            c.getDeclaredConstructor();
+            return true;
+        } catch (NoSuchMethodException e) {
+            return false;   // constructor matching may read fields that no injector covers
+        } catch (SecurityException e) {
+            return false;
+        }
     }
 
     static final class InjectorPlan {
-        static final InjectorPlan EMPTY = new InjectorPlan(Collections.emptyMap());
+        static final InjectorPlan EMPTY = new InjectorPlan(Collections.emptyMap(), null, false);
         private final Map<String, FieldAssignmentPlan> assignmentPlansByName;
+        // JsonParser may skip the values of fields that have no assignment plan (see canSkipUnmappedFields())
+        private final boolean skipUnmapped;
+        // Some field has an annotation type override, so nested values may not become their declared type
+        private final boolean fieldTypeOverrides;
 
-        InjectorPlan(Map<String, Injector> injectorsByName) {
+        InjectorPlan(Map<String, Injector> injectorsByName, Class<?> c, boolean skipUnmapped) {
             this.assignmentPlansByName = buildAssignmentPlans(injectorsByName);
+            this.skipUnmapped = skipUnmapped;
+            if (c == null) {
+                this.fieldTypeOverrides = false;
+            } else {
+                AnnotationResolver.ClassAnnotationMetadata meta = AnnotationResolver.getMetadata(c);
+                this.fieldTypeOverrides = meta.hasFieldTypeInfoDefaults() || meta.hasFieldDeserializeOverrides();
+            }
         }
 
         Injector get(Object fieldName) {
@@ -2482,6 +2737,14 @@ public class ReadOptionsBuilder {
             return assignmentPlansByName.isEmpty();
         }
 
+        boolean canSkipUnmapped() {
+            return skipUnmapped;
+        }
+
+        boolean hasFieldTypeOverrides() {
+            return fieldTypeOverrides;
+        }
+
         private static Map<String, FieldAssignmentPlan> buildAssignmentPlans(Map<String, Injector> injectorsByName) {
             if (injectorsByName.isEmpty()) {
                 return Collections.emptyMap();
@@ -25,7 +25,29 @@ public interface ReferenceTracker {
     JsonObject get(Long id);
 
     JsonObject getOrThrow(Long id);
-    
+
+    /**
+     * Primitive form of {@link #put(Long, JsonObject)}. The parser calls this for every {@code @id}.
+     * Implementations that store ids unboxed should override it; the default boxes.
+     */
+    default JsonObject put(long id, JsonObject o) {
+        return put(Long.valueOf(id), o);
+    }
+
+    /**
+     * Primitive form of {@link #get(Long)}. The resolvers call this for every {@code @ref}.
+     */
+    default JsonObject get(long id) {
+        return get(Long.valueOf(id));
+    }
+
+    /**
+     * Primitive form of {@link #getOrThrow(Long)}.
+     */
+    default JsonObject getOrThrow(long id) {
+        return getOrThrow(Long.valueOf(id));
+    }
+
     void clear();
 
     int size();
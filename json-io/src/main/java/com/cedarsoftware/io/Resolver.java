@@ -3,22 +3,19 @@ package com.cedarsoftware.io;
 import java.io.Externalizable;
 import java.io.Serializable;
 import java.lang.reflect.Array;
-import java.lang.reflect.Constructor;
-import java.lang.reflect.Executable;
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
-import java.lang.reflect.Parameter;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Deque;
 import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.LinkedList;
@@ -131,7 +128,11 @@ public abstract class Resolver {
     // Security limits to prevent DoS attacks via unbounded memory consumption
     // These are now configurable via ReadOptions for backward compatibility
     
-    final Collection<UnresolvedReference> unresolvedRefs = new ArrayList<>();
+    private static final UnresolvedReference[] EMPTY_UNRESOLVED_REFS = new UnresolvedReference[0];
+    // Forward references awaiting cleanup(), in discovery order.  A plain array (not an ArrayList) so the
+    // security bound is checked only when the array grows, and growth never allocates past that bound.
+    private UnresolvedReference[] unresolvedRefs = EMPTY_UNRESOLVED_REFS;
+    private int unresolvedRefCount;
     protected final Deque<JsonObject> stack = new ArrayDeque<>();
     private final Collection<JsonObject> mapsToRehash = new ArrayList<>();
     // store the missing field found during deserialization to notify any client after the complete resolution is done
@@ -146,11 +147,18 @@ public abstract class Resolver {
     private final int maxMissingFields;
     private final int maxStackDepth;
     private final int maxMapsToRehash;
+    private final int parallelRehashThreshold;
     protected final boolean returningJavaObjects;
     protected final MissingFieldHandler missingFieldHandler;
     protected final Class<?> unknownTypeClass;
     protected final int maxObjectReferences;
     protected final int maxReferenceChainDepth;
+    private final boolean useUnsafe;
+    // True when the JsonObject tree was built by this read's own parser (not handed in by the caller), so
+    // resolved nodes may be emptied as soon as their contents have moved into the Java graph.
+    private boolean releaseResolvedNodes;
+    // True when the parser read no '@'-prefixed field (@id, @ref, @type, @keys, @items, ...) for the current value.
+    boolean plainJson;
 
 
     /**
@@ -163,6 +171,9 @@ public abstract class Resolver {
         private String field;
         private final long refId;
         private int index = -1;
+        // For non-List Collections: how many elements the Collection held when this reference was met, so
+        // insertion-ordered Collections can put the target back in its original position.
+        private int position = -1;
 
         UnresolvedReference(JsonObject referrer, String fld, long id) {
             referencingObj = referrer;
@@ -203,22 +214,26 @@ public abstract class Resolver {
             this.maxMissingFields = readOptions.getMaxMissingFields();
             this.maxStackDepth = readOptions.getMaxStackDepth();
             this.maxMapsToRehash = readOptions.getMaxMapsToRehash();
+            this.parallelRehashThreshold = readOptions.getParallelRehashThreshold();
             this.returningJavaObjects = readOptions.isReturningJavaObjects();
             this.missingFieldHandler = readOptions.getMissingFieldHandler();
             this.unknownTypeClass = readOptions.getUnknownTypeClass();
             this.maxObjectReferences = readOptions.getMaxObjectReferences();
             this.maxReferenceChainDepth = readOptions.getMaxReferenceChainDepth();
+            this.useUnsafe = readOptions.isUseUnsafe();
         } else {
             // Default values for test cases
             this.maxUnresolvedRefs = Integer.MAX_VALUE;
             this.maxMissingFields = Integer.MAX_VALUE;
             this.maxStackDepth = Integer.MAX_VALUE;
             this.maxMapsToRehash = Integer.MAX_VALUE;
+            this.parallelRehashThreshold = Integer.MAX_VALUE;
             this.returningJavaObjects = true;
             this.missingFieldHandler = null;
             this.unknownTypeClass = null;
             this.maxObjectReferences = Integer.MAX_VALUE;
             this.maxReferenceChainDepth = Integer.MAX_VALUE;
+            this.useUnsafe = false;
         }
     }
 
@@ -234,6 +249,20 @@ public abstract class Resolver {
         return converter;
     }
 
+    /**
+     * Create an instance of the passed in Class using constructor matching against the supplied arguments
+     * (a Map of named values, a Collection, an array, or null). When this Resolver's ReadOptions has
+     * {@code useUnsafe} enabled and no constructor can be used, the instance is allocated without running a
+     * constructor. The unsafe setting applies to this read only; other reads on other threads are unaffected.
+     *
+     * @param c         Class to instantiate
+     * @param arguments constructor argument source, may be null
+     * @return a new instance of c
+     */
+    public Object newInstance(Class<?> c, Object arguments) {
+        return InstantiationPlan.of(c).newInstance(converter, arguments, useUnsafe);
+    }
+
     // ====================================================================================================
     // Convenience methods for ClassFactory implementations
     // ====================================================================================================
@@ -1039,7 +1068,8 @@ public abstract class Resolver {
             }
 
             // Performance: Use cached type classification instead of repeated isArray/isCollection/isMap checks
-            switch (jsonObj.getJsonType()) {
+            final JsonObject.JsonType jsonType = jsonObj.getJsonType();
+            switch (jsonType) {
                 case ARRAY:
                     traverseArray(jsonObj);
                     break;
@@ -1053,10 +1083,44 @@ public abstract class Resolver {
                     traverseObject(jsonObj);
                     break;
             }
+            if (jsonObj != root) {
+                releaseIfResolved(jsonObj, jsonType);
+            }
         }
         return (T) root.getTarget();
     }
 
+    /**
+     * Memory: once a node is finished its fields/items live on in the Java target, and children it referenced
+     * have been pushed, so the parsed contents are dead weight. Emptying them lets the JsonObject tree shrink
+     * while the Java graph grows, instead of both being fully alive until the read ends. Maps are kept
+     * (rehashMaps() re-reads their keys/items in cleanup()), as is any node whose target is itself a Map
+     * (in Java mode an untyped JSON object can be its own target).
+     */
+    private void releaseIfResolved(JsonObject jsonObj, JsonObject.JsonType jsonType) {
+        if (releaseResolvedNodes && returningJavaObjects && jsonObj.isFinished
+                && jsonType != JsonObject.JsonType.MAP && !(jsonObj.target instanceof Map)) {
+            jsonObj.releaseContents();
+        }
+    }
+
+    /**
+     * Called by JsonIo when the tree passed to {@link #toJava(Type, Object)} was built by this read's own parser,
+     * allowing resolved nodes to be emptied as resolution proceeds. Must stay false for a caller-supplied
+     * JsonObject, which the caller may still use afterward.
+     */
+    void setReleaseResolvedNodes(boolean releaseResolvedNodes) {
+        this.releaseResolvedNodes = releaseResolvedNodes;
+    }
+
+    /**
+     * Called by JsonParser after each top-level value with whether that value contained no metadata fields.
+     * Nothing in such a tree needs reference patching or type instantiation.
+     */
+    void setPlainJson(boolean plainJson) {
+        this.plainJson = plainJson;
+    }
+
     protected void traverseObject(JsonObject jsonObj) {
         if (jsonObj.isFinished) {
             return;
@@ -1136,12 +1200,23 @@ public abstract class Resolver {
      * Security-aware method to add unresolved references with size limits
      */
     protected void addUnresolvedReference(UnresolvedReference ref) {
-        // Security: Prevent unbounded memory growth via unresolved references
-        // Performance: Use hoisted constant
-        if (maxUnresolvedRefs != Integer.MAX_VALUE && unresolvedRefs.size() >= maxUnresolvedRefs) {
-            throw new JsonIoException("Security limit exceeded: Maximum unresolved references (" + maxUnresolvedRefs + ") reached. Possible DoS attack.");
+        if (unresolvedRefCount == unresolvedRefs.length) {
+            // Security: Prevent unbounded memory growth via unresolved references.  The array never grows
+            // beyond maxUnresolvedRefs, so the limit only needs checking here.
+            if (unresolvedRefCount >= maxUnresolvedRefs) {
+                throw new JsonIoException("Security limit exceeded: Maximum unresolved references (" + maxUnresolvedRefs + ") reached. Possible DoS attack.");
+            }
+            long grown = unresolvedRefCount == 0 ? 16 : (long) unresolvedRefCount << 1;
+            unresolvedRefs = Arrays.copyOf(unresolvedRefs, (int) Math.min(grown, maxUnresolvedRefs));
         }
-        unresolvedRefs.add(ref);
+        unresolvedRefs[unresolvedRefCount++] = ref;
+    }
+
+    /**
+     * @return number of forward references still waiting to be patched by cleanup().
+     */
+    int getUnresolvedReferenceCount() {
+        return unresolvedRefCount;
     }
     
     /**
@@ -1414,45 +1489,15 @@ public abstract class Resolver {
             if (isUnknownObject
                     && targetClass != null
                     && Map.class.isAssignableFrom(targetClass)) {
-                instance = ClassUtilities.newInstance(converter, targetClass, null);
+                instance = newInstance(targetClass, null);
             } else {
-                // Remove annotation-ignored and non-whitelisted fields so they are not matched to constructor parameters
-                AnnotationResolver.ClassAnnotationMetadata annMeta = AnnotationResolver.getMetadata(targetClass);
-                Map<Object, Object> filtered = null;
-                if (!annMeta.isEmpty()) {
-                    Set<String> includedFields = annMeta.getIncludedFields();
-                    for (Object key : jsonObj.keySet()) {
-                        if (key instanceof String) {
-                            String fieldName = (String) key;
-                            boolean shouldRemove = annMeta.isIgnored(fieldName)
-                                    || (includedFields != null && !includedFields.contains(fieldName));
-                            if (shouldRemove) {
-                                if (filtered == null) {
-                                    filtered = new LinkedHashMap<>(jsonObj);
-                                }
-                                filtered.remove(key);
-                            }
-                        }
-                    }
-                }
-                Map<Object, Object> args = filtered != null ? filtered : jsonObj;
-
-                // Use @IoCreator if present; otherwise fall back to ClassUtilities heuristics
-                Executable creator = annMeta.getCreator();
-                if (creator != null) {
-                    // If the class has @IoValue and the JSON has a "value" key (from typed write),
-                    // pass the single value to the creator's first parameter
-                    if (annMeta.getValueMethod() != null && args.containsKey("value") && creator.getParameterCount() == 1) {
-                        Map<Object, Object> valueArgs = new LinkedHashMap<>();
-                        // Map the "value" key to whatever the creator's first parameter name is
-                        String paramKey = AnnotationResolver.getParameterJsonKey(creator.getParameters()[0]);
-                        valueArgs.put(paramKey, args.get("value"));
-                        instance = invokeCreator(creator, valueArgs);
-                    } else {
-                        instance = invokeCreator(creator, args);
-                    }
+                // Creator binding and ignored/non-included key filtering are precomputed per class
+                InstantiationPlan plan = InstantiationPlan.of(targetClass);
+                if (plan.hasCreator()) {
+                    instance = plan.invokeCreator(jsonObj, converter);
                 } else {
-                    instance = ClassUtilities.newInstance(converter, targetClass, args);
+                    // Remove annotation-ignored and non-whitelisted fields so they are not matched to constructor parameters
+                    instance = plan.newInstance(converter, plan.constructorArgs(jsonObj), useUnsafe);
                 }
             }
         }
@@ -1460,47 +1505,6 @@ public abstract class Resolver {
         return jsonObj.setTarget(instance);
     }
 
-    /**
-     * Invoke an @IoCreator constructor or static factory method, matching parameters by name
-     * from the JSON object map. Parameters annotated with @IoProperty use the renamed key.
-     */
-    private Object invokeCreator(Executable creator, Map<Object, Object> jsonMap) {
-        Parameter[] params = creator.getParameters();
-        Object[] args = new Object[params.length];
-
-        for (int i = 0; i < params.length; i++) {
-            Parameter param = params[i];
-            // Check for @IoProperty or @JsonProperty on the parameter for renamed keys
-            String jsonKey = AnnotationResolver.getParameterJsonKey(param);
-
-            Object value = jsonMap.get(jsonKey);
-            if (value != null) {
-                Class<?> paramType = param.getType();
-                if (!paramType.isInstance(value)) {
-                    try {
-                        value = converter.convert(value, paramType);
-                    } catch (Exception e) {
-                        // Leave value as-is; constructor may accept it or throw
-                    }
-                }
-            }
-            args[i] = value;
-        }
-
-        try {
-            if (creator instanceof Constructor) {
-                return ((Constructor<?>) creator).newInstance(args);
-            } else {
-                return ((Method) creator).invoke(null, args);
-            }
-        } catch (InvocationTargetException e) {
-            Throwable cause = e.getCause();
-            throw new JsonIoException("@IoCreator invocation failed for " + creator.getDeclaringClass().getName(), cause);
-        } catch (Exception e) {
-            throw new JsonIoException("@IoCreator invocation failed for " + creator.getDeclaringClass().getName(), e);
-        }
-    }
-
     /**
      * If a ClassFactory is associated to the passed in Class (clazz), then use the ClassFactory
      * to create an instance.  If a ClassFactory creates the instance, it may optionally load
@@ -1558,28 +1562,58 @@ public abstract class Resolver {
     /**
      * For all fields where the value was "@ref":"n" where 'n' was the id of an object
      * that had not yet been encountered in the stream, make the final substitution.
+     * References arrive grouped by the object that holds them, so the holder's target, its kind, and
+     * the Injector for a (class, field) pair are looked up once per run rather than once per reference.
+     * Forward references inside insertion-ordered Collections (LinkedHashSet, Deque, ...) are re-inserted
+     * at their original position instead of being appended.
      */
     private void patchUnresolvedReferences() {
-        if (unresolvedRefs.isEmpty()) {
+        final int count = unresolvedRefCount;
+        if (count == 0) {
             return;
         }
-        for (UnresolvedReference ref : unresolvedRefs) {
-            Object objToFix = ref.referencingObj.getTarget();
-            JsonObject objReferenced = this.references.getOrThrow(ref.refId);
-            Object referencedTarget = objReferenced.getTarget();
+        final UnresolvedReference[] refs = unresolvedRefs;
+        Map<Object, List<UnresolvedReference>> orderedFixes = null;
+        JsonObject holder = null;
+        Object objToFix = null;
+        Class<?> planClass = null;
+        ReadOptionsBuilder.InjectorPlan plan = null;
+        String injectorField = null;
+        Injector injector = null;
+
+        for (int i = 0; i < count; i++) {
+            UnresolvedReference ref = refs[i];
+            refs[i] = null;
+            if (ref.referencingObj != holder) {
+                holder = ref.referencingObj;
+                objToFix = holder.getTarget();
+            }
+            Object referencedTarget = this.references.getOrThrow(ref.refId).getTarget();
 
             if (ref.index >= 0) {    // Fix []'s and Collections containing a forward reference.
-                if (objToFix instanceof List) {
+                if (objToFix instanceof Object[]) {   // Object arrays - primitive arrays cannot have forward references
+                    ((Object[]) objToFix)[ref.index] = referencedTarget;
+                } else if (objToFix instanceof List) {
                     ((List) objToFix).set(ref.index, referencedTarget);
-                } else if (objToFix instanceof Collection) {   // Patch up Indexable Collections
+                } else if (ref.position >= 0 && isInsertionOrdered(objToFix)) {
+                    if (orderedFixes == null) {
+                        orderedFixes = new IdentityHashMap<>();
+                    }
+                    orderedFixes.computeIfAbsent(objToFix, k -> new ArrayList<>()).add(ref);
+                } else {   // Unordered Collections (HashSet, TreeSet, ...) - position does not matter
                     ((Collection) objToFix).add(referencedTarget);
-                } else {   // Object arrays - primitive arrays cannot have forward references
-                    ((Object[]) objToFix)[ref.index] = referencedTarget;
                 }
             } else {    // Fix field forward reference
-                // ReadOptions.getDeepInjectorMap() already caches via ClassValueMap - no local cache needed
-                ReadOptionsBuilder.InjectorPlan plan = ReadOptionsBuilder.getInjectorPlan(readOptions, objToFix.getClass());
-                Injector injector = plan.get(ref.field);
+                Class<?> c = objToFix.getClass();
+                if (c != planClass) {
+                    plan = ReadOptionsBuilder.getInjectorPlan(readOptions, c);
+                    planClass = c;
+                    injectorField = null;
+                }
+                if (!ref.field.equals(injectorField)) {
+                    injector = plan.get(ref.field);
+                    injectorField = ref.field;
+                }
                 if (injector != null) {
                     try {
                         injector.inject(objToFix, referencedTarget);
@@ -1589,7 +1623,38 @@ public abstract class Resolver {
                 }
             }
         }
-        unresolvedRefs.clear();
+        unresolvedRefCount = 0;
+
+        if (orderedFixes != null) {
+            for (Map.Entry<Object, List<UnresolvedReference>> entry : orderedFixes.entrySet()) {
+                reinsertInOrder((Collection<Object>) entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    private static boolean isInsertionOrdered(Object col) {
+        return col instanceof LinkedHashSet || col instanceof CompactLinkedSet || col instanceof Deque;
+    }
+
+    /**
+     * Rebuild an insertion-ordered Collection so each forward-referenced target lands where it appeared in
+     * the JSON.  The references are in ascending position order (the order they were met), and the first
+     * 'position' elements of the Collection are exactly those that preceded each reference.
+     */
+    private void reinsertInOrder(Collection<Object> col, List<UnresolvedReference> refs) {
+        Object[] existing = col.toArray();
+        col.clear();
+        int next = 0;
+        for (UnresolvedReference ref : refs) {
+            int stop = Math.min(ref.position, existing.length);
+            while (next < stop) {
+                col.add(existing[next++]);
+            }
+            col.add(references.getOrThrow(ref.refId).getTarget());
+        }
+        while (next < existing.length) {
+            col.add(existing[next++]);
+        }
     }
 
     /**
@@ -1605,10 +1670,34 @@ public abstract class Resolver {
      * and you would need to provide a custom reader for that set.
      */
     private void rehashMaps() {
-        if (mapsToRehash.isEmpty()) {
+        final int count = mapsToRehash.size();
+        if (count == 0) {
+            return;
+        }
+        if (count < parallelRehashThreshold) {
+            for (JsonObject jsonObj : mapsToRehash) {
+                jsonObj.rehashMaps();
+            }
             return;
         }
+
+        // All references are patched, so each Map can be filled independently.  Maps keyed by other Maps,
+        // Collections or arrays hash those keys' contents, which the parallel pass may still be filling, so
+        // they are filled afterwards, in their original order.
+        List<JsonObject> independent = new ArrayList<>(count);
+        List<JsonObject> dependent = new ArrayList<>();
         for (JsonObject jsonObj : mapsToRehash) {
+            if (!(jsonObj.getTarget() instanceof Map)) {
+                continue;   // nothing to fill (e.g. Maps-mode JsonObjects that are their own result)
+            }
+            if (jsonObj.hasContainerKeys()) {
+                dependent.add(jsonObj);
+            } else {
+                independent.add(jsonObj);
+            }
+        }
+        independent.parallelStream().forEach(JsonObject::rehashMaps);
+        for (JsonObject jsonObj : dependent) {
             jsonObj.rehashMaps();
         }
     }
@@ -1952,10 +2041,13 @@ public abstract class Resolver {
         if (refObject.getTarget() != null) {
             col.add(refObject.getTarget());
         } else {
-            addUnresolvedReference(new UnresolvedReference(parent, idx, refHolder.getReferenceId()));
+            UnresolvedReference ref = new UnresolvedReference(parent, idx, refHolder.getReferenceId());
             if (isList) {
                 col.add(null);
+            } else {
+                ref.position = col.size();
             }
+            addUnresolvedReference(ref);
         }
     }
 
@@ -1970,7 +2062,8 @@ public abstract class Resolver {
         boolean isNonRefClass = readOptions.isNonReferenceableClass(jObj.getRawType());
         if (!isNonRefClass) {
             // Performance: Use cached type classification instead of repeated isArray/isCollection/isMap checks
-            switch (jObj.getJsonType()) {
+            final JsonObject.JsonType jsonType = jObj.getJsonType();
+            switch (jsonType) {
                 case ARRAY:
                     traverseArray(jObj);
                     break;
@@ -1984,6 +2077,7 @@ public abstract class Resolver {
                     traverseObject(jObj);
                     break;
             }
+            releaseIfResolved(jObj, jsonType);
         }
         if (!(col instanceof EnumSet)) {
             col.add(jObj.getTarget());
@@ -2009,16 +2103,36 @@ public abstract class Resolver {
 
     protected abstract Object resolveArray(Type suggestedType, List<Object> list);
 
+    /**
+     * Called by the parser at the end of each JSON array with the array's elements. {@code items} is freshly
+     * allocated and exactly sized, so implementations may keep it as the array's items without copying.
+     * The default delegates to {@link #resolveArray(Type, List)} for subclasses that only implement that form,
+     * passing a mutable ArrayList as that overload has always received.
+     */
+    protected Object resolveArray(Type suggestedType, Object[] items) {
+        return resolveArray(suggestedType, new ArrayList<>(Arrays.asList(items)));
+    }
+
     /**
      * Default implementation of ReferenceTracker.
      * Reference tracking is logically part of the resolution process,
      * as it tracks @id/@ref relationships during JSON parsing and resolution.
      */
     public static class DefaultReferenceTracker implements ReferenceTracker {
-
-        // Performance: Lazy allocation — most JSON has no @id/@ref, so the HashMap
-        // is only created when put() is first called. Saves ~64 bytes per parse.
-        private Map<Long, JsonObject> references;
+        // Ids below this are always kept in the dense array; beyond it an id must stay within
+        // DENSE_SPREAD times the entry count, or the tracker switches to the hash table.
+        private static final int DENSE_MIN_RANGE = 1024;
+        private static final int DENSE_SPREAD = 4;
+        private static final int HASH_MIN_CAPACITY = 16;
+
+        // Performance: ids are stored unboxed. JsonWriter numbers @id values 1, 2, 3, ... so the common case is
+        // a dense array indexed by id. Sparse, negative, or very large ids switch (once) to an open-addressing
+        // table with linear probing. An empty slot holds a null value in either form. Both arrays are
+        // allocated lazily — most JSON has no @id/@ref.
+        private JsonObject[] dense;
+        private long[] keys;
+        private JsonObject[] values;
+        private int size;
         // Performance: Hoisted ReadOptions constants to avoid repeated method calls
         private final int maxObjectReferences;
         private final int maxReferenceChainDepth;
@@ -2029,24 +2143,47 @@ public abstract class Resolver {
         }
 
         public JsonObject put(Long l, JsonObject o) {
-            if (references == null) {
-                references = new HashMap<>();
+            return put(l.longValue(), o);
+        }
+
+        /**
+         * Maps {@code id} to {@code o}, returning the previous mapping. A null {@code o} removes the mapping.
+         */
+        @Override
+        public JsonObject put(long id, JsonObject o) {
+            if (o == null) {
+                return remove(id);
             }
-            // Security: Prevent unbounded memory growth via reference tracking
-            if (references.size() >= maxObjectReferences) {
-                throw new JsonIoException("Security limit exceeded: Maximum number of object references (" + maxObjectReferences + ") reached. Possible DoS attack.");
+            if (keys == null) {
+                if (id >= 0 && id < Math.max(DENSE_MIN_RANGE, (long) size * DENSE_SPREAD)) {
+                    int index = (int) id;
+                    if (dense == null || index >= dense.length) {
+                        growDense(index);
+                    }
+                    JsonObject prior = dense[index];
+                    if (prior == null) {
+                        checkReferenceLimit();
+                        size++;
+                    }
+                    dense[index] = o;
+                    return prior;
+                }
+                switchToHash();
             }
-            return this.references.put(l, o);
+            return hashPut(id, o);
         }
 
         public void clear() {
-            if (references != null) {
-                this.references.clear();
+            if (dense != null) {
+                Arrays.fill(dense, null);
             }
+            keys = null;
+            values = null;
+            size = 0;
         }
 
         public int size() {
-            return references == null ? 0 : this.references.size();
+            return size;
         }
 
         public JsonObject getOrThrow(Long id) {
@@ -2057,11 +2194,22 @@ public abstract class Resolver {
             return target;
         }
 
-        public JsonObject get(Long id) {
-            if (references == null) {
-                return null;
+        @Override
+        public JsonObject getOrThrow(long id) {
+            JsonObject target = get(id);
+            if (target == null) {
+                throw new JsonIoException("Forward reference @ref: " + id + ", but no object defined (@id) with that value");
             }
-            JsonObject target = references.get(id);
+            return target;
+        }
+
+        public JsonObject get(Long id) {
+            return id == null ? null : get(id.longValue());
+        }
+
+        @Override
+        public JsonObject get(long id) {
+            JsonObject target = lookup(id);
             if (target == null) {
                 return null;
             }
@@ -2071,9 +2219,13 @@ public abstract class Resolver {
                 return target;
             }
 
-            // Slow path: follow reference chain with security checks
-            // Performance: HashSet created lazily only when we have a reference chain
-            Set<Long> visited = new HashSet<>();
+            // Slow path: follow reference chain with security checks. Cycles are found without allocating:
+            // each id is compared with a checkpoint that jumps forward at power-of-two step counts (Brent's
+            // algorithm), so any cycle is detected within two trips around it.
+            final long start = id;
+            long checkpoint = id;
+            int steps = 0;
+            int window = 1;
             int chainDepth = 0;
 
             do {
@@ -2082,13 +2234,18 @@ public abstract class Resolver {
                     throw new JsonIoException("Security limit exceeded: Reference chain depth (" + chainDepth + ") exceeds maximum (" + maxReferenceChainDepth + "). Possible circular reference attack.");
                 }
 
+                id = target.getReferenceId();
                 // Security: Enhanced circular reference detection
-                if (!visited.add(id)) {
-                    throw new JsonIoException("Circular reference detected in reference chain starting with id: " + id + " at depth: " + chainDepth);
+                if (id == checkpoint) {
+                    throw new JsonIoException("Circular reference detected in reference chain starting with id: " + start + " at depth: " + chainDepth);
+                }
+                if (++steps == window) {
+                    checkpoint = id;
+                    window <<= 1;
+                    steps = 0;
                 }
 
-                id = target.getReferenceId();
-                target = references.get(id);
+                target = lookup(id);
                 if (target == null) {
                     return null;
                 }
@@ -2096,5 +2253,139 @@ public abstract class Resolver {
 
             return target;
         }
+
+        private JsonObject lookup(long id) {
+            if (keys == null) {
+                return dense != null && id >= 0 && id < dense.length ? dense[(int) id] : null;
+            }
+            final long[] k = keys;
+            final JsonObject[] v = values;
+            final int mask = k.length - 1;
+            for (int i = slot(id, mask); v[i] != null; i = (i + 1) & mask) {
+                if (k[i] == id) {
+                    return v[i];
+                }
+            }
+            return null;
+        }
+
+        private void checkReferenceLimit() {
+            // Security: Prevent unbounded memory growth via reference tracking
+            if (size >= maxObjectReferences) {
+                throw new JsonIoException("Security limit exceeded: Maximum number of object references (" + maxObjectReferences + ") reached. Possible DoS attack.");
+            }
+        }
+
+        private void growDense(int index) {
+            int capacity = dense == null ? HASH_MIN_CAPACITY : dense.length;
+            while (capacity <= index) {
+                capacity <<= 1;
+            }
+            dense = dense == null ? new JsonObject[capacity] : Arrays.copyOf(dense, capacity);
+        }
+
+        private void switchToHash() {
+            int capacity = HASH_MIN_CAPACITY;
+            while (capacity < (size + 1) * 2) {
+                capacity <<= 1;
+            }
+            keys = new long[capacity];
+            values = new JsonObject[capacity];
+            if (dense != null) {
+                int count = size;
+                size = 0;
+                for (int i = 0; i < dense.length && size < count; i++) {
+                    if (dense[i] != null) {
+                        hashInsert(i, dense[i]);
+                        size++;
+                    }
+                }
+                dense = null;
+            }
+        }
+
+        private JsonObject hashPut(long id, JsonObject o) {
+            final int mask = keys.length - 1;
+            int i = slot(id, mask);
+            while (values[i] != null) {
+                if (keys[i] == id) {
+                    JsonObject prior = values[i];
+                    values[i] = o;
+                    return prior;
+                }
+                i = (i + 1) & mask;
+            }
+            checkReferenceLimit();
+            keys[i] = id;
+            values[i] = o;
+            if (++size * 2 > keys.length) {
+                rehash(keys.length << 1);
+            }
+            return null;
+        }
+
+        private void hashInsert(long id, JsonObject o) {
+            final int mask = keys.length - 1;
+            int i = slot(id, mask);
+            while (values[i] != null) {
+                i = (i + 1) & mask;
+            }
+            keys[i] = id;
+            values[i] = o;
+        }
+
+        private void rehash(int capacity) {
+            long[] oldKeys = keys;
+            JsonObject[] oldValues = values;
+            keys = new long[capacity];
+            values = new JsonObject[capacity];
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldValues[i] != null) {
+                    hashInsert(oldKeys[i], oldValues[i]);
+                }
+            }
+        }
+
+        private JsonObject remove(long id) {
+            if (keys == null) {
+                if (dense == null || id < 0 || id >= dense.length) {
+                    return null;
+                }
+                JsonObject prior = dense[(int) id];
+                if (prior != null) {
+                    dense[(int) id] = null;
+                    size--;
+                }
+                return prior;
+            }
+            final int mask = keys.length - 1;
+            int i = slot(id, mask);
+            while (values[i] != null && keys[i] != id) {
+                i = (i + 1) & mask;
+            }
+            JsonObject prior = values[i];
+            if (prior == null) {
+                return null;
+            }
+            values[i] = null;
+            size--;
+            // Backward-shift deletion: move later entries of the probe run into the hole so lookups stay correct.
+            for (int j = (i + 1) & mask; values[j] != null; j = (j + 1) & mask) {
+                int home = slot(keys[j], mask);
+                boolean movable = j > i ? (home <= i || home > j) : (home <= i && home > j);
+                if (movable) {
+                    keys[i] = keys[j];
+                    values[i] = values[j];
+                    values[j] = null;
+                    i = j;
+                }
+            }
+            return prior;
+        }
+
+        private static int slot(long id, int mask) {
+            int h = (int) (id ^ (id >>> 32)) * 0x9E3779B9;
+            return (h ^ (h >>> 16)) & mask;
+        }
     }
 }
@@ -2,19 +2,27 @@ package com.cedarsoftware.io;
 
 import java.io.IOException;
 import java.io.Reader;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.math.BigInteger;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
+import com.cedarsoftware.io.reflect.AnnotationResolver;
+import com.cedarsoftware.io.reflect.Injector;
 import com.cedarsoftware.util.ArrayUtilities;
 import com.cedarsoftware.util.ClassUtilities;
 import com.cedarsoftware.util.FastReader;
 import com.cedarsoftware.util.MathUtilities;
+import com.cedarsoftware.util.TypeUtilities;
+import com.cedarsoftware.util.convert.Converter;
 
 /**
  * Parse TOON (Token-Oriented Object Notation) format into JsonObject structures.
@@ -61,6 +69,21 @@ public class ToonReader {
         }
     }
 
+    /**
+     * Column plan for a tabular array whose element class is known up front. The header fixes the
+     * column set, so each column is bound to its field's assignment plan once, and rows are parsed
+     * straight into fresh instances without an intermediate JsonObject per row.
+     */
+    private static final class TabularPlan {
+        private final Constructor<?> constructor;
+        private final ReadOptionsBuilder.FieldAssignmentPlan[] columns;
+
+        private TabularPlan(Constructor<?> constructor, ReadOptionsBuilder.FieldAssignmentPlan[] columns) {
+            this.constructor = constructor;
+            this.columns = columns;
+        }
+    }
+
     private static final int INDENT_SIZE = 2;  // 2 spaces per indent level (matches ToonWriter)
     private static final char DELIMITER = ','; // Default delimiter (matches ToonWriter)
     private static final int STRING_CACHE_MASK = 4095;
@@ -123,6 +146,12 @@ public class ToonReader {
     private final String[] stringCache;
     private final String[] numberCacheKeys;
     private final Number[] numberCacheValues;
+    // Element class for the next tabular array at the root (from a List<T>-style suggestedType).
+    // Consumed by the first parseArrayFromLine() so nested arrays never see it.
+    private Class<?> tabularElementClass;
+    private Converter converter;
+    // Set by transcodeTo(): metadata keys (@id, $type, ...) are read as plain keys and nothing is interpreted.
+    private boolean rawKeys;
 
     /**
      * Create a ToonReader that reads from a Reader.
@@ -286,6 +315,7 @@ public class ToonReader {
                 }
 
                 if (isArrayStartInBuf()) {
+                    tabularElementClass = tabularElementClassFor(suggestedType);
                     return readArray();
                 }
 
@@ -304,6 +334,179 @@ public class ToonReader {
         }
     }
 
+    // ========== Streaming (JsonIo.transcodeToJson) ==========
+
+    /**
+     * @return true if {@code toon} may hold a folded key ({@code a.b: 1}), i.e. some line has a '.' before its
+     * first ':'. A false positive (a quoted key or a header column with a '.') only costs the streaming.
+     */
+    static boolean mayHaveFoldedKeys(CharSequence toon) {
+        boolean dot = false;
+        boolean inKey = true;
+        for (int i = 0, len = toon.length(); i < len; i++) {
+            char ch = toon.charAt(i);
+            if (ch == '\n') {
+                dot = false;
+                inKey = true;
+            } else if (inKey) {
+                if (ch == '.') {
+                    dot = true;
+                } else if (ch == ':') {
+                    if (dot) {
+                        return true;
+                    }
+                    inKey = false;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Read the TOON document and write it to {@code json}. Nothing is resolved: metadata keys (@id, $type, ...)
+     * are copied like any other key.
+     * <p>
+     * Without folded keys, a root object is streamed field by field, and so is every nested object; arrays are
+     * read whole and then written. A folded key can add to an object written anywhere earlier in its parent,
+     * which a stream cannot merge, so with {@code foldedKeys} the document is read into a tree first (as
+     * {@link JsonIo#fromToonToMaps} reads it) and then written.
+     *
+     * @param foldedKeys true if the document may hold folded keys (see {@link #mayHaveFoldedKeys})
+     */
+    void transcodeTo(JsonWriter json, boolean foldedKeys) {
+        rawKeys = true;
+        if (foldedKeys) {
+            json.write(readValue(null));
+            return;
+        }
+        try {
+            while (true) {
+                if (!hasLine()) {
+                    json.write(new JsonObject());
+                    return;
+                }
+
+                if (isTrimmedEmpty()) {
+                    consumeLine();
+                    continue;
+                }
+
+                if (isEmptyObjectInBuf()) {
+                    consumeLine();
+                    json.write(new JsonObject());
+                    return;
+                }
+
+                if (isArrayStartInBuf()) {
+                    json.write(readArray());
+                    return;
+                }
+
+                if (findColonInBuf() > 0) {
+                    json.streamObjectStart();
+                    streamObject(json, 0);
+                    json.streamObjectEnd();
+                    json.endStream();
+                    return;
+                }
+
+                String trimmed = peekTrimmed();
+                consumeLine();
+                json.write(readScalar(trimmed));
+                return;
+            }
+        } catch (IOException e) {
+            throw new JsonIoException("Error transcoding TOON input at line " + lineNumber, e);
+        } finally {
+            lineSlice.release();
+        }
+    }
+
+    /**
+     * Stream the {@code key: value} lines at {@code baseIndent}, the loop of {@link #readObject} with each
+     * field written as soon as it is read.
+     */
+    private void streamObject(JsonWriter json, int baseIndent) throws IOException {
+        boolean empty = true;
+        while (true) {
+            if (!hasLine()) {
+                break;
+            }
+
+            int indent = peekIndent();
+            if (indent < baseIndent) {
+                break;
+            }
+
+            if (isTrimmedEmpty()) {
+                consumeLine();
+                continue;
+            }
+
+            if (indent > baseIndent) {
+                break;
+            }
+
+            int colonPos = findColonInBuf();
+            if (colonPos <= 0) {
+                break;
+            }
+
+            int trimStart = currentTrimStart;
+            int trimEnd = currentTrimEnd;
+            consumeLine();
+            String key = trimAsciiRangeBuf(trimStart, trimStart + colonPos);
+            int valueStart = trimStart + colonPos + 1;
+            if (valueStart < trimEnd && lineBuf[valueStart] == ' ') {
+                valueStart++;
+            }
+
+            empty = streamField(json, empty, key, valueStart, trimEnd, baseIndent);
+        }
+    }
+
+    /**
+     * Read one field as {@link #readAndDispatchField} does and write it. A nested object block is streamed
+     * rather than read.
+     *
+     * @param empty true if nothing has been written to the enclosing object yet
+     * @return true if the enclosing object is still empty
+     */
+    private boolean streamField(JsonWriter json, boolean empty, String key, int valueStart, int trimEnd,
+                                int baseIndent) throws IOException {
+        String fieldKey;
+        Object fieldValue = null;
+        int bracketStart = findUnquotedBracketPosition(key);
+        if (bracketStart >= 0) {
+            fieldKey = cacheSubstring(key, 0, bracketStart);
+            if (fieldKey.startsWith("\"")) {
+                fieldKey = unquoteString(fieldKey);
+            }
+            fieldValue = parseCombinedArrayField(key, bracketStart, lineBuf, valueStart, trimEnd);
+        } else {
+            fieldKey = unquoteString(key);
+            if (isTrimmedEmpty(lineBuf, valueStart, trimEnd)) {
+                if (hasLine() && peekIndent() > baseIndent) {
+                    if (isArrayStartInBuf()) {
+                        fieldValue = readArray();
+                    } else {
+                        json.streamObjectFieldStart(empty, fieldKey);
+                        streamObject(json, baseIndent + 1);
+                        json.streamObjectEnd();
+                        return false;
+                    }
+                }
+            } else if (isArrayStart(lineBuf, valueStart, trimEnd)) {
+                fieldValue = parseArrayFromLine(trimAsciiRangeBuf(valueStart, trimEnd));
+            } else if (isEmptyObject(lineBuf, valueStart, trimEnd)) {
+                fieldValue = new JsonObject();
+            } else {
+                fieldValue = readScalar(lineBuf, valueStart, trimEnd);
+            }
+        }
+        return !json.streamField(empty, fieldKey, fieldValue) && empty;
+    }
+
     // ========== Object Parsing ==========
 
     /**
@@ -455,6 +658,7 @@ public class ToonReader {
             }
             if (JsonValue.ID.equals(meta)) {
                 pending.id = validateBufferedIdValue(fieldValue, JsonValue.ID);
+                pending.hasId = true;
                 return null;
             }
             if (JsonValue.REF.equals(meta)) {
@@ -473,25 +677,26 @@ public class ToonReader {
     }
 
     /**
-     * Holder for buffered pre-allocation metadata. {@code id} is boxed because {@code 0} is a
-     * valid id (we need to distinguish "id was set to 0" from "id was never set"); {@code refId}
+     * Holder for buffered pre-allocation metadata. {@code hasId} records whether {@code id} was set,
+     * because {@code 0} is a valid id (we need to distinguish "id was set to 0" from "id was never set"); {@code refId}
      * uses {@code 0} as the unset sentinel because it follows the existing isReference()
      * convention on JsonValue.
      */
     private static final class PendingMeta {
         Class<?> type;
         String typeString;
-        Long id;
+        boolean hasId;
+        long id;
         long refId;
     }
 
     /**
      * Returns the canonical meta-key constant ({@link JsonValue#ITEMS}, {@link JsonValue#KEYS},
      * etc.) when {@code key} is a recognized metadata key, or {@code null} otherwise. Quoted
-     * keys are never treated as metadata.
+     * keys, and every key while transcoding, are never treated as metadata.
      */
-    private static String metaKeyFor(String key, boolean wasQuoted) {
-        if (wasQuoted || key.isEmpty()) {
+    private String metaKeyFor(String key, boolean wasQuoted) {
+        if (rawKeys || wasQuoted || key.isEmpty()) {
             return null;
         }
         char first = key.charAt(0);
@@ -514,7 +719,7 @@ public class ToonReader {
             jObj.setTypeString(pending.typeString);
             jObj.setType(pending.type);
         }
-        if (pending.id != null) {
+        if (pending.hasId) {
             jObj.setId(pending.id);
             if (references != null) {
                 references.put(pending.id, jObj);
@@ -525,6 +730,21 @@ public class ToonReader {
         }
     }
 
+    /**
+     * Alias substitution plus class lookup for an {@code @type} value, through the ReadOptions' type-name cache
+     * when available. Returns null if the name does not resolve.
+     */
+    private Class<?> typeNameToClass(String typeName) {
+        if (readOptions instanceof ReadOptionsBuilder.DefaultReadOptions) {
+            return ((ReadOptionsBuilder.DefaultReadOptions) readOptions).resolveTypeName(typeName);
+        }
+        String resolvedName = readOptions.getTypeNameAlias(typeName);
+        if (resolvedName == null) {
+            resolvedName = typeName;
+        }
+        return ClassUtilities.forName(resolvedName, classLoader);
+    }
+
     /**
      * Resolve a buffered {@code @type} value to a Class without yet attaching it to a target.
      * Mirrors {@link #loadType(Object, JsonObject)}'s resolution and unknown-type handling.
@@ -534,11 +754,7 @@ public class ToonReader {
             throw new JsonIoException("Expected a String for " + JsonValue.TYPE + " at line " + lineNumber);
         }
         String typeName = (String) value;
-        String resolvedName = readOptions.getTypeNameAlias(typeName);
-        if (resolvedName == null) {
-            resolvedName = typeName;
-        }
-        Class<?> typeClass = ClassUtilities.forName(resolvedName, classLoader);
+        Class<?> typeClass = typeNameToClass(typeName);
         if (typeClass == null) {
             if (readOptions.isFailOnUnknownType()) {
                 throw new JsonIoException("Unknown type (class) '" + typeName + "' at line " + lineNumber);
@@ -607,6 +823,9 @@ public class ToonReader {
      * Returns ArrayList instead of Object[] for better Java interoperability.
      */
     private List<Object> parseArrayFromLine(String trimmed) throws IOException {
+        Class<?> elementClass = tabularElementClass;
+        tabularElementClass = null;
+
         // Extract count from [N]:
         int bracketEnd = trimmed.indexOf(']');
         if (bracketEnd < 0) {
@@ -665,7 +884,7 @@ public class ToonReader {
 
         if (columnHeaders != null) {
             // Tabular format: [N]{cols}: followed by CSV rows
-            return readTabularArray(count, columnHeaders, delimiter);
+            return readTabularArray(count, columnHeaders, delimiter, elementClass);
         } else if (!content.isEmpty()) {
             // Inline array: [N]: elem1,elem2,elem3
             return readInlineArray(content, count, delimiter);
@@ -688,7 +907,7 @@ public class ToonReader {
             return new ArrayList<>();
         }
         if (header.columnHeaders != null) {
-            return readTabularArray(header.count, header.columnHeaders, header.delimiter);
+            return readTabularArray(header.count, header.columnHeaders, header.delimiter, null);
         }
         if (!isTrimmedEmpty(valueBuf, valueStart, valueEnd)) {
             return readInlineArray(valueBuf, valueStart, valueEnd, header.count, header.delimiter);
@@ -796,12 +1015,17 @@ public class ToonReader {
 
     /**
      * Read a tabular array: rows of delimiter-separated data where each row becomes an object.
+     * When {@code elementClass} is known and every column maps to a simple field on it, rows are
+     * parsed directly into instances of that class (see {@link #buildTabularPlan}); otherwise each
+     * row becomes a JsonObject for the Resolver.
      */
-    private List<Object> readTabularArray(int count, List<String> columnHeaders, char delimiter) throws IOException {
+    private List<Object> readTabularArray(int count, List<String> columnHeaders, char delimiter,
+                                          Class<?> elementClass) throws IOException {
         List<Object> elements = new ArrayList<>(count);
         int baseIndent = -1;
         int colHeadersSize = columnHeaders.size();
-        String[] columnMetaKeys = buildColumnMetaKeys(columnHeaders);
+        String[] columnMetaKeys = rawKeys ? null : buildColumnMetaKeys(columnHeaders);
+        TabularPlan plan = elementClass == null ? null : buildTabularPlan(elementClass, columnHeaders, columnMetaKeys);
 
         while (elements.size() < count) {
             if (!hasLine()) {
@@ -837,16 +1061,26 @@ public class ToonReader {
             int trimEnd = currentTrimEnd;
             consumeLine();
 
-            // Parse the row directly into a pre-sized object (no intermediate List)
-            JsonObject rowObj = new JsonObject(colHeadersSize);
-            int valuesCount = parseRowIntoObject(lineBuf, trimStart, trimEnd, columnHeaders, columnMetaKeys, delimiter,
-                    rowObj);
+            // Parse the row directly into a pre-sized object (no intermediate List), or straight
+            // into a fresh instance when a column plan is available.
+            Object row;
+            int valuesCount;
+            if (plan != null) {
+                row = newTabularInstance(plan);
+                valuesCount = parseRowIntoObject(lineBuf, trimStart, trimEnd, columnHeaders, columnMetaKeys, delimiter,
+                        null, plan, row);
+            } else {
+                JsonObject rowObj = new JsonObject(colHeadersSize);
+                valuesCount = parseRowIntoObject(lineBuf, trimStart, trimEnd, columnHeaders, columnMetaKeys, delimiter,
+                        rowObj, null, null);
+                row = rowObj;
+            }
             if (strictToon && valuesCount != colHeadersSize) {
                 throw new JsonIoException("Tabular row width mismatch at line " + lineNumber +
                         ", expected " + colHeadersSize + " values, got " + valuesCount);
             }
 
-            elements.add(rowObj);
+            elements.add(row);
         }
 
         if (strictToon) {
@@ -906,7 +1140,7 @@ public class ToonReader {
     }
 
     private int parseRowIntoObject(char[] buf, int start, int end, List<String> columnHeaders, String[] columnMetaKeys,
-                                   char delimiter, JsonObject target) {
+                                   char delimiter, JsonObject target, TabularPlan plan, Object instance) {
         while (start < end && buf[start] <= ' ') {
             start++;
         }
@@ -922,18 +1156,26 @@ public class ToonReader {
             char c = buf[i];
             if (c == delimiter) {
                 if (colIndex < colHeadersSize) {
-                    appendColumn(target, columnHeaders, columnMetaKeys, colIndex, readScalar(buf, tokenStart, i));
+                    if (plan != null) {
+                        assignCell(plan.columns[colIndex], instance, buf, tokenStart, i);
+                    } else {
+                        appendColumn(target, columnHeaders, columnMetaKeys, colIndex, readScalar(buf, tokenStart, i));
+                    }
                 }
                 colIndex++;
                 tokenStart = i + 1;
             } else if (c == '"' || c == '\\') {
                 return parseQuotedRowRemainder(buf, tokenStart, end, columnHeaders, columnMetaKeys, delimiter, target,
-                        colIndex);
+                        plan, instance, colIndex);
             }
         }
         if (tokenStart < end || colIndex < colHeadersSize) {
             if (colIndex < colHeadersSize) {
-                appendColumn(target, columnHeaders, columnMetaKeys, colIndex, readScalar(buf, tokenStart, end));
+                if (plan != null) {
+                    assignCell(plan.columns[colIndex], instance, buf, tokenStart, end);
+                } else {
+                    appendColumn(target, columnHeaders, columnMetaKeys, colIndex, readScalar(buf, tokenStart, end));
+                }
             }
             colIndex++;
         }
@@ -941,7 +1183,8 @@ public class ToonReader {
     }
 
     private int parseQuotedRowRemainder(char[] buf, int start, int end, List<String> columnHeaders,
-                                        String[] columnMetaKeys, char delimiter, JsonObject target, int colIndex) {
+                                        String[] columnMetaKeys, char delimiter, JsonObject target,
+                                        TabularPlan plan, Object instance, int colIndex) {
         int colHeadersSize = columnHeaders.size();
         inlineBuf.setLength(0);
         final StringBuilder current = inlineBuf;
@@ -971,7 +1214,8 @@ public class ToonReader {
 
             if (c == delimiter && !inQuotes) {
                 if (colIndex < colHeadersSize) {
-                    appendColumn(target, columnHeaders, columnMetaKeys, colIndex, readScalar(trimAscii(current)));
+                    emitColumn(target, columnHeaders, columnMetaKeys, plan, instance, colIndex,
+                            readScalar(trimAscii(current)));
                 }
                 colIndex++;
                 current.setLength(0);
@@ -982,7 +1226,8 @@ public class ToonReader {
 
         if (current.length() > 0 || colIndex < colHeadersSize) {
             if (colIndex < colHeadersSize) {
-                appendColumn(target, columnHeaders, columnMetaKeys, colIndex, readScalar(trimAscii(current)));
+                emitColumn(target, columnHeaders, columnMetaKeys, plan, instance, colIndex,
+                        readScalar(trimAscii(current)));
             }
             colIndex++;
         }
@@ -990,6 +1235,15 @@ public class ToonReader {
         return colIndex;
     }
 
+    private void emitColumn(JsonObject target, List<String> columnHeaders, String[] columnMetaKeys, TabularPlan plan,
+                            Object instance, int colIndex, Object value) {
+        if (plan != null) {
+            assignColumn(plan.columns[colIndex], instance, value);
+        } else {
+            appendColumn(target, columnHeaders, columnMetaKeys, colIndex, value);
+        }
+    }
+
     private void appendColumn(JsonObject target, List<String> columnHeaders, String[] columnMetaKeys, int colIndex,
                               Object value) {
         String metaKey = columnMetaKeys == null ? null : columnMetaKeys[colIndex];
@@ -1000,6 +1254,161 @@ public class ToonReader {
         }
     }
 
+    // ========== Tabular Column Plans ==========
+
+    /**
+     * Returns the element class of a {@code List<T>}-style root type when it is eligible for
+     * direct tabular materialization, or {@code null}. Only Java-object mode qualifies; Maps mode
+     * must keep returning JsonObjects.
+     */
+    private Class<?> tabularElementClassFor(Type suggestedType) {
+        if (!(suggestedType instanceof ParameterizedType) || !readOptions.isReturningJavaObjects()) {
+            return null;
+        }
+        Class<?> rawClass = TypeUtilities.getRawClass(suggestedType);
+        if (rawClass == null || !rawClass.isAssignableFrom(ArrayList.class)) {
+            return null;
+        }
+        Type[] typeArgs = ((ParameterizedType) suggestedType).getActualTypeArguments();
+        if (typeArgs.length != 1 || !(typeArgs[0] instanceof Class)) {
+            return null;
+        }
+        return (Class<?>) typeArgs[0];
+    }
+
+    /**
+     * Compile the column-to-field plan for a tabular header, or return {@code null} when the rows
+     * must go through the regular JsonObject + Resolver path. The direct path is only taken for
+     * plain classes (no annotations, factories, custom readers, or coercions) that have a no-arg
+     * constructor, and only when every column is a non-metadata header that maps to a primitive,
+     * primitive wrapper, or String field. Anything else could change resolution semantics.
+     */
+    private TabularPlan buildTabularPlan(Class<?> elementClass, List<String> columnHeaders, String[] columnMetaKeys) {
+        if (columnMetaKeys != null
+                || elementClass.isInterface()
+                || elementClass.isArray()
+                || elementClass.isPrimitive()
+                || elementClass.isEnum()
+                || Modifier.isAbstract(elementClass.getModifiers())
+                || Map.class.isAssignableFrom(elementClass)
+                || Collection.class.isAssignableFrom(elementClass)
+                || Resolver.isPseudoPrimitive(elementClass)) {
+            return null;
+        }
+        if (readOptions.isClassCoerced(elementClass)
+                || readOptions.getClassFactory(elementClass) != null
+                || readOptions.getCustomReader(elementClass) != null
+                || !AnnotationResolver.getMetadata(elementClass).isEmpty()) {
+            return null;
+        }
+
+        ReadOptionsBuilder.InjectorPlan injectorPlan = ReadOptionsBuilder.getInjectorPlan(readOptions, elementClass);
+        int size = columnHeaders.size();
+        ReadOptionsBuilder.FieldAssignmentPlan[] columns = new ReadOptionsBuilder.FieldAssignmentPlan[size];
+        for (int i = 0; i < size; i++) {
+            ReadOptionsBuilder.FieldAssignmentPlan column = injectorPlan.getAssignmentPlan(columnHeaders.get(i));
+            if (column == null || column.rawType == null
+                    || (column.rawType != String.class && !ClassUtilities.isPrimitive(column.rawType))) {
+                return null;
+            }
+            columns[i] = column;
+        }
+
+        Constructor<?> constructor;
+        try {
+            constructor = elementClass.getDeclaredConstructor();
+            constructor.setAccessible(true);
+        } catch (Exception e) {
+            return null;    // No usable no-arg constructor - let the Resolver's instantiation heuristics handle it
+        }
+        if (converter == null) {
+            converter = new Converter(readOptions.getConverterOptions());
+        }
+        return new TabularPlan(constructor, columns);
+    }
+
+    private Object newTabularInstance(TabularPlan plan) {
+        try {
+            return plan.constructor.newInstance();
+        } catch (Exception e) {
+            throw new JsonIoException("Unable to instantiate " + plan.constructor.getDeclaringClass().getName() +
+                    " for tabular row at line " + lineNumber, e);
+        }
+    }
+
+    /**
+     * Assign one unquoted cell. Plain integer tokens headed for a numeric primitive field are
+     * accumulated straight into a {@code long} and injected without boxing; everything else goes
+     * through {@link #readScalar(char[], int, int)} and {@link #assignColumn}.
+     */
+    private void assignCell(ReadOptionsBuilder.FieldAssignmentPlan column, Object instance, char[] buf, int start, int end) {
+        if (column.fastPath == Injector.FAST_PATH_PRIMITIVE_NUMERIC) {
+            while (start < end && buf[start] <= ' ') {
+                start++;
+            }
+            while (end > start && buf[end - 1] <= ' ') {
+                end--;
+            }
+            int pos = start;
+            boolean negative = pos < end && buf[pos] == '-';
+            if (negative) {
+                pos++;
+            }
+            int digits = end - pos;
+            // [-]?(0|[1-9][0-9]{0,17}) fits in a long; "-0" is left to readScalar for double fields.
+            if (digits > 0 && digits <= 18 && (buf[pos] != '0' || (digits == 1 && !negative))) {
+                long value = 0;
+                for (; pos < end; pos++) {
+                    int d = buf[pos] - '0';
+                    if (d < 0 || d > 9) {
+                        break;
+                    }
+                    value = value * 10 + d;
+                }
+                if (pos == end && column.injector.injectLong(instance, negative ? -value : value)) {
+                    return;
+                }
+            }
+        }
+        assignColumn(column, instance, readScalar(buf, start, end));
+    }
+
+    /**
+     * Assign a parsed scalar to a simple field, mirroring ObjectResolver.assignField's handling of
+     * scalars for primitive, wrapper, and String fields.
+     */
+    private void assignColumn(ReadOptionsBuilder.FieldAssignmentPlan column, Object instance, Object value) {
+        Injector injector = column.injector;
+        Class<?> rawType = column.rawType;
+        if (value == null) {
+            injector.inject(instance, rawType.isPrimitive() ? converter.convert(null, rawType) : null);
+            return;
+        }
+        Class<?> valueClass = value.getClass();
+        if (valueClass == Long.class) {
+            if (injector.injectLong(instance, (Long) value)) {
+                return;
+            }
+        } else if (valueClass == Double.class) {
+            if (injector.injectDouble(instance, (Double) value)) {
+                return;
+            }
+        }
+        if (rawType.isAssignableFrom(valueClass)
+                || (column.fastPath == Injector.FAST_PATH_BOOLEAN && valueClass == Boolean.class)) {
+            injector.inject(instance, value);
+            return;
+        }
+        try {
+            injector.inject(instance, converter.convert(value, rawType));
+        } catch (JsonIoException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new JsonIoException("Unable to convert '" + value + "' for field " + injector.getName() +
+                    " at line " + lineNumber, e);
+        }
+    }
+
     /**
      * Read an inline array with a specific delimiter.
      * Returns ArrayList instead of Object[] for better Java interoperability.
@@ -2223,7 +2632,7 @@ public class ToonReader {
         if (!wasQuoted) {
             char first = key.charAt(0);
             // Meta key fast path: only @/$ prefixed keys can be meta
-            if (first == '@' || first == '$') {
+            if ((first == '@' || first == '$') && !rawKeys) {
                 String meta = META_KEY_MAP.get(key);
                 if (meta != null) {
                     return loadMetaField(target, meta, value);
@@ -2280,12 +2689,7 @@ public class ToonReader {
         String typeName = (String) value;
         target.setTypeString(typeName);
 
-        String resolvedName = readOptions.getTypeNameAlias(typeName);
-        if (resolvedName == null) {
-            resolvedName = typeName;
-        }
-
-        Class<?> typeClass = ClassUtilities.forName(resolvedName, classLoader);
+        Class<?> typeClass = typeNameToClass(typeName);
         if (typeClass == null) {
             if (readOptions.isFailOnUnknownType()) {
                 throw new JsonIoException("Unknown type (class) '" + typeName + "' at line " + lineNumber);
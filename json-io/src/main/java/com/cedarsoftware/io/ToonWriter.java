@@ -17,9 +17,9 @@ import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 
 import java.lang.reflect.Method;
 
@@ -77,17 +77,163 @@ public class ToonWriter implements Closeable, Flushable {
     private static final int INDENT_CACHE_SIZE = 32;
     private static final String[] INDENT_CACHE = buildIndentCache();
     private static final int VISITED = 1;
-    private static final int QUOTE_DECISION_CACHE_MAX = 4096;
-    private static final int DECIMAL_FORMAT_CACHE_MAX = 4096;
     private static final int SMALL_LONG_CACHE_LOW = -128;
     private static final int SMALL_LONG_CACHE_HIGH = 16384;
     private static final String[] SMALL_LONG_STRINGS = buildSmallLongStringCache();
-    private static final Map<String, Boolean> SHARED_QUOTE_DECISION_CACHE_COMMA = new ConcurrentHashMap<>(1024);
-    private static final Map<String, Boolean> SHARED_QUOTE_DECISION_CACHE_TAB = new ConcurrentHashMap<>(512);
-    private static final Map<String, Boolean> SHARED_QUOTE_DECISION_CACHE_PIPE = new ConcurrentHashMap<>(512);
-    private static final AtomicInteger SHARED_QUOTE_DECISION_CACHE_SIZE_COMMA = new AtomicInteger();
-    private static final AtomicInteger SHARED_QUOTE_DECISION_CACHE_SIZE_TAB = new AtomicInteger();
-    private static final AtomicInteger SHARED_QUOTE_DECISION_CACHE_SIZE_PIPE = new AtomicInteger();
+
+    // Quote-decision and decimal-format caches. Each shared table is a fixed-size, direct-mapped
+    // array of immutable entries: a miss computes the value and overwrites its slot, so the cache
+    // follows the live working set instead of freezing once full, and there are no locks, CAS
+    // loops, or size counters for writer threads to contend on. Entries publish safely through
+    // their final fields; a racing overwrite only loses a cache entry. Every writer also gets a
+    // small per-thread front table (see FrontCaches) that absorbs the hot keys without touching
+    // shared cache lines at all.
+    private static final int QUOTE_DECISION_CACHE_MASK = 4095;   // 4096 shared slots per delimiter
+    private static final int DECIMAL_FORMAT_CACHE_MASK = 4095;   // 4096 shared slots per width
+    private static final int FRONT_CACHE_MASK = 255;             // 256 per-thread slots per table
+    private static final int MAX_CACHED_QUOTE_LENGTH = 128;      // longer strings: scan is as cheap as equals()
+    private static final QuoteEntry[] SHARED_QUOTE_DECISIONS_COMMA = new QuoteEntry[QUOTE_DECISION_CACHE_MASK + 1];
+    private static final QuoteEntry[] SHARED_QUOTE_DECISIONS_TAB = new QuoteEntry[QUOTE_DECISION_CACHE_MASK + 1];
+    private static final QuoteEntry[] SHARED_QUOTE_DECISIONS_PIPE = new QuoteEntry[QUOTE_DECISION_CACHE_MASK + 1];
+    private static final NumberEntry[] SHARED_DOUBLE_FORMATS = new NumberEntry[DECIMAL_FORMAT_CACHE_MASK + 1];
+    private static final NumberEntry[] SHARED_FLOAT_FORMATS = new NumberEntry[DECIMAL_FORMAT_CACHE_MASK + 1];
+    private static final ThreadLocal<FrontCaches> TL_FRONT_CACHES = ThreadLocal.withInitial(FrontCaches::new);
+    private static final CacheCounters QUOTE_DECISION_STATS = new CacheCounters();
+    private static final CacheCounters DECIMAL_FORMAT_STATS = new CacheCounters();
+
+    private static final class QuoteEntry {
+        final String key;
+        final int hash;
+        final boolean needsQuote;
+
+        QuoteEntry(String key, int hash, boolean needsQuote) {
+            this.key = key;
+            this.hash = hash;
+            this.needsQuote = needsQuote;
+        }
+    }
+
+    private static final class NumberEntry {
+        final long bits;
+        final String text;
+
+        NumberEntry(long bits, String text) {
+            this.bits = bits;
+            this.text = text;
+        }
+    }
+
+    /**
+     * Per-thread front tables, one per quote delimiter and decimal width. Allocated lazily so a
+     * thread that only ever writes comma-delimited TOON carries a single quote table.
+     */
+    private static final class FrontCaches {
+        private QuoteEntry[] quoteComma;
+        private QuoteEntry[] quoteTab;
+        private QuoteEntry[] quotePipe;
+        private NumberEntry[] doubles;
+        private NumberEntry[] floats;
+
+        QuoteEntry[] quoteFor(char delim) {
+            if (delim == '\t') {
+                return quoteTab != null ? quoteTab : (quoteTab = new QuoteEntry[FRONT_CACHE_MASK + 1]);
+            }
+            if (delim == '|') {
+                return quotePipe != null ? quotePipe : (quotePipe = new QuoteEntry[FRONT_CACHE_MASK + 1]);
+            }
+            return quoteComma != null ? quoteComma : (quoteComma = new QuoteEntry[FRONT_CACHE_MASK + 1]);
+        }
+
+        NumberEntry[] doubles() {
+            return doubles != null ? doubles : (doubles = new NumberEntry[FRONT_CACHE_MASK + 1]);
+        }
+
+        NumberEntry[] floats() {
+            return floats != null ? floats : (floats = new NumberEntry[FRONT_CACHE_MASK + 1]);
+        }
+    }
+
+    /**
+     * Process-wide hit/miss totals. Writers count into plain instance fields and add them here once
+     * per {@link #write(Object)}, so the hot path never touches these adders.
+     */
+    private static final class CacheCounters {
+        final LongAdder frontHits = new LongAdder();
+        final LongAdder sharedHits = new LongAdder();
+        final LongAdder misses = new LongAdder();
+
+        void add(int front, int shared, int missed) {
+            if (front != 0) {
+                frontHits.add(front);
+            }
+            if (shared != 0) {
+                sharedHits.add(shared);
+            }
+            if (missed != 0) {
+                misses.add(missed);
+            }
+        }
+
+        CacheStats snapshot() {
+            return new CacheStats(frontHits.sum(), sharedHits.sum(), misses.sum());
+        }
+
+        void reset() {
+            frontHits.reset();
+            sharedHits.reset();
+            misses.reset();
+        }
+    }
+
+    /**
+     * Point-in-time hit/miss counts for one of ToonWriter's shared format caches.
+     *
+     * @see #getQuoteDecisionCacheStats()
+     * @see #getDecimalFormatCacheStats()
+     */
+    public static final class CacheStats {
+        private final long frontHits;
+        private final long sharedHits;
+        private final long misses;
+
+        CacheStats(long frontHits, long sharedHits, long misses) {
+            this.frontHits = frontHits;
+            this.sharedHits = sharedHits;
+            this.misses = misses;
+        }
+
+        /** @return lookups answered by the calling thread's front table */
+        public long getFrontHits() {
+            return frontHits;
+        }
+
+        /** @return lookups that missed the front table but hit the shared table */
+        public long getSharedHits() {
+            return sharedHits;
+        }
+
+        /** @return lookups that had to compute the value */
+        public long getMisses() {
+            return misses;
+        }
+
+        /** @return total lookups (hits plus misses) */
+        public long getLookups() {
+            return frontHits + sharedHits + misses;
+        }
+
+        /** @return fraction of lookups answered from either table, or 0.0 when nothing was looked up */
+        public double getHitRate() {
+            long lookups = getLookups();
+            return lookups == 0 ? 0.0 : (double) (frontHits + sharedHits) / lookups;
+        }
+
+        @Override
+        public String toString() {
+            return "CacheStats{frontHits=" + frontHits + ", sharedHits=" + sharedHits + ", misses=" + misses
+                    + ", hitRate=" + String.format("%.4f", getHitRate()) + "}";
+        }
+    }
 
     // Per-delimiter lookup tables: true at index c means char c requires quoting.
     // Merges control-char check (c < 32) and special-char branches into a single array access.
@@ -114,8 +260,8 @@ public class ToonWriter implements Closeable, Flushable {
     /**
      * Compute whether a POJO field key needs TOON quoting, given the target WriteOptions.
      * Called once at {@link WriteOptionsBuilder.WriteFieldPlan} build time so the runtime
-     * write path can read a precomputed boolean instead of probing the shared
-     * quoteDecisionCache (a {@link ConcurrentHashMap}) on every field. Captures the complete
+     * write path can read a precomputed boolean instead of probing the quote-decision
+     * cache on every field. Captures the complete
      * decision: empty check, dot-in-key check (when keyFolding is off), reserved-literal
      * check, and the single-pass quote scan against the delimiter-appropriate lookup table.
      */
@@ -153,8 +299,6 @@ public class ToonWriter implements Closeable, Flushable {
         }
         return false;
     }
-    private static final Map<Long, String> SHARED_DOUBLE_FORMAT_CACHE = new ConcurrentHashMap<>(1024);
-    private static final Map<Integer, String> SHARED_FLOAT_FORMAT_CACHE = new ConcurrentHashMap<>(512);
     private static final int COUNT_MARKER_CACHE_SIZE = 256;
     private static final String[] COUNT_MARKER_CACHE_COMMA = buildCountMarkerCache(',');
     private static final String[] COUNT_MARKER_CACHE_TAB = buildCountMarkerCache('\t');
@@ -186,8 +330,17 @@ public class ToonWriter implements Closeable, Flushable {
     private final WriteOptions writeOptions;
     private final Writer out;
     private final char delimiter;  // Default comma, configurable to pipe or tab
-    private final Map<String, Boolean> quoteDecisionCache;
-    private final AtomicInteger quoteDecisionCacheSize;
+    private final QuoteEntry[] sharedQuoteDecisions;
+    private final QuoteEntry[] frontQuoteDecisions;
+    private final NumberEntry[] frontDoubleFormats;
+    private final NumberEntry[] frontFloatFormats;
+    // Per-writer cache counters, published to QUOTE_DECISION_STATS / DECIMAL_FORMAT_STATS after each write()
+    private int quoteFrontHits;
+    private int quoteSharedHits;
+    private int quoteMisses;
+    private int decimalFrontHits;
+    private int decimalSharedHits;
+    private int decimalMisses;
     private final boolean[] mustQuoteChar;  // Per-delimiter lookup table for single-pass quoting scan
     private final boolean cycleSupport;
     private final boolean skipNullFields;
@@ -269,18 +422,19 @@ public class ToonWriter implements Closeable, Flushable {
         this.out = out;
         this.delimiter = this.writeOptions.getToonDelimiter();
         if (delimiter == '\t') {
-            this.quoteDecisionCache = SHARED_QUOTE_DECISION_CACHE_TAB;
-            this.quoteDecisionCacheSize = SHARED_QUOTE_DECISION_CACHE_SIZE_TAB;
+            this.sharedQuoteDecisions = SHARED_QUOTE_DECISIONS_TAB;
             this.mustQuoteChar = MUST_QUOTE_TAB;
         } else if (delimiter == '|') {
-            this.quoteDecisionCache = SHARED_QUOTE_DECISION_CACHE_PIPE;
-            this.quoteDecisionCacheSize = SHARED_QUOTE_DECISION_CACHE_SIZE_PIPE;
+            this.sharedQuoteDecisions = SHARED_QUOTE_DECISIONS_PIPE;
             this.mustQuoteChar = MUST_QUOTE_PIPE;
         } else {
-            this.quoteDecisionCache = SHARED_QUOTE_DECISION_CACHE_COMMA;
-            this.quoteDecisionCacheSize = SHARED_QUOTE_DECISION_CACHE_SIZE_COMMA;
+            this.sharedQuoteDecisions = SHARED_QUOTE_DECISIONS_COMMA;
             this.mustQuoteChar = MUST_QUOTE_COMMA;
         }
+        FrontCaches front = TL_FRONT_CACHES.get();
+        this.frontQuoteDecisions = front.quoteFor(delimiter);
+        this.frontDoubleFormats = front.doubles();
+        this.frontFloatFormats = front.floats();
         this.cycleSupport = this.writeOptions.isCycleSupport();
         this.skipNullFields = this.writeOptions.isSkipNullFields();
         this.toonKeyFolding = this.writeOptions.isToonKeyFolding();
@@ -362,9 +516,123 @@ public class ToonWriter implements Closeable, Flushable {
             if (objsReferenced != null) objsReferenced.clear();
             if (activePath != null) activePath.clear();
             nextIdentity = 1;
+            publishCacheCounters();
+        }
+    }
+
+    private void publishCacheCounters() {
+        QUOTE_DECISION_STATS.add(quoteFrontHits, quoteSharedHits, quoteMisses);
+        DECIMAL_FORMAT_STATS.add(decimalFrontHits, decimalSharedHits, decimalMisses);
+        quoteFrontHits = quoteSharedHits = quoteMisses = 0;
+        decimalFrontHits = decimalSharedHits = decimalMisses = 0;
+    }
+
+    // ========== Streaming (JsonIo.transcode) ==========
+
+    /**
+     * Start a document whose root object is written one field at a time ({@link #streamField},
+     * {@link #streamObjectFieldStart}, {@link #streamObjectEnd}) instead of through {@link #write(Object)}.
+     * Field values are freshly parsed and never shared, so no reference trace is run.
+     */
+    void beginStream() {
+        depth = 0;
+        nextIdentity = 1;
+        if (cycleSupport) {
+            if (objVisited == null) {
+                objVisited = new IdentityIntMap(256);
+                objsReferenced = new IdentityIntMap(256);
+                traceStack = new ArrayDeque<>(256);
+            } else {
+                objVisited.clear();
+                objsReferenced.clear();
+            }
+        } else if (activePath == null) {
+            activePath = new IdentityHashMap<>();
+        } else {
+            activePath.clear();
         }
     }
 
+    /**
+     * Write one {@code key: value} entry of the object currently being streamed, exactly as
+     * {@link #writeMap} would write it.
+     */
+    void streamField(boolean first, String key, Object value) throws IOException {
+        if (!first) {
+            out.write('\n');
+        }
+        writeIndent();
+        writeFieldEntry(key, value, needsQuotingForMapKey(key));
+    }
+
+    /**
+     * Write {@code key:} for a non-empty nested object whose fields follow through {@link #streamField}.
+     * Must be balanced by {@link #streamObjectEnd()}.
+     */
+    void streamObjectFieldStart(boolean first, String key) throws IOException {
+        if (!first) {
+            out.write('\n');
+        }
+        writeIndent();
+        writeKeyStringKnown(key, needsQuotingForMapKey(key));
+        out.write(':');
+        out.write('\n');
+        depth++;
+    }
+
+    void streamObjectEnd() {
+        depth--;
+    }
+
+    void endStream() throws IOException {
+        try {
+            out.flush();
+        } finally {
+            if (objVisited != null) objVisited.clear();
+            if (objsReferenced != null) objsReferenced.clear();
+            if (activePath != null) activePath.clear();
+            nextIdentity = 1;
+            publishCacheCounters();
+        }
+    }
+
+    /**
+     * Key folding collapses single-key object chains, so a nested object has to be seen whole
+     * before it can be written; a streaming caller must hand those over as values.
+     */
+    boolean isKeyFolding() {
+        return toonKeyFolding;
+    }
+
+    /**
+     * Returns process-wide hit/miss counts for the quote-decision cache (whether a String value or
+     * Map key needs TOON quoting). Counts are published at the end of each {@link #write(Object)}.
+     *
+     * @return a snapshot of the quote-decision cache counters
+     */
+    public static CacheStats getQuoteDecisionCacheStats() {
+        return QUOTE_DECISION_STATS.snapshot();
+    }
+
+    /**
+     * Returns process-wide hit/miss counts for the double/float text-format cache. Counts are
+     * published at the end of each {@link #write(Object)}.
+     *
+     * @return a snapshot of the decimal-format cache counters
+     */
+    public static CacheStats getDecimalFormatCacheStats() {
+        return DECIMAL_FORMAT_STATS.snapshot();
+    }
+
+    /**
+     * Resets the counters reported by {@link #getQuoteDecisionCacheStats()} and
+     * {@link #getDecimalFormatCacheStats()}. Cached entries are kept.
+     */
+    public static void resetCacheStats() {
+        QUOTE_DECISION_STATS.reset();
+        DECIMAL_FORMAT_STATS.reset();
+    }
+
     /**
      * Write any value - dispatches to appropriate handler based on type.
      * Uses ClassValue cache for O(1) type dispatch (avoids repeated instanceof + Converter checks).
@@ -687,14 +955,34 @@ public class ToonWriter implements Closeable, Flushable {
             return true;  // Empty strings must be quoted
         }
 
-        // Check cache FIRST - covers all cases including reserved literals.
-        Boolean cached = quoteDecisionCache.get(str);
-        if (cached != null) {
-            return cached;
+        if (len > MAX_CACHED_QUOTE_LENGTH) {
+            return scanNeedsQuoting(str, len);
+        }
+
+        // Check caches FIRST (per-thread front, then shared) - covers all cases including reserved literals.
+        int h = str.hashCode();
+        h ^= h >>> 16;
+        final QuoteEntry[] front = frontQuoteDecisions;
+        final int frontSlot = h & FRONT_CACHE_MASK;
+        QuoteEntry entry = front[frontSlot];
+        if (entry != null && entry.hash == h && (entry.key == str || entry.key.equals(str))) {
+            quoteFrontHits++;
+            return entry.needsQuote;
+        }
+        final QuoteEntry[] shared = sharedQuoteDecisions;
+        final int sharedSlot = h & QUOTE_DECISION_CACHE_MASK;
+        entry = shared[sharedSlot];
+        if (entry != null && entry.hash == h && (entry.key == str || entry.key.equals(str))) {
+            quoteSharedHits++;
+            front[frontSlot] = entry;
+            return entry.needsQuote;
         }
 
+        quoteMisses++;
         boolean result = scanNeedsQuoting(str, len);
-        cacheQuoteDecision(str, result ? Boolean.TRUE : Boolean.FALSE);
+        entry = new QuoteEntry(str, h, result);
+        shared[sharedSlot] = entry;
+        front[frontSlot] = entry;
         return result;
     }
 
@@ -743,15 +1031,6 @@ public class ToonWriter implements Closeable, Flushable {
         return false;
     }
 
-    private void cacheQuoteDecision(String str, Boolean decision) {
-        if (quoteDecisionCacheSize.get() < QUOTE_DECISION_CACHE_MAX) {
-            Boolean prior = quoteDecisionCache.putIfAbsent(str, decision);
-            if (prior == null) {
-                quoteDecisionCacheSize.incrementAndGet();
-            }
-        }
-    }
-
     /**
      * Check if a string looks like a number (needs quoting to preserve as string).
      */
@@ -887,69 +1166,94 @@ public class ToonWriter implements Closeable, Flushable {
      * - Whole numbers have no decimal point
      */
     private String formatDecimalNumber(double d) {
-        long bits = Double.doubleToLongBits(d);
-        String cached = SHARED_DOUBLE_FORMAT_CACHE.get(bits);
-        if (cached != null) {
-            return cached;
-        }
-
-        String formatted;
+        final long bits = Double.doubleToLongBits(d);
+        final int h = numberHash(bits);
+        final NumberEntry[] front = frontDoubleFormats;
+        final int frontSlot = h & FRONT_CACHE_MASK;
+        NumberEntry entry = front[frontSlot];
+        if (entry != null && entry.bits == bits) {
+            decimalFrontHits++;
+            return entry.text;
+        }
+        final int sharedSlot = h & DECIMAL_FORMAT_CACHE_MASK;
+        entry = SHARED_DOUBLE_FORMATS[sharedSlot];
+        if (entry != null && entry.bits == bits) {
+            decimalSharedHits++;
+            front[frontSlot] = entry;
+            return entry.text;
+        }
+
+        decimalMisses++;
+        String formatted = null;
         if (d >= Long.MIN_VALUE && d <= Long.MAX_VALUE) {
             long l = (long) d;
             if (d == l) {
                 formatted = toCachedLongString(l);
-                if (SHARED_DOUBLE_FORMAT_CACHE.size() < DECIMAL_FORMAT_CACHE_MAX) {
-                    SHARED_DOUBLE_FORMAT_CACHE.putIfAbsent(bits, formatted);
-                }
-                return formatted;
             }
         }
 
-        String text = Double.toString(d);
-        if (text.indexOf('E') < 0 && text.indexOf('e') < 0) {
-            formatted = text.endsWith(".0") ? text.substring(0, text.length() - 2) : text;
-        } else {
-            formatted = formatBigDecimal(BigDecimal.valueOf(d));
+        if (formatted == null) {
+            String text = Double.toString(d);
+            if (text.indexOf('E') < 0 && text.indexOf('e') < 0) {
+                formatted = text.endsWith(".0") ? text.substring(0, text.length() - 2) : text;
+            } else {
+                formatted = formatBigDecimal(BigDecimal.valueOf(d));
+            }
         }
 
-        if (SHARED_DOUBLE_FORMAT_CACHE.size() < DECIMAL_FORMAT_CACHE_MAX) {
-            SHARED_DOUBLE_FORMAT_CACHE.putIfAbsent(bits, formatted);
-        }
+        entry = new NumberEntry(bits, formatted);
+        SHARED_DOUBLE_FORMATS[sharedSlot] = entry;
+        front[frontSlot] = entry;
         return formatted;
     }
 
+    private static int numberHash(long bits) {
+        int h = (int) (bits ^ (bits >>> 32));
+        return h ^ (h >>> 16);
+    }
+
     /**
      * Float fast path equivalent of {@link #formatDecimalNumber(double)}.
      */
     private String formatDecimalNumber(float f) {
-        int bits = Float.floatToIntBits(f);
-        String cached = SHARED_FLOAT_FORMAT_CACHE.get(bits);
-        if (cached != null) {
-            return cached;
-        }
-
-        String formatted;
+        final int bits = Float.floatToIntBits(f);
+        final int h = numberHash(bits);
+        final NumberEntry[] front = frontFloatFormats;
+        final int frontSlot = h & FRONT_CACHE_MASK;
+        NumberEntry entry = front[frontSlot];
+        if (entry != null && entry.bits == bits) {
+            decimalFrontHits++;
+            return entry.text;
+        }
+        final int sharedSlot = h & DECIMAL_FORMAT_CACHE_MASK;
+        entry = SHARED_FLOAT_FORMATS[sharedSlot];
+        if (entry != null && entry.bits == bits) {
+            decimalSharedHits++;
+            front[frontSlot] = entry;
+            return entry.text;
+        }
+
+        decimalMisses++;
+        String formatted = null;
         if (f >= Long.MIN_VALUE && f <= Long.MAX_VALUE) {
             long l = (long) f;
             if (f == l) {
                 formatted = toCachedLongString(l);
-                if (SHARED_FLOAT_FORMAT_CACHE.size() < DECIMAL_FORMAT_CACHE_MAX) {
-                    SHARED_FLOAT_FORMAT_CACHE.putIfAbsent(bits, formatted);
-                }
-                return formatted;
             }
         }
 
-        String text = Float.toString(f);
-        if (text.indexOf('E') < 0 && text.indexOf('e') < 0) {
-            formatted = text.endsWith(".0") ? text.substring(0, text.length() - 2) : text;
-        } else {
-            formatted = formatBigDecimal(new BigDecimal(text));
+        if (formatted == null) {
+            String text = Float.toString(f);
+            if (text.indexOf('E') < 0 && text.indexOf('e') < 0) {
+                formatted = text.endsWith(".0") ? text.substring(0, text.length() - 2) : text;
+            } else {
+                formatted = formatBigDecimal(new BigDecimal(text));
+            }
         }
 
-        if (SHARED_FLOAT_FORMAT_CACHE.size() < DECIMAL_FORMAT_CACHE_MAX) {
-            SHARED_FLOAT_FORMAT_CACHE.putIfAbsent(bits, formatted);
-        }
+        entry = new NumberEntry(bits, formatted);
+        SHARED_FLOAT_FORMATS[sharedSlot] = entry;
+        front[frontSlot] = entry;
         return formatted;
     }
 
@@ -133,7 +133,7 @@ public class WriteOptionsBuilder {
     private static final Function<Class<?>, Map<String, String>> CONCURRENT_MAP_FACTORY = cls -> new ConcurrentHashMap<>();
 
     static {
-        ReadOptionsBuilder.loadBaseAliasMappings(WriteOptionsBuilder::addPermanentAlias);
+        ReadOptionsBuilder.loadBaseAliasMappings(BASE_ALIAS_MAPPINGS::put);
         loadBaseWriters();
         loadBaseNonRefs();
         loadBaseNotCustomWrittenClasses();
@@ -2605,7 +2605,7 @@ public class WriteOptionsBuilder {
      * @return Map<Class < ?>, JsonClassWriter> containing the resolved Class -> JsonClassWriter instance.
      */
     private static void loadBaseWriters() {
-        Map<String, String> map = MetaUtils.loadMapDefinition("config/customWriters.txt");
+        Map<String, String> map = ConfigTables.loadMapDefinition("config/customWriters.txt");
         ClassLoader classLoader = ClassUtilities.getClassLoader(WriteOptionsBuilder.class);
 
         for (Map.Entry<String, String> entry : map.entrySet()) {
@@ -2634,7 +2634,7 @@ public class WriteOptionsBuilder {
      * Load the list of classes that are intended to be treated as non-referenceable, immutable classes.
      */
     private static void loadBaseNonRefs() {
-        Set<String> set = MetaUtils.loadSetDefinition("config/nonRefs.txt");
+        Set<String> set = ConfigTables.loadSetDefinition("config/nonRefs.txt");
         ClassLoader classLoader = ClassUtilities.getClassLoader(WriteOptionsBuilder.class);
         for (String className : set) {
             Class<?> clazz = ClassUtilities.forName(className, classLoader);
@@ -2652,7 +2652,7 @@ public class WriteOptionsBuilder {
      * you don't want it to be used for a subclass, you can add the subclass to this list.
      */
     private static void loadBaseNotCustomWrittenClasses() {
-        Set<String> set = MetaUtils.loadSetDefinition("config/notCustomWritten.txt");
+        Set<String> set = ConfigTables.loadSetDefinition("config/notCustomWritten.txt");
         ClassLoader classLoader = ClassUtilities.getClassLoader(WriteOptionsBuilder.class);
         for (String className : set) {
             Class<?> clazz = ClassUtilities.forName(className, classLoader);
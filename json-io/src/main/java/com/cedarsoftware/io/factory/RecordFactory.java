@@ -1,14 +1,17 @@
 package com.cedarsoftware.io.factory;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
-import java.util.ArrayList;
+import java.util.Arrays;
 
 import com.cedarsoftware.io.ClassFactory;
 import com.cedarsoftware.io.JsonClassReader;
 import com.cedarsoftware.io.JsonIoException;
 import com.cedarsoftware.io.JsonObject;
 import com.cedarsoftware.io.Resolver;
+import com.cedarsoftware.util.Converter;
 import com.cedarsoftware.util.ReflectionUtils;
 import com.cedarsoftware.util.SystemUtilities;
 
@@ -31,6 +34,16 @@ import com.cedarsoftware.util.SystemUtilities;
  */
 public class RecordFactory implements ClassFactory {
     private static final boolean JAVA_16_OR_ABOVE = SystemUtilities.isJavaVersionAtLeast(16, 0);
+    private static final ClassValue<RecordPlan> PLANS = new ClassValue<RecordPlan>() {
+        @Override
+        protected RecordPlan computeValue(Class<?> type) {
+            try {
+                return RecordPlan.build(type);
+            } catch (ReflectiveOperationException e) {
+                throw new PlanException(e);
+            }
+        }
+    };
 
     public RecordFactory() {}
 
@@ -40,36 +53,7 @@ public class RecordFactory implements ClassFactory {
             throw new JsonIoException("Record de-serialization requires Java 16 or higher [current Java version: " + System.getProperty("java.version") + "]");
         }
         try {
-            ArrayList<Class<?>> lParameterTypes = new ArrayList<>(jsonObj.size());
-            ArrayList<Object> lParameterValues = new ArrayList<>(jsonObj.size());
-
-            Method getRecordComponents = ReflectionUtils.getMethod(Class.class, "getRecordComponents");
-            if (getRecordComponents == null) {
-                throw new NoSuchMethodException("getRecordComponents method not found - Java 16+ required for Record support");
-            }
-            Object[] recordComponents = (Object[]) getRecordComponents.invoke(c);
-            for (Object recordComponent : recordComponents) {
-                Class<?> type = (Class<?>) ReflectionUtils.call(recordComponent, "getType");
-                lParameterTypes.add(type);
-
-                String parameterName = (String) ReflectionUtils.call(recordComponent, "getName");
-                JsonObject paramValueJsonObj = new JsonObject();
-
-                paramValueJsonObj.setType(type);
-                paramValueJsonObj.setValue(jsonObj.get(parameterName));
-
-                if (resolver.valueToTarget(paramValueJsonObj)) {
-                    lParameterValues.add(paramValueJsonObj.getTarget());
-                } else {
-                    lParameterValues.add(paramValueJsonObj.getValue());
-                }
-            }
-
-            Constructor<?> constructor = ReflectionUtils.getConstructor(c, lParameterTypes.toArray(new Class[0]));
-            if (constructor == null) {
-                throw new NoSuchMethodException("Record constructor not found for class: " + c.getName() + " with parameter types: " + lParameterTypes);
-            }
-            return constructor.newInstance(lParameterValues.toArray(new Object[0]));
+            return getPlan(c).newInstance(jsonObj, resolver);
         } catch (JsonIoException e) {
             throw e; // Re-throw JsonIoException as-is
         } catch (NoSuchMethodException e) {
@@ -90,40 +74,7 @@ public class RecordFactory implements ClassFactory {
             }
             try {
                 JsonObject jsonObj = (JsonObject) o;
-
-                ArrayList<Class<?>> lParameterTypes = new ArrayList<>(jsonObj.size());
-                ArrayList<Object> lParameterValues = new ArrayList<>(jsonObj.size());
-
-                Class<?> c = jsonObj.getRawType();
-                // the record components are per definition in the constructor parameter order
-                // we implement this with reflection due to code compatibility Java<16
-                Method getRecordComponents = ReflectionUtils.getMethod(Class.class, "getRecordComponents");
-                if (getRecordComponents == null) {
-                    throw new NoSuchMethodException("getRecordComponents method not found - Java 16+ required for Record support");
-                }
-                Object[] recordComponents = (Object[]) getRecordComponents.invoke(c);
-                for (Object recordComponent : recordComponents) {
-                    Class<?> type = (Class<?>) ReflectionUtils.call(recordComponent, "getType");
-                    lParameterTypes.add(type);
-
-                    String parameterName = (String) ReflectionUtils.call(recordComponent, "getName");
-                    JsonObject paramValueJsonObj = new JsonObject();
-
-                    paramValueJsonObj.setType(type);
-                    paramValueJsonObj.setValue(jsonObj.get(parameterName));
-
-                    if (resolver.valueToTarget(paramValueJsonObj)) {
-                        lParameterValues.add(paramValueJsonObj.getTarget());
-                    } else {
-                        lParameterValues.add(paramValueJsonObj.getValue());
-                    }
-                }
-
-                Constructor<?> constructor = ReflectionUtils.getConstructor(c, lParameterTypes.toArray(new Class[0]));
-                if (constructor == null) {
-                    throw new NoSuchMethodException("Record constructor not found for class: " + c.getName() + " with parameter types: " + lParameterTypes);
-                }
-                return constructor.newInstance(lParameterValues.toArray(new Object[0]));
+                return getPlan(jsonObj.getRawType()).newInstance(jsonObj, resolver);
             } catch (JsonIoException e) {
                 throw e; // Re-throw JsonIoException as-is
             } catch (ClassCastException e) {
@@ -142,4 +93,142 @@ public class RecordFactory implements ClassFactory {
     public boolean isObjectFinal() {
         return true;
     }
+
+    private static RecordPlan getPlan(Class<?> c) throws ReflectiveOperationException {
+        try {
+            return PLANS.get(c);
+        } catch (PlanException e) {
+            throw e.reflective;
+        }
+    }
+
+    /**
+     * Carries a checked reflection failure out of {@link ClassValue#computeValue}. Nothing is cached
+     * for the class, so the next lookup retries and reports the same error.
+     */
+    private static final class PlanException extends RuntimeException {
+        final ReflectiveOperationException reflective;
+
+        PlanException(ReflectiveOperationException reflective) {
+            super(reflective.getMessage(), reflective, false, false);
+            this.reflective = reflective;
+        }
+    }
+
+    /**
+     * Everything about a record class that does not depend on the JSON being read: component names and types
+     * (in canonical-constructor order), how each component value is converted, and the canonical constructor
+     * as a spread {@link MethodHandle}. Built once per class, so the per-instance work is one map lookup and
+     * (at most) one conversion per component plus a single constructor invocation.
+     */
+    static final class RecordPlan {
+        /** Value is passed to the constructor as-is (already resolved objects, collections, maps, enums...). */
+        private static final int PASS_THROUGH = 0;
+        /** Pseudo-primitive component (String-convertible): plain JSON scalars go straight through the Converter. */
+        private static final int SCALAR = 1;
+        /** Array of pseudo-primitives: built via {@link Resolver#valueToTarget(JsonObject)}. */
+        private static final int VIA_RESOLVER = 2;
+
+        private final String[] names;
+        private final Class<?>[] types;
+        private final int[] strategies;
+        private final MethodHandle constructorHandle;    // (Object[])Object, or null if not accessible
+        private final Constructor<?> constructor;
+
+        private RecordPlan(String[] names, Class<?>[] types, int[] strategies, Constructor<?> constructor, MethodHandle constructorHandle) {
+            this.names = names;
+            this.types = types;
+            this.strategies = strategies;
+            this.constructor = constructor;
+            this.constructorHandle = constructorHandle;
+        }
+
+        static RecordPlan build(Class<?> c) throws ReflectiveOperationException {
+            // the record components are per definition in the constructor parameter order
+            // we implement this with reflection due to code compatibility Java<16
+            Method getRecordComponents = ReflectionUtils.getMethod(Class.class, "getRecordComponents");
+            if (getRecordComponents == null) {
+                throw new NoSuchMethodException("getRecordComponents method not found - Java 16+ required for Record support");
+            }
+            Object[] recordComponents = (Object[]) getRecordComponents.invoke(c);
+            if (recordComponents == null) {
+                throw new NoSuchMethodException("Record components not found for class: " + c.getName() + " (not a record)");
+            }
+            int count = recordComponents.length;
+            String[] names = new String[count];
+            Class<?>[] types = new Class<?>[count];
+            int[] strategies = new int[count];
+            for (int i = 0; i < count; i++) {
+                types[i] = (Class<?>) ReflectionUtils.call(recordComponents[i], "getType");
+                names[i] = (String) ReflectionUtils.call(recordComponents[i], "getName");
+                strategies[i] = strategyFor(types[i]);
+            }
+
+            Constructor<?> constructor = ReflectionUtils.getConstructor(c, types);
+            if (constructor == null) {
+                throw new NoSuchMethodException("Record constructor not found for class: " + c.getName() + " with parameter types: " + Arrays.toString(types));
+            }
+            MethodHandle handle;
+            try {
+                MethodHandle mh = MethodHandles.lookup().unreflectConstructor(constructor);
+                handle = mh.asType(mh.type().generic()).asSpreader(Object[].class, count);
+            } catch (IllegalAccessException | RuntimeException e) {
+                handle = null;    // e.g. module-encapsulated record: keep using Constructor.newInstance()
+            }
+            return new RecordPlan(names, types, strategies, constructor, handle);
+        }
+
+        private static int strategyFor(Class<?> type) {
+            if (type.isArray()) {
+                return isPseudoPrimitive(type.getComponentType()) ? VIA_RESOLVER : PASS_THROUGH;
+            }
+            return isPseudoPrimitive(type) ? SCALAR : PASS_THROUGH;
+        }
+
+        /** Mirrors Resolver.isPseudoPrimitive(), which is not visible from this package. */
+        private static boolean isPseudoPrimitive(Class<?> type) {
+            return !Enum.class.isAssignableFrom(type) && Converter.isSimpleTypeConversionSupported(String.class, type);
+        }
+
+        Object newInstance(JsonObject jsonObj, Resolver resolver) throws Exception {
+            final int count = names.length;
+            final Object[] args = new Object[count];
+            for (int i = 0; i < count; i++) {
+                Object value = jsonObj.get(names[i]);
+                int strategy = strategies[i];
+                if (strategy == SCALAR && value != null && !(value instanceof JsonObject)) {
+                    args[i] = resolver.getConverter().convert(value, types[i]);
+                } else if (strategy == PASS_THROUGH) {
+                    args[i] = value;
+                } else {
+                    args[i] = viaResolver(types[i], value, resolver);
+                }
+            }
+
+            if (constructorHandle == null) {
+                return constructor.newInstance(args);
+            }
+            try {
+                return (Object) constructorHandle.invokeExact(args);
+            } catch (Exception | Error e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new JsonIoException("Unexpected error invoking Record constructor: " + constructor, t);
+            }
+        }
+
+        private static Object viaResolver(Class<?> type, Object value, Resolver resolver) {
+            JsonObject paramValueJsonObj;
+            if (value instanceof Object[]) {
+                // raw JSON array: valueToTarget() reads the elements from @items
+                paramValueJsonObj = JsonObject.newArrayInstance();
+                paramValueJsonObj.setItems((Object[]) value);
+            } else {
+                paramValueJsonObj = new JsonObject();
+                paramValueJsonObj.setValue(value);
+            }
+            paramValueJsonObj.setType(type);
+            return resolver.valueToTarget(paramValueJsonObj) ? paramValueJsonObj.getTarget() : paramValueJsonObj.getValue();
+        }
+    }
 }
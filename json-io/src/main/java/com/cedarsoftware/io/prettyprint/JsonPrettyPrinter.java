@@ -1,5 +1,12 @@
 package com.cedarsoftware.io.prettyprint;
 
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.Writer;
+import java.util.Arrays;
+
+import com.cedarsoftware.io.JsonIoException;
 import com.cedarsoftware.io.WriteOptions;
 import com.cedarsoftware.io.WriteOptionsBuilder;
 
@@ -55,80 +62,253 @@ public class JsonPrettyPrinter {
         // Optimize: Pre-size StringBuilder to reduce reallocations using configurable multiplier
         double bufferMultiplier = writeOptions.getBufferSizeMultiplier();
         StringBuilder prettyJson = new StringBuilder((int) (json.length() * bufferMultiplier));
-        int indentLevel = 0;
-        boolean inString = false;
-        boolean escape = false;
+        try {
+            new Formatter(new StringReader(json), new StringBuilderSink(prettyJson), writeOptions.getIndentationSize(), true).run();
+        } catch (IOException e) {
+            throw new JsonIoException("Unable to pretty-print JSON", e);    // not reachable for in-memory reader/writer
+        }
+        return prettyJson.toString();
+    }
 
-        for (int i = 0; i < json.length(); i++) {
-            char currentChar = json.charAt(i);
+    /**
+     * Pretty-prints JSON read from a Reader onto a Writer, streaming through fixed-size char buffers so
+     * memory use does not depend on the size of the input. Output is identical to
+     * {@link #prettyPrint(String, WriteOptions)} for the same (non-primitive) input. The input is not
+     * validated; it is re-indented token by token. Neither stream is closed; the Writer is flushed.
+     *
+     * @param json Reader supplying JSON.
+     * @param out Writer receiving the pretty-printed JSON.
+     * @param writeOptions WriteOptions containing indentation configuration; if null, defaults are used.
+     * @throws JsonIoException if reading or writing fails.
+     */
+    public static void prettyPrint(Reader json, Writer out, WriteOptions writeOptions) {
+        if (writeOptions == null) {
+            writeOptions = WriteOptionsBuilder.getDefaultWriteOptions();
+        }
+        try {
+            new Formatter(json, out, writeOptions.getIndentationSize(), true).run();
+            out.flush();
+        } catch (IOException e) {
+            throw new JsonIoException("Unable to pretty-print JSON", e);
+        }
+    }
 
-            if (escape) {
-                prettyJson.append(currentChar);
-                escape = false;
-                continue;
-            }
+    /**
+     * Removes all whitespace outside of JSON strings.
+     *
+     * @param json The JSON string.
+     * @return The minified JSON string, or the input if it is null or empty.
+     */
+    public static String minify(String json) {
+        if (json == null || json.isEmpty()) {
+            return json;
+        }
+        StringBuilder minified = new StringBuilder(json.length());
+        try {
+            new Formatter(new StringReader(json), new StringBuilderSink(minified), 0, false).run();
+        } catch (IOException e) {
+            throw new JsonIoException("Unable to minify JSON", e);    // not reachable for in-memory reader/writer
+        }
+        return minified.toString();
+    }
 
-            if (currentChar == '\\') {
-                escape = true;
-                prettyJson.append(currentChar);
-                continue;
-            }
+    /**
+     * Removes all whitespace outside of JSON strings while streaming from a Reader to a Writer through
+     * fixed-size char buffers. Neither stream is closed; the Writer is flushed.
+     *
+     * @param json Reader supplying JSON.
+     * @param out Writer receiving the minified JSON.
+     * @throws JsonIoException if reading or writing fails.
+     */
+    public static void minify(Reader json, Writer out) {
+        try {
+            new Formatter(json, out, 0, false).run();
+            out.flush();
+        } catch (IOException e) {
+            throw new JsonIoException("Unable to minify JSON", e);
+        }
+    }
 
-            if (currentChar == '\"') {
-                inString = !inString;
-                prettyJson.append(currentChar);
-                continue;
-            }
+    /**
+     * Single-pass re-indenter shared by the String and stream entry points. The String version used
+     * to peek forward and backward in the input for empty-container and trailing-comma checks; here
+     * those decisions are deferred until the next significant character arrives, so no lookahead
+     * beyond the current buffer is needed. Runs of string content are copied in bulk.
+     */
+    private static final class Formatter {
+        private static final int BUFFER_SIZE = 8192;
+        private static final int NONE = 0;
+        private static final int AFTER_OPEN = 1;     // '{' or '[' written, newline+indent pending
+        private static final int AFTER_COMMA = 2;    // ',' written, newline+indent pending
 
-            if (!inString) {
-                switch (currentChar) {
-                    case '{':
-                    case '[':
-                        prettyJson.append(currentChar);
-                        // Peek ahead to see if the next non-whitespace character is '}' or ']'
-                        if (!isNextCharClosing(json, i)) {
-                            prettyJson.append('\n');
-                            indentLevel++;
-                            appendIndentation(prettyJson, indentLevel, writeOptions);
-                        }
-                        break;
-                    case '}':
-                    case ']':
-                        // Newline before the closing brace/bracket if the previous non-whitespace character is not '{' or '['
-                        if (!isPrevCharOpening(json, i)) {
-                            prettyJson.append('\n');
-                            indentLevel--;
-                            appendIndentation(prettyJson, indentLevel, writeOptions);
-                        } else {
-                            // Decrease indentation level even if no newline is added
-                            indentLevel--;
+        private final Reader in;
+        private final Writer out;
+        private final int indentSize;
+        private final boolean pretty;
+        private final char[] inBuf = new char[BUFFER_SIZE];
+        private final char[] outBuf = new char[BUFFER_SIZE];
+        private int outPos;
+        private int indentLevel;
+        private int pending = NONE;
+        private char prevSignificant;   // last non-whitespace char written outside a string
+
+        Formatter(Reader in, Writer out, int indentSize, boolean pretty) {
+            this.in = in;
+            this.out = out;
+            this.indentSize = indentSize;
+            this.pretty = pretty;
+        }
+
+        void run() throws IOException {
+            boolean inString = false;
+            boolean escape = false;
+            int n;
+            while ((n = in.read(inBuf, 0, BUFFER_SIZE)) != -1) {
+                int i = 0;
+                while (i < n) {
+                    if (inString) {
+                        if (escape) {
+                            write(inBuf[i++]);
+                            escape = false;
+                            continue;
                         }
-                        prettyJson.append(currentChar);
-                        break;
-                    case ',':
-                        prettyJson.append(currentChar);
-                        // Peek ahead to see if the next non-whitespace character is not '}' or ']'
-                        if (!isNextCharClosing(json, i)) {
-                            prettyJson.append('\n');
-                            appendIndentation(prettyJson, indentLevel, writeOptions);
+                        // Bulk-copy the run of ordinary string characters
+                        int start = i;
+                        char c = 0;
+                        while (i < n && (c = inBuf[i]) != '"' && c != '\\') {
+                            i++;
                         }
-                        break;
-                    case ':':
-                        prettyJson.append(currentChar);
-                        // prettyJson.append(' '); // uncomment for space after the colon in "field": "value"
-                        break;
-                    default:
-                        if (!Character.isWhitespace(currentChar)) {
-                            prettyJson.append(currentChar);
+                        write(inBuf, start, i - start);
+                        if (i < n) {
+                            write(c);
+                            i++;
+                            if (c == '\\') {
+                                escape = true;
+                            } else {
+                                inString = false;
+                            }
                         }
-                        break;
+                        continue;
+                    }
+
+                    char c = inBuf[i++];
+                    if (Character.isWhitespace(c)) {
+                        continue;
+                    }
+                    if (pretty) {
+                        significant(c);
+                    } else {
+                        write(c);
+                    }
+                    if (c == '"') {
+                        inString = true;
+                    }
                 }
-            } else {
-                prettyJson.append(currentChar);
             }
+            flushBuffer();
         }
 
-        return prettyJson.toString();
+        private void significant(char c) throws IOException {
+            boolean closing = c == '}' || c == ']';
+            if (pending == AFTER_OPEN) {
+                if (!closing) {
+                    indentLevel++;
+                    newLine();
+                }
+            } else if (pending == AFTER_COMMA && !closing) {
+                newLine();
+            }
+            pending = NONE;
+
+            switch (c) {
+                case '{':
+                case '[':
+                    write(c);
+                    pending = AFTER_OPEN;
+                    break;
+                case '}':
+                case ']':
+                    // Newline before the closing brace/bracket unless the container is empty
+                    if (prevSignificant != '{' && prevSignificant != '[') {
+                        indentLevel--;
+                        newLine();
+                    }
+                    write(c);
+                    break;
+                case ',':
+                    write(c);
+                    pending = AFTER_COMMA;
+                    break;
+                default:
+                    write(c);
+                    break;
+            }
+            prevSignificant = c;
+        }
+
+        private void newLine() throws IOException {
+            write('\n');
+            int spaces = indentLevel * indentSize;
+            while (spaces > 0) {
+                if (outPos == BUFFER_SIZE) {
+                    flushBuffer();
+                }
+                int chunk = Math.min(spaces, BUFFER_SIZE - outPos);
+                Arrays.fill(outBuf, outPos, outPos + chunk, ' ');
+                outPos += chunk;
+                spaces -= chunk;
+            }
+        }
+
+        private void write(char c) throws IOException {
+            if (outPos == BUFFER_SIZE) {
+                flushBuffer();
+            }
+            outBuf[outPos++] = c;
+        }
+
+        private void write(char[] src, int off, int len) throws IOException {
+            if (len > BUFFER_SIZE - outPos) {
+                flushBuffer();
+                if (len >= BUFFER_SIZE) {
+                    out.write(src, off, len);
+                    return;
+                }
+            }
+            System.arraycopy(src, off, outBuf, outPos, len);
+            outPos += len;
+        }
+
+        private void flushBuffer() throws IOException {
+            if (outPos > 0) {
+                out.write(outBuf, 0, outPos);
+                outPos = 0;
+            }
+        }
+    }
+
+    /**
+     * Minimal unsynchronized Writer over a StringBuilder for the String entry points.
+     */
+    private static final class StringBuilderSink extends Writer {
+        private final StringBuilder sb;
+
+        StringBuilderSink(StringBuilder sb) {
+            this.sb = sb;
+        }
+
+        @Override
+        public void write(char[] cbuf, int off, int len) {
+            sb.append(cbuf, off, len);
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
     }
 
     /**
@@ -162,54 +342,4 @@ public class JsonPrettyPrinter {
     private static boolean isJsonString(String json) {
         return json.startsWith("\"") && json.endsWith("\"");
     }
-
-    /**
-     * Checks if the next non-whitespace character is a closing brace '}' or bracket ']'.
-     *
-     * @param json The JSON string.
-     * @param index The current index.
-     * @return True if the next non-whitespace character is '}' or ']', false otherwise.
-     */
-    private static boolean isNextCharClosing(String json, int index) {
-        for (int i = index + 1; i < json.length(); i++) {
-            char c = json.charAt(i);
-            if (Character.isWhitespace(c)) {
-                continue;
-            }
-            return c == '}' || c == ']';
-        }
-        return false;
-    }
-
-    /**
-     * Checks if the previous non-whitespace character is an opening brace '{' or bracket '['.
-     *
-     * @param json The JSON string.
-     * @param index The current index.
-     * @return True if the previous non-whitespace character is '{' or '[', false otherwise.
-     */
-    private static boolean isPrevCharOpening(String json, int index) {
-        for (int i = index - 1; i >= 0; i--) {
-            char c = json.charAt(i);
-            if (Character.isWhitespace(c)) {
-                continue;
-            }
-            return c == '{' || c == '[';
-        }
-        return false;
-    }
-
-    /**
-     * Appends indentation spaces to the StringBuilder based on the current indentation level.
-     *
-     * @param sb          The StringBuilder to append to.
-     * @param indentLevel The current indentation level.
-     * @param writeOptions WriteOptions containing indentation configuration.
-     */
-    private static void appendIndentation(StringBuilder sb, int indentLevel, WriteOptions writeOptions) {
-        final int indentSize = writeOptions.getIndentationSize();
-        for (int i = 0; i < indentLevel * indentSize; i++) {
-            sb.append(' ');
-        }
-    }
-}
\ No newline at end of file
+}
@@ -9,6 +9,9 @@ import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.lang.reflect.Type;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Function;
 
 import com.cedarsoftware.io.JsonIoException;
@@ -28,6 +31,12 @@ import com.cedarsoftware.util.SystemUtilities;
  * <li><strong>JDK 17+:</strong> Uses {@code VarHandle} for improved performance and module system compatibility</li>
  * </ul>
  *
+ * <p>Getter-method accessors use a {@code LambdaMetafactory}-generated getter where possible. Spinning one costs a
+ * hidden class per getter, so with {@link #setPromotionThreshold(int)} (or {@code -Djson-io.accessor.promoteAfter=N})
+ * accessors start on their {@code MethodHandle} and are promoted to the generated getter only once they have
+ * served about N reads; getters called only a handful of times never pay for it. {@link #getStrategy()} and
+ * {@link #getStrategyCounts()} show which path is in use on the running JVM.</p>
+ *
  * @author Kenny Partlow (kpartlow@gmail.com)
  *         <br>
  *         Copyright (c) Cedar Software LLC
@@ -60,6 +69,30 @@ public class Accessor {
     private static final byte PRIMITIVE_FLOAT = 7;
     private static final byte PRIMITIVE_DOUBLE = 8;
 
+    /**
+     * How an Accessor reads its value, from most to least specialized. An accessor uses the first one
+     * available to it and moves down the list only if that path fails at run time.
+     */
+    public enum Strategy {
+        /** Generated primitive getter (no boxing). */
+        PRIMITIVE_LAMBDA,
+        /** Generated {@code Function} getter. */
+        LAMBDA,
+        VAR_HANDLE,
+        METHOD_HANDLE,
+        /** {@code Field.get()} reflection. */
+        FIELD_GET
+    }
+
+    private static final LongAdder[] STRATEGY_COUNTS = new LongAdder[Strategy.values().length];
+    private static volatile int promotionThreshold = Math.max(0, Integer.getInteger("json-io.accessor.promoteAfter", 0));
+
+    static {
+        for (int i = 0; i < STRATEGY_COUNTS.length; i++) {
+            STRATEGY_COUNTS[i] = new LongAdder();
+        }
+    }
+
     static {
         int javaVersion = SystemUtilities.currentJdkMajorVersion();
 
@@ -109,8 +142,10 @@ public class Accessor {
     private final Object varHandle;  // For JDK 17+ VarHandle-based access
     private final boolean isPublic;
     private final byte primitiveKind;
-    private final Object primitiveFunction;
+    private Object primitiveFunction;           // LambdaMetafactory-generated primitive getter (may be installed by promote())
     private Function<Object, Object> function;  // LambdaMetafactory-generated fast getter (JIT-inlinable)
+    private MethodHandles.Lookup promotionLookup;   // non-null while a deferred accessor awaits promotion
+    private int invocations;                    // racy on purpose; only decides when to promote
     private volatile boolean primitiveFunctionFailed;
     private volatile boolean functionFailed;
     private volatile boolean varHandleFailed;
@@ -198,6 +233,116 @@ public class Accessor {
         this.primitiveKind = primitiveKind(field.getType());
         this.primitiveFunction = primitiveFunction;
         this.function = function;
+        STRATEGY_COUNTS[getStrategy().ordinal()].increment();
+    }
+
+    /**
+     * Build the fastest accessor available for a getter handle: a generated primitive getter, a generated
+     * {@code Function}, or the handle itself. When a promotion threshold is set, the generated forms are
+     * deferred until the accessor has been used enough to be worth them.
+     * <p>
+     * LambdaMetafactory only accepts method handles (REF_invoke*), never field getters (REF_getField), so
+     * field handles go straight to the MethodHandle path instead of failing a metafactory call per field.
+     */
+    private static Accessor accelerated(Field field, MethodHandles.Lookup lookup, MethodHandle handle, String uniqueFieldName,
+                                        String fieldOrMethodName, boolean isPublic, boolean isMethod) {
+        if (!isMethod) {
+            return new Accessor(field, handle, uniqueFieldName, fieldOrMethodName, isPublic, false);
+        }
+        if (promotionThreshold > 0 && !NativeImageSupport.isPlainReflection()) {
+            Accessor accessor = new Accessor(field, handle, uniqueFieldName, fieldOrMethodName, isPublic, isMethod);
+            accessor.promotionLookup = lookup;
+            return accessor;
+        }
+        Object primitiveLambda = createPrimitiveLambdaAccessor(lookup, handle);
+        if (primitiveLambda != null) {
+            return new Accessor(field, handle, uniqueFieldName, fieldOrMethodName, isPublic, isMethod, primitiveLambda);
+        }
+        Function<Object, Object> lambda = createLambdaAccessor(lookup, handle);
+        if (lambda != null) {
+            return new Accessor(field, handle, uniqueFieldName, fieldOrMethodName, isPublic, isMethod, lambda);
+        }
+        return new Accessor(field, handle, uniqueFieldName, fieldOrMethodName, isPublic, isMethod);
+    }
+
+    private void countInvocation() {
+        if (++invocations >= promotionThreshold) {
+            promote();
+        }
+    }
+
+    /**
+     * Replace this deferred accessor's MethodHandle path with a generated getter. Runs at most once.
+     */
+    private synchronized void promote() {
+        MethodHandles.Lookup lookup = promotionLookup;
+        if (lookup == null) {
+            return;
+        }
+        Object primitiveLambda = createPrimitiveLambdaAccessor(lookup, methodHandle);
+        if (primitiveLambda != null) {
+            primitiveFunction = primitiveLambda;
+        } else {
+            function = createLambdaAccessor(lookup, methodHandle);
+        }
+        promotionLookup = null;
+        if (primitiveFunction != null || function != null) {
+            STRATEGY_COUNTS[getStrategy().ordinal()].increment();
+        }
+    }
+
+    /**
+     * @return the path this accessor currently uses to read its value
+     */
+    public Strategy getStrategy() {
+        if (primitiveFunction != null && !primitiveFunctionFailed) {
+            return Strategy.PRIMITIVE_LAMBDA;
+        }
+        if (function != null && !functionFailed) {
+            return Strategy.LAMBDA;
+        }
+        if (varHandle != null && !varHandleFailed) {
+            return Strategy.VAR_HANDLE;
+        }
+        if (methodHandle != null && !methodHandleFailed) {
+            return Strategy.METHOD_HANDLE;
+        }
+        return Strategy.FIELD_GET;
+    }
+
+    /**
+     * @return true while this accessor is on its MethodHandle waiting to be promoted to a generated getter
+     */
+    public boolean isPromotionPending() {
+        return promotionLookup != null;
+    }
+
+    /**
+     * Number of accessors that have been created with, or promoted to, each {@link Strategy} in this JVM.
+     * A promoted accessor is counted under both its starting and its final strategy.
+     */
+    public static Map<Strategy, Long> getStrategyCounts() {
+        Map<Strategy, Long> counts = new EnumMap<>(Strategy.class);
+        for (Strategy strategy : Strategy.values()) {
+            counts.put(strategy, STRATEGY_COUNTS[strategy.ordinal()].sum());
+        }
+        return counts;
+    }
+
+    /**
+     * Defer generating lambda getters until an accessor has served about {@code reads} reads.
+     * 0 (the default) generates them when the accessor is created. Affects accessors created afterwards;
+     * deferred accessors promote on their next read if the threshold is lowered to 0.
+     */
+    public static void setPromotionThreshold(int reads) {
+        if (reads < 0) {
+            throw new IllegalArgumentException("promotion threshold cannot be negative: " + reads);
+        }
+        promotionThreshold = reads;
+    }
+
+    public static int getPromotionThreshold() {
+        return promotionThreshold;
     }
 
     /**
@@ -207,6 +352,9 @@ public class Accessor {
      */
     @SuppressWarnings("unchecked")
     private static Function<Object, Object> createLambdaAccessor(MethodHandles.Lookup lookup, MethodHandle getter) {
+        if (NativeImageSupport.isPlainReflection()) {
+            return null;
+        }
         try {
             Class<?> targetClass = getter.type().parameterType(0);
             MethodHandles.Lookup lambdaLookup = tryPrivateLookup(targetClass, lookup);
@@ -236,6 +384,9 @@ public class Accessor {
      * Returns null if creation fails or the getter does not return a primitive type.
      */
     private static Object createPrimitiveLambdaAccessor(MethodHandles.Lookup lookup, MethodHandle getter) {
+        if (NativeImageSupport.isPlainReflection()) {
+            return null;
+        }
         byte primitiveKind = primitiveKind(getter.type().returnType());
         if (primitiveKind == PRIMITIVE_NONE) {
             return null;
@@ -364,15 +515,7 @@ public class Accessor {
         try {
             MethodHandles.Lookup fieldLookup = MethodHandles.lookup();
             MethodHandle handle = fieldLookup.unreflectGetter(field);
-            Object primitiveLambda = createPrimitiveLambdaAccessor(fieldLookup, handle);
-            if (primitiveLambda != null) {
-                return new Accessor(field, handle, uniqueFieldName, field.getName(), Modifier.isPublic(field.getModifiers()), false, primitiveLambda);
-            }
-            Function<Object, Object> lambda = createLambdaAccessor(fieldLookup, handle);
-            if (lambda != null) {
-                return new Accessor(field, handle, uniqueFieldName, field.getName(), Modifier.isPublic(field.getModifiers()), false, lambda);
-            }
-            return new Accessor(field, handle, uniqueFieldName, field.getName(), Modifier.isPublic(field.getModifiers()), false);
+            return accelerated(field, fieldLookup, handle, uniqueFieldName, field.getName(), Modifier.isPublic(field.getModifiers()), false);
         } catch (IllegalAccessException ex) {
             // Final fallback: create an accessor that uses field.get() directly
             return new Accessor(field, (MethodHandle) null, uniqueFieldName, field.getName(), Modifier.isPublic(field.getModifiers()), false);
@@ -380,7 +523,7 @@ public class Accessor {
     }
 
     private static Accessor createWithVarHandle(Field field, String uniqueFieldName) {
-        if (PRIVATE_LOOKUP_IN_METHOD == null || FIND_VAR_HANDLE_METHOD == null ||
+        if (NativeImageSupport.isPlainReflection() || PRIVATE_LOOKUP_IN_METHOD == null || FIND_VAR_HANDLE_METHOD == null ||
                 VAR_HANDLE_GET_METHOD == null || LOOKUP == null) {
             return null;
         }
@@ -397,16 +540,8 @@ public class Accessor {
                 MethodHandles.Lookup privateLookup = (MethodHandles.Lookup) privateLookupObj;
                 try {
                     MethodHandle handle = privateLookup.unreflectGetter(field);
-                    Object primitiveLambda = createPrimitiveLambdaAccessor(privateLookup, handle);
-                    if (primitiveLambda != null) {
-                        return new Accessor(field, handle, uniqueFieldName, field.getName(), Modifier.isPublic(field.getModifiers()), false, primitiveLambda);
-                    }
-                    Function<Object, Object> lambda = createLambdaAccessor(privateLookup, handle);
-                    if (lambda != null) {
-                        return new Accessor(field, handle, uniqueFieldName, field.getName(), Modifier.isPublic(field.getModifiers()), false, lambda);
-                    }
-                    // Lambda failed but handle works — use MethodHandle path
-                    return new Accessor(field, handle, uniqueFieldName, field.getName(), Modifier.isPublic(field.getModifiers()), false);
+                    // Lambda (or deferred lambda), else MethodHandle path
+                    return accelerated(field, privateLookup, handle, uniqueFieldName, field.getName(), Modifier.isPublic(field.getModifiers()), false);
                 } catch (IllegalAccessException e) {
                     // unreflectGetter failed — fall through to VarHandle
                 }
@@ -430,15 +565,7 @@ public class Accessor {
             MethodHandles.Lookup methodLookup = MethodHandles.publicLookup();
             MethodType type = MethodType.methodType(field.getType());
             MethodHandle handle = methodLookup.findVirtual(field.getDeclaringClass(), methodName, type);
-            Object primitiveLambda = createPrimitiveLambdaAccessor(methodLookup, handle);
-            if (primitiveLambda != null) {
-                return new Accessor(field, handle, uniqueFieldName, methodName, true, true, primitiveLambda);
-            }
-            Function<Object, Object> lambda = createLambdaAccessor(methodLookup, handle);
-            if (lambda != null) {
-                return new Accessor(field, handle, uniqueFieldName, methodName, true, true, lambda);
-            }
-            return new Accessor(field, handle, uniqueFieldName, methodName, true, true);
+            return accelerated(field, methodLookup, handle, uniqueFieldName, methodName, true, true);
         } catch (Exception ignore) {
             return null;
         }
@@ -448,6 +575,9 @@ public class Accessor {
         if (o == null) {
             throw new JsonIoException("Cannot retrieve field value from null object for field: " + getActualFieldName());
         }
+        if (promotionLookup != null) {
+            countInvocation();
+        }
 
         try {
             // Primitive LambdaMetafactory path; retrieve() boxes for compatibility.
@@ -679,6 +809,9 @@ public class Accessor {
         if (o == null) {
             throw new JsonIoException("Cannot retrieve field value from null object for field: " + getActualFieldName());
         }
+        if (promotionLookup != null) {
+            countInvocation();
+        }
     }
 
     private Object retrievePrimitive(Object o) {
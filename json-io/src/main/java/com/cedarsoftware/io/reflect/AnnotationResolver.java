@@ -7,12 +7,18 @@ import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.lang.reflect.Parameter;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import com.cedarsoftware.io.ClassFactory;
 import com.cedarsoftware.util.ClassUtilities;
@@ -64,6 +70,10 @@ import com.cedarsoftware.util.ReflectionUtils;
  * Results are cached in a static {@link ClassValueMap} — each class is scanned exactly once
  * per JVM lifetime. Annotation metadata is intrinsic to classes and does not depend on
  * ReadOptions/WriteOptions settings.
+ * <p>
+ * Before scanning, registered {@link ClassMetadataProvider}s (discovered via {@link ServiceLoader}, typically
+ * generated at compile time by {@code json-io-processor}) are asked for precomputed metadata; a class is only
+ * scanned reflectively when no provider knows it.
  *
  * @author John DeRegnaucourt (jdereg@gmail.com)
  *         <br>
@@ -279,6 +289,9 @@ public class AnnotationResolver {
     private static final ClassValueMap<ClassAnnotationMetadata> cache = new ClassValueMap<>();
     // Reverse map for @IoTypeName / @JsonTypeName: alias → fully-qualified class name
     private static final Map<String, String> annotationAliasToClassName = new ConcurrentHashMap<>();
+    // Precomputed metadata sources: ServiceLoader-discovered (loaded on first scan) plus explicitly registered
+    private static final List<ClassMetadataProvider> providers = new CopyOnWriteArrayList<>();
+    private static volatile boolean providersLoaded;
     // ThreadLocal to track classes currently being scanned (prevents recursive stack overflow)
     private static final ThreadLocal<Set<Class<?>>> SCANNING = ThreadLocal.withInitial(LinkedHashSet::new);
     private static final ClassAnnotationMetadata EMPTY = new ClassAnnotationMetadata(
@@ -348,7 +361,10 @@ public class AnnotationResolver {
             return EMPTY;
         }
         try {
-            ClassAnnotationMetadata meta = scan(clazz);
+            ClassAnnotationMetadata meta = provided(clazz);
+            if (meta == null) {
+                meta = scan(clazz);
+            }
             cache.put(clazz, meta);
             return meta;
         } finally {
@@ -356,6 +372,92 @@ public class AnnotationResolver {
         }
     }
 
+    /**
+     * Register a {@link ClassMetadataProvider} in addition to those found via {@link ServiceLoader}.
+     * Only classes not yet resolved are affected; metadata already cached is kept.
+     *
+     * @param provider the provider to consult before scanning a class
+     */
+    public static void registerMetadataProvider(ClassMetadataProvider provider) {
+        if (provider == null) {
+            throw new IllegalArgumentException("ClassMetadataProvider cannot be null");
+        }
+        providers.add(provider);
+    }
+
+    /**
+     * Remove a provider added with {@link #registerMetadataProvider}. As with registration, only classes not
+     * yet resolved are affected; metadata the provider already supplied stays cached.
+     *
+     * @param provider the provider to remove
+     * @return true if the provider was registered
+     */
+    public static boolean removeMetadataProvider(ClassMetadataProvider provider) {
+        return providers.remove(provider);
+    }
+
+    /**
+     * Ask the registered providers for precomputed metadata. A provider that fails is skipped, so a stale or
+     * broken generated table degrades to the normal reflective scan instead of breaking serialization.
+     */
+    private static ClassAnnotationMetadata provided(Class<?> clazz) {
+        if (!providersLoaded) {
+            loadProviders();
+        }
+        for (ClassMetadataProvider provider : providers) {
+            ClassAnnotationMetadata meta;
+            try {
+                meta = provider.getMetadata(clazz);
+            } catch (RuntimeException | LinkageError e) {
+                continue;
+            }
+            if (meta != null) {
+                if (meta.typeName != null) {
+                    annotationAliasToClassName.put(meta.typeName, clazz.getName());
+                }
+                return meta;
+            }
+        }
+        return null;
+    }
+
+    private static synchronized void loadProviders() {
+        if (providersLoaded) {
+            return;
+        }
+        ClassLoader loader = Thread.currentThread().getContextClassLoader();
+        if (loader == null) {
+            loader = AnnotationResolver.class.getClassLoader();
+        }
+        List<ClassMetadataProvider> found = new ArrayList<>();
+        try {
+            Iterator<ClassMetadataProvider> it = ServiceLoader.load(ClassMetadataProvider.class, loader).iterator();
+            while (it.hasNext()) {
+                try {
+                    found.add(it.next());
+                } catch (ServiceConfigurationError e) {
+                    // Skip a provider that cannot be instantiated; its classes are scanned instead
+                }
+            }
+        } catch (ServiceConfigurationError e) {
+            // Unreadable service file — scan everything
+        }
+        providers.addAll(found);
+        providersLoaded = true;
+    }
+
+    /**
+     * Start building precomputed metadata for {@code owner}, as returned from a {@link ClassMetadataProvider}.
+     * Class-valued entries are given by binary name and resolved through {@code owner}'s class loader when
+     * {@link MetadataBuilder#build()} is called.
+     *
+     * @param owner the class the metadata describes
+     * @return a new builder
+     */
+    public static MetadataBuilder metadataBuilder(Class<?> owner) {
+        return new MetadataBuilder(owner);
+    }
+
     // ======================== Scanning ========================
 
     private static ClassAnnotationMetadata scan(Class<?> clazz) {
@@ -1180,6 +1282,247 @@ public class AnnotationResolver {
         return false;
     }
 
+    // ======================== Precomputed metadata ========================
+
+    /**
+     * Builds a {@link ClassAnnotationMetadata} from precomputed values, for {@link ClassMetadataProvider}
+     * implementations. Each method mirrors one annotation the reflective scan recognizes, and {@link #build()}
+     * applies the same post-processing the scan does (serialized names of renamed fields are accepted on read).
+     * Creator, {@code @IoValue} and any-getter/any-setter methods are not supported here; classes that use
+     * them are left to the reflective scan.
+     */
+    public static final class MetadataBuilder {
+        private final Class<?> owner;
+        private final Map<String, String> renames = new LinkedHashMap<>();
+        private final Set<String> ignored = new LinkedHashSet<>();
+        private final Map<String, String> aliases = new LinkedHashMap<>();
+        private final Set<String> nonNullFields = new LinkedHashSet<>();
+        private String[] order;
+        private Set<String> includedFields;
+        private boolean ignoredType;
+        private Map<String, String> fieldTypeInfoDefaults;
+        private Map<String, String> fieldDeserializeOverrides;
+        private String classFactory;
+        private Map<String, String> getterMethods;
+        private Map<String, String> setterMethods;
+        private boolean nonReferenceable;
+        private boolean notCustomRead;
+        private boolean notCustomWrite;
+        private String customWriter;
+        private String customReader;
+        private String typeName;
+        private Map<String, String> fieldFormatPatterns;
+        private Set<String> forceShowTypeFields;
+
+        private MetadataBuilder(Class<?> owner) {
+            if (owner == null) {
+                throw new IllegalArgumentException("owner class cannot be null");
+            }
+            this.owner = owner;
+        }
+
+        /** {@code @IoProperty} or {@code @IoNaming} result: Java field name to serialized name. */
+        public MetadataBuilder rename(String fieldName, String serializedName) {
+            renames.put(fieldName, serializedName);
+            return this;
+        }
+
+        /** {@code @IoIgnore}, {@code @IoIgnoreProperties}, or a field whose type is {@code @IoIgnoreType}. */
+        public MetadataBuilder ignore(String fieldName) {
+            ignored.add(fieldName);
+            return this;
+        }
+
+        /** {@code @IoAlias}: alternate JSON name accepted on read. */
+        public MetadataBuilder alias(String alternateName, String fieldName) {
+            aliases.put(alternateName, fieldName);
+            return this;
+        }
+
+        /** {@code @IoPropertyOrder}. */
+        public MetadataBuilder propertyOrder(String... fieldNames) {
+            order = fieldNames;
+            return this;
+        }
+
+        /** {@code @IoInclude(NON_NULL)}. */
+        public MetadataBuilder nonNull(String fieldName) {
+            nonNullFields.add(fieldName);
+            return this;
+        }
+
+        /** {@code @IoIncludeProperties}. */
+        public MetadataBuilder include(String... fieldNames) {
+            if (includedFields == null) {
+                includedFields = new LinkedHashSet<>();
+            }
+            Collections.addAll(includedFields, fieldNames);
+            return this;
+        }
+
+        /** {@code @IoIgnoreType} on the class itself. */
+        public MetadataBuilder ignoredType() {
+            ignoredType = true;
+            return this;
+        }
+
+        /** {@code @IoTypeInfo}: default concrete type (binary class name) for a field. */
+        public MetadataBuilder typeInfo(String fieldName, String className) {
+            if (fieldTypeInfoDefaults == null) {
+                fieldTypeInfoDefaults = new LinkedHashMap<>();
+            }
+            fieldTypeInfoDefaults.put(fieldName, className);
+            return this;
+        }
+
+        /** {@code @IoDeserialize(as=...)}: override type (binary class name) for a field. */
+        public MetadataBuilder deserializeAs(String fieldName, String className) {
+            if (fieldDeserializeOverrides == null) {
+                fieldDeserializeOverrides = new LinkedHashMap<>();
+            }
+            fieldDeserializeOverrides.put(fieldName, className);
+            return this;
+        }
+
+        /** {@code @IoClassFactory} (binary class name). */
+        public MetadataBuilder classFactory(String className) {
+            classFactory = className;
+            return this;
+        }
+
+        /** {@code @IoGetter}: method name supplying a field's value on write. */
+        public MetadataBuilder getter(String fieldName, String methodName) {
+            if (getterMethods == null) {
+                getterMethods = new LinkedHashMap<>();
+            }
+            getterMethods.putIfAbsent(fieldName, methodName);
+            return this;
+        }
+
+        /** {@code @IoSetter}: method name receiving a field's value on read. */
+        public MetadataBuilder setter(String fieldName, String methodName) {
+            if (setterMethods == null) {
+                setterMethods = new LinkedHashMap<>();
+            }
+            setterMethods.putIfAbsent(fieldName, methodName);
+            return this;
+        }
+
+        /** {@code @IoNonReferenceable}. */
+        public MetadataBuilder nonReferenceable() {
+            nonReferenceable = true;
+            return this;
+        }
+
+        /** {@code @IoNotCustomReader}. */
+        public MetadataBuilder notCustomRead() {
+            notCustomRead = true;
+            return this;
+        }
+
+        /** {@code @IoNotCustomWritten}. */
+        public MetadataBuilder notCustomWrite() {
+            notCustomWrite = true;
+            return this;
+        }
+
+        /** {@code @IoCustomWriter} (binary class name). */
+        public MetadataBuilder customWriter(String className) {
+            customWriter = className;
+            return this;
+        }
+
+        /** {@code @IoCustomReader} (binary class name). */
+        public MetadataBuilder customReader(String className) {
+            customReader = className;
+            return this;
+        }
+
+        /** {@code @IoTypeName}. */
+        public MetadataBuilder typeName(String name) {
+            typeName = (name == null || name.isEmpty()) ? null : name;
+            return this;
+        }
+
+        /** {@code @IoFormat}. */
+        public MetadataBuilder format(String fieldName, String pattern) {
+            if (fieldFormatPatterns == null) {
+                fieldFormatPatterns = new LinkedHashMap<>();
+            }
+            fieldFormatPatterns.put(fieldName, pattern);
+            return this;
+        }
+
+        /** {@code @IoShowType}. */
+        public MetadataBuilder showType(String fieldName) {
+            if (forceShowTypeFields == null) {
+                forceShowTypeFields = new LinkedHashSet<>();
+            }
+            forceShowTypeFields.add(fieldName);
+            return this;
+        }
+
+        /**
+         * @return the metadata, identical to what scanning the owner class would produce
+         * @throws IllegalStateException if a referenced class cannot be loaded
+         */
+        @SuppressWarnings("unchecked")
+        public ClassAnnotationMetadata build() {
+            Map<String, String> allAliases = new LinkedHashMap<>(aliases);
+            for (Map.Entry<String, String> entry : renames.entrySet()) {
+                allAliases.putIfAbsent(entry.getValue(), entry.getKey());
+            }
+            return new ClassAnnotationMetadata(
+                    Collections.unmodifiableMap(new LinkedHashMap<>(renames)),
+                    Collections.unmodifiableSet(new LinkedHashSet<>(ignored)),
+                    Collections.unmodifiableMap(allAliases),
+                    order,
+                    Collections.unmodifiableSet(new LinkedHashSet<>(nonNullFields)),
+                    null,
+                    null,
+                    includedFields != null ? Collections.unmodifiableSet(new LinkedHashSet<>(includedFields)) : null,
+                    ignoredType,
+                    resolveAll(fieldTypeInfoDefaults),
+                    resolveAll(fieldDeserializeOverrides),
+                    (Class<? extends ClassFactory>) resolve(classFactory),
+                    getterMethods != null ? Collections.unmodifiableMap(new LinkedHashMap<>(getterMethods)) : null,
+                    setterMethods != null ? Collections.unmodifiableMap(new LinkedHashMap<>(setterMethods)) : null,
+                    nonReferenceable,
+                    notCustomRead,
+                    notCustomWrite,
+                    (Class<? extends JsonClassWriter>) resolve(customWriter),
+                    (Class<? extends JsonClassReader>) resolve(customReader),
+                    typeName,
+                    fieldFormatPatterns != null ? Collections.unmodifiableMap(new LinkedHashMap<>(fieldFormatPatterns)) : null,
+                    forceShowTypeFields != null ? Collections.unmodifiableSet(new LinkedHashSet<>(forceShowTypeFields)) : null,
+                    null,
+                    null);
+        }
+
+        private Map<String, Class<?>> resolveAll(Map<String, String> names) {
+            if (names == null) {
+                return null;
+            }
+            Map<String, Class<?>> classes = new LinkedHashMap<>();
+            for (Map.Entry<String, String> entry : names.entrySet()) {
+                classes.put(entry.getKey(), resolve(entry.getValue()));
+            }
+            return Collections.unmodifiableMap(classes);
+        }
+
+        private Class<?> resolve(String className) {
+            if (className == null) {
+                return null;
+            }
+            Class<?> c = ClassUtilities.forName(className, owner.getClassLoader());
+            if (c == null) {
+                throw new IllegalStateException("Class " + className + " referenced by json-io metadata for "
+                        + owner.getName() + " could not be loaded");
+            }
+            return c;
+        }
+    }
+
     // ======================== Metadata Container ========================
 
     /**
@@ -1279,6 +1622,13 @@ public class AnnotationResolver {
             return ignoredFields.contains(fieldName);
         }
 
+        /**
+         * @return true if any field is ignored via @IoIgnore / @IoIgnoreProperties (or Jackson equivalents)
+         */
+        public boolean hasIgnoredFields() {
+            return !ignoredFields.isEmpty();
+        }
+
         /**
          * Get the alias-to-field-name mapping for read-side alternate name support.
          * @return unmodifiable map of alternate JSON name → Java field name
@@ -0,0 +1,39 @@
+package com.cedarsoftware.io.reflect;
+
+/**
+ * Supplies precomputed annotation metadata so {@link AnnotationResolver} does not have to scan a class's
+ * fields and methods reflectively the first time json-io sees it.
+ * <p>
+ * Implementations are normally generated at compile time by the {@code json-io-processor} annotation
+ * processor and are discovered with {@link java.util.ServiceLoader} (listed in
+ * {@code META-INF/services/com.cedarsoftware.io.reflect.ClassMetadataProvider}). They can also be registered
+ * explicitly with {@link AnnotationResolver#registerMetadataProvider(ClassMetadataProvider)}, which is useful
+ * in containers where the thread context class loader does not see the application's classes.
+ * <p>
+ * A provider returns {@code null} for any class it does not know, and json-io falls back to scanning that
+ * class as usual. Metadata returned here must describe exactly what a scan of the class would produce.
+ * Use {@link AnnotationResolver#metadataBuilder(Class)} to build it.
+ *
+ * @author John DeRegnaucourt (jdereg@gmail.com)
+ *         <br>
+ *         Copyright (c) Cedar Software LLC
+ *         <br><br>
+ *         Licensed under the Apache License, Version 2.0 (the "License");
+ *         you may not use this file except in compliance with the License.
+ *         You may obtain a copy of the License at
+ *         <br><br>
+ *         <a href="http://www.apache.org/licenses/LICENSE-2.0">License</a>
+ *         <br><br>
+ *         Unless required by applicable law or agreed to in writing, software
+ *         distributed under the License is distributed on an "AS IS" BASIS,
+ *         WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *         See the License for the specific language governing permissions and
+ *         limitations under the License.
+ */
+public interface ClassMetadataProvider {
+    /**
+     * @param clazz the class json-io is about to scan
+     * @return the class's annotation metadata, or null to let json-io scan it reflectively
+     */
+    AnnotationResolver.ClassAnnotationMetadata getMetadata(Class<?> clazz);
+}
@@ -114,6 +114,9 @@ public class Injector {
     private Object varHandle; // For JDK 17+ VarHandle-based injection
     private final boolean useFieldSet; // flag to use Field.set() instead of MethodHandle
     private BiConsumer<Object, Object> consumer; // LambdaMetafactory-generated fast setter (JIT-inlinable)
+    // For primitive fields: (Object, <primitive>)void setter called with invokeExact, so injectLong()/
+    // injectDouble() reach the field without boxing. Adapted from the MethodHandle or bound to the VarHandle.
+    private MethodHandle primitiveSetter;
 
     // Cached values for performance - computed once at construction
     private final Class<?> fieldType;
@@ -200,6 +203,7 @@ public class Injector {
         this.fieldNumericKind = numericKind(this.fieldType);
         this.fieldName = field.getName();
         this.fastPath = computeFastPath(this.fieldType);
+        this.primitiveSetter = typedSetter(this.fieldType, handle);
     }
 
     // Constructor for Field.set() fallback injection
@@ -233,6 +237,7 @@ public class Injector {
         this.fieldNumericKind = numericKind(this.fieldType);
         this.fieldName = field.getName();
         this.fastPath = computeFastPath(this.fieldType);
+        this.primitiveSetter = typedVarHandleSetter(this.fieldType, varHandle);
     }
 
     // Constructor for LambdaMetafactory-accelerated injection
@@ -251,6 +256,38 @@ public class Injector {
         this.fieldNumericKind = numericKind(this.fieldType);
         this.fieldName = field.getName();
         this.fastPath = computeFastPath(this.fieldType);
+        this.primitiveSetter = typedSetter(this.fieldType, handle);
+    }
+
+    /**
+     * Adapt a setter handle for a primitive field to {@code (Object, <primitive>)void} so it can be called
+     * with invokeExact from injectAs*(). Returns null for non-primitive fields.
+     */
+    private static MethodHandle typedSetter(Class<?> fieldType, MethodHandle setter) {
+        if (!fieldType.isPrimitive() || setter == null) {
+            return null;
+        }
+        try {
+            return setter.asType(MethodType.methodType(void.class, Object.class, fieldType));
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Same as {@link #typedSetter} for a VarHandle: a {@code VarHandle.set} invoker typed
+     * {@code (VarHandle, Object, <primitive>)void}, bound to the VarHandle.
+     */
+    private static MethodHandle typedVarHandleSetter(Class<?> fieldType, Object varHandle) {
+        if (!fieldType.isPrimitive() || varHandle == null || VAR_HANDLE_CLASS == null) {
+            return null;
+        }
+        try {
+            MethodType setType = MethodType.methodType(void.class, Object.class, fieldType);
+            return MethodHandles.publicLookup().findVirtual(VAR_HANDLE_CLASS, "set", setType).bindTo(varHandle);
+        } catch (Exception e) {
+            return null;
+        }
     }
 
     /**
@@ -273,6 +310,9 @@ public class Injector {
      */
     @SuppressWarnings("unchecked")
     private static BiConsumer<Object, Object> createLambdaConsumer(MethodHandles.Lookup lookup, MethodHandle setter) {
+        if (NativeImageSupport.isPlainReflection()) {
+            return null;
+        }
         try {
             Class<?> targetClass = setter.type().parameterType(0);
             MethodHandles.Lookup lambdaLookup = tryPrivateLookup(targetClass, lookup);
@@ -364,11 +404,8 @@ public class Injector {
         // setAccessible succeeded — try MethodHandle → LambdaMetafactory
         try {
             MethodHandles.Lookup fieldLookup = MethodHandles.lookup();
+            // LambdaMetafactory does not accept field setter handles (REF_putField); use the handle directly.
             MethodHandle handle = fieldLookup.unreflectSetter(field);
-            BiConsumer<Object, Object> lambda = createLambdaConsumer(fieldLookup, handle);
-            if (lambda != null) {
-                return new Injector(field, handle, uniqueFieldName, field.getName(), lambda);
-            }
             return new Injector(field, handle, uniqueFieldName, field.getName());
         } catch (IllegalAccessException e) {
             // Fallback to Field.set() injection
@@ -377,7 +414,7 @@ public class Injector {
     }
 
     private static Injector createWithVarHandle(Field field, String uniqueFieldName) {
-        if (PRIVATE_LOOKUP_IN_METHOD == null || FIND_VAR_HANDLE_METHOD == null ||
+        if (NativeImageSupport.isPlainReflection() || PRIVATE_LOOKUP_IN_METHOD == null || FIND_VAR_HANDLE_METHOD == null ||
                 VAR_HANDLE_SET_METHOD == null || LOOKUP == null) {
             return null; // Return null to allow fallback to Field.set()
         }
@@ -390,16 +427,12 @@ public class Injector {
                 return null;
             }
 
-            // First try: MethodHandle + LambdaMetafactory via privateLookup (fastest path)
+            // First try: setter MethodHandle via privateLookup (LambdaMetafactory does not accept field
+            // setter handles, so there is no lambda step for fields)
             if (privateLookupObj instanceof MethodHandles.Lookup) {
                 MethodHandles.Lookup privateLookup = (MethodHandles.Lookup) privateLookupObj;
                 try {
                     MethodHandle handle = privateLookup.unreflectSetter(field);
-                    BiConsumer<Object, Object> lambda = createLambdaConsumer(privateLookup, handle);
-                    if (lambda != null) {
-                        return new Injector(field, handle, uniqueFieldName, field.getName(), lambda);
-                    }
-                    // Lambda failed but handle works — use MethodHandle path
                     return new Injector(field, handle, uniqueFieldName, field.getName());
                 } catch (IllegalAccessException e) {
                     // unreflectSetter failed (e.g. final field) — fall through to VarHandle
@@ -562,7 +595,9 @@ public class Injector {
 
     private void injectAsLong(Object object, long value) throws Throwable {
         if (fieldType == long.class) {
-            if (useFieldSet) {
+            if (primitiveSetter != null) {
+                primitiveSetter.invokeExact(object, value);
+            } else if (useFieldSet) {
                 field.setLong(object, value);
             } else if (injector != null) {
                 injector.invoke(object, value);
@@ -578,7 +613,9 @@ public class Injector {
 
     private void injectAsInt(Object object, int value) throws Throwable {
         if (fieldType == int.class) {
-            if (useFieldSet) {
+            if (primitiveSetter != null) {
+                primitiveSetter.invokeExact(object, value);
+            } else if (useFieldSet) {
                 field.setInt(object, value);
             } else if (injector != null) {
                 injector.invoke(object, value);
@@ -594,7 +631,9 @@ public class Injector {
 
     private void injectAsShort(Object object, short value) throws Throwable {
         if (fieldType == short.class) {
-            if (useFieldSet) {
+            if (primitiveSetter != null) {
+                primitiveSetter.invokeExact(object, value);
+            } else if (useFieldSet) {
                 field.setShort(object, value);
             } else if (injector != null) {
                 injector.invoke(object, value);
@@ -610,7 +649,9 @@ public class Injector {
 
     private void injectAsByte(Object object, byte value) throws Throwable {
         if (fieldType == byte.class) {
-            if (useFieldSet) {
+            if (primitiveSetter != null) {
+                primitiveSetter.invokeExact(object, value);
+            } else if (useFieldSet) {
                 field.setByte(object, value);
             } else if (injector != null) {
                 injector.invoke(object, value);
@@ -626,7 +667,9 @@ public class Injector {
 
     private void injectAsFloat(Object object, float value) throws Throwable {
         if (fieldType == float.class) {
-            if (useFieldSet) {
+            if (primitiveSetter != null) {
+                primitiveSetter.invokeExact(object, value);
+            } else if (useFieldSet) {
                 field.setFloat(object, value);
             } else if (injector != null) {
                 injector.invoke(object, value);
@@ -642,7 +685,9 @@ public class Injector {
 
     private void injectAsDouble(Object object, double value) throws Throwable {
         if (fieldType == double.class) {
-            if (useFieldSet) {
+            if (primitiveSetter != null) {
+                primitiveSetter.invokeExact(object, value);
+            } else if (useFieldSet) {
                 field.setDouble(object, value);
             } else if (injector != null) {
                 injector.invoke(object, value);
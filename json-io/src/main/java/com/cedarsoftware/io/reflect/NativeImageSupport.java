@@ -0,0 +1,51 @@
+package com.cedarsoftware.io.reflect;
+
+/**
+ * Decides whether {@link Accessor} and {@link Injector} may use their JDK 9+ acceleration paths
+ * ({@code privateLookupIn}, {@code VarHandle}, and {@code LambdaMetafactory}-spun lambdas).
+ * <p>
+ * Inside a GraalVM native image none of these are worth it: lambdas cannot be spun at run time and
+ * VarHandles/private lookups need extra build-time registration. There, and whenever
+ * {@code -Djson-io.reflect.plain=true} is set, accessors and injectors are built on
+ * {@code setAccessible} + {@link java.lang.invoke.MethodHandle} (falling back to {@code Field.get/set}),
+ * which only needs the field to be registered for reflection.
+ *
+ * @author John DeRegnaucourt (jdereg@gmail.com)
+ *         <br>
+ *         Copyright (c) Cedar Software LLC
+ *         <br><br>
+ *         Licensed under the Apache License, Version 2.0 (the "License");
+ *         you may not use this file except in compliance with the License.
+ *         You may obtain a copy of the License at
+ *         <br><br>
+ *         <a href="http://www.apache.org/licenses/LICENSE-2.0">License</a>
+ *         <br><br>
+ *         Unless required by applicable law or agreed to in writing, software
+ *         distributed under the License is distributed on an "AS IS" BASIS,
+ *         WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *         See the License for the specific language governing permissions and
+ *         limitations under the License.
+ */
+final class NativeImageSupport {
+    /** Set by GraalVM to "buildtime" or "runtime" while building or running a native image. */
+    static final String IMAGE_CODE_PROPERTY = "org.graalvm.nativeimage.imagecode";
+    static final String PLAIN_REFLECTION_PROPERTY = "json-io.reflect.plain";
+
+    private static volatile boolean plainReflection = System.getProperty(IMAGE_CODE_PROPERTY) != null
+            || Boolean.getBoolean(PLAIN_REFLECTION_PROPERTY);
+
+    private NativeImageSupport() {
+    }
+
+    /**
+     * @return true when accessors/injectors must avoid VarHandle, privateLookupIn, and LambdaMetafactory
+     */
+    static boolean isPlainReflection() {
+        return plainReflection;
+    }
+
+    // Tests only: affects accessors/injectors created afterwards
+    static void setPlainReflection(boolean plain) {
+        plainReflection = plain;
+    }
+}
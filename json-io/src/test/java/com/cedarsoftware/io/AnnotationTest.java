@@ -1024,8 +1024,80 @@ class AnnotationTest {
         }
     }
 
+    static class CreatorThatValidates {
+        final int quantity;
+
+        @IoCreator
+        CreatorThatValidates(int quantity) {
+            if (quantity < 0) {
+                throw new IllegalArgumentException("quantity must be >= 0");
+            }
+            this.quantity = quantity;
+        }
+    }
+
+    static class CreatorThatOverflows {
+        @IoCreator
+        CreatorThatOverflows(int depth) {
+            throw new StackOverflowError("depth " + depth);
+        }
+    }
+
+    @IoIncludeProperties({"kept"})
+    static class CreatorWithIncludeList {
+        final String kept;
+        final String dropped;
+
+        @IoCreator
+        CreatorWithIncludeList(String kept, String dropped) {
+            this.kept = kept;
+            this.dropped = dropped;
+        }
+    }
+
     // ===================== @IoCreator Tests =====================
 
+    @Test
+    void testIoCreatorReusedAcrossManyInstances() {
+        ReadOptions ro = new ReadOptionsBuilder().build();
+        for (int i = 0; i < 200; i++) {
+            // "age" arrives as a string: converted to the int parameter
+            String json = "{\"name\":\"n" + i + "\",\"age\":\"" + i + "\"}";
+            CreatorConstructorModel obj = JsonIo.toJava(json, ro).asClass(CreatorConstructorModel.class);
+            assertEquals("n" + i, obj.name);
+            assertEquals(i, obj.age);
+        }
+    }
+
+    @Test
+    void testIoCreatorExceptionIsWrapped() {
+        ReadOptions ro = new ReadOptionsBuilder().build();
+        JsonIoException e = assertThrows(JsonIoException.class,
+                () -> JsonIo.toJava("{\"quantity\":-1}", ro).asClass(CreatorThatValidates.class));
+        Throwable cause = e;
+        while (cause != null && !(cause instanceof IllegalArgumentException)) {
+            cause = cause.getCause();
+        }
+        assertNotNull(cause, "creator's exception should be in the cause chain");
+        assertEquals("quantity must be >= 0", cause.getMessage());
+        assertEquals(4, JsonIo.toJava("{\"quantity\":4}", ro).asClass(CreatorThatValidates.class).quantity);
+    }
+
+    @Test
+    void testIoCreatorErrorIsNotWrapped() {
+        StackOverflowError e = assertThrows(StackOverflowError.class,
+                () -> JsonIo.toJava("{\"depth\":3}", new ReadOptionsBuilder().build()).asClass(CreatorThatOverflows.class));
+        assertEquals("depth 3", e.getMessage());
+    }
+
+    @Test
+    void testIoCreatorNonIncludedParamIsNull() {
+        String json = "{\"kept\":\"a\",\"dropped\":\"b\"}";
+        CreatorWithIncludeList obj = JsonIo.toJava(json, new ReadOptionsBuilder().build()).asClass(CreatorWithIncludeList.class);
+        assertEquals("a", obj.kept);
+        assertNull(obj.dropped);
+    }
+
     @Test
     void testIoCreatorConstructor() {
         String json = "{\"name\":\"Alice\",\"age\":30}";
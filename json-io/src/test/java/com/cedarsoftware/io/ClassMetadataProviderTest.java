@@ -0,0 +1,120 @@
+package com.cedarsoftware.io;
+
+import java.util.Map;
+
+import com.cedarsoftware.io.annotation.IoAlias;
+import com.cedarsoftware.io.annotation.IoIgnore;
+import com.cedarsoftware.io.annotation.IoProperty;
+import com.cedarsoftware.io.annotation.IoPropertyOrder;
+import com.cedarsoftware.io.reflect.AnnotationResolver;
+import com.cedarsoftware.io.reflect.ClassMetadataProvider;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for precomputed annotation metadata supplied through {@link ClassMetadataProvider}.
+ * {@link Provider} is registered in META-INF/services under src/test/resources.
+ */
+class ClassMetadataProviderTest {
+
+    /** Carries no annotations: everything json-io knows about it comes from {@link Provider}. */
+    static class Precomputed {
+        String name;
+        String secret;
+        int age;
+    }
+
+    @IoPropertyOrder({"age", "name"})
+    static class Annotated {
+        @IoProperty("full_name")
+        @IoAlias({"nm"})
+        String name;
+        @IoIgnore
+        String secret;
+        int age;
+    }
+
+    static class Registered {
+        String code;
+    }
+
+    public static class Provider implements ClassMetadataProvider {
+        @Override
+        public AnnotationResolver.ClassAnnotationMetadata getMetadata(Class<?> clazz) {
+            if (clazz == Precomputed.class) {
+                return AnnotationResolver.metadataBuilder(clazz)
+                        .rename("name", "full_name")
+                        .ignore("secret")
+                        .typeName("Pre")
+                        .build();
+            }
+            return null;
+        }
+    }
+
+    @Test
+    void testServiceLoadedProviderReplacesScan() {
+        Precomputed p = new Precomputed();
+        p.name = "Ann";
+        p.secret = "hidden";
+        p.age = 30;
+
+        String json = JsonIo.toJson(p, new WriteOptionsBuilder().showTypeInfoNever().build());
+        assertTrue(json.contains("\"full_name\":\"Ann\""), json);
+        assertFalse(json.contains("secret"), json);
+
+        Precomputed back = JsonIo.toJava("{\"full_name\":\"Bob\",\"secret\":\"x\",\"age\":4}", null).asClass(Precomputed.class);
+        assertEquals("Bob", back.name);
+        assertNull(back.secret);
+        assertEquals(4, back.age);
+        assertEquals(Precomputed.class.getName(), AnnotationResolver.resolveAnnotationAlias("Pre"));
+    }
+
+    @Test
+    void testBuilderMatchesReflectiveScan() {
+        AnnotationResolver.ClassAnnotationMetadata scanned = AnnotationResolver.getMetadata(Annotated.class);
+        AnnotationResolver.ClassAnnotationMetadata built = AnnotationResolver.metadataBuilder(Annotated.class)
+                .propertyOrder("age", "name")
+                .ignore("secret")
+                .rename("name", "full_name")
+                .alias("nm", "name")
+                .build();
+
+        assertEquals(scanned.getSerializedName("name"), built.getSerializedName("name"));
+        assertEquals(scanned.isIgnored("secret"), built.isIgnored("secret"));
+        assertEquals(scanned.getAliasToFieldName(), built.getAliasToFieldName());
+        assertArrayEquals(scanned.getPropertyOrder(), built.getPropertyOrder());
+        Map<String, String> aliases = built.getAliasToFieldName();
+        assertEquals("name", aliases.get("full_name"));
+    }
+
+    @Test
+    void testRegisteredProvider() {
+        ClassMetadataProvider provider = clazz -> clazz == Registered.class
+                ? AnnotationResolver.metadataBuilder(clazz).rename("code", "c").build()
+                : null;
+        AnnotationResolver.registerMetadataProvider(provider);
+        try {
+            Registered r = new Registered();
+            r.code = "X1";
+            String json = JsonIo.toJson(r, new WriteOptionsBuilder().showTypeInfoNever().build());
+            assertTrue(json.contains("\"c\":\"X1\""), json);
+        } finally {
+            AnnotationResolver.removeMetadataProvider(provider);
+        }
+        assertFalse(AnnotationResolver.removeMetadataProvider(provider));
+    }
+
+    @Test
+    void testUnloadableClassReferenceFails() {
+        AnnotationResolver.MetadataBuilder builder = AnnotationResolver.metadataBuilder(Registered.class)
+                .classFactory("com.example.DoesNotExist");
+        assertThrows(IllegalStateException.class, builder::build);
+    }
+}
@@ -0,0 +1,121 @@
+package com.cedarsoftware.io;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * ConfigTables is generated from src/main/resources/config/*.txt so option builders need not parse those
+ * files at class init. These tests fail when a config file changes and the tables were not regenerated.
+ * To regenerate, run {@link #main(String[])} from the json-io module directory (after test-compile):
+ * <pre>
+ * java -cp target/classes:target/test-classes:&lt;java-util jar&gt; com.cedarsoftware.io.ConfigTablesTest
+ * </pre>
+ */
+class ConfigTablesTest {
+    private static final Path TARGET = Paths.get("src/main/java/com/cedarsoftware/io/ConfigTables.java");
+
+    @Test
+    void mapTablesMatchConfigFiles() {
+        for (String resource : ConfigTables.MAP_RESOURCES) {
+            Map<String, String> expected = MetaUtils.loadMapDefinition(resource);
+            Map<String, String> actual = ConfigTables.loadMapDefinition(resource);
+            assertThat(actual).as(resource).containsExactlyEntriesOf(expected);
+        }
+    }
+
+    @Test
+    void setTablesMatchConfigFiles() {
+        for (String resource : ConfigTables.SET_RESOURCES) {
+            Set<String> expected = MetaUtils.loadSetDefinition(resource);
+            assertThat(ConfigTables.loadSetDefinition(resource)).as(resource).containsExactlyElementsOf(expected);
+        }
+    }
+
+    @Test
+    void unknownResourcesFallBackToClasspath() {
+        assertThat(ConfigTables.loadMapDefinition("config/classFactory.txt")).isNotEmpty();
+        assertThrows(JsonIoException.class, () -> ConfigTables.loadMapDefinition("config/noSuchTable.txt"));
+        assertThrows(JsonIoException.class, () -> ConfigTables.loadSetDefinition("config/noSuchTable.txt"));
+    }
+
+    @Test
+    void arrayTypeNamesMatchJvmNames() {
+        assertThat(ReadOptionsBuilder.arrayTypeName("int")).isEqualTo(int[].class.getName());
+        assertThat(ReadOptionsBuilder.arrayTypeName("boolean")).isEqualTo(boolean[].class.getName());
+        assertThat(ReadOptionsBuilder.arrayTypeName("java.lang.String")).isEqualTo(String[].class.getName());
+        assertThat(ReadOptionsBuilder.arrayTypeName(ReadOptionsBuilder.arrayTypeName("long"))).isEqualTo(long[][].class.getName());
+        assertThat(ReadOptionsBuilder.arrayTypeName(ReadOptionsBuilder.arrayTypeName("java.util.Date")))
+                .isEqualTo(java.util.Date[][].class.getName());
+    }
+
+    @Test
+    void baseAliasesIncludeArrayForms() {
+        ReadOptions options = ReadOptionsBuilder.getDefaultReadOptions();
+        assertThat(options.getTypeNameAlias("ArrayList")).isEqualTo("java.util.ArrayList");
+        assertThat(options.getTypeNameAlias("int[][]")).isEqualTo(int[][].class.getName());
+        assertThat(options.getTypeNameAlias("String[]")).isEqualTo(String[].class.getName());
+        assertThat(WriteOptionsBuilder.getDefaultWriteOptions().getTypeNameAlias(String[][][].class.getName()))
+                .isEqualTo("String[][][]");
+    }
+
+    /**
+     * Regenerates ConfigTables.java from the config/*.txt resources.
+     */
+    public static void main(String[] args) throws IOException {
+        StringBuilder out = new StringBuilder();
+        String template = new String(Files.readAllBytes(TARGET), StandardCharsets.UTF_8);
+        int marker = template.indexOf(GENERATED_MARKER);
+        if (marker < 0) {
+            throw new IllegalStateException("Marker not found in " + TARGET);
+        }
+        out.append(template, 0, marker + GENERATED_MARKER.length()).append('\n');
+        for (String resource : ConfigTables.MAP_RESOURCES) {
+            Map<String, String> map = MetaUtils.loadMapDefinition(resource);
+            out.append("    private static final String[] ").append(constantName(resource)).append(" = {\n");
+            for (Map.Entry<String, String> entry : map.entrySet()) {
+                out.append("            ").append(quote(entry.getKey())).append(", ").append(quote(entry.getValue())).append(",\n");
+            }
+            out.append("    };\n\n");
+        }
+        for (String resource : ConfigTables.SET_RESOURCES) {
+            Set<String> set = MetaUtils.loadSetDefinition(resource);
+            out.append("    private static final String[] ").append(constantName(resource)).append(" = {\n");
+            for (Iterator<String> i = set.iterator(); i.hasNext(); ) {
+                out.append("            ").append(quote(i.next())).append(",\n");
+            }
+            out.append("    };\n\n");
+        }
+        out.setLength(out.length() - 1);
+        out.append("}\n");
+        Files.write(TARGET, out.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static final String GENERATED_MARKER = "    // ---- generated by ConfigTablesTest.main() from config/*.txt; do not edit below ----\n";
+
+    static String constantName(String resource) {
+        String base = resource.substring(resource.lastIndexOf('/') + 1, resource.lastIndexOf('.'));
+        StringBuilder name = new StringBuilder();
+        for (char c : base.toCharArray()) {
+            if (Character.isUpperCase(c)) {
+                name.append('_');
+            }
+            name.append(Character.toUpperCase(c));
+        }
+        return name.toString();
+    }
+
+    private static String quote(String s) {
+        return '"' + s.replace("\\", "\\\\").replace("\"", "\\\"") + '"';
+    }
+}
@@ -1,8 +1,16 @@
 package com.cedarsoftware.io;
 
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
  * Tests for Resolver.DefaultReferenceTracker.
@@ -25,4 +33,107 @@ class DefaultReferenceTrackerTest {
         tracker.clear();
         assertEquals(0, tracker.size());
     }
+
+    @Test
+    void sequentialIdsAndReplacement() {
+        Resolver.DefaultReferenceTracker tracker = new Resolver.DefaultReferenceTracker(new ReadOptionsBuilder().build());
+        JsonObject[] objects = new JsonObject[5000];
+        for (int i = 1; i < objects.length; i++) {
+            objects[i] = new JsonObject();
+            assertNull(tracker.put(i, objects[i]));
+        }
+        assertEquals(objects.length - 1, tracker.size());
+        for (int i = 1; i < objects.length; i++) {
+            assertSame(objects[i], tracker.get(i));
+            assertSame(objects[i], tracker.get(Long.valueOf(i)));
+        }
+        JsonObject replacement = new JsonObject();
+        assertSame(objects[7], tracker.put(7L, replacement));
+        assertSame(replacement, tracker.get(7));
+        assertEquals(objects.length - 1, tracker.size());
+        assertNull(tracker.get(0));
+        assertNull(tracker.get(-1));
+        assertNull(tracker.get(objects.length));
+        assertNull(tracker.get((Long) null));
+    }
+
+    @Test
+    void sparseAndNegativeIdsMatchHashMap() {
+        Resolver.DefaultReferenceTracker tracker = new Resolver.DefaultReferenceTracker(new ReadOptionsBuilder().build());
+        Map<Long, JsonObject> expected = new HashMap<>();
+        Random random = new Random(41);
+        for (int i = 0; i < 20000; i++) {
+            long id = i < 500 ? i : (random.nextInt(200000) - 100000);
+            if (random.nextInt(10) == 0) {
+                assertSame(expected.remove(id), tracker.put(id, null));
+            } else {
+                JsonObject o = new JsonObject();
+                assertSame(expected.put(id, o), tracker.put(id, o));
+            }
+        }
+        assertEquals(expected.size(), tracker.size());
+        for (long id = -100000; id < 100000; id++) {
+            assertSame(expected.get(id), tracker.get(id));
+        }
+
+        tracker.clear();
+        assertEquals(0, tracker.size());
+        assertNull(tracker.get(3));
+        JsonObject o = new JsonObject();
+        tracker.put(3L, o);
+        assertSame(o, tracker.get(3));
+    }
+
+    @Test
+    void referenceChainsAreFollowed() {
+        Resolver.DefaultReferenceTracker tracker = new Resolver.DefaultReferenceTracker(new ReadOptionsBuilder().build());
+        JsonObject end = new JsonObject();
+        tracker.put(100L, end);
+        for (long id = 1; id < 10; id++) {
+            tracker.put(id, reference(id + 1));
+        }
+        tracker.put(10L, reference(100));
+        assertSame(end, tracker.get(1));
+        assertSame(end, tracker.getOrThrow(5L));
+
+        tracker.put(20L, reference(21));
+        assertNull(tracker.get(20));
+        assertThrows(JsonIoException.class, () -> tracker.getOrThrow(20L));
+    }
+
+    @Test
+    void circularChainsAreDetected() {
+        Resolver.DefaultReferenceTracker tracker = new Resolver.DefaultReferenceTracker(new ReadOptionsBuilder().build());
+        tracker.put(1L, reference(1));
+        JsonIoException e = assertThrows(JsonIoException.class, () -> tracker.get(1));
+        assertTrue(e.getMessage().contains("Circular reference"));
+
+        // tail of 3 leading into a cycle of 5: 50 -> 51 -> 52 -> 60 -> 61 -> 62 -> 63 -> 64 -> 60
+        tracker.put(50L, reference(51));
+        tracker.put(51L, reference(52));
+        tracker.put(52L, reference(60));
+        for (long id = 60; id < 64; id++) {
+            tracker.put(id, reference(id + 1));
+        }
+        tracker.put(64L, reference(60));
+        e = assertThrows(JsonIoException.class, () -> tracker.get(50));
+        assertTrue(e.getMessage().contains("Circular reference detected in reference chain starting with id: 50"));
+    }
+
+    @Test
+    void referenceLimitIsEnforcedForNewIdsOnly() {
+        Resolver.DefaultReferenceTracker tracker = new Resolver.DefaultReferenceTracker(
+                new ReadOptionsBuilder().maxObjectReferences(2).build());
+        tracker.put(1L, new JsonObject());
+        tracker.put(1000000L, new JsonObject());
+        tracker.put(1L, new JsonObject());
+        JsonIoException e = assertThrows(JsonIoException.class, () -> tracker.put(2L, new JsonObject()));
+        assertTrue(e.getMessage().contains("Maximum number of object references"));
+    }
+
+    private static JsonObject reference(long id) {
+        JsonObject ref = new JsonObject();
+        ref.setReferenceId(id);
+        return ref;
+    }
 }
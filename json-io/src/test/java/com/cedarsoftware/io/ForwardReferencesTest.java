@@ -1,5 +1,7 @@
 package com.cedarsoftware.io;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -8,6 +10,7 @@ import java.util.Set;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 /**
  * @author John DeRegnaucourt (jdereg@gmail.com)
@@ -69,4 +72,52 @@ public class ForwardReferencesTest
         assertEquals((Integer) map.get(3L), 4);
         assertEquals((Integer) map.get(4L), 5);
     }
+
+    @Test
+    public void testForwardRefsKeepInsertionOrder()
+    {
+        String pkg = TestObject.class.getName();
+        String json = "{\"@type\":\"java.util.LinkedHashSet\",\"@items\":[\"a\",\"a\",{\"@ref\":1},\"b\",{\"@ref\":2},"
+                + "{\"@id\":2,\"@type\":\"" + pkg + "\",\"_name\":\"Y\"},\"c\",{\"@id\":1,\"@type\":\"" + pkg + "\",\"_name\":\"X\"}]}";
+        Set<?> set = TestUtil.toJava(json, null).asClass(null);
+        assertEquals("[a, X, b, Y, c]", names(set));
+
+        json = "{\"@type\":\"java.util.ArrayDeque\",\"@items\":[{\"@ref\":1},\"a\",{\"@id\":1,\"@type\":\"" + pkg + "\",\"_name\":\"X\"}]}";
+        Collection<?> deque = TestUtil.toJava(json, null).asClass(null);
+        assertEquals("[X, a, X]", names(deque));
+    }
+
+    @Test
+    public void testManyFieldForwardRefs()
+    {
+        String pkg = TestObject.class.getName();
+        StringBuilder json = new StringBuilder("[");
+        int count = 500;
+        for (int i = 1; i <= count; i++)
+        {
+            if (i > 1)
+            {
+                json.append(',');
+            }
+            json.append("{\"@id\":").append(i).append(",\"@type\":\"").append(pkg).append("\",\"_name\":\"n").append(i)
+                    .append("\",\"_other\":{\"@ref\":").append(i == count ? 1 : i + 1).append("}}");
+        }
+        json.append(']');
+        Object[] nodes = TestUtil.toJava(json.toString(), null).asClass(null);
+        assertEquals(count, nodes.length);
+        for (int i = 0; i < count; i++)
+        {
+            assertSame(nodes[(i + 1) % count], ((TestObject) nodes[i])._other);
+        }
+    }
+
+    private static String names(Collection<?> items)
+    {
+        List<String> names = new ArrayList<>();
+        for (Object item : items)
+        {
+            names.add(item instanceof TestObject ? ((TestObject) item)._name : String.valueOf(item));
+        }
+        return names.toString();
+    }
 }
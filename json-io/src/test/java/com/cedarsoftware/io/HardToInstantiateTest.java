@@ -1,7 +1,14 @@
 package com.cedarsoftware.io;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
 import org.junit.jupiter.api.Test;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 /**
@@ -46,4 +53,37 @@ public class HardToInstantiateTest
         assert "Joe".equals(tough.name);
         assert tough.number == 9;
     }
+
+    @Test
+    public void testUseUnsafeIsScopedToItsOwnRead() throws Exception
+    {
+        String json = "{\"@type\":\"com.cedarsoftware.io.HardToInstantiateTest$Tough\",\"name\":\"Joe\",\"number\":9}";
+        ReadOptions unsafe = new ReadOptionsBuilder().useUnsafe(true).build();
+        ReadOptions safe = new ReadOptionsBuilder().build();
+
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                final boolean useUnsafe = (i & 1) == 0;
+                futures.add(pool.submit(() -> {
+                    if (useUnsafe) {
+                        Tough tough = TestUtil.toJava(json, unsafe).asClass(Tough.class);
+                        assertEquals("Joe", tough.name);
+                        assertEquals(9, tough.number);
+                    } else {
+                        // A concurrent unsafe read must never leak constructor-free allocation into this one
+                        assertThrows(JsonIoException.class, () -> TestUtil.toJava(json, safe).asClass(Tough.class));
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        assertEquals(InstantiationPlan.Allocation.UNSAFE, InstantiationPlan.of(Tough.class).getAllocation());
+    }
 }
@@ -0,0 +1,83 @@
+package com.cedarsoftware.io;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests for {@link JsonIo#warmUp(java.util.Collection, ReadOptions, WriteOptions, int)}.
+ */
+class JsonIoWarmUpTest {
+
+    static class Account {
+        String owner;
+        long balance;
+        List<String> tags = new ArrayList<>();
+    }
+
+    static class Ledger {
+        Account primary;
+        Account[] others;
+    }
+
+    interface NotInstantiable {
+    }
+
+    @Test
+    void warmUpBuildsPlansForEveryClassInOrder() {
+        ReadOptions readOptions = new ReadOptionsBuilder().build();
+        WriteOptions writeOptions = new WriteOptionsBuilder().build();
+        JsonIo.WarmUpReport report = JsonIo.warmUp(Arrays.asList(Ledger.class, Account.class, null, Ledger.class),
+                readOptions, writeOptions);
+
+        assertThat(report.isSuccessful()).isTrue();
+        assertThat(report.getNanosByClass()).containsOnlyKeys(Ledger.class, Account.class);
+        assertThat(new ArrayList<>(report.getNanosByClass().keySet())).containsExactly(Ledger.class, Account.class);
+        assertThat(report.getNanosByClass().values()).allMatch(nanos -> nanos >= 0);
+        assertThat(report.getElapsedNanos()).isGreaterThanOrEqualTo(0);
+        assertThat(report.toString()).contains("classes=2", "failures=0");
+
+        // Caches were filled for these options instances
+        assertThat(WriteOptionsBuilder.getWriteFieldPlans(writeOptions, Account.class))
+                .isSameAs(WriteOptionsBuilder.getWriteFieldPlans(writeOptions, Account.class));
+        assertThat(ReadOptionsBuilder.getInjectorPlan(readOptions, Account.class))
+                .isSameAs(ReadOptionsBuilder.getInjectorPlan(readOptions, Account.class));
+    }
+
+    @Test
+    void roundTripsRunAndReportFailuresPerClass() {
+        JsonIo.WarmUpReport report = JsonIo.warmUp(Arrays.asList(Account.class, NotInstantiable.class, Ledger.class),
+                null, null, 3);
+
+        assertThat(report.isSuccessful()).isFalse();
+        assertThat(report.getNanosByClass()).containsOnlyKeys(Account.class, NotInstantiable.class, Ledger.class);
+        assertThat(report.getFailures()).containsOnlyKeys(NotInstantiable.class);
+    }
+
+    @Test
+    void warmedClassesStillRoundTrip() {
+        JsonIo.warmUp(Collections.singletonList(Account.class), null, null, 1);
+        Account account = new Account();
+        account.owner = "pat";
+        account.balance = 42;
+        account.tags.add("gold");
+        Account copy = JsonIo.toJava(JsonIo.toJson(account, null), null).asClass(Account.class);
+        assertThat(copy.owner).isEqualTo("pat");
+        assertThat(copy.balance).isEqualTo(42);
+        assertThat(copy.tags).containsExactly("gold");
+    }
+
+    @Test
+    void emptyAndInvalidInput() {
+        assertThat(JsonIo.warmUp(Collections.emptyList(), null, null).getNanosByClass()).isEmpty();
+        assertThrows(IllegalArgumentException.class, () -> JsonIo.warmUp(null, null, null));
+        assertThrows(IllegalArgumentException.class,
+                () -> JsonIo.warmUp(Collections.singletonList(Account.class), null, null, -1));
+    }
+}
@@ -1,7 +1,10 @@
 package com.cedarsoftware.io;
 
+import java.io.StringReader;
 import java.util.Map;
 
+import com.cedarsoftware.util.FastReader;
+import com.cedarsoftware.util.convert.Converter;
 import org.junit.jupiter.api.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -353,4 +356,125 @@ class JsonParserCoverageTest {
             assertThat(e).isInstanceOf(JsonIoException.class);
         }
     }
+
+    // ========== Array element stack ==========
+
+    @Test
+    void testNestedArraysKeepTheirOwnElements() {
+        String json = "[1,[2,[3,4],[],5],[],[[6]],7]";
+        Object[] outer = JsonIo.toJava(json, null).asClass(Object[].class);
+        assertThat(outer).hasSize(5);
+        assertThat(outer[0]).isEqualTo(1L);
+        Object[] second = (Object[]) outer[1];
+        assertThat(second).hasSize(4);
+        assertThat(second[0]).isEqualTo(2L);
+        assertThat((Object[]) second[1]).containsExactly(3L, 4L);
+        assertThat((Object[]) second[2]).isEmpty();
+        assertThat(second[3]).isEqualTo(5L);
+        assertThat((Object[]) outer[2]).isEmpty();
+        assertThat((Object[]) ((Object[]) outer[3])[0]).containsExactly(6L);
+        assertThat(outer[4]).isEqualTo(7L);
+        assertThat(outer[2]).isNotSameAs(second[2]);
+    }
+
+    @Test
+    void testLargeArraysAfterSmallOnesInMapsMode() {
+        StringBuilder json = new StringBuilder("{\"small\":[1,2],\"big\":[");
+        for (int i = 0; i < 5000; i++) {
+            json.append(i == 0 ? "" : ",").append('[').append(i).append(']');
+        }
+        json.append("],\"tail\":[\"x\"]}");
+        Map<?, ?> map = JsonIo.toMaps(json.toString(), null).asClass(Map.class);
+        assertThat((Object[]) map.get("small")).containsExactly(1L, 2L);
+        Object[] big = (Object[]) map.get("big");
+        assertThat(big).hasSize(5000);
+        for (int i = 0; i < big.length; i++) {
+            assertThat((Object[]) big[i]).containsExactly((long) i);
+        }
+        assertThat((Object[]) map.get("tail")).containsExactly("x");
+    }
+
+    // ========== Iterative parsing ==========
+
+    @Test
+    void testDeepNestingParsesOnSmallStackThread() throws Exception {
+        final int depth = 50_000;
+        ReadOptions options = new ReadOptionsBuilder().maxDepth(depth + 10).build();
+        StringBuilder arrays = new StringBuilder();
+        StringBuilder objects = new StringBuilder();
+        for (int i = 0; i < depth; i++) {
+            arrays.append('[');
+            objects.append("{\"a\":");
+        }
+        arrays.append('1');
+        objects.append('1');
+        for (int i = 0; i < depth; i++) {
+            arrays.append(']');
+            objects.append('}');
+        }
+
+        Object[] results = new Object[2];
+        Throwable[] failure = new Throwable[1];
+        Thread thread = new Thread(null, () -> {
+            try {
+                results[0] = parseOnly(arrays.toString(), options);
+                results[1] = parseOnly(objects.toString(), options);
+            } catch (Throwable t) {
+                failure[0] = t;
+            }
+        }, "small-stack-parser", 256 * 1024);
+        thread.start();
+        thread.join();
+        assertThat(failure[0]).isNull();
+
+        Object node = results[0];
+        for (int i = 0; i < depth; i++) {
+            node = ((Object[]) node)[0];
+        }
+        assertThat(node).isEqualTo(1L);
+        node = results[1];
+        for (int i = 0; i < depth; i++) {
+            node = ((Map<?, ?>) node).get("a");
+        }
+        assertThat(node).isEqualTo(1L);
+    }
+
+    @Test
+    void testDepthGuardCountsOnlyValuesRead() {
+        ReadOptions options = new ReadOptionsBuilder().maxDepth(2).build();
+        assertThat(JsonIo.toMaps("[[[]]]", options).asClass(Object[].class)).hasSize(1);
+        assertThat(JsonIo.toMaps("[[{}]]", options).asClass(Object[].class)).hasSize(1);
+        assertThatThrownBy(() -> JsonIo.toMaps("[[[1]]]", options).asClass(Object[].class))
+                .isInstanceOf(JsonIoException.class)
+                .hasMessageContaining("Maximum parsing depth exceeded");
+        assertThatThrownBy(() -> JsonIo.toMaps("[{\"a\":{\"b\":1}}]", options).asClass(Object[].class))
+                .isInstanceOf(JsonIoException.class)
+                .hasMessageContaining("Maximum parsing depth exceeded");
+    }
+
+    @Test
+    void testMixedNestingMatchesExpectedShape() {
+        String json = "{\"list\":[{\"x\":[1,{\"y\":[]},[2,3]],\"z\":{}},[],\"s\"],\"n\":null,}";
+        Map<?, ?> map = JsonIo.toMaps(json, null).asClass(Map.class);
+        Object[] list = (Object[]) map.get("list");
+        assertThat(list).hasSize(3);
+        Map<?, ?> first = (Map<?, ?>) list[0];
+        Object[] x = (Object[]) first.get("x");
+        assertThat(x[0]).isEqualTo(1L);
+        assertThat((Object[]) ((Map<?, ?>) x[1]).get("y")).isEmpty();
+        assertThat((Object[]) x[2]).containsExactly(2L, 3L);
+        assertThat((Map<?, ?>) first.get("z")).isEmpty();
+        assertThat((Object[]) list[1]).isEmpty();
+        assertThat(list[2]).isEqualTo("s");
+        assertThat(map.containsKey("n")).isTrue();
+        assertThat(map.get("n")).isNull();
+    }
+
+    private static Object parseOnly(String json, ReadOptions options) throws Exception {
+        ReadOptions mapOptions = new ReadOptionsBuilder(options).returnAsJsonObjects().build();
+        Resolver resolver = new MapResolver(mapOptions, new Resolver.DefaultReferenceTracker(mapOptions),
+                new Converter(mapOptions.getConverterOptions()));
+        JsonParser parser = new JsonParser(new FastReader(new StringReader(json)), resolver);
+        return parser.readValue(null);
+    }
 }
@@ -0,0 +1,118 @@
+package com.cedarsoftware.io;
+
+import java.io.FilterReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.cedarsoftware.io.prettyprint.JsonPrettyPrinter;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests for the Reader/Writer entry points of {@link JsonPrettyPrinter} and {@link JsonIo#formatJson(Reader, java.io.Writer)}.
+ */
+class JsonPrettyPrinterStreamTest {
+
+    /** Hands out one char per read() call, so every token and escape straddles a buffer boundary. */
+    private static final class TrickleReader extends FilterReader {
+        TrickleReader(Reader in) {
+            super(in);
+        }
+
+        @Override
+        public int read(char[] cbuf, int off, int len) throws IOException {
+            return super.read(cbuf, off, Math.min(1, len));
+        }
+    }
+
+    private static String sampleJson() {
+        Map<String, Object> root = new LinkedHashMap<>();
+        root.put("name", "a \"quoted\" {value}, [with] : punctuation\\");
+        root.put("empty", new LinkedHashMap<>());
+        root.put("emptyList", new ArrayList<>());
+        List<Object> items = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            Map<String, Object> item = new LinkedHashMap<>();
+            item.put("id", i);
+            item.put("text", "line\n\ttab é " + i);
+            items.add(item);
+        }
+        root.put("items", items);
+        StringBuilder big = new StringBuilder();
+        for (int i = 0; i < 20_000; i++) {
+            big.append((char) ('a' + i % 26));
+        }
+        root.put("big", big.toString());
+        return JsonIo.toJson(root, new WriteOptionsBuilder().showTypeInfoNever().build());
+    }
+
+    @Test
+    void testStreamingMatchesStringVersion() {
+        String json = sampleJson();
+        String expected = JsonPrettyPrinter.prettyPrint(json);
+
+        StringWriter out = new StringWriter();
+        JsonPrettyPrinter.prettyPrint(new StringReader(json), out, null);
+        assertEquals(expected, out.toString());
+
+        out = new StringWriter();
+        JsonPrettyPrinter.prettyPrint(new TrickleReader(new StringReader(json)), out, WriteOptionsBuilder.getDefaultWriteOptions());
+        assertEquals(expected, out.toString());
+
+        out = new StringWriter();
+        JsonIo.formatJson(new StringReader(json), out);
+        assertEquals(JsonIo.formatJson(json), out.toString());
+    }
+
+    @Test
+    void testPrettyOutputParsesBackToSameValue() {
+        String json = sampleJson();
+        StringWriter out = new StringWriter();
+        JsonPrettyPrinter.prettyPrint(new TrickleReader(new StringReader(json)), out, null);
+        Map<?, ?> original = JsonIo.toMaps(json).asClass(Map.class);
+        Map<?, ?> pretty = JsonIo.toMaps(out.toString()).asClass(Map.class);
+        assertEquals(JsonIo.toJson(original, null), JsonIo.toJson(pretty, null));
+    }
+
+    @Test
+    void testEmptyContainersKeepIndentation() {
+        String json = "{\"a\":{},\"b\":[ ],\"c\":{\"d\":1}}";
+        String expected = "{\n" +
+                "  \"a\":{},\n" +
+                "  \"b\":[],\n" +
+                "  \"c\":{\n" +
+                "    \"d\":1\n" +
+                "  }\n" +
+                "}";
+        assertEquals(expected, JsonPrettyPrinter.prettyPrint(json));
+    }
+
+    @Test
+    void testIndentationSizeIsHonored() {
+        WriteOptions four = new WriteOptionsBuilder().indentationSize(4).build();
+        StringWriter out = new StringWriter();
+        JsonPrettyPrinter.prettyPrint(new StringReader("[1,[2]]"), out, four);
+        assertEquals("[\n    1,\n    [\n        2\n    ]\n]", out.toString());
+    }
+
+    @Test
+    void testMinifyRemovesWhitespaceOutsideStringsOnly() {
+        String json = sampleJson();
+        String pretty = JsonPrettyPrinter.prettyPrint(json);
+        assertEquals(json, JsonPrettyPrinter.minify(pretty));
+
+        StringWriter out = new StringWriter();
+        JsonPrettyPrinter.minify(new TrickleReader(new StringReader(pretty)), out);
+        assertEquals(json, out.toString());
+
+        assertEquals("{\"k\":\" a  b \\\" c \"}", JsonPrettyPrinter.minify(" { \"k\" : \" a  b \\\" c \" } "));
+        assertEquals(null, JsonPrettyPrinter.minify(null));
+    }
+}
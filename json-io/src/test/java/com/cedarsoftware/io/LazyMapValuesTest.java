@@ -0,0 +1,166 @@
+package com.cedarsoftware.io;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.math.BigDecimal;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests for {@link ReadOptionsBuilder#lazyMapValues(boolean)}.
+ */
+class LazyMapValuesTest {
+
+    private static final String JSON = "{\"event\":{\"type\":\"click\",\"at\":1700000000123,\"ratio\":0.25},"
+            + "\"user\":{\"name\":\"Pat \\\"P\\\" Smith\",\"tags\":[\"a\",\"b\"],\"active\":true,\"manager\":null},"
+            + "\"items\":[{\"sku\":\"x-1\",\"qty\":2},{\"sku\":\"x-2\",\"qty\":-7}],\"empty\":{},\"none\":[]}";
+
+    private static final ReadOptions LAZY = new ReadOptionsBuilder().lazyMapValues(true).build();
+
+    private static JsonObject lazy(String json, ReadOptions options) {
+        return JsonIo.toMaps(json, options).asClass(JsonObject.class);
+    }
+
+    private static String canonical(Object value) {
+        return JsonIo.toJson(value, new WriteOptionsBuilder().showTypeInfoNever().build());
+    }
+
+    @Test
+    void lazyTreeMatchesEagerTree() {
+        JsonObject eager = JsonIo.toMaps(JSON, null).asClass(JsonObject.class);
+        JsonObject lazy = lazy(JSON, LAZY);
+        assertThat(canonical(lazy)).isEqualTo(canonical(eager));
+        assertThat(lazy.get("event")).isEqualTo(eager.get("event"));
+        assertThat(lazy.get("event").hashCode()).isEqualTo(eager.get("event").hashCode());
+        assertThat(canonical(JsonIo.toMaps(JSON, LAZY).asClass(null))).isEqualTo(canonical(eager));
+    }
+
+    @Test
+    void valuesDecodeOnAccess() {
+        JsonObject root = lazy(JSON, LAZY);
+        JsonObject event = (JsonObject) root.get("event");
+        assertThat(event.get("type")).isEqualTo("click");
+        assertThat(event.get("at")).isEqualTo(1700000000123L);
+        assertThat(event.get("ratio")).isEqualTo(0.25d);
+
+        JsonObject user = (JsonObject) root.get("user");
+        assertThat(user.get("name")).isEqualTo("Pat \"P\" Smith");
+        assertThat((Object[]) user.get("tags")).containsExactly("a", "b");
+        assertThat(user.get("active")).isEqualTo(Boolean.TRUE);
+        assertThat(user.containsKey("manager")).isTrue();
+        assertThat(user.get("manager")).isNull();
+
+        Object[] items = (Object[]) root.get("items");
+        assertThat(items).hasSize(2);
+        assertThat(((Map<?, ?>) items[1]).get("qty")).isEqualTo(-7L);
+        assertThat((Map<?, ?>) root.get("empty")).isEmpty();
+        assertThat((Object[]) root.get("none")).isEmpty();
+
+        // A decoded value is kept, not decoded again
+        assertThat(root.get("event")).isSameAs(event);
+    }
+
+    @Test
+    void iterationAndMutationSeeDecodedValues() {
+        JsonObject event = (JsonObject) lazy(JSON, LAZY).get("event");
+        assertThat(event.values()).containsExactly("click", 1700000000123L, 0.25d);
+        for (Map.Entry<Object, Object> entry : event.entrySet()) {
+            assertThat(entry.getValue()).isNotInstanceOf(LazyJson.Value.class);
+        }
+        assertThat(event.containsValue("click")).isTrue();
+        assertThat(event.put("type", "scroll")).isEqualTo("click");
+        assertThat(event.remove("at")).isEqualTo(1700000000123L);
+        assertThat(event).containsEntry("type", "scroll").doesNotContainKey("at");
+    }
+
+    @Test
+    void numberOptionsApplyToLazyValues() {
+        ReadOptions options = new ReadOptionsBuilder().lazyMapValues(true).floatPointBigDecimal().build();
+        JsonObject root = lazy("{\"price\":19.99}", options);
+        assertThat(root.get("price")).isEqualTo(new BigDecimal("19.99"));
+    }
+
+    @Test
+    void numbersMatchEagerRead() {
+        String json = "{\"n\":[0,-0,7,-42,123456789012345678,1234567890123456789,99999999999999999999,"
+                + "1.5,-0.25,1e3,2E-2,6.02e+23,-0.0]}";
+        ReadOptionsBuilder[] builders = {
+                new ReadOptionsBuilder(),
+                new ReadOptionsBuilder().integerTypeBigInteger(),
+                new ReadOptionsBuilder().integerTypeBoth(),
+                new ReadOptionsBuilder().floatPointBigDecimal(),
+                new ReadOptionsBuilder().floatPointBoth()
+        };
+        for (ReadOptionsBuilder builder : builders) {
+            ReadOptions eagerOptions = builder.build();
+            ReadOptions lazyOptions = new ReadOptionsBuilder(eagerOptions).lazyMapValues(true).build();
+            Object[] eager = (Object[]) lazy(json, eagerOptions).get("n");
+            Object[] lazy = (Object[]) lazy(json, lazyOptions).get("n");
+            assertThat(lazy).containsExactly(eager);
+        }
+        // Not plain JSON numbers: left to the parser, which decides
+        String odd = "{\"a\":[01,+2,0x1F,1.,.5]}";
+        assertThat((Object[]) lazy(odd, LAZY).get("a")).containsExactly((Object[]) lazy(odd, null).get("a"));
+    }
+
+    @Test
+    void json5InputIsReadLazily() {
+        String json5 = "// header\n{name:'Pat', /* inline */ list:[1,2,], hex:0x1F, nested:{a:1,},}";
+        JsonObject root = lazy(json5, LAZY);
+        assertThat(root.get("name")).isEqualTo("Pat");
+        assertThat((Object[]) root.get("list")).containsExactly(1L, 2L);
+        assertThat(root.get("hex")).isEqualTo(31L);
+        assertThat(((Map<?, ?>) root.get("nested")).get("a")).isEqualTo(1L);
+    }
+
+    @Test
+    void metadataDocumentsAreReadEagerly() {
+        String json = "{\"a\":{\"@id\":1,\"v\":\"x\"},\"b\":{\"@ref\":1}}";
+        JsonObject root = lazy(json, LAZY);
+        assertThat(root.get("b")).isSameAs(root.get("a"));
+        assertThat(((Map<?, ?>) root.get("b")).get("v")).isEqualTo("x");
+    }
+
+    @Test
+    void nonObjectRoots() {
+        Object[] array = JsonIo.toMaps("[{\"a\":1},\"s\",2]", LAZY).asClass(null);
+        assertThat(((Map<?, ?>) array[0]).get("a")).isEqualTo(1L);
+        assertThat(array[1]).isEqualTo("s");
+        assertThat(array[2]).isEqualTo(2L);
+        assertThat((Object) JsonIo.toMaps("\"plain\"", LAZY).asClass(null)).isEqualTo("plain");
+    }
+
+    @Test
+    void malformedInputStillFails() {
+        assertThrows(JsonIoException.class, () -> lazy("{\"a\":1", LAZY));
+        assertThrows(JsonIoException.class, () -> lazy("{\"a\" 1}", LAZY));
+        JsonObject root = lazy("{\"a\":tru}", LAZY);
+        assertThrows(JsonIoException.class, () -> root.get("a"));
+    }
+
+    @Test
+    void serializedTreeHoldsDecodedValues() throws Exception {
+        JsonObject root = lazy(JSON, LAZY);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(root);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            JsonObject copy = (JsonObject) in.readObject();
+            assertThat(((Map<?, ?>) copy.get("event")).get("type")).isEqualTo("click");
+        }
+    }
+
+    @Test
+    void optionIsOffByDefaultAndCopied() {
+        assertThat(new ReadOptionsBuilder().build().isLazyMapValues()).isFalse();
+        assertThat(new ReadOptionsBuilder(LAZY).build().isLazyMapValues()).isTrue();
+        assertThat(lazy(JSON, null).get("event")).isInstanceOf(JsonObject.class);
+    }
+}
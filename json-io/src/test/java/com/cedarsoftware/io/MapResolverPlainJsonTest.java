@@ -0,0 +1,63 @@
+package com.cedarsoftware.io;
+
+import java.io.StringReader;
+import java.util.Map;
+
+import com.cedarsoftware.util.FastReader;
+import com.cedarsoftware.util.convert.Converter;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests that Maps-mode reads of JSON without any metadata fields return the parsed tree without walking it,
+ * and that the result matches what the full traversal produces.
+ */
+class MapResolverPlainJsonTest {
+
+    private static final String PLAIN = "{\"a\":1,\"b\":[1,2.5,\"x\",null,true,[3,[4]],{\"c\":{}}],\"d\":{\"e\":[]},\"s\":\"@type\"}";
+
+    private static Object[] read(String json, boolean allowPlain) throws Exception {
+        ReadOptions options = new ReadOptionsBuilder().returnAsJsonObjects().build();
+        MapResolver resolver = new MapResolver(options, new Resolver.DefaultReferenceTracker(options),
+                new Converter(options.getConverterOptions()));
+        Object parsed = new JsonParser(new FastReader(new StringReader(json)), resolver).readValue(null);
+        boolean plain = resolver.plainJson;
+        if (!allowPlain) {
+            resolver.setPlainJson(false);
+        }
+        Object result = resolver.toJava(null, parsed);
+        resolver.cleanup();
+        return new Object[] {parsed, result, plain};
+    }
+
+    @Test
+    void plainJsonIsReturnedAsParsed() throws Exception {
+        Object[] fast = read(PLAIN, true);
+        Object[] walked = read(PLAIN, false);
+
+        assertThat(fast[2]).isEqualTo(true);
+        assertThat(fast[1]).isSameAs(fast[0]);
+        assertThat(((JsonObject) fast[1]).getType()).isEqualTo(((JsonObject) walked[1]).getType());
+        WriteOptions writeOptions = new WriteOptionsBuilder().showTypeInfoNever().build();
+        assertThat(JsonIo.toJson(fast[1], writeOptions)).isEqualTo(JsonIo.toJson(walked[1], writeOptions));
+    }
+
+    @Test
+    void anyMetadataFieldDisablesShortcut() throws Exception {
+        assertThat(read("{\"a\":{\"b\":[{\"@id\":1,\"x\":1},{\"@ref\":1}]}}", true)[2]).isEqualTo(false);
+        assertThat(read("[{\"x\":{\"@type\":\"java.util.TreeMap\",\"b\":1,\"a\":2}}]", true)[2]).isEqualTo(false);
+        assertThat(read("{\"$type\":\"java.util.LinkedHashMap\"}", true)[2]).isEqualTo(false);
+        assertThat(read("[1,2,3]", true)[2]).isEqualTo(true);
+    }
+
+    @Test
+    void referencesStillResolveThroughPublicApi() {
+        Map<?, ?> map = JsonIo.toMaps("{\"a\":{\"@id\":1,\"v\":7},\"b\":{\"@ref\":1}}", null).asClass(null);
+        assertThat(map.get("b")).isSameAs(map.get("a"));
+
+        Map<?, ?> plain = JsonIo.toMaps(PLAIN, null).asClass(null);
+        assertThat(((Object[]) plain.get("b"))).hasSize(7);
+        assertThat(plain.get("s")).isEqualTo("@type");
+    }
+}
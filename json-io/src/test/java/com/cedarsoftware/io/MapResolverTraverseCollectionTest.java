@@ -99,7 +99,7 @@ class MapResolverTraverseCollectionTest {
         assertEquals("str", list.get(7));
         assertNull(list.get(8));
 
-        assertEquals(1, resolver.unresolvedRefs.size());
+        assertEquals(1, resolver.getUnresolvedReferenceCount());
     }
 
     private enum TestEnum { A }
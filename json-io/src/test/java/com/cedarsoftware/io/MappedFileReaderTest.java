@@ -0,0 +1,126 @@
+package com.cedarsoftware.io;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests for {@link MappedFileReader} and the {@code JsonIo.toJava(Path)} / {@code toMaps(Path)} overloads.
+ */
+class MappedFileReaderTest {
+
+    @TempDir
+    Path tempDir;
+
+    static class Person {
+        String name;
+        int age;
+        List<String> tags;
+    }
+
+    private static String readAll(Reader reader, int chunk) throws IOException {
+        StringBuilder sb = new StringBuilder();
+        char[] buf = new char[chunk];
+        int n;
+        while ((n = reader.read(buf, 0, buf.length)) != -1) {
+            sb.append(buf, 0, n);
+        }
+        return sb.toString();
+    }
+
+    private Path write(String content) throws IOException {
+        Path file = Files.createTempFile(tempDir, "json", ".json");
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+
+    @Test
+    void testDecodesMultiByteSequencesAcrossWindowBoundaries() throws IOException {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 500; i++) {
+            sb.append("aé€😀 ");    // 1, 2, 3 and 4 byte UTF-8 sequences
+        }
+        String text = sb.toString();
+        Path file = write(text);
+
+        for (int window : new int[]{16, 17, 18, 19, 31, 4096}) {
+            for (int chunk : new int[]{1, 3, 64, 8192}) {
+                try (MappedFileReader reader = new MappedFileReader(file, window)) {
+                    assertEquals(text, readAll(reader, chunk), "window=" + window + " chunk=" + chunk);
+                }
+            }
+        }
+    }
+
+    @Test
+    void testEmptyFileReadsAsEndOfStream() throws IOException {
+        try (MappedFileReader reader = new MappedFileReader(write(""))) {
+            assertEquals(-1, reader.read(new char[8], 0, 8));
+        }
+    }
+
+    @Test
+    void testMalformedUtf8IsReplaced() throws IOException {
+        Path file = Files.createTempFile(tempDir, "bad", ".json");
+        Files.write(file, new byte[]{'"', 'a', (byte) 0xC3, '"'});
+        try (MappedFileReader reader = new MappedFileReader(file)) {
+            assertEquals("\"a�\"", readAll(reader, 16));
+        }
+    }
+
+    @Test
+    void testToJavaFromPathMatchesStringPath() throws IOException {
+        Person person = new Person();
+        person.name = "Zoë €";
+        person.age = 41;
+        person.tags = new ArrayList<>();
+        person.tags.add("x");
+        person.tags.add("😀");
+        String json = JsonIo.toJson(person, null);
+        Path file = write(json);
+
+        Person fromFile = JsonIo.toJava(file, null).asClass(Person.class);
+        assertEquals(person.name, fromFile.name);
+        assertEquals(person.age, fromFile.age);
+        assertEquals(person.tags, fromFile.tags);
+
+        Map<?, ?> maps = JsonIo.toMaps(file).asClass(Map.class);
+        assertEquals(JsonIo.toMaps(json).asClass(Map.class).toString(), maps.toString());
+    }
+
+    @Test
+    void testLargeFileMatchesStringPath() throws IOException {
+        List<Map<String, Object>> rows = new ArrayList<>();
+        for (int i = 0; i < 20_000; i++) {
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("id", i);
+            row.put("label", "résumé-" + i);
+            rows.add(row);
+        }
+        String json = JsonIo.toJson(rows, new WriteOptionsBuilder().showTypeInfoNever().build());
+        Path file = write(json);
+
+        Object fromFile = JsonIo.toMaps(file, null).asClass(null);
+        Object fromString = JsonIo.toMaps(json).asClass(null);
+        assertEquals(JsonIo.toJson(fromString, null), JsonIo.toJson(fromFile, null));
+    }
+
+    @Test
+    void testMissingFileThrowsJsonIoException() {
+        Path missing = tempDir.resolve("does-not-exist.json");
+        assertThrows(JsonIoException.class, () -> JsonIo.toJava(missing).asClass(Map.class));
+        assertThrows(IllegalArgumentException.class, () -> JsonIo.toJava((Path) null));
+    }
+}
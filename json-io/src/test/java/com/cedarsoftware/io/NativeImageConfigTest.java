@@ -0,0 +1,68 @@
+package com.cedarsoftware.io;
+
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.cedarsoftware.util.IOUtilities;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+/**
+ * Keeps META-INF/native-image/com.cedarsoftware/json-io/reflect-config.json in step with config/*.txt.
+ * Every factory, reader, and writer json-io instantiates by name must be registered with its no-arg
+ * constructor, or the first read/write of that type fails inside a native image.
+ */
+class NativeImageConfigTest {
+    private static final String BASE = "META-INF/native-image/com.cedarsoftware/json-io/";
+
+    @Test
+    void reflectConfigRegistersEveryInstantiatedConfigClass() throws Exception {
+        Map<String, Boolean> registered = loadReflectConfig();
+
+        for (String resource : new String[]{"config/classFactory.txt", "config/customReaders.txt", "config/customWriters.txt"}) {
+            for (String className : MetaUtils.loadMapDefinition(resource).values()) {
+                if (!className.contains(".")) {
+                    continue;   // e.g. "ArrayFactory" built-in marker
+                }
+                assertThat(registered).as("%s from %s", className, resource).containsKey(className);
+                assertThat(registered.get(className)).as("no-arg constructor of %s", className).isTrue();
+            }
+        }
+    }
+
+    @Test
+    void reflectConfigRegistersCoercedTypes() throws Exception {
+        Map<String, Boolean> registered = loadReflectConfig();
+        for (Map.Entry<String, String> entry : MetaUtils.loadMapDefinition("config/coercedTypes.txt").entrySet()) {
+            assertThat(registered).containsKey(entry.getKey());
+            assertThat(registered).containsKey(entry.getValue());
+        }
+    }
+
+    @Test
+    void propertiesReferenceBothConfigFiles() throws Exception {
+        String props = read(BASE + "native-image.properties");
+        assertThat(props).contains("reflect-config.json").contains("resource-config.json");
+        assertThat(read(BASE + "resource-config.json")).contains("config/");
+    }
+
+    private static Map<String, Boolean> loadReflectConfig() throws Exception {
+        Object[] entries = JsonIo.toMaps(read(BASE + "reflect-config.json")).asClass(Object[].class);
+        Map<String, Boolean> registered = new HashMap<>();
+        for (Object entry : entries) {
+            Map<?, ?> map = (Map<?, ?>) entry;
+            registered.put((String) map.get("name"), map.containsKey("methods"));
+        }
+        return registered;
+    }
+
+    private static String read(String resource) throws Exception {
+        try (InputStream in = NativeImageConfigTest.class.getClassLoader().getResourceAsStream(resource)) {
+            assertNotNull(in, resource);
+            return new String(IOUtilities.inputStreamToBytes(in), "UTF-8");
+        }
+    }
+}
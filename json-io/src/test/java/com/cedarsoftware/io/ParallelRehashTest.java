@@ -0,0 +1,111 @@
+package com.cedarsoftware.io;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests for the parallel Map-filling pass at the end of resolution (ReadOptions.getParallelRehashThreshold()).
+ */
+class ParallelRehashTest {
+
+    static class Key {
+        String id;
+
+        Key() {
+        }
+
+        Key(String id) {
+            this.id = id;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Key && Objects.equals(id, ((Key) o).id);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(id);
+        }
+    }
+
+    static class Shard {
+        Map<Key, String> byKey = new HashMap<>();
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        TreeMap<Integer, Key> sorted = new TreeMap<>();
+    }
+
+    static class Snapshot {
+        List<Shard> shards = new ArrayList<>();
+        Map<Set<String>, String> bySet = new HashMap<>();
+    }
+
+    private static Snapshot snapshot(int shardCount) {
+        Snapshot snapshot = new Snapshot();
+        for (int s = 0; s < shardCount; s++) {
+            Shard shard = new Shard();
+            for (int i = 0; i < 5; i++) {
+                Key key = new Key("k" + s + "-" + i);
+                shard.byKey.put(key, "v" + i);
+                shard.counts.put("c" + (4 - i), i);
+                shard.sorted.put(i * 10, key);
+            }
+            snapshot.shards.add(shard);
+        }
+        Set<String> setKey = new HashSet<>();
+        setKey.add("a");
+        setKey.add("b");
+        snapshot.bySet.put(setKey, "set-keyed");
+        return snapshot;
+    }
+
+    @Test
+    void parallelFillMatchesSerialFill() {
+        String json = JsonIo.toJson(snapshot(200), null);
+        Snapshot serial = JsonIo.toJava(json, new ReadOptionsBuilder().parallelRehashThreshold(Integer.MAX_VALUE).build())
+                .asClass(Snapshot.class);
+        Snapshot parallel = JsonIo.toJava(json, new ReadOptionsBuilder().parallelRehashThreshold(1).build())
+                .asClass(Snapshot.class);
+
+        assertThat(parallel.shards).hasSize(200);
+        for (int s = 0; s < 200; s++) {
+            Shard a = serial.shards.get(s);
+            Shard b = parallel.shards.get(s);
+            assertThat(b.byKey).isEqualTo(a.byKey).containsEntry(new Key("k" + s + "-3"), "v3");
+            assertThat(new ArrayList<>(b.counts.keySet())).containsExactly("c4", "c3", "c2", "c1", "c0");
+            assertThat(b.sorted).isEqualTo(a.sorted);
+            assertThat(b.sorted.firstKey()).isZero();
+        }
+    }
+
+    @Test
+    void containerKeyedMapsSeeFilledKeys() {
+        String json = JsonIo.toJson(snapshot(3), null);
+        Snapshot parallel = JsonIo.toJava(json, new ReadOptionsBuilder().parallelRehashThreshold(1).build())
+                .asClass(Snapshot.class);
+        Set<String> lookup = new HashSet<>();
+        lookup.add("a");
+        lookup.add("b");
+        assertThat(parallel.bySet).containsEntry(lookup, "set-keyed");
+    }
+
+    @Test
+    void thresholdOption() {
+        assertThat(new ReadOptionsBuilder().build().getParallelRehashThreshold()).isEqualTo(10000);
+        ReadOptions options = new ReadOptionsBuilder().parallelRehashThreshold(64).build();
+        assertThat(new ReadOptionsBuilder(options).build().getParallelRehashThreshold()).isEqualTo(64);
+        assertThrows(JsonIoException.class, () -> new ReadOptionsBuilder().parallelRehashThreshold(0));
+    }
+}
@@ -0,0 +1,157 @@
+package com.cedarsoftware.io;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests for {@link ReadOptionsBuilder#project(String...)}.
+ */
+@SuppressWarnings("unchecked")
+class ProjectionTest {
+
+    private static final String ORDER = "{\"order\":{\"id\":42,\"note\":\"x \\\"quoted\\\" } ]\","
+            + "\"items\":[{\"sku\":\"A1\",\"qty\":1,\"blob\":{\"deep\":[1,[2,{\"x\":null}]]}},"
+            + "{\"sku\":\"B2\",\"qty\":3,\"blob\":[]}],\"customer\":{\"name\":\"Pat\",\"tier\":\"gold\"}},"
+            + "\"trace\":[\"a\",\"b\",{\"c\":[true,false]}],\"count\":7}";
+
+    static class Item {
+        String sku;
+        int qty;
+    }
+
+    static class Order {
+        long id;
+        String note;
+        List<Item> items;
+    }
+
+    static class Envelope {
+        Order order;
+        int count;
+    }
+
+    private static Map<String, Object> maps(String json, ReadOptionsBuilder builder) {
+        return JsonIo.toMaps(json, builder.build()).asClass(Map.class);
+    }
+
+    @Test
+    void nestedPathsKeepOnlyProjectedFields() {
+        Map<String, Object> root = maps(ORDER, new ReadOptionsBuilder().project("order.id", "order.items[*].sku"));
+        assertThat(root).containsOnlyKeys("order");
+        Map<String, Object> order = (Map<String, Object>) root.get("order");
+        assertThat(order).containsOnlyKeys("id", "items");
+        assertThat(order.get("id")).isEqualTo(42L);
+        Object[] items = (Object[]) order.get("items");
+        assertThat(items).hasSize(2);
+        assertThat((Map<String, Object>) items[0]).containsOnlyKeys("sku").containsEntry("sku", "A1");
+        assertThat((Map<String, Object>) items[1]).containsOnlyKeys("sku").containsEntry("sku", "B2");
+    }
+
+    @Test
+    void arrayMarkerIsOptionalAndLastNameKeepsWholeValue() {
+        Map<String, Object> withMarker = maps(ORDER, new ReadOptionsBuilder().project("order.items[*].blob", "order.customer"));
+        Map<String, Object> without = maps(ORDER, new ReadOptionsBuilder().project("order.items.blob", "order.customer"));
+        String json = JsonIo.toJson(withMarker, new WriteOptionsBuilder().showTypeInfoNever().build());
+        assertThat(JsonIo.toJson(without, new WriteOptionsBuilder().showTypeInfoNever().build())).isEqualTo(json);
+
+        Map<String, Object> order = (Map<String, Object>) withMarker.get("order");
+        assertThat((Map<String, Object>) order.get("customer")).containsEntry("name", "Pat").containsEntry("tier", "gold");
+        Map<String, Object> first = (Map<String, Object>) ((Object[]) order.get("items"))[0];
+        assertThat(first).containsOnlyKeys("blob");
+        assertThat((Map<String, Object>) first.get("blob")).containsKey("deep");
+    }
+
+    @Test
+    void setOfTopLevelFields() {
+        Map<String, Object> root = maps(ORDER, new ReadOptionsBuilder().project(new LinkedHashSet<>(Arrays.asList("count", "trace"))));
+        assertThat(root).containsOnlyKeys("count", "trace");
+        assertThat(root.get("count")).isEqualTo(7L);
+        assertThat((Object[]) root.get("trace")).hasSize(3);
+    }
+
+    @Test
+    void shorterPathWins() {
+        Map<String, Object> root = maps(ORDER, new ReadOptionsBuilder().project("order.customer.name", "order.customer"));
+        Map<String, Object> customer = (Map<String, Object>) ((Map<String, Object>) root.get("order")).get("customer");
+        assertThat(customer).containsOnlyKeys("name", "tier");
+    }
+
+    @Test
+    void rootArrayProjection() {
+        String json = "[{\"id\":1,\"big\":{\"a\":[1,2,3]}},{\"big\":\"x\",\"id\":2}]";
+        Object[] rows = JsonIo.toMaps(json, new ReadOptionsBuilder().project("[*].id").build()).asClass(Object[].class);
+        assertThat((Map<String, Object>) rows[0]).containsOnlyKeys("id").containsEntry("id", 1L);
+        assertThat((Map<String, Object>) rows[1]).containsOnlyKeys("id").containsEntry("id", 2L);
+    }
+
+    @Test
+    void javaModeSeesOnlyProjectedSubtree() {
+        ReadOptions options = new ReadOptionsBuilder().project("order.id", "order.items.sku").build();
+        Envelope envelope = JsonIo.toJava(ORDER, options).asClass(Envelope.class);
+        assertThat(envelope.count).isZero();
+        assertThat(envelope.order.id).isEqualTo(42L);
+        assertThat(envelope.order.note).isNull();
+        assertThat(envelope.order.items).hasSize(2);
+        assertThat(envelope.order.items.get(1).sku).isEqualTo("B2");
+        assertThat(envelope.order.items.get(1).qty).isZero();
+    }
+
+    @Test
+    void metadataFieldsAreKept() {
+        String json = "{\"@type\":\"" + Order.class.getName() + "\",\"note\":\"skip\",\"id\":9}";
+        ReadOptions options = new ReadOptionsBuilder().project("id").build();
+        Order order = JsonIo.toJava(json, options).asClass(null);
+        assertThat(order.id).isEqualTo(9L);
+        assertThat(order.note).isNull();
+    }
+
+    @Test
+    void json5InSkippedValues() {
+        String json5 = "{keep:1, skip:{a:'it\\'s', /* c */ b:[0x1F, +2,],}, // tail\n last:'y'}";
+        Map<String, Object> root = maps(json5, new ReadOptionsBuilder().project("keep", "last"));
+        assertThat(root).containsOnlyKeys("keep", "last").containsEntry("last", "y");
+        Map<String, Object> trailing = maps("{\"a\":1,\"b\":2,}", new ReadOptionsBuilder().project("a"));
+        assertThat(trailing).containsOnlyKeys("a");
+    }
+
+    @Test
+    void malformedSkippedValuesStillFail() {
+        ReadOptions options = new ReadOptionsBuilder().project("a").build();
+        assertThrows(JsonIoException.class, () -> JsonIo.toMaps("{\"a\":1,\"b\":[1,2}", options).asClass(null));
+        assertThrows(JsonIoException.class, () -> JsonIo.toMaps("{\"a\":1,\"b\":\"open", options).asClass(null));
+        assertThrows(JsonIoException.class, () -> JsonIo.toMaps("{\"a\":1,\"b\":}", options).asClass(null));
+        assertThrows(JsonIoException.class, () -> JsonIo.toMaps("{\"b\":1 \"a\":2}", options).asClass(null));
+        assertThrows(JsonIoException.class, () -> maps("{\"b\":1,\"a\":2,}", new ReadOptionsBuilder().strictJson().project("a")));
+        assertThrows(JsonIoException.class, () -> maps("{\"b\":[[[[1]]]],\"a\":1}", new ReadOptionsBuilder().maxDepth(3).project("a")));
+    }
+
+    @Test
+    void invalidPathsAreRejected() {
+        ReadOptionsBuilder builder = new ReadOptionsBuilder();
+        assertThrows(JsonIoException.class, () -> builder.project("a..b"));
+        assertThrows(JsonIoException.class, () -> builder.project("a."));
+        assertThrows(JsonIoException.class, () -> builder.project(""));
+        assertThrows(JsonIoException.class, () -> builder.project("items[0].sku"));
+        assertThrows(JsonIoException.class, () -> builder.project((String) null));
+        assertThrows(JsonIoException.class, () -> builder.project((List<String>) null));
+    }
+
+    @Test
+    void optionIsCopiedAndEmptyByDefault() {
+        assertThat(new ReadOptionsBuilder().build().getProjectedPaths()).isEmpty();
+        ReadOptions options = new ReadOptionsBuilder().project("order.id", "count").build();
+        assertThat(options.getProjectedPaths()).containsExactly("order.id", "count");
+        ReadOptions copy = new ReadOptionsBuilder(options).build();
+        assertThat(copy.getProjectedPaths()).containsExactly("order.id", "count");
+        assertThat(maps(ORDER, new ReadOptionsBuilder(options))).containsOnlyKeys("order", "count");
+        // Lazy Maps mode steps aside so the projection is still applied
+        assertThat(maps(ORDER, new ReadOptionsBuilder(options).lazyMapValues(true))).containsOnlyKeys("order", "count");
+    }
+}
@@ -0,0 +1,97 @@
+package com.cedarsoftware.io;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.cedarsoftware.util.FastReader;
+import com.cedarsoftware.util.convert.Converter;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests that the Resolver empties JsonObject nodes once their contents have moved into the Java graph,
+ * when (and only when) the tree was built by the read's own parser.
+ */
+class ResolverNodeReleaseTest {
+
+    static class Node {
+        String name;
+        Node next;
+        int[] values;
+        List<Node> children = new ArrayList<>();
+        Map<String, Node> byName = new HashMap<>();
+        Object any;
+    }
+
+    private static final String JSON = "{\"@type\":\"" + Node.class.getName() + "\",\"name\":\"root\","
+            + "\"next\":{\"@id\":1,\"name\":\"n1\",\"values\":[1,2,3]},"
+            + "\"children\":[{\"@ref\":1},{\"name\":\"c2\",\"next\":{\"@ref\":2}}],"
+            + "\"byName\":{\"x\":{\"@id\":2,\"name\":\"x\"}},"
+            + "\"any\":{\"free\":\"form\"}}";
+
+    private static Object[] parse(boolean release) throws Exception {
+        ReadOptions options = new ReadOptionsBuilder().build();
+        ObjectResolver resolver = new ObjectResolver(options, new Resolver.DefaultReferenceTracker(options),
+                new Converter(options.getConverterOptions()));
+        resolver.setReleaseResolvedNodes(release);
+        JsonObject tree = (JsonObject) new JsonParser(new FastReader(new StringReader(JSON)), resolver).readValue(null);
+        Object result = resolver.toJava(Node.class, tree);
+        resolver.cleanup();
+        return new Object[] {tree, result};
+    }
+
+    @Test
+    void resolvedNodesAreEmptiedAndGraphIsIntact() throws Exception {
+        Object[] parsed = parse(true);
+        JsonObject tree = (JsonObject) parsed[0];
+        Node root = (Node) parsed[1];
+
+        assertThat(root.name).isEqualTo("root");
+        assertThat(root.next.name).isEqualTo("n1");
+        assertThat(root.next.values).containsExactly(1, 2, 3);
+        assertThat(root.children).hasSize(2);
+        assertThat(root.children.get(0)).isSameAs(root.next);
+        assertThat(root.children.get(1).next).isSameAs(root.byName.get("x"));
+        assertThat(root.any).isInstanceOf(Map.class);
+        assertThat(((Map<?, ?>) root.any).get("free")).isEqualTo("form");
+
+        // Root keeps its contents; resolved non-map children are emptied
+        JsonObject next = (JsonObject) tree.get("next");
+        assertThat(tree).isNotEmpty();
+        assertThat(next).isEmpty();
+        assertThat(next.getTarget()).isSameAs(root.next);
+        JsonObject c2 = (JsonObject) ((Object[]) tree.get("children"))[1];
+        assertThat(c2).isEmpty();
+        assertThat(c2.getTarget()).isSameAs(root.children.get(1));
+        // Maps (rehashed during cleanup) and untyped objects that are their own target are kept
+        assertThat((Map<?, ?>) tree.get("byName")).isNotEmpty();
+        assertThat((Map<?, ?>) tree.get("any")).isNotEmpty();
+    }
+
+    @Test
+    void nodesAreKeptWhenReleaseIsOff() throws Exception {
+        Object[] parsed = parse(false);
+        JsonObject tree = (JsonObject) parsed[0];
+        assertThat((JsonObject) tree.get("next")).containsKey("name");
+        assertThat((JsonObject) ((Object[]) tree.get("children"))[1]).containsKey("name");
+    }
+
+    @Test
+    void callerSuppliedTreeIsNotModified() {
+        JsonObject tree = JsonIo.toMaps(JSON, null).asClass(JsonObject.class);
+        Node root = JsonIo.toJava(tree, null).asClass(Node.class);
+        assertThat(root.next.name).isEqualTo("n1");
+
+        JsonObject next = (JsonObject) tree.get("next");
+        assertThat(next).containsEntry("name", "n1");
+        assertThat((JsonObject) ((Object[]) tree.get("children"))[1]).containsEntry("name", "c2");
+
+        // The same tree converts again with the same result
+        Node again = JsonIo.toJava(tree, null).asClass(Node.class);
+        assertThat(again.children.get(0).name).isEqualTo("n1");
+    }
+}
@@ -0,0 +1,177 @@
+package com.cedarsoftware.io;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import com.cedarsoftware.io.annotation.IoProperty;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for ToonReader's tabular column plan, which parses tabular rows straight into
+ * instances of a known element class instead of building a JsonObject per row.
+ */
+class ToonTabularPlanTest {
+
+    static class Row {
+        private int id;
+        private long big;
+        private double score;
+        private float ratio;
+        private short small;
+        private boolean active;
+        private char grade;
+        private Integer boxed;
+        private String name;
+
+        Row() {
+        }
+
+        Row(int id, long big, double score, float ratio, short small, boolean active, char grade, Integer boxed, String name) {
+            this.id = id;
+            this.big = big;
+            this.score = score;
+            this.ratio = ratio;
+            this.small = small;
+            this.active = active;
+            this.grade = grade;
+            this.boxed = boxed;
+            this.name = name;
+        }
+    }
+
+    static class Renamed {
+        @IoProperty("full_name")
+        private String name;
+        private int age;
+    }
+
+    static class Holder {
+        private int id;
+        private List<String> tags;
+    }
+
+    @Test
+    void testTabularRowsMaterializeDirectlyIntoPojos() {
+        List<Row> rows = new ArrayList<>();
+        rows.add(new Row(1, 9_000_000_000L, 1.5, 0.25f, (short) 7, true, 'A', 42, "alpha"));
+        rows.add(new Row(-2, -1L, -0.5, 2f, (short) -3, false, 'B', null, "has, comma"));
+        rows.add(new Row(0, 0L, 3.0, 0f, (short) 0, true, 'C', 0, "say \"hi\""));
+
+        String toon = JsonIo.toToon(rows, new WriteOptionsBuilder().showTypeInfoNever().build());
+        assertTrue(toon.contains("{"), "expected tabular format: " + toon);
+
+        List<Row> restored = JsonIo.fromToon(toon, null).asType(new TypeHolder<List<Row>>() {});
+        assertEquals(3, restored.size());
+        for (int i = 0; i < rows.size(); i++) {
+            Row expected = rows.get(i);
+            Row actual = restored.get(i);
+            assertInstanceOf(Row.class, actual);
+            assertEquals(expected.id, actual.id);
+            assertEquals(expected.big, actual.big);
+            assertEquals(expected.score, actual.score);
+            assertEquals(expected.ratio, actual.ratio);
+            assertEquals(expected.small, actual.small);
+            assertEquals(expected.active, actual.active);
+            assertEquals(expected.grade, actual.grade);
+            assertEquals(expected.boxed, actual.boxed);
+            assertEquals(expected.name, actual.name);
+        }
+    }
+
+    @Test
+    void testHandWrittenTabularWithTabDelimiterAndNulls() {
+        String toon = "[3\t]{id\tname\tscore\tboxed}:\n" +
+                "  1\tann\t2.5\tnull\n" +
+                "  2\t\"b\\tc\"\t-7\t12\n" +
+                "  3\t\t1e3\t-0\n";
+        List<Row> restored = JsonIo.fromToon(toon, null).asType(new TypeHolder<List<Row>>() {});
+        assertEquals(3, restored.size());
+        assertEquals(1, restored.get(0).id);
+        assertEquals("ann", restored.get(0).name);
+        assertEquals(2.5, restored.get(0).score);
+        assertNull(restored.get(0).boxed);
+        assertEquals("b\tc", restored.get(1).name);
+        assertEquals(-7.0, restored.get(1).score);
+        assertEquals(12, restored.get(1).boxed);
+        assertNull(restored.get(2).name);
+        assertEquals(1000.0, restored.get(2).score);
+        assertEquals(0, restored.get(2).boxed);
+    }
+
+    @Test
+    void testLeadingZeroIntegerCellsMatchJsonObjectPath() {
+        String toon = "[1]{id,name}:\n  007,x\n";
+        List<Row> direct = JsonIo.fromToon(toon, null).asType(new TypeHolder<List<Row>>() {});
+        Row viaObject = JsonIo.fromToon("id: 007\nname: x\n", null).asClass(Row.class);
+        assertEquals(viaObject.id, direct.get(0).id);
+    }
+
+    @Test
+    void testCollectionTargetAlsoUsesPlan() {
+        String toon = "[2]{id,name}:\n  1,a\n  2,b\n";
+        Collection<Row> restored = JsonIo.fromToon(toon, null).asType(new TypeHolder<Collection<Row>>() {});
+        assertThat(restored).hasSize(2);
+        assertThat(restored).allMatch(r -> r instanceof Row);
+    }
+
+    @Test
+    void testAnnotatedClassFallsBackToResolver() {
+        String toon = "[2]{full_name,age}:\n  Ann,30\n  Bob,41\n";
+        List<Renamed> restored = JsonIo.fromToon(toon, null).asType(new TypeHolder<List<Renamed>>() {});
+        assertEquals("Ann", restored.get(0).name);
+        assertEquals(30, restored.get(0).age);
+        assertEquals("Bob", restored.get(1).name);
+        assertEquals(41, restored.get(1).age);
+    }
+
+    @Test
+    void testUnknownColumnFallsBackToResolver() {
+        String toon = "[1]{id,extra}:\n  5,ignored\n";
+        List<Row> restored = JsonIo.fromToon(toon, null).asType(new TypeHolder<List<Row>>() {});
+        assertEquals(1, restored.size());
+        assertEquals(5, restored.get(0).id);
+    }
+
+    @Test
+    void testNestedTabularArraysAreNotPlannedWithRootElementClass() {
+        String toon = "[1]:\n  - id: 9\n    tags[2]: a,b\n";
+        List<Holder> restored = JsonIo.fromToon(toon, null).asType(new TypeHolder<List<Holder>>() {});
+        assertEquals(9, restored.get(0).id);
+        assertEquals(2, restored.get(0).tags.size());
+    }
+
+    @Test
+    void testMapsModeStillReturnsJsonObjects() {
+        String toon = "[2]{id,name}:\n  1,a\n  2,b\n";
+        List<?> restored = JsonIo.fromToonToMaps(toon).asClass(List.class);
+        assertEquals(2, restored.size());
+        assertInstanceOf(Map.class, restored.get(0));
+        assertFalse(restored.get(0) instanceof Row);
+        assertEquals(1L, ((Map<?, ?>) restored.get(0)).get("id"));
+    }
+
+    @Test
+    void testStrictModeRowWidthMismatchStillThrows() {
+        ReadOptions strict = new ReadOptionsBuilder().strictToon(true).build();
+        String toon = "[1]{id,name}:\n  1,a,extra\n";
+        assertThrows(JsonIoException.class,
+                () -> JsonIo.fromToon(toon, strict).asType(new TypeHolder<List<Row>>() {}));
+    }
+
+    @Test
+    void testBadNumericCellReportsError() {
+        String toon = "[1]{id,name}:\n  notANumber,a\n";
+        assertThrows(JsonIoException.class,
+                () -> JsonIo.fromToon(toon, null).asType(new TypeHolder<List<Row>>() {}));
+    }
+}
@@ -0,0 +1,118 @@
+package com.cedarsoftware.io;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for ToonWriter's bounded quote-decision and decimal-format caches. The caches are
+ * direct-mapped and overwrite on collision, so output must never depend on what happens to be
+ * cached, and high-cardinality inputs must keep hitting for the live working set.
+ */
+class ToonWriterCacheTest {
+
+    @Test
+    void testQuoteDecisionsAreStableAcrossDelimitersAndEviction() {
+        List<String> values = new ArrayList<>();
+        for (int i = 0; i < 20_000; i++) {
+            values.add("v" + i);
+            values.add("a,b" + i);
+            values.add("a|b" + i);
+            values.add("a\tb" + i);
+        }
+        values.add("true");
+        values.add("123");
+        values.add("");
+
+        for (String delim : new String[]{",", "\t", "|"}) {
+            WriteOptions options = new WriteOptionsBuilder().toonDelimiter(delim.charAt(0)).build();
+            // First pass fills (and overwrites) the caches, second pass reads through them
+            String first = JsonIo.toToon(values, options);
+            String second = JsonIo.toToon(values, options);
+            assertEquals(first, second);
+            List<?> restored = JsonIo.fromToonToMaps(second).asClass(List.class);
+            assertEquals(values, restored);
+        }
+    }
+
+    @Test
+    void testDecimalFormatsAreStableUnderHighCardinality() {
+        double[] doubles = new double[10_000];
+        float[] floats = new float[10_000];
+        for (int i = 0; i < doubles.length; i++) {
+            doubles[i] = i * 0.37 - 1000.5;
+            floats[i] = i * 1.25f;
+        }
+        doubles[0] = 1e21;
+        doubles[1] = -0.0;
+        doubles[2] = 3.0;
+
+        String first = JsonIo.toToon(doubles, null);
+        String second = JsonIo.toToon(doubles, null);
+        assertEquals(first, second);
+        double[] restored = JsonIo.fromToon(second, null).asClass(double[].class);
+        for (int i = 3; i < doubles.length; i++) {
+            assertEquals(doubles[i], restored[i]);
+        }
+        assertEquals(1e21, restored[0]);
+        assertEquals(3.0, restored[2]);
+
+        float[] restoredFloats = JsonIo.fromToon(JsonIo.toToon(floats, null), null).asClass(float[].class);
+        for (int i = 0; i < floats.length; i++) {
+            assertEquals(floats[i], restoredFloats[i]);
+        }
+    }
+
+    @Test
+    void testCacheStatsCountRepeatedLookups() {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("cacheStatsKey", "cacheStatsValue");
+        map.put("ratio", 0.123456);
+
+        ToonWriter.CacheStats quoteBefore = ToonWriter.getQuoteDecisionCacheStats();
+        ToonWriter.CacheStats decimalBefore = ToonWriter.getDecimalFormatCacheStats();
+        for (int i = 0; i < 10; i++) {
+            JsonIo.toToon(map, null);
+        }
+        ToonWriter.CacheStats quoteAfter = ToonWriter.getQuoteDecisionCacheStats();
+        ToonWriter.CacheStats decimalAfter = ToonWriter.getDecimalFormatCacheStats();
+
+        // Other tests may write concurrently, so only assert lower bounds
+        assertTrue(quoteAfter.getLookups() - quoteBefore.getLookups() >= 10);
+        assertTrue(decimalAfter.getLookups() - decimalBefore.getLookups() >= 10);
+        assertTrue(decimalAfter.getFrontHits() - decimalBefore.getFrontHits() >= 9);
+        assertTrue(quoteAfter.getHitRate() >= 0.0 && quoteAfter.getHitRate() <= 1.0);
+    }
+
+    @Test
+    void testConcurrentWritersProduceIdenticalOutput() throws Exception {
+        List<Object> values = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            values.add(i % 3 == 0 ? "s," + i : "s" + i);
+            values.add(i / 7.0);
+        }
+        String expected = JsonIo.toToon(values, null);
+
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<String>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                futures.add(pool.submit(() -> JsonIo.toToon(values, null)));
+            }
+            for (Future<String> future : futures) {
+                assertEquals(expected, future.get());
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.cedarsoftware.io;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.List;
+import java.util.Map;
+
+import com.cedarsoftware.util.DeepEquals;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link JsonIo#transcode} and {@link JsonIo#transcodeToJson}.
+ */
+class TranscodeTest {
+
+    private static final String JSON = "{\"name\":\"tool\",\"count\":3,\"ratio\":0.5,\"ok\":true,\"missing\":null," +
+            "\"tags\":[\"a\",\"b,c\"],\"rows\":[{\"id\":1,\"label\":\"x\"},{\"id\":2,\"label\":\"y\"}]," +
+            "\"nested\":{\"deep\":{\"value\":\"z\"}}}";
+
+    @Test
+    void testJsonToToonMatchesToMapsThenToToon() {
+        StringWriter out = new StringWriter();
+        JsonIo.transcode(new StringReader(JSON), out, null, null);
+
+        Map<?, ?> maps = JsonIo.toMaps(JSON).asClass(Map.class);
+        String expected = JsonIo.toToon(maps, null);
+        assertEquals(expected, out.toString());
+        assertTrue(out.toString().contains("tags[2]: a,\"b,c\""), out.toString());
+    }
+
+    @Test
+    void testRoundTripThroughBothDirections() {
+        StringWriter toon = new StringWriter();
+        JsonIo.transcode(new StringReader(JSON), toon, null, null);
+
+        StringWriter json = new StringWriter();
+        JsonIo.transcodeToJson(new StringReader(toon.toString()), json, null, null);
+
+        Map<?, ?> original = JsonIo.toMaps(JSON).asClass(Map.class);
+        Map<?, ?> restored = JsonIo.toMaps(json.toString()).asClass(Map.class);
+        assertTrue(DeepEquals.deepEquals(original, restored), json.toString());
+        assertFalse(json.toString().contains("@type"), json.toString());
+    }
+
+    @Test
+    void testTopLevelArrayAndScalar() {
+        StringWriter out = new StringWriter();
+        JsonIo.transcode(new StringReader("[1,2,3]"), out, null, null);
+        assertEquals(JsonIo.toToon(JsonIo.toMaps("[1,2,3]").asClass(List.class), null), out.toString());
+
+        out = new StringWriter();
+        JsonIo.transcode(new StringReader("\"hello\""), out, null, null);
+        assertEquals("hello", out.toString().trim());
+    }
+
+    @Test
+    void testWriteOptionsAreHonored() {
+        StringWriter out = new StringWriter();
+        WriteOptions pipe = new WriteOptionsBuilder().showTypeInfoNever().toonDelimiter('|').build();
+        JsonIo.transcode(new StringReader("{\"tags\":[\"a\",\"b\"]}"), out, null, pipe);
+        assertTrue(out.toString().contains("tags[2|]: a|b"), out.toString());
+    }
+
+    @Test
+    void testUnknownTypeIsNotInstantiated() {
+        String json = "{\"@type\":\"com.example.DoesNotExist\",\"x\":1}";
+        StringWriter out = new StringWriter();
+        JsonIo.transcode(new StringReader(json), out, null, null);
+        assertTrue(out.toString().contains("x: 1"), out.toString());
+    }
+
+    @Test
+    void testKeyFoldingMatchesToMapsThenToToon() {
+        WriteOptions folding = new WriteOptionsBuilder().showTypeInfoNever().toonKeyFolding(true).build();
+        StringWriter out = new StringWriter();
+        JsonIo.transcode(new StringReader(JSON), out, null, folding);
+
+        Map<?, ?> maps = JsonIo.toMaps(JSON).asClass(Map.class);
+        assertEquals(JsonIo.toToon(maps, folding), out.toString());
+        assertTrue(out.toString().contains("nested.deep.value: z"), out.toString());
+    }
+
+    @Test
+    void testMetadataKeysAreCarriedVerbatim() {
+        String json = "{\"@id\":1,\"name\":\"a\",\"self\":{\"@ref\":1},\"list\":[{\"$id\":2}]}";
+        StringWriter toon = new StringWriter();
+        JsonIo.transcode(new StringReader(json), toon, null, null);
+        assertTrue(toon.toString().contains("self:\n  @ref: 1"), toon.toString());
+
+        StringWriter back = new StringWriter();
+        JsonIo.transcodeToJson(new StringReader(toon.toString()), back, null, null);
+        assertEquals(json, back.toString());
+    }
+
+    @Test
+    void testFoldedKeysSharingAPrefixAreMerged() {
+        String toon = "a.b: 1\na.c: 2\nd: 3\nx.y.z: 4\nx.y.w: 5\nx.q: 6";
+        StringWriter json = new StringWriter();
+        JsonIo.transcodeToJson(new StringReader(toon), json, null, null);
+
+        Map<?, ?> expected = JsonIo.fromToonToMaps(toon).asClass(Map.class);
+        Map<?, ?> actual = JsonIo.toMaps(json.toString()).asClass(Map.class);
+        assertTrue(DeepEquals.deepEquals(expected, actual), json.toString());
+        assertEquals("{\"a\":{\"b\":1,\"c\":2},\"d\":3,\"x\":{\"y\":{\"z\":4,\"w\":5},\"q\":6}}", json.toString());
+    }
+
+    @Test
+    void testFoldedKeyReopeningEarlierObjectIsMerged() {
+        StringWriter json = new StringWriter();
+        JsonIo.transcodeToJson(new StringReader("a.b: 1\nc: 2\na.d: 3"), json, null, null);
+        assertEquals("{\"a\":{\"b\":1,\"d\":3},\"c\":2}", json.toString());
+
+        json = new StringWriter();
+        JsonIo.transcodeToJson(new StringReader("a:\n  b: 1\n  @id: 7\nc: 2\na.d: 3"), json, null, null);
+        assertEquals("{\"a\":{\"b\":1,\"@id\":7,\"d\":3},\"c\":2}", json.toString());
+    }
+
+    @Test
+    void testMalformedInputThrowsJsonIoException() {
+        assertThrows(JsonIoException.class,
+                () -> JsonIo.transcode(new StringReader("{\"a\":"), new StringWriter(), null, null));
+        assertThrows(IllegalArgumentException.class,
+                () -> JsonIo.transcode(null, new StringWriter(), null, null));
+    }
+}
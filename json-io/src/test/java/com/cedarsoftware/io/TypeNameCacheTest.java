@@ -0,0 +1,136 @@
+package com.cedarsoftware.io;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.cedarsoftware.io.annotation.IoTypeName;
+import com.cedarsoftware.io.reflect.AnnotationResolver;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests for the per-ReadOptions @type name -> Class cache used by JsonParser and ToonReader.
+ */
+class TypeNameCacheTest {
+
+    static class Shape {
+        String name;
+    }
+
+    static class Circle extends Shape {
+        double radius;
+    }
+
+    static class Square extends Shape {
+        double side;
+    }
+
+    @IoTypeName("LateAliasedPoint")
+    static class LateAliasedPoint {
+        int x;
+    }
+
+    private static ReadOptionsBuilder.DefaultReadOptions options(ReadOptionsBuilder builder) {
+        return (ReadOptionsBuilder.DefaultReadOptions) builder.build();
+    }
+
+    @Test
+    void testPolymorphicTypesResolveThroughCache() {
+        List<Shape> shapes = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            Shape shape = (i % 2 == 0) ? new Circle() : new Square();
+            shape.name = "s" + i;
+            shapes.add(shape);
+        }
+        String json = JsonIo.toJson(shapes, new WriteOptionsBuilder().showTypeInfoAlways().build());
+        List<?> restored = JsonIo.toJava(json, null).asClass(List.class);
+        assertEquals(50, restored.size());
+        for (int i = 0; i < restored.size(); i++) {
+            Class<? extends Shape> expected = (i % 2 == 0) ? Circle.class : Square.class;
+            assertSame(expected, restored.get(i).getClass());
+        }
+    }
+
+    @Test
+    void testAliasesAreAppliedAndCached() {
+        ReadOptionsBuilder.DefaultReadOptions options = options(new ReadOptionsBuilder().aliasTypeName(Circle.class, "Round"));
+        assertSame(Circle.class, options.resolveTypeName("Round"));
+        assertSame(Circle.class, options.resolveTypeName("Round"));
+        assertSame(Square.class, options.resolveTypeName(Square.class.getName()));
+        assertSame(java.util.ArrayList.class, options.resolveTypeName("ArrayList"));
+    }
+
+    @Test
+    void testUnknownTypesAreNegativelyCached() {
+        ReadOptionsBuilder.DefaultReadOptions options = options(new ReadOptionsBuilder().failOnUnknownType(false));
+        assertNull(options.resolveTypeName("com.example.DoesNotExist"));
+        assertNull(options.resolveTypeName("com.example.DoesNotExist"));
+
+        String json = "[{\"@type\":\"com.example.DoesNotExist\",\"a\":1},{\"@type\":\"com.example.DoesNotExist\",\"a\":2}]";
+        Object[] items = JsonIo.toJava(json, options).asClass(Object[].class);
+        assertEquals(2, items.length);
+        assertInstanceOf(Map.class, items[0]);
+        assertEquals(2L, ((Map<?, ?>) items[1]).get("a"));
+    }
+
+    @Test
+    void testUnknownTypeStillFailsEveryTimeWhenConfigured() {
+        ReadOptions options = new ReadOptionsBuilder().build();
+        String json = "{\"@type\":\"com.example.StillMissing\"}";
+        assertThrows(JsonIoException.class, () -> JsonIo.toJava(json, options).asClass(Object.class));
+        assertThrows(JsonIoException.class, () -> JsonIo.toJava(json, options).asClass(Object.class));
+    }
+
+    @Test
+    void testNegativeEntryYieldsToAnnotationAliasRegisteredLater() {
+        ReadOptionsBuilder.DefaultReadOptions options = options(new ReadOptionsBuilder().failOnUnknownType(false));
+        if (AnnotationResolver.resolveAnnotationAlias("LateAliasedPoint") == null) {
+            assertNull(options.resolveTypeName("LateAliasedPoint"));
+        }
+        AnnotationResolver.getMetadata(LateAliasedPoint.class);     // scan registers the @IoTypeName alias
+        assertSame(LateAliasedPoint.class, options.resolveTypeName("LateAliasedPoint"));
+    }
+
+    @Test
+    void testCacheIsBoundedAndStaysCorrect() {
+        ReadOptionsBuilder.DefaultReadOptions options = options(new ReadOptionsBuilder()
+                .failOnUnknownType(false)
+                .maxTypeResolutionCacheSize(2));
+        for (int round = 0; round < 3; round++) {
+            assertSame(Circle.class, options.resolveTypeName(Circle.class.getName()));
+            assertSame(Square.class, options.resolveTypeName(Square.class.getName()));
+            assertSame(Shape.class, options.resolveTypeName(Shape.class.getName()));
+            assertNull(options.resolveTypeName("com.example.Nope" + round));
+        }
+    }
+
+    @Test
+    void testUnknownTypeClassIsUsedForMissingTypes() {
+        ReadOptions options = new ReadOptionsBuilder().failOnUnknownType(false).unknownTypeClass(LinkedHashMap.class).build();
+        String json = "[{\"@type\":\"com.example.Gone\"},{\"@type\":\"com.example.Gone\"}]";
+        Object[] items = JsonIo.toJava(json, options).asClass(Object[].class);
+        assertInstanceOf(LinkedHashMap.class, items[0]);
+        assertInstanceOf(LinkedHashMap.class, items[1]);
+    }
+
+    @Test
+    void testSeparateClassLoadersDoNotShareEntries() throws Exception {
+        try (URLClassLoader isolated = new URLClassLoader(new URL[0], null)) {
+            ReadOptionsBuilder.DefaultReadOptions options = options(new ReadOptionsBuilder()
+                    .classLoader(isolated)
+                    .failOnUnknownType(false));
+            assertNull(options.resolveTypeName(Circle.class.getName()));
+        }
+        ReadOptionsBuilder.DefaultReadOptions options = options(new ReadOptionsBuilder());
+        assertSame(Circle.class, options.resolveTypeName(Circle.class.getName()));
+    }
+}
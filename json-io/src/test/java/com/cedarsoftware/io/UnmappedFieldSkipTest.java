@@ -0,0 +1,182 @@
+package com.cedarsoftware.io;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.cedarsoftware.io.annotation.IoAnySetter;
+import com.cedarsoftware.io.annotation.IoDeserialize;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests that JsonParser skips the values of fields the Java-mode target cannot take, and only then.
+ */
+class UnmappedFieldSkipTest {
+
+    private static final ReadOptions SKIP = new ReadOptionsBuilder().skipUnmappedFields(true).build();
+    private static final ReadOptions SKIP_UNKNOWN_FAILS = new ReadOptionsBuilder().skipUnmappedFields(true)
+            .failOnUnknownType(true).build();
+
+    // Valid JSON whose @type names no class: reading it with failOnUnknownType fails, skipping it does not
+    private static final String JUNK = "{\"blob\":[1,true,{\"@type\":\"com.example.DoesNotExist\",\"x\":null}],"
+            + "\"more\":\"\\\"}]\"}";
+
+    static class Item {
+        String name;
+        int qty;
+    }
+
+    static class Special extends Item {
+        long extra;
+    }
+
+    static class Order {
+        long id;
+        Item item;
+        List<Item> items = new ArrayList<>();
+        Item[] more;
+    }
+
+    static class Holder {
+        Item keep;
+        Object[] list;
+    }
+
+    static class Overridden {
+        @IoDeserialize(as = Special.class)
+        Item item;
+    }
+
+    static class Flexible {
+        String name;
+        Map<String, Object> extras = new LinkedHashMap<>();
+
+        @IoAnySetter
+        public void put(String key, Object value) {
+            extras.put(key, value);
+        }
+    }
+
+    @Test
+    void unmappedValuesAreSkippedInJavaMode() {
+        String json = "{\"id\":7,\"unknown\":" + JUNK + ",\"item\":{\"name\":\"a\",\"junk\":" + JUNK + ",\"qty\":2},"
+                + "\"more\":[{\"name\":\"b\",\"junk\":[true]},{\"qty\":3}]}";
+        Order order = JsonIo.toJava(json, SKIP_UNKNOWN_FAILS).asClass(Order.class);
+        assertThat(order.id).isEqualTo(7);
+        assertThat(order.item.name).isEqualTo("a");
+        assertThat(order.item.qty).isEqualTo(2);
+        assertThat(order.more).hasSize(2);
+        assertThat(order.more[0].name).isEqualTo("b");
+        assertThat(order.more[1].qty).isEqualTo(3);
+
+        // Without the option every field is read
+        ReadOptions readAll = new ReadOptionsBuilder().failOnUnknownType(true).build();
+        assertThrows(JsonIoException.class, () -> JsonIo.toJava(json, readAll).asClass(Order.class));
+    }
+
+    @Test
+    void missingFieldHandlerStillSeesEveryField() {
+        List<String> missing = new ArrayList<>();
+        ReadOptions options = new ReadOptionsBuilder().skipUnmappedFields(true).failOnUnknownType(true)
+                .missingFieldHandler((object, fieldName, value) -> missing.add(fieldName)).build();
+        Order order = JsonIo.toJava("{\"id\":1,\"extra\":{\"deep\":[1,2]},\"gone\":\"x\"}", options).asClass(Order.class);
+        assertThat(order.id).isEqualTo(1);
+        assertThat(missing).containsExactlyInAnyOrder("extra", "gone");
+        assertThrows(JsonIoException.class,
+                () -> JsonIo.toJava("{\"id\":1,\"unknown\":" + JUNK + "}", options).asClass(Order.class));
+    }
+
+    @Test
+    void typeFromJsonChoosesTheClassFirst() {
+        String json = "{\"item\":{\"@type\":\"" + Special.class.getName() + "\",\"name\":\"s\",\"extra\":9,\"junk\":"
+                + JUNK + "}}";
+        Order order = JsonIo.toJava(json, SKIP_UNKNOWN_FAILS).asClass(Order.class);
+        assertThat(order.item).isInstanceOf(Special.class);
+        assertThat(((Special) order.item).extra).isEqualTo(9);
+    }
+
+    @Test
+    void lateTypeThatNeedsSkippedFieldFails() {
+        String late = "{\"item\":{\"name\":\"s\",\"extra\":9,\"@type\":\"" + Special.class.getName() + "\"}}";
+        JsonIoException e = assertThrows(JsonIoException.class, () -> JsonIo.toJava(late, SKIP).asClass(Order.class));
+        assertThat(e.getMessage()).contains("extra");
+
+        // Skipping is off by default, so a late @type reads as it always has
+        Order byDefault = JsonIo.toJava(late, null).asClass(Order.class);
+        assertThat(byDefault.item).isInstanceOf(Special.class);
+        assertThat(((Special) byDefault.item).extra).isEqualTo(9);
+
+        String harmless = "{\"item\":{\"name\":\"s\",\"junk\":" + JUNK + ",\"@type\":\"" + Special.class.getName() + "\"}}";
+        Order order = JsonIo.toJava(harmless, SKIP_UNKNOWN_FAILS).asClass(Order.class);
+        assertThat(order.item).isInstanceOf(Special.class);
+        assertThat(order.item.name).isEqualTo("s");
+    }
+
+    @Test
+    void annotatedFieldTypeOverrideIsRespected() {
+        Overridden holder = JsonIo.toJava("{\"item\":{\"name\":\"o\",\"extra\":5}}", SKIP).asClass(Overridden.class);
+        assertThat(holder.item).isInstanceOf(Special.class);
+        assertThat(((Special) holder.item).extra).isEqualTo(5);
+    }
+
+    @Test
+    void anySetterReceivesUnmappedFields() {
+        Flexible flexible = JsonIo.toJava("{\"name\":\"f\",\"color\":\"red\",\"size\":[1,2]}", SKIP).asClass(Flexible.class);
+        assertThat(flexible.name).isEqualTo("f");
+        assertThat(flexible.extras).containsKeys("color", "size");
+    }
+
+    @Test
+    void referencesBetweenMappedFieldsStillResolve() {
+        String json = "{\"item\":{\"@id\":1,\"name\":\"r\",\"junk\":" + JUNK + "},\"items\":[{\"@ref\":1}]}";
+        Order order = JsonIo.toJava(json, SKIP_UNKNOWN_FAILS).asClass(Order.class);
+        assertThat(order.items.get(0)).isSameAs(order.item);
+    }
+
+    @Test
+    void referenceIntoSkippedValueReadsAsBeforeSkipping() {
+        // Written when Holder still had "old": the @id lands on the first occurrence, inside the dropped field
+        String json = "{\"@type\":\"" + Holder.class.getName() + "\",\"old\":{\"@id\":1,\"name\":\"p\",\"qty\":4},"
+                + "\"keep\":{\"@ref\":1}}";
+        Holder holder = JsonIo.toJava(json, SKIP).asClass(Holder.class);
+        Holder expected = JsonIo.toJava(json, null).asClass(Holder.class);
+        assertThat(holder.keep).isEqualTo(expected.keep);
+
+        // Deeper in the skipped value, JSON5 spellings, comments
+        String json5 = "{old:[1, {note:'x', inner:{$id:2, name:'q'}}], /* gone */ keep:{$ref:2}, list:[{$ref:2}]}";
+        Holder again = JsonIo.toJava(json5, SKIP).asClass(Holder.class);
+        Holder again2 = JsonIo.toJava(json5, null).asClass(Holder.class);
+        assertThat(again.keep).isEqualTo(again2.keep);
+        assertThat(again.list).containsExactly(again2.list);
+    }
+
+    @Test
+    void skippedValuesAreCheckedLikeReadValues() {
+        ReadOptions strict = new ReadOptionsBuilder().skipUnmappedFields(true).strictJson().build();
+        JsonIoException e = assertThrows(JsonIoException.class, () -> JsonIo.toJava(
+                "{\"id\":1,\"junk\":{'x': tru, \"y\": NaN}}", strict).asClass(Order.class));
+        assertThat(e.getMessage()).contains("Single-quoted strings not allowed in strict JSON mode");
+        assertThrows(JsonIoException.class,
+                () -> JsonIo.toJava("{\"id\":1,\"junk\":{x: 1}}", strict).asClass(Order.class));
+        assertThrows(JsonIoException.class,
+                () -> JsonIo.toJava("{\"id\":1,\"junk\":[1,2,]}", strict).asClass(Order.class));
+
+        for (ReadOptions options : new ReadOptions[]{SKIP, null}) {
+            e = assertThrows(JsonIoException.class, () -> JsonIo.toJava(
+                    "{\"id\":1,\"junk\":{\"x\": tru}}", options).asClass(Order.class));
+            assertThat(e.getMessage()).contains("Expected token: true");
+            assertThrows(JsonIoException.class,
+                    () -> JsonIo.toJava("{\"id\":1,\"junk\":{\"x\" 1}}", options).asClass(Order.class));
+            assertThrows(JsonIoException.class,
+                    () -> JsonIo.toJava("{\"id\":1,\"junk\":[1 2]}", options).asClass(Order.class));
+        }
+
+        // JSON5 is still accepted when not strict
+        Order order = JsonIo.toJava("{id:1, junk:{x:'a', y:[1,2,], z:.5, /* c */ w:0x1F,},}", SKIP).asClass(Order.class);
+        assertThat(order.id).isEqualTo(1);
+    }
+}
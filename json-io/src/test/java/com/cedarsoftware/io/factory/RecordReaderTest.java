@@ -1,5 +1,7 @@
 package com.cedarsoftware.io.factory;
 
+import com.cedarsoftware.io.JsonIo;
+import com.cedarsoftware.io.JsonIoException;
 import com.cedarsoftware.io.JsonObject;
 import com.cedarsoftware.io.ObjectResolver;
 import com.cedarsoftware.io.ReadOptions;
@@ -18,8 +20,13 @@ import java.net.URLClassLoader;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.LocalDate;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class RecordReaderTest {
     private static boolean recordsSupported() {
@@ -68,4 +75,76 @@ class RecordReaderTest {
         assertEquals("Bob", name.invoke(record));
         assertEquals(25, age.invoke(record));
     }
+
+    private static Class<?> compileRecord(String className, String source) throws Exception {
+        Path dir = Files.createTempDirectory("recordReaderTest");
+        Path recordFile = dir.resolve(className + ".java");
+        Files.write(recordFile, (source + System.lineSeparator()).getBytes(StandardCharsets.UTF_8));
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        int result = compiler.run(null, null, null, recordFile.toString(), "-d", dir.toString());
+        if (result != 0) {
+            throw new IllegalStateException("Compilation failed");
+        }
+        URLClassLoader loader = URLClassLoader.newInstance(new URL[]{dir.toUri().toURL()});
+        return Class.forName(className, true, loader);
+    }
+
+    @Test
+    void readRecordWithMixedComponentTypesRepeatedly() throws Exception {
+        Assumptions.assumeTrue(recordsSupported(), "Records not supported");
+
+        Class<?> recordClass = compileRecord("MixedRecord",
+                "public record MixedRecord(long id, double score, Integer boxed, java.time.LocalDate day, " +
+                        "int[] counts, String[] tags, String name) {}");
+        ReadOptions options = new ReadOptionsBuilder().classLoader(recordClass.getClassLoader()).build();
+
+        // Same record class many times: the cached plan must give the same result every time
+        for (int i = 0; i < 100; i++) {
+            String json = "{\"@type\":\"MixedRecord\",\"id\":" + i + ",\"score\":\"2.5\",\"boxed\":null," +
+                    "\"day\":\"2026-10-19\",\"counts\":[1,2,3],\"tags\":[\"a\",\"b\"],\"name\":\"n" + i + "\"}";
+            Object record = JsonIo.toJava(json, options).asClass(null);
+
+            assertEquals(recordClass, record.getClass());
+            assertEquals((long) i, recordClass.getMethod("id").invoke(record));
+            assertEquals(2.5, recordClass.getMethod("score").invoke(record));
+            assertNull(recordClass.getMethod("boxed").invoke(record));
+            assertEquals(LocalDate.of(2026, 10, 19), recordClass.getMethod("day").invoke(record));
+            assertArrayEquals(new int[]{1, 2, 3}, (int[]) recordClass.getMethod("counts").invoke(record));
+            assertArrayEquals(new String[]{"a", "b"}, (String[]) recordClass.getMethod("tags").invoke(record));
+            assertEquals("n" + i, recordClass.getMethod("name").invoke(record));
+        }
+    }
+
+    @Test
+    void recordConstructorFailureIsWrapped() throws Exception {
+        Assumptions.assumeTrue(recordsSupported(), "Records not supported");
+
+        Class<?> recordClass = compileRecord("CheckedRecord",
+                "public record CheckedRecord(int value) { public CheckedRecord { " +
+                        "if (value < 0) throw new IllegalArgumentException(\"negative\"); } }");
+        ReadOptions options = new ReadOptionsBuilder().classLoader(recordClass.getClassLoader()).build();
+        ReferenceTracker references = new Resolver.DefaultReferenceTracker(options);
+        Resolver resolver = new ObjectResolver(options, references, new Converter(options.getConverterOptions()));
+
+        JsonObject jObj = new JsonObject();
+        jObj.setType(recordClass);
+        jObj.put("value", -1L);
+        JsonIoException e = assertThrows(JsonIoException.class, () -> new RecordFactory.RecordReader().read(jObj, resolver));
+        assertTrue(e.getMessage().contains("CheckedRecord"), e.getMessage());
+
+        jObj.put("value", 7L);
+        Object record = new RecordFactory().newInstance(recordClass, jObj, resolver);
+        assertEquals(7, recordClass.getMethod("value").invoke(record));
+    }
+
+    @Test
+    void nonRecordClassIsRejected() {
+        Assumptions.assumeTrue(recordsSupported(), "Records not supported");
+        ReadOptions options = new ReadOptionsBuilder().build();
+        Resolver resolver = new ObjectResolver(options, new Resolver.DefaultReferenceTracker(options),
+                new Converter(options.getConverterOptions()));
+        JsonObject jObj = new JsonObject();
+        jObj.setType(String.class);
+        assertThrows(JsonIoException.class, () -> new RecordFactory.RecordReader().read(jObj, resolver));
+    }
 }
@@ -3,6 +3,7 @@ package com.cedarsoftware.io.reflect;
 import java.lang.reflect.Field;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
+import java.util.Map;
 
 import com.cedarsoftware.io.reflect.filters.models.Car;
 import com.cedarsoftware.io.reflect.filters.models.Part;
@@ -11,6 +12,7 @@ import com.cedarsoftware.io.reflect.filters.models.PrimitiveAccessorTestObject;
 import org.junit.jupiter.api.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 class AccessorTests {
 
@@ -123,6 +125,65 @@ class AccessorTests {
         return Accessor.createFieldAccessor(field, fieldName);
     }
 
+    @Test
+    void eagerGetterAccessorsUseGeneratedGetters() throws Exception {
+        Map<Accessor.Strategy, Long> before = Accessor.getStrategyCounts();
+        Accessor getter = methodAccessor("intValue", "getIntValue");
+        assertThat(getter.isPromotionPending()).isFalse();
+        assertThat(getter.getStrategy()).isEqualTo(Accessor.Strategy.PRIMITIVE_LAMBDA);
+        assertThat(Accessor.getStrategyCounts().get(Accessor.Strategy.PRIMITIVE_LAMBDA))
+                .isGreaterThan(before.get(Accessor.Strategy.PRIMITIVE_LAMBDA));
+    }
+
+    @Test
+    void fieldAccessorsSkipLambdaMetafactory() throws Exception {
+        // LambdaMetafactory cannot target field getters, so field accessors never wait for promotion.
+        int saved = Accessor.getPromotionThreshold();
+        Accessor.setPromotionThreshold(3);
+        try {
+            Accessor intAccessor = fieldAccessor("intValue");
+            assertThat(intAccessor.isPromotionPending()).isFalse();
+            assertThat(intAccessor.getStrategy()).isIn(Accessor.Strategy.METHOD_HANDLE, Accessor.Strategy.VAR_HANDLE);
+            assertThat(intAccessor.getInt(new PrimitiveAccessorTestObject())).isEqualTo(123456789);
+        } finally {
+            Accessor.setPromotionThreshold(saved);
+        }
+    }
+
+    @Test
+    void deferredGetterAccessorsArePromotedAfterThreshold() throws Exception {
+        int saved = Accessor.getPromotionThreshold();
+        Accessor.setPromotionThreshold(3);
+        try {
+            PrimitiveAccessorTestObject obj = new PrimitiveAccessorTestObject();
+            Accessor longGetter = methodAccessor("longValue", "getLongValue");
+            assertThat(longGetter.isPromotionPending()).isTrue();
+            assertThat(longGetter.getStrategy()).isEqualTo(Accessor.Strategy.METHOD_HANDLE);
+
+            for (int i = 0; i < 3; i++) {
+                assertThat(longGetter.getLong(obj)).isEqualTo(9876543210L);
+            }
+            assertThat(longGetter.isPromotionPending()).isFalse();
+            assertThat(longGetter.getStrategy()).isEqualTo(Accessor.Strategy.PRIMITIVE_LAMBDA);
+            assertThat(longGetter.getLong(obj)).isEqualTo(9876543210L);
+            assertThat(longGetter.retrieve(obj)).isEqualTo(9876543210L);
+
+            Accessor intGetter = methodAccessor("intValue", "getIntValue");
+            assertThat(intGetter.isPromotionPending()).isTrue();
+            for (int i = 0; i < 3; i++) {
+                assertThat(intGetter.retrieve(obj)).isEqualTo(123456789);
+            }
+            assertThat(intGetter.getStrategy()).isEqualTo(Accessor.Strategy.PRIMITIVE_LAMBDA);
+        } finally {
+            Accessor.setPromotionThreshold(saved);
+        }
+    }
+
+    @Test
+    void negativePromotionThresholdIsRejected() {
+        assertThatThrownBy(() -> Accessor.setPromotionThreshold(-1)).isInstanceOf(IllegalArgumentException.class);
+    }
+
     private static Accessor methodAccessor(String fieldName, String methodName) throws Exception {
         Field field = PrimitiveAccessorTestObject.class.getDeclaredField(fieldName);
         return Accessor.createMethodAccessor(field, methodName, fieldName);
@@ -4,6 +4,8 @@ import com.cedarsoftware.io.JsonIoException;
 import com.cedarsoftware.util.SystemUtilities;
 import org.junit.jupiter.api.Test;
 
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
@@ -17,6 +19,20 @@ class InjectorTests {
         private int value;
     }
 
+    private static class Numbers {
+        private long l;
+        private int i;
+        private short s;
+        private byte b;
+        private float f;
+        private double d;
+        private int viaSetter;
+
+        void setViaSetter(int viaSetter) {
+            this.viaSetter = viaSetter * 2;
+        }
+    }
+
     @Test
     void createWithVarHandle_setsFieldValue() throws Exception {
         Field field = Sample.class.getDeclaredField("value");
@@ -40,4 +56,72 @@ class InjectorTests {
 
         assertThrows(JsonIoException.class, () -> injector.inject(null, 42));
     }
+
+    @Test
+    void injectLong_setsEveryPrimitiveNumericKind() throws Exception {
+        Numbers n = new Numbers();
+        assertThat(injector("l").injectLong(n, 1L << 40)).isTrue();
+        assertThat(injector("i").injectLong(n, 7)).isTrue();
+        assertThat(injector("s").injectLong(n, -3)).isTrue();
+        assertThat(injector("b").injectLong(n, 12)).isTrue();
+        assertThat(injector("f").injectLong(n, 5)).isTrue();
+        assertThat(injector("d").injectLong(n, 9)).isTrue();
+
+        assertThat(n.l).isEqualTo(1L << 40);
+        assertThat(n.i).isEqualTo(7);
+        assertThat(n.s).isEqualTo((short) -3);
+        assertThat(n.b).isEqualTo((byte) 12);
+        assertThat(n.f).isEqualTo(5f);
+        assertThat(n.d).isEqualTo(9d);
+    }
+
+    @Test
+    void injectDouble_setsFloatingAndIntegralFields() throws Exception {
+        Numbers n = new Numbers();
+        assertThat(injector("d").injectDouble(n, 2.5)).isTrue();
+        assertThat(injector("f").injectDouble(n, 0.25)).isTrue();
+        assertThat(injector("l").injectDouble(n, 4.0)).isTrue();
+        assertThat(injector("i").injectDouble(n, 6.0)).isTrue();
+        assertThat(injector("s").injectDouble(n, 1.0)).isFalse();
+
+        assertThat(n.d).isEqualTo(2.5);
+        assertThat(n.f).isEqualTo(0.25f);
+        assertThat(n.l).isEqualTo(4L);
+        assertThat(n.i).isEqualTo(6);
+    }
+
+    @Test
+    void injectLong_usesPrimitiveSetterMethod() throws Exception {
+        Numbers n = new Numbers();
+        Injector setter = Injector.create(Numbers.class.getDeclaredField("viaSetter"), "setViaSetter", "viaSetter");
+        assertThat(setter.injectLong(n, 21)).isTrue();
+        assertThat(n.viaSetter).isEqualTo(42);
+    }
+
+    @Test
+    void injectLong_throughVarHandle() throws Exception {
+        Method privateLookupIn;
+        try {
+            privateLookupIn = MethodHandles.class.getMethod("privateLookupIn", Class.class, MethodHandles.Lookup.class);
+        } catch (NoSuchMethodException e) {
+            return;     // JDK 8: no VarHandles
+        }
+        Field field = Numbers.class.getDeclaredField("l");
+        Object lookup = privateLookupIn.invoke(null, Numbers.class, MethodHandles.lookup());
+        Object varHandle = MethodHandles.Lookup.class.getMethod("findVarHandle", Class.class, String.class, Class.class)
+                .invoke(lookup, Numbers.class, "l", long.class);
+        Constructor<Injector> ctor = Injector.class.getDeclaredConstructor(Field.class, Object.class, String.class, String.class);
+        ctor.setAccessible(true);
+        Injector injector = ctor.newInstance(field, varHandle, "l", "l");
+
+        Numbers n = new Numbers();
+        assertThat(injector.injectLong(n, 99L)).isTrue();
+        assertThat(n.l).isEqualTo(99L);
+        injector.inject(n, 100L);
+        assertThat(n.l).isEqualTo(100L);
+    }
+
+    private static Injector injector(String fieldName) throws Exception {
+        return Injector.create(Numbers.class.getDeclaredField(fieldName), fieldName);
+    }
 }
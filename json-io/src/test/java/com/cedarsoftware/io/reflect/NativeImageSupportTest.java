@@ -0,0 +1,103 @@
+package com.cedarsoftware.io.reflect;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+
+import com.cedarsoftware.io.JsonIo;
+import com.cedarsoftware.io.ReadOptionsBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NativeImageSupportTest {
+
+    private static class Sample {
+        private int count;
+        private long big;
+        private final String name;
+        private double ratio;
+
+        Sample() {
+            this.name = "default";
+        }
+    }
+
+    private boolean saved;
+
+    @BeforeEach
+    void enablePlainReflection() {
+        saved = NativeImageSupport.isPlainReflection();
+        NativeImageSupport.setPlainReflection(true);
+    }
+
+    @AfterEach
+    void restore() {
+        NativeImageSupport.setPlainReflection(saved);
+    }
+
+    @Test
+    void varHandlePathsAreSkipped() throws Exception {
+        Field field = Sample.class.getDeclaredField("count");
+
+        Method accessorVarHandle = Accessor.class.getDeclaredMethod("createWithVarHandle", Field.class, String.class);
+        accessorVarHandle.setAccessible(true);
+        assertThat(accessorVarHandle.invoke(null, field, "count")).isNull();
+
+        Method injectorVarHandle = Injector.class.getDeclaredMethod("createWithVarHandle", Field.class, String.class);
+        injectorVarHandle.setAccessible(true);
+        assertThat(injectorVarHandle.invoke(null, field, "count")).isNull();
+    }
+
+    @Test
+    void plainAccessorReadsPrivateAndPrimitiveFields() throws Exception {
+        Sample sample = new Sample();
+        sample.count = 7;
+        sample.big = 1L << 40;
+        sample.ratio = 0.5;
+
+        Accessor count = Accessor.createFieldAccessor(Sample.class.getDeclaredField("count"), "count");
+        Accessor big = Accessor.createFieldAccessor(Sample.class.getDeclaredField("big"), "big");
+        Accessor name = Accessor.createFieldAccessor(Sample.class.getDeclaredField("name"), "name");
+        Accessor ratio = Accessor.createFieldAccessor(Sample.class.getDeclaredField("ratio"), "ratio");
+
+        assertThat(count.getInt(sample)).isEqualTo(7);
+        assertThat(count.retrieve(sample)).isEqualTo(7);
+        assertThat(big.getLong(sample)).isEqualTo(1L << 40);
+        assertThat(name.retrieve(sample)).isEqualTo("default");
+        assertThat(ratio.getDouble(sample)).isEqualTo(0.5);
+    }
+
+    @Test
+    void plainInjectorWritesPrivatePrimitiveAndFinalFields() throws Exception {
+        Sample sample = new Sample();
+
+        Injector.create(Sample.class.getDeclaredField("count"), "count").inject(sample, 12);
+        Injector big = Injector.create(Sample.class.getDeclaredField("big"), "big");
+        assertThat(big.injectLong(sample, 99L)).isTrue();
+        Injector.create(Sample.class.getDeclaredField("ratio"), "ratio").inject(sample, 2.25);
+        Injector name = Injector.create(Sample.class.getDeclaredField("name"), "name");
+        if (name != null) {
+            name.inject(sample, "changed");
+        }
+
+        assertThat(sample.count).isEqualTo(12);
+        assertThat(sample.big).isEqualTo(99L);
+        assertThat(sample.ratio).isEqualTo(2.25);
+    }
+
+    @Test
+    void roundTripUsesPlainReflection() {
+        Sample sample = new Sample();
+        sample.count = 3;
+        sample.big = -4L;
+        sample.ratio = 1.5;
+
+        String json = JsonIo.toJson(sample, null);
+        Sample restored = JsonIo.toJava(json, new ReadOptionsBuilder().build()).asClass(Sample.class);
+        assertThat(restored.count).isEqualTo(3);
+        assertThat(restored.big).isEqualTo(-4L);
+        assertThat(restored.ratio).isEqualTo(1.5);
+    }
+}